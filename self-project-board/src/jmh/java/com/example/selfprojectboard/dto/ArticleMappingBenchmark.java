@@ -0,0 +1,174 @@
+package com.example.selfprojectboard.dto;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.ArticleComment;
+import com.example.selfprojectboard.domain.AuditingFields;
+import com.example.selfprojectboard.domain.UserAccount;
+import com.example.selfprojectboard.response.ArticleCommentResponse;
+import com.example.selfprojectboard.response.ArticleResponse;
+import com.example.selfprojectboard.response.ArticleWithCommentsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 엔티티 -> DTO -> 응답 매핑 비용을 잰다. {@code ./gradlew jmh} 의 gc 프로파일러 결과에서 {@code gc.alloc.rate.norm} (op 당 할당 바이트) 를 비교한다.
+ * <p>
+ * {@code legacy*} 는 댓글마다 작성자 DTO 를 새로 만들고 DTO, 응답 단계마다 LinkedHashSet 으로 복사하던 기존 경로를 그대로 옮긴 것이고,
+ * (기존 DTO/응답은 댓글을 Set 으로 들고 있어서 {@link LegacyArticleWithCommentsDto}, {@link LegacyArticleWithCommentsResponse} 로 남겨 둔다)
+ * 나머지는 지금 코드의 {@link ArticleWithCommentsDto#from(Article)}, {@link ArticleCommentDto#fromAll} 경로다.
+ */
+@State(Scope.Benchmark)
+public class ArticleMappingBenchmark {
+
+    private static final int AUTHOR_COUNT = 5;
+
+    @Param({"0", "20", "100", "500"})
+    private int commentCount;
+
+    private Article article;
+    private List<ArticleComment> articleComments;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2022, 10, 17, 0, 0);
+        UserAccount[] authors = new UserAccount[AUTHOR_COUNT];
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+            authors[i] = audited(UserAccount.of("user" + i, "{noop}password", "user" + i + "@mail.com", "user" + i, "memo"), now);
+        }
+
+        article = audited(Article.of(authors[0], "new article", "content ".repeat(200), "#java"), now);
+        setField(Article.class, article, "id", 1L);
+        for (int i = 0; i < commentCount; i++) {
+            ArticleComment articleComment = audited(ArticleComment.of(article, authors[i % AUTHOR_COUNT], "comment " + i), now.plusMinutes(i));
+            setField(ArticleComment.class, articleComment, "id", (long) i + 1);
+            article.getArticleComments().add(articleComment);
+        }
+        articleComments = List.copyOf(article.getArticleComments());
+    }
+
+    @Benchmark
+    public ArticleResponse listRow() {
+        return ArticleResponse.from(ArticleDto.from(article));
+    }
+
+    @Benchmark
+    public LegacyArticleWithCommentsResponse legacyDetailPage() {
+        return LegacyArticleWithCommentsResponse.from(LegacyArticleWithCommentsDto.from(article));
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse detailPage() {
+        return ArticleWithCommentsResponse.from(ArticleWithCommentsDto.from(article));
+    }
+
+    @Benchmark
+    public List<ArticleCommentResponse> legacyCommentPage() {
+        return articleComments.stream()
+                .map(ArticleCommentDto::from)
+                .toList()
+                .stream()
+                .map(ArticleCommentResponse::from)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ArticleCommentResponse> commentPage() {
+        return ArticleCommentDto.fromAll(articleComments)
+                .stream()
+                .map(ArticleCommentResponse::from)
+                .toList();
+    }
+
+    private static <T extends AuditingFields> T audited(T entity, LocalDateTime at) {
+        setField(AuditingFields.class, entity, "createdAt", at);
+        setField(AuditingFields.class, entity, "createdBy", "benchmark");
+        setField(AuditingFields.class, entity, "modifiedAt", at);
+        setField(AuditingFields.class, entity, "modifiedBy", "benchmark");
+        return entity;
+    }
+
+    private static void setField(Class<?> owner, Object target, String name, Object value) {
+        try {
+            Field field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record LegacyArticleWithCommentsDto(
+            Long id,
+            UserAccountDto userAccountDto,
+            Set<ArticleCommentDto> articleCommentDtos,
+            String title,
+            String content,
+            String hashtag,
+            LocalDateTime createdAt,
+            String createdBy,
+            LocalDateTime modifiedAt,
+            String modifiedBy
+    ) {
+        static LegacyArticleWithCommentsDto from(Article entity) {
+            return new LegacyArticleWithCommentsDto(
+                    entity.getId(),
+                    UserAccountDto.from(entity.getUserAccount()),
+                    entity.getArticleComments().stream()
+                            .map(ArticleCommentDto::from)
+                            .collect(Collectors.toCollection(LinkedHashSet::new)),
+                    entity.getTitle(),
+                    entity.getContent(),
+                    entity.getHashtag(),
+                    entity.getCreatedAt(),
+                    entity.getCreatedBy(),
+                    entity.getModifiedAt(),
+                    entity.getModifiedBy()
+            );
+        }
+    }
+
+    public record LegacyArticleWithCommentsResponse(
+            Long id,
+            String title,
+            String content,
+            String hashtag,
+            LocalDateTime createdAt,
+            String email,
+            String nickname,
+            String userId,
+            Set<ArticleCommentResponse> articleCommentsResponse
+    ) implements Serializable {
+
+        static LegacyArticleWithCommentsResponse from(LegacyArticleWithCommentsDto dto) {
+            String nickname = dto.userAccountDto().nickname();
+            if (nickname == null || nickname.isBlank()) {
+                nickname = dto.userAccountDto().userId();
+            }
+
+            return new LegacyArticleWithCommentsResponse(
+                    dto.id(),
+                    dto.title(),
+                    dto.content(),
+                    dto.hashtag(),
+                    dto.createdAt(),
+                    dto.userAccountDto().email(),
+                    nickname,
+                    dto.userAccountDto().userId(),
+                    dto.articleCommentDtos().stream()
+                            .map(ArticleCommentResponse::from)
+                            .collect(Collectors.toCollection(LinkedHashSet::new))
+            );
+        }
+    }
+}
@@ -2,14 +2,43 @@ package com.example.selfprojectboard;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Profiles;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling
 @ConfigurationPropertiesScan
 @SpringBootApplication
 public class SelfProjectBoardApplication {
 
+	private static final int STARTUP_STEP_CAPACITY = 10_000; // 다 차면 이후 단계는 기록하지 않는다.
+
 	public static void main(String[] args) {
-		SpringApplication.run(SelfProjectBoardApplication.class, args);
+		SpringApplication application = new SpringApplication(SelfProjectBoardApplication.class);
+		if (recordsStartupSteps(args)) {
+			application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY)); // /actuator/startup, /actuator/startupreport
+		}
+		ConfigurableApplicationContext context = application.run(args);
+
+		// 기동만 하고 내린다. (./gradlew cdsArchive 가 로드된 클래스를 CDS 아카이브로 남길 때)
+		if (context.getEnvironment().getProperty("board.startup.exit-after-ready", Boolean.class, false)) {
+			System.exit(SpringApplication.exit(context));
+		}
+	}
+
+	/**
+	 * 기동 단계 기록은 faststart 프로필이거나 board.startup.record-steps=true 일 때만 켠다. (단계마다 기록이 쌓이고 메모리에 남는다)
+	 * application.yaml 을 읽기 전이라 명령행 인자, 시스템 속성, 환경 변수로만 정할 수 있다.
+	 */
+	static boolean recordsStartupSteps(String[] args) {
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+		return environment.getProperty("board.startup.record-steps", Boolean.class, false)
+				|| environment.acceptsProfiles(Profiles.of("faststart"));
 	}
 
 }
@@ -0,0 +1,76 @@
+package com.example.selfprojectboard.actuator;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행된 SQL 문 수와 뷰(Thymeleaf) 렌더링 시간을 남긴다.
+ * <ul>
+ *     <li>{@code board.sql.statements} - 요청 하나에서 실행된 SQL 문 수 (uri, method 태그)</li>
+ *     <li>{@code board.view.render} - postHandle 이후 뷰 렌더링에 걸린 시간 (view 태그)</li>
+ * </ul>
+ * 컨트롤러 처리 시간까지 포함한 전체 시간은 {@code http.server.requests}, 쿼리 시간은 {@code spring.data.repository.invocations} 로 본다.
+ */
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String RENDER_STARTED_AT = RequestMetricsInterceptor.class.getName() + ".renderStartedAt";
+    private static final String VIEW_NAME = RequestMetricsInterceptor.class.getName() + ".viewName";
+    private static final String STATEMENTS_BEFORE = RequestMetricsInterceptor.class.getName() + ".statementsBefore";
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(STATEMENTS_BEFORE, sqlStatementCounter.getCount());
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        if (modelAndView == null || modelAndView.getViewName() == null || modelAndView.getViewName().startsWith("redirect:")) {
+            return;
+        }
+
+        request.setAttribute(VIEW_NAME, modelAndView.getViewName());
+        request.setAttribute(RENDER_STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object renderStartedAt = request.getAttribute(RENDER_STARTED_AT);
+        if (renderStartedAt != null) {
+            Timer.builder("board.view.render")
+                    .description("뷰 렌더링 시간")
+                    .tag("view", (String) request.getAttribute(VIEW_NAME))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - (long) renderStartedAt, TimeUnit.NANOSECONDS);
+        }
+
+        Object statementsBefore = request.getAttribute(STATEMENTS_BEFORE);
+        if (statementsBefore == null) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("board.sql.statements")
+                .description("요청당 실행된 SQL 문 수")
+                .baseUnit("statements")
+                .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                .tag("method", request.getMethod())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(sqlStatementCounter.getCount() - (long) statementsBefore);
+    }
+}
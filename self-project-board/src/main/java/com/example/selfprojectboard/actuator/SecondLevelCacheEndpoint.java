@@ -0,0 +1,91 @@
+package com.example.selfprojectboard.actuator;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hibernate 2차 캐시 영역별 hit/miss 를 보여준다. ({@code GET /actuator/hibernatecache})
+ * <p>
+ * 같은 값은 hibernate-micrometer 를 통해 {@code hibernate.second.level.cache.requests} 메트릭으로도 나간다.
+ * 이 엔드포인트는 영역별 비율을 한눈에 보기 위한 것이다.
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "hibernatecache")
+public class SecondLevelCacheEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public CacheReport report() {
+        Statistics statistics = statistics();
+        Map<String, RegionReport> regions = new TreeMap<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .forEach(regionName -> regions.put(regionName, RegionReport.of(statistics.getDomainDataRegionStatistics(regionName))));
+
+        return new CacheReport(
+                statistics.isStatisticsEnabled(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getSecondLevelCachePutCount(),
+                hitRatio(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount()),
+                regions
+        );
+    }
+
+    @ReadOperation
+    public RegionReport region(@Selector String regionName) {
+        Statistics statistics = statistics();
+        if (!Arrays.asList(statistics.getSecondLevelCacheRegionNames()).contains(regionName)) {
+            return null; // actuator 가 404 로 응답한다.
+        }
+        return RegionReport.of(statistics.getDomainDataRegionStatistics(regionName));
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static double hitRatio(long hitCount, long missCount) {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+    }
+
+    public record CacheReport(
+            boolean statisticsEnabled,
+            long hitCount,
+            long missCount,
+            long putCount,
+            double hitRatio,
+            Map<String, RegionReport> regions
+    ) {}
+
+    public record RegionReport(
+            long hitCount,
+            long missCount,
+            long putCount,
+            double hitRatio,
+            long elementCountInMemory
+    ) {
+        static RegionReport of(CacheRegionStatistics statistics) {
+            return new RegionReport(
+                    statistics.getHitCount(),
+                    statistics.getMissCount(),
+                    statistics.getPutCount(),
+                    hitRatio(statistics.getHitCount(), statistics.getMissCount()),
+                    statistics.getElementCountInMemory()
+            );
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.selfprojectboard.actuator;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 문을 스레드별, 종류(SELECT/INSERT/UPDATE/DELETE)별로 센다.
+ * <p>
+ * 값은 계속 늘어나기만 하므로, 구간 안의 개수는 앞뒤 {@link #snapshot()} 의 차이로 구한다.
+ * 요청 단위 집계는 {@link RequestMetricsInterceptor} 가 한다. SQL 은 바꾸지 않고 그대로 돌려준다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<long[]> statementCounts = ThreadLocal.withInitial(() -> new long[StatementType.values().length]);
+
+    @Override
+    public String inspect(String sql) {
+        statementCounts.get()[StatementType.of(sql).ordinal()]++;
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 준비된 SQL 문 수 (종류 무관)
+     */
+    public long getCount() {
+        long count = 0;
+        for (long typeCount : statementCounts.get()) {
+            count += typeCount;
+        }
+        return count;
+    }
+
+    public Counts snapshot() {
+        long[] counts = statementCounts.get();
+        return new Counts(
+                counts[StatementType.SELECT.ordinal()],
+                counts[StatementType.INSERT.ordinal()],
+                counts[StatementType.UPDATE.ordinal()],
+                counts[StatementType.DELETE.ordinal()],
+                counts[StatementType.OTHER.ordinal()]
+        );
+    }
+
+    public enum StatementType {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        static StatementType of(String sql) {
+            String statement = sql.stripLeading();
+            if (startsWithIgnoreCase(statement, "select") || startsWithIgnoreCase(statement, "with")) return SELECT;
+            if (startsWithIgnoreCase(statement, "insert")) return INSERT;
+            if (startsWithIgnoreCase(statement, "update")) return UPDATE;
+            if (startsWithIgnoreCase(statement, "delete")) return DELETE;
+            return OTHER;
+        }
+
+        private static boolean startsWithIgnoreCase(String statement, String keyword) {
+            return statement.regionMatches(true, 0, keyword, 0, keyword.length());
+        }
+    }
+
+    public record Counts(long select, long insert, long update, long delete, long other) {
+
+        public long total() {
+            return select + insert + update + delete + other;
+        }
+
+        public Counts minus(Counts before) {
+            return new Counts(
+                    select - before.select,
+                    insert - before.insert,
+                    update - before.update,
+                    delete - before.delete,
+                    other - before.other
+            );
+        }
+    }
+}
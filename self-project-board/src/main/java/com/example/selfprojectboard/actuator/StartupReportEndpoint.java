@@ -0,0 +1,129 @@
+package com.example.selfprojectboard.actuator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 시간을 구간별, 빈별로 나눠 보여준다. ({@code GET /actuator/startupreport})
+ * <p>
+ * 원본 기록은 {@code /actuator/startup} 에 있다. 이 엔드포인트는 같은 기록을 단계 이름별로 합치고,
+ * 빈 생성 시간은 의존 빈을 만드는 데 쓴 시간을 뺀 자기 시간으로 정렬한다.
+ * 기록은 {@link BufferingApplicationStartup} 으로 띄웠을 때만 있다. (faststart 프로필이나 board.startup.record-steps=true 일 때 main 에서 설정, 테스트 컨텍스트는 비어 있다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "startupreport")
+public class StartupReportEndpoint {
+
+    private static final String BEAN_INSTANTIATE = "spring.beans.instantiate";
+    private static final int SLOWEST_BEANS = 20;
+    private static final int LOGGED_BEANS = 5;
+
+    private final ApplicationStartup applicationStartup;
+
+    @ReadOperation
+    public StartupReport report() {
+        if (!(applicationStartup instanceof BufferingApplicationStartup bufferingApplicationStartup)) {
+            return StartupReport.EMPTY;
+        }
+        return StartupReport.of(bufferingApplicationStartup.getBufferedTimeline().getEvents());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logSummary() {
+        StartupReport report = report();
+        if (report.beanCount() == 0) {
+            return;
+        }
+
+        log.info("기동 구간 - {}", report.phases());
+        log.info("오래 걸린 빈 - {}", report.slowestBeans().stream().limit(LOGGED_BEANS).toList());
+    }
+
+    /**
+     * @param phases       빈 생성 외 단계 이름별 합계 (ms, 오래 걸린 순)
+     * @param beanCount    기록된 빈 생성 수
+     * @param slowestBeans 자기 시간이 긴 빈
+     */
+    public record StartupReport(
+            Map<String, Long> phases,
+            int beanCount,
+            List<BeanTiming> slowestBeans
+    ) {
+        static final StartupReport EMPTY = new StartupReport(Map.of(), 0, List.of());
+
+        static StartupReport of(List<StartupTimeline.TimelineEvent> events) {
+            Map<Long, Long> childMillis = new HashMap<>();
+            events.forEach(event -> {
+                Long parentId = event.getStartupStep().getParentId();
+                if (parentId != null) {
+                    childMillis.merge(parentId, event.getDuration().toMillis(), Long::sum);
+                }
+            });
+
+            Map<String, Long> phases = new HashMap<>();
+            List<BeanTiming> beans = new ArrayList<>();
+            for (StartupTimeline.TimelineEvent event : events) {
+                StartupStep step = event.getStartupStep();
+                if (BEAN_INSTANTIATE.equals(step.getName())) {
+                    beans.add(BeanTiming.of(event, childMillis.getOrDefault(step.getId(), 0L)));
+                } else {
+                    phases.merge(step.getName(), event.getDuration().toMillis(), Long::sum);
+                }
+            }
+
+            Map<String, Long> sortedPhases = new LinkedHashMap<>();
+            phases.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .forEach(phase -> sortedPhases.put(phase.getKey(), phase.getValue()));
+
+            return new StartupReport(
+                    sortedPhases,
+                    beans.size(),
+                    beans.stream().sorted(Comparator.comparingLong(BeanTiming::selfMillis).reversed()).limit(SLOWEST_BEANS).toList()
+            );
+        }
+    }
+
+    /**
+     * @param beanName    빈 이름
+     * @param totalMillis 의존 빈 생성까지 포함한 시간
+     * @param selfMillis  의존 빈 생성 시간을 뺀 시간
+     */
+    public record BeanTiming(
+            String beanName,
+            long totalMillis,
+            long selfMillis
+    ) {
+        static BeanTiming of(StartupTimeline.TimelineEvent event, long childMillis) {
+            long totalMillis = event.getDuration().toMillis();
+            return new BeanTiming(beanName(event.getStartupStep()), totalMillis, Math.max(0, totalMillis - childMillis));
+        }
+
+        private static String beanName(StartupStep step) {
+            for (StartupStep.Tag tag : step.getTags()) {
+                if ("beanName".equals(tag.getKey())) {
+                    return tag.getValue();
+                }
+            }
+            return "?";
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.selfprojectboard.config;
+
+import com.example.selfprojectboard.service.search.ApiQueryPlanner;
+import com.example.selfprojectboard.service.search.QueryPlan;
+import com.querydsl.core.types.Predicate;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * /api (Spring Data REST) 검색은 리포지토리의 {@code findAll(Predicate, ...)} 으로 실행되므로,
+ * 게시글/댓글 리포지토리 프록시 맨 앞에 {@link ApiQueryPlanner} 를 거치는 interceptor 를 끼운다.
+ * <p>
+ * 트랜잭션 interceptor 보다 앞에 두어, 큰 검색 자리를 기다리는 동안 DB 커넥션을 쥐고 있지 않게 한다.
+ * 같은 리포지토리를 화면/서비스에서 부를 때는 건드리지 않도록, 요청 경로가 Data REST base-path 아래일 때만 적용한다.
+ */
+@ConditionalOnProperty(prefix = "board.api.query", name = "planner-enabled", havingValue = "true", matchIfMissing = true)
+@Configuration
+public class ApiQueryPlanConfig {
+
+    /**
+     * BeanPostProcessor 라 다른 빈보다 먼저 만들어지므로 static 으로 두고, planner 는 처음 검색할 때 찾는다.
+     * (planner 가 쓰는 검색 인덱스, 통계가 다시 리포지토리를 쓰므로 미리 만들면 순환 참조가 된다)
+     */
+    @Bean
+    public static BeanPostProcessor apiQueryPlanningPostProcessor(
+            ObjectProvider<ApiQueryPlanner> apiQueryPlanner,
+            @Value("${spring.data.rest.base-path:}") String basePath
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                    repositoryFactoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> {
+                                Class<?> domainType = repositoryInformation.getDomainType();
+                                if (ApiQueryPlanner.supports(domainType)) {
+                                    proxyFactory.addAdvice(0, new QueryPlanningInterceptor(domainType, apiQueryPlanner, basePath));
+                                }
+                            }
+                    ));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * /api 요청 안에서 부른 {@code findAll(Predicate)}, {@code findAll(Predicate, Sort)}, {@code findAll(Predicate, Pageable)} 의 조건을
+     * 실행 계획의 조건으로 바꿔서 실행한다. 결과가 없음을 알면 DB 에 가지 않는다.
+     */
+    static class QueryPlanningInterceptor implements MethodInterceptor {
+
+        private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+        private final Class<?> domainType;
+        private final ObjectProvider<ApiQueryPlanner> apiQueryPlanner;
+        private final String basePath;
+
+        QueryPlanningInterceptor(Class<?> domainType, ObjectProvider<ApiQueryPlanner> apiQueryPlanner, String basePath) {
+            this.domainType = domainType;
+            this.apiQueryPlanner = apiQueryPlanner;
+            this.basePath = StringUtils.trimTrailingCharacter(basePath, '/');
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Method method = invocation.getMethod();
+            Object[] arguments = invocation.getArguments();
+            if (!isPredicateFindAll(method, arguments) || !isDataRestRequest()) {
+                return invocation.proceed();
+            }
+
+            ApiQueryPlanner planner = apiQueryPlanner.getObject();
+            Pageable pageable = arguments.length > 1 && arguments[1] instanceof Pageable page ? page : null;
+            QueryPlan plan = planner.plan(domainType, (Predicate) arguments[0], pageable);
+            try (ApiQueryPlanner.Admission ignored = planner.admit(plan)) {
+                if (plan.noMatch()) {
+                    return Page.class.isAssignableFrom(method.getReturnType())
+                            ? Page.empty(pageable == null ? Pageable.unpaged() : pageable)
+                            : List.of();
+                }
+                arguments[0] = plan.predicate();
+                return invocation.proceed();
+            }
+        }
+
+        private boolean isDataRestRequest() {
+            if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+                return false; // 요청 밖(스케줄러, 기동 작업)
+            }
+            String path = URL_PATH_HELPER.getPathWithinApplication(attributes.getRequest());
+            return path.equals(basePath) || path.startsWith(basePath + "/");
+        }
+
+        private static boolean isPredicateFindAll(Method method, Object[] arguments) {
+            return "findAll".equals(method.getName())
+                    && method.getParameterCount() > 0
+                    && method.getParameterTypes()[0] == Predicate.class
+                    && Iterable.class.isAssignableFrom(method.getReturnType())
+                    && arguments[0] != null;
+        }
+    }
+}
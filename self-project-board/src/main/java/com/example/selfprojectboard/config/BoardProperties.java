@@ -0,0 +1,47 @@
+package com.example.selfprojectboard.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties("board")
+public class BoardProperties {
+
+    /**
+     * 게시글 목록 페이징 설정
+     */
+    private final Pagination pagination;
+
+    public BoardProperties(@DefaultValue Pagination pagination) {
+        this.pagination = pagination;
+    }
+
+    @Getter
+    public static class Pagination {
+        /**
+         * after/before 파라미터가 없어도 게시글 목록을 keyset(커서) 방식으로 페이징한다.
+         */
+        private final boolean keyset;
+
+        /**
+         * count 쿼리 없이 size + 1 건만 조회하고, 전체 건수는 카운터/캐시 값을 쓴다.
+         */
+        private final boolean slice;
+
+        /**
+         * 검색 결과 전체 건수 캐시 유지 시간 (slice 모드에서만 사용)
+         */
+        private final Duration searchTotalTtl;
+
+        public Pagination(boolean keyset, boolean slice, @DefaultValue("1m") Duration searchTotalTtl) {
+            this.keyset = keyset;
+            this.slice = slice;
+            this.searchTotalTtl = searchTotalTtl;
+        }
+    }
+}
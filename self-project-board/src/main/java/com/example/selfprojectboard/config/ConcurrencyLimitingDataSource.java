@@ -0,0 +1,104 @@
+package com.example.selfprojectboard.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션을 동시에 쥘 수 있는 스레드 수를 세마포어로 제한한다. 커넥션을 닫으면 허가를 돌려준다.
+ * <p>
+ * 가상 스레드 모드에서는 요청 수만큼 스레드가 생기므로, 그대로 두면 모두 커넥션 풀 앞에 몰린다.
+ * 세마포어는 도착 순서대로(fair) 들여보내고, 기다리는 가상 스레드는 캐리어 스레드를 붙잡지 않고 멈춘다.
+ * (드라이버 안의 synchronized 에서 캐리어가 묶이는 일도 허가 수만큼으로 줄어든다)
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrentConnections;
+    private final long waitTimeoutNanos;
+
+    public ConcurrencyLimitingDataSource(DataSource targetDataSource, int maxConcurrentConnections, Duration waitTimeout) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConcurrentConnections, true);
+        this.maxConcurrentConnections = maxConcurrentConnections;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(waitTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("DB 커넥션을 기다리다 시간이 초과되었습니다. (동시 " + maxConcurrentConnections + "개 사용 중)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 커넥션을 기다리다 인터럽트되었습니다.", e);
+        }
+    }
+
+    /**
+     * close() 를 여러 번 불러도 허가는 한 번만 돌려준다.
+     */
+    private Connection releasingOnClose(Connection target) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        return (Connection) Proxy.newProxyInstance(
+                ConcurrencyLimitingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    }
+                    if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                }
+        );
+    }
+}
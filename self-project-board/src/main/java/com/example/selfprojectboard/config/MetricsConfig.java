@@ -0,0 +1,32 @@
+package com.example.selfprojectboard.config;
+
+import com.example.selfprojectboard.actuator.RequestMetricsInterceptor;
+import com.example.selfprojectboard.actuator.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    /**
+     * MappedInterceptor 빈은 모든 핸들러 매핑(MVC, Data REST)이 찾아서 쓴다. actuator 요청은 세지 않는다.
+     */
+    @Bean
+    public MappedInterceptor requestMetricsInterceptor(SqlStatementCounter sqlStatementCounter, MeterRegistry meterRegistry) {
+        return new MappedInterceptor(null, new String[]{"/actuator/**"}, new RequestMetricsInterceptor(sqlStatementCounter, meterRegistry));
+    }
+}
@@ -3,26 +3,48 @@ package com.example.selfprojectboard.config;
 import com.example.selfprojectboard.dto.UserAccountDto;
 import com.example.selfprojectboard.dto.security.BoardPrincipal;
 import com.example.selfprojectboard.repository.UserAccountRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.Set;
+
 
 @Configuration
 public class SecurityConfig {
 
+    /**
+     * 대량 가져오기/내보내기(/import/**, /export/**)는 브라우저가 아니라 스크립트가 호출한다.
+     * 폼 로그인/CSRF 토큰 대신 HTTP Basic 으로 요청마다 인증하고 세션을 만들지 않는다.
+     * 다른 사용자 이름으로 글을 넣을 수 있으므로 관리자만 호출할 수 있다.
+     */
+    @Order(1)
+    @Bean
+    public SecurityFilterChain bulkSecurityFilterChain(HttpSecurity http) throws Exception {
+        return http
+                .requestMatchers(matchers -> matchers.antMatchers("/import/**", "/export/**"))
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole(BoardPrincipal.RoleType.ADMIN.name()))
+                .httpBasic().and()
+                .csrf().disable()
+                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS).and()
+                .build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                         .mvcMatchers(
                                 HttpMethod.GET,
                                 "/",
@@ -38,19 +60,31 @@ public class SecurityConfig {
                 .build();
     }
 
-    /*@Bean
-    public WebSecurityCustomizer webSecurityCustomizer() { //security에서 아예 제외설정가능  
+    /**
+     * 정적 파일(/css/**, /js/**, /images/**, favicon 등)은 security 필터 체인을 아예 거치지 않는다.
+     * 세션/보안 컨텍스트를 읽지 않고, 보안 헤더(no-cache)도 붙지 않아 StaticResourceConfig 의 캐시 헤더가 그대로 나간다.
+     */
+    @Bean
+    public WebSecurityCustomizer webSecurityCustomizer() { //security에서 아예 제외설정가능
         // static resource, css , js 등등 주로 제외적용
         return (web) -> web.ignoring().requestMatchers(PathRequest.toStaticResources().atCommonLocations()); // 스프링에서 제공해주는 보편적인 제외 경로 제공
-                                    //.antMatchers("/css","/ignore1..etc) 수동적용가능 
-    }*/
+                                    //.antMatchers("/css","/ignore1..etc) 수동적용가능
+    }
 
+    /**
+     * {@code board.security.admin-user-ids} 에 있는 사용자는 관리자 권한도 갖는다.
+     */
     @Bean
-    public UserDetailsService userDetailsService(UserAccountRepository userAccountRepository) {
+    public UserDetailsService userDetailsService(
+            UserAccountRepository userAccountRepository,
+            @Value("${board.security.admin-user-ids:}") Set<String> adminUserIds
+    ) {
         return username -> userAccountRepository
                 .findById(username)
                 .map(UserAccountDto::from)
-                .map(BoardPrincipal::from)
+                .map(dto -> BoardPrincipal.from(dto, adminUserIds.contains(dto.userId())
+                        ? Set.of(BoardPrincipal.RoleType.USER, BoardPrincipal.RoleType.ADMIN)
+                        : Set.of(BoardPrincipal.RoleType.USER)))
                 .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다 - username: " +username));
 
     }
@@ -0,0 +1,23 @@
+package com.example.selfprojectboard.config;
+
+import com.example.selfprojectboard.service.ArticleStatistics;
+import com.example.selfprojectboard.service.HashtagRegistry;
+import com.example.selfprojectboard.service.search.ArticleSearchIndex;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * spring.main.lazy-initialization (faststart 프로필) 이어도 기동 직후 데이터를 올려 두는 빈은 바로 만든다.
+     * 검색 인덱스, 해시태그 집계, 통계를 첫 요청이 만들게 두지 않기 위함이다.
+     * <p>
+     * BeanFactoryPostProcessor 가 찾아 쓰므로 static 으로 둔다. (설정 클래스를 일찍 만들지 않게)
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerlyInitializedBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(ArticleSearchIndex.class, HashtagRegistry.class, ArticleStatistics.class);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.selfprojectboard.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 정적 파일(/css/**, /js/**)은 내용 해시를 붙인 URL 로 내보내고 1년 동안 바뀌지 않는 것으로 캐시하게 한다.
+ * <ul>
+ *     <li>템플릿의 {@code th:href="@{/css/...}"} 는 {@link ResourceUrlEncodingFilter} 가 {@code /css/search-bar-<md5>.css} 로 바꾼다.</li>
+ *     <li>요청의 Accept-Encoding 에 맞춰 빌드에서 만든 .br / .gz 사본이 있으면 그것을 준다. (gradle compressStaticAssets)</li>
+ *     <li>이 경로들은 Spring Security 필터를 거치지 않는다. ({@link SecurityConfig#webSecurityCustomizer()})</li>
+ * </ul>
+ * 1년짜리 immutable 헤더는 해시가 맞는 URL 에만 붙인다. 해시 없는 URL 은 같은 주소로 내용이 바뀌므로 no-cache 로 매번 재검증하게 한다.
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    static final Duration ASSET_MAX_AGE = Duration.ofDays(365);
+    private static final CacheControl VERSIONED_CACHE_CONTROL = immutable(CacheControl.maxAge(ASSET_MAX_AGE).cachePublic());
+    private static final CacheControl UNVERSIONED_CACHE_CONTROL = CacheControl.noCache();
+    private static final List<String> VERSIONED_DIRECTORIES = List.of("css", "js");
+
+    private final boolean cacheResolvedResources;
+
+    public StaticResourceConfig(@Value("${spring.web.resources.chain.cache:true}") boolean cacheResolvedResources) {
+        this.cacheResolvedResources = cacheResolvedResources;
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String directory : VERSIONED_DIRECTORIES) {
+            registry.addResourceHandler("/" + directory + "/**")
+                    .addResourceLocations("classpath:/static/" + directory + "/")
+                    .resourceChain(cacheResolvedResources) // 해시 계산, 사본 탐색 결과를 캐시한다. (devtools 는 끈다)
+                    .addResolver(new CacheControlResourceResolver())
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+    }
+
+    /**
+     * 해시가 바뀌면 URL 도 바뀌므로, 브라우저가 새로고침 때도 재검증하지 않게 immutable 을 붙인다. (Spring 5 CacheControl 에는 없다)
+     */
+    private static CacheControl immutable(CacheControl cacheControl) {
+        return new CacheControl() {
+            @Override
+            public String getHeaderValue() {
+                return cacheControl.getHeaderValue() + ", immutable";
+            }
+        };
+    }
+
+    /**
+     * 찾은 파일에 URL 종류에 맞는 Cache-Control 을 단다. 핸들러의 setCacheControl 은 URL 과 상관없이 한 값만 붙이므로 쓰지 않는다.
+     * {@link VersionResourceResolver} 는 URL 의 해시가 내용과 맞을 때만 그 해시를 ETag 로 단 {@link HttpResource} 를 돌려준다.
+     */
+    private static class CacheControlResourceResolver extends AbstractResourceResolver {
+
+        @Override
+        protected Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
+                                                   List<? extends Resource> locations, ResourceResolverChain chain) {
+            Resource resource = chain.resolveResource(request, requestPath, locations);
+            if (resource == null) {
+                return null;
+            }
+
+            boolean versioned = resource instanceof HttpResource httpResource && httpResource.getResponseHeaders().getETag() != null;
+            return new CacheControlledResource(resource, versioned ? VERSIONED_CACHE_CONTROL : UNVERSIONED_CACHE_CONTROL);
+        }
+
+        @Override
+        protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations, ResourceResolverChain chain) {
+            return chain.resolveUrlPath(resourceUrlPath, locations);
+        }
+    }
+
+    /**
+     * 감싼 파일의 응답 헤더(ETag, Content-Encoding, Vary)에 Cache-Control 을 더한다. 나머지는 감싼 파일에 맡긴다.
+     */
+    private static class CacheControlledResource extends AbstractResource implements HttpResource {
+
+        private final Resource resource;
+        private final CacheControl cacheControl;
+
+        CacheControlledResource(Resource resource, CacheControl cacheControl) {
+            this.resource = resource;
+            this.cacheControl = cacheControl;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            if (resource instanceof HttpResource httpResource) {
+                headers.putAll(httpResource.getResponseHeaders());
+            }
+            headers.setCacheControl(cacheControl);
+            return headers;
+        }
+
+        @Override public boolean exists() { return resource.exists(); }
+        @Override public boolean isReadable() { return resource.isReadable(); }
+        @Override public boolean isFile() { return resource.isFile(); }
+        @Override public URL getURL() throws IOException { return resource.getURL(); }
+        @Override public URI getURI() throws IOException { return resource.getURI(); }
+        @Override public File getFile() throws IOException { return resource.getFile(); }
+        @Override public long contentLength() throws IOException { return resource.contentLength(); }
+        @Override public long lastModified() throws IOException { return resource.lastModified(); }
+        @Override public Resource createRelative(String relativePath) throws IOException { return resource.createRelative(relativePath); }
+        @Override public String getFilename() { return resource.getFilename(); }
+        @Override public String getDescription() { return resource.getDescription(); }
+        @Override public InputStream getInputStream() throws IOException { return resource.getInputStream(); }
+    }
+
+    /**
+     * Spring Boot 는 resource chain 을 설정 값으로 켤 때만 등록하므로 직접 등록한다.
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.selfprojectboard.config;
+
+import com.example.selfprojectboard.view.AnonymousPageCacheFilter;
+import com.example.selfprojectboard.view.CachedFragmentDialect;
+import com.example.selfprojectboard.view.RenderedViewCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.thymeleaf.ITemplateEngine;
+
+import java.time.Duration;
+
+/**
+ * 렌더링 결과 캐시 ({@code board.view-cache.enabled}, 기본 true).
+ * <p>
+ * 끄면 {@code board:fragment} 속성은 처리되지 않고 무시되어, 템플릿이 캐시 없이 평소대로 렌더링된다.
+ */
+@ConditionalOnProperty(prefix = "board.view-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Configuration
+public class ViewCacheConfig {
+
+    @Bean
+    public RenderedViewCache renderedViewCache(
+            @Value("${board.view-cache.maximum-fragments:10000}") long maximumFragments,
+            @Value("${board.view-cache.fragment-ttl:PT10M}") Duration fragmentTtl,
+            @Value("${board.view-cache.maximum-pages:1000}") long maximumPages,
+            @Value("${board.view-cache.page-ttl:PT1M}") Duration pageTtl
+    ) {
+        return new RenderedViewCache(maximumFragments, fragmentTtl, maximumPages, pageTtl);
+    }
+
+    @Bean
+    public CachedFragmentDialect cachedFragmentDialect(RenderedViewCache renderedViewCache, ObjectProvider<ITemplateEngine> templateEngine) {
+        return new CachedFragmentDialect(renderedViewCache, templateEngine::getObject);
+    }
+
+    /**
+     * 기본 순서(가장 나중)로 등록해서 Spring Security 필터 뒤에서 돌게 한다.
+     */
+    @Bean
+    public FilterRegistrationBean<AnonymousPageCacheFilter> anonymousPageCacheFilter(RenderedViewCache renderedViewCache) {
+        FilterRegistrationBean<AnonymousPageCacheFilter> registration = new FilterRegistrationBean<>(new AnonymousPageCacheFilter(renderedViewCache));
+        registration.addUrlPatterns("/articles", "/articles/search-hashtag");
+        return registration;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.selfprojectboard.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드 ({@code board.virtual-threads.enabled=true}, Java 21 이상).
+ * <p>
+ * Tomcat 요청과 applicationTaskExecutor(@Async, MVC 비동기 요청, JPA 지연 부트스트랩) 작업을 작업마다 새 가상 스레드에서 돌린다.
+ * 요청 수가 플랫폼 스레드 풀 크기에 묶이지 않는 대신 DB 앞에 몰리므로, DataSource 를 {@link ConcurrencyLimitingDataSource} 로 감싼다.
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "board.virtual-threads", name = "enabled", havingValue = "true")
+@Configuration
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("가상 스레드 모드 - Tomcat 요청과 applicationTaskExecutor 를 가상 스레드로 실행한다.");
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("http-vt-"));
+    }
+
+    /**
+     * 기본 ThreadPoolTaskExecutor 대신 쓴다. (TaskExecutionAutoConfiguration 은 Executor 빈이 있으면 만들지 않는다)
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(VirtualThreads.newThreadPerTaskExecutor("task-vt-"));
+    }
+
+    /**
+     * 허가 수 기본값은 Hikari 풀 크기와 같다. 풀보다 작게 두면 나머지 커넥션은 배치, actuator 같은 다른 용도로 남는다.
+     * <p>
+     * BeanPostProcessor 라 다른 빈보다 먼저 만들어지므로 static 으로 두고 설정 값은 Environment 에서 직접 읽는다.
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        int maxConcurrentConnections = environment.getProperty("board.virtual-threads.max-concurrent-connections", Integer.class, poolSize);
+        Duration waitTimeout = environment.getProperty("board.virtual-threads.connection-wait-timeout", Duration.class, Duration.ofSeconds(30));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitingDataSource)) {
+                    return new ConcurrencyLimitingDataSource(dataSource, maxConcurrentConnections, waitTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * board.jdbc.limiter.available: 남은 허가 수, board.jdbc.limiter.waiting: 커넥션을 기다리는 스레드 수
+     */
+    @Bean
+    public MeterBinder concurrencyLimitingDataSourceMetrics(DataSource dataSource) throws SQLException {
+        ConcurrencyLimitingDataSource limiter = dataSource.unwrap(ConcurrencyLimitingDataSource.class);
+        return registry -> {
+            Gauge.builder("board.jdbc.limiter.available", limiter, ConcurrencyLimitingDataSource::getAvailablePermits).register(registry);
+            Gauge.builder("board.jdbc.limiter.waiting", limiter, ConcurrencyLimitingDataSource::getWaitingThreads).register(registry);
+        };
+    }
+}
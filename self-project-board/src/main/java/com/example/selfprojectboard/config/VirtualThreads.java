@@ -0,0 +1,38 @@
+package com.example.selfprojectboard.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Java 21 가상 스레드 API 를 리플렉션으로 부른다. 코드는 17 로 컴파일하고, 21 에서 실행할 때만 가상 스레드 모드를 켤 수 있게 하기 위함이다.
+ */
+final class VirtualThreads {
+
+    private static final int MIN_FEATURE_VERSION = 21;
+
+    private VirtualThreads() {}
+
+    static boolean isSupported() {
+        return Runtime.version().feature() >= MIN_FEATURE_VERSION;
+    }
+
+    /**
+     * 작업마다 새 가상 스레드를 만드는 executor. 스레드 이름은 {@code namePrefix0, namePrefix1, ...}
+     */
+    static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException("가상 스레드는 Java " + MIN_FEATURE_VERSION + " 이상에서만 쓸 수 있습니다. 현재: " + Runtime.version());
+        }
+
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 executor 를 만들 수 없습니다.", e);
+        }
+    }
+}
@@ -3,14 +3,18 @@ package com.example.selfprojectboard.controller;
 import com.example.selfprojectboard.dto.UserAccountDto;
 import com.example.selfprojectboard.dto.request.ArticleCommentRequest;
 import com.example.selfprojectboard.dto.security.BoardPrincipal;
+import com.example.selfprojectboard.response.ArticleCommentPageResponse;
 import com.example.selfprojectboard.service.ArticleCommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 @RequiredArgsConstructor
 @RequestMapping("/comments")
@@ -19,6 +23,19 @@ public class ArticleCommentController {
 
     private final ArticleCommentService articleCommentService;
 
+    /**
+     * 댓글 더보기. 응답의 nextCursor 를 다음 요청의 after 로 넘긴다.
+     */
+    @ResponseBody
+    @GetMapping
+    public ArticleCommentPageResponse articleComments(
+            @RequestParam Long articleId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + ArticleCommentService.DEFAULT_COMMENT_PAGE_SIZE) int size
+    ) {
+        return ArticleCommentPageResponse.from(articleCommentService.searchArticleComments(articleId, after, size));
+    }
+
     @PostMapping("/new")
     public String postNewArticleComment(
             ArticleCommentRequest articleCommentRequest,
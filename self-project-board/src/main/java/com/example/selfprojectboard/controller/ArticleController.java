@@ -2,11 +2,17 @@ package com.example.selfprojectboard.controller;
 
 import com.example.selfprojectboard.domain.constant.FormStatus;
 import com.example.selfprojectboard.domain.constant.SearchType;
+import com.example.selfprojectboard.dto.ArticleDto;
+import com.example.selfprojectboard.dto.ArticleVersionDto;
+import com.example.selfprojectboard.dto.CursorSlice;
 import com.example.selfprojectboard.dto.request.ArticleRequest;
 import com.example.selfprojectboard.dto.UserAccountDto;
 import com.example.selfprojectboard.dto.security.BoardPrincipal;
+import com.example.selfprojectboard.response.ArticleCommentResponse;
 import com.example.selfprojectboard.response.ArticleResponse;
+import com.example.selfprojectboard.response.ArticleSummaryResponse;
 import com.example.selfprojectboard.response.ArticleWithCommentsResponse;
+import com.example.selfprojectboard.service.ArticleCommentService;
 import com.example.selfprojectboard.service.ArticleService;
 import com.example.selfprojectboard.service.PaginationService;
 import lombok.RequiredArgsConstructor;
@@ -18,57 +24,114 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @RequestMapping("/articles")
 @Controller
 public class ArticleController {
 
+    private static final int POPULAR_HASHTAG_COUNT = 10;
+
     private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
     private final PaginationService paginationService;
 
     @GetMapping
     public String articles(
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            ServletWebRequest webRequest,
             ModelMap map
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType,searchValue,pageable).map(ArticleResponse::from);
+        long boardVersion = articleService.getBoardVersion();
+        if (ConditionalViews.checkNotModified(webRequest, boardVersion, boardVersion)) {
+            return null;
+        }
+
+        map.addAttribute("searchTypes", SearchType.values());
+
+        if (paginationService.isCursorMode(after, before)) {
+            CursorSlice<ArticleSummaryResponse> articles = articleService.searchArticlesByCursor(searchType, searchValue, pageable, after, before).map(ArticleSummaryResponse::from);
+            map.addAttribute("articles", articles.toSlice());
+            map.addAttribute("cursorLinks", paginationService.getCursorLinks(articles));
+
+            return "articles/index";
+        }
+
+        Page<ArticleSummaryResponse> articles = articleService.searchArticles(searchType,searchValue,pageable).map(ArticleSummaryResponse::from);
         List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
 
         map.addAttribute("articles", articles);
         map.addAttribute("paginationBarNumbers", barNumbers);
-        map.addAttribute("searchTypes", SearchType.values());
 
         return "articles/index";
     }
 
     @GetMapping("/{articleId}")
-    public String articles(@PathVariable long articleId, ModelMap map) {
-        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+    public String articles(
+            @PathVariable long articleId,
+            @RequestParam(required = false) String commentAfter,
+            ServletWebRequest webRequest,
+            ModelMap map
+    ) {
+        // 엔티티를 읽기 전에 버전만 조회해서, 브라우저/CDN 이 가진 화면과 같으면 304 로 끝낸다.
+        Optional<ArticleVersionDto> articleVersion = articleService.getArticleVersion(articleId);
+        if (articleVersion.isPresent()
+                && ConditionalViews.checkNotModified(webRequest, articleVersion.get().lastModified(), articleVersion.get())) {
+            return null;
+        }
+
+        ArticleDto articleDto = articleService.getArticle(articleId);
+        CursorSlice<ArticleCommentResponse> articleComments = articleCommentService
+                .searchArticleComments(articleId, commentAfter, ArticleCommentService.DEFAULT_COMMENT_PAGE_SIZE)
+                .map(ArticleCommentResponse::from);
+        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleDto, articleComments.content());
+
         map.addAttribute("article", article);
         map.addAttribute("articleComments", article.articleCommentsResponse());
-        map.addAttribute("totalCount", articleService.getArticleCount());
+        map.addAttribute("nextCommentCursor", articleComments.hasNext() ? articleComments.lastCursor() : null);
         return "articles/detail";
     }
 
     @GetMapping("/search-hashtag")
     public String searchArticleHashtag(
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            ServletWebRequest webRequest,
             ModelMap map
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
-        List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
+        long boardVersion = articleService.getBoardVersion();
+        if (ConditionalViews.checkNotModified(webRequest, boardVersion, boardVersion)) {
+            return null;
+        }
+
         List<String> hashtags = articleService.getHashtags();
+        map.addAttribute("hashtags", hashtags);
+        map.addAttribute("popularHashtags", articleService.getPopularHashtags(POPULAR_HASHTAG_COUNT));
+        map.addAttribute("searchType", SearchType.HASHTAG);
+
+        if (paginationService.isCursorMode(after, before)) {
+            CursorSlice<ArticleSummaryResponse> articles = articleService.searchArticlesViaHashtagByCursor(searchValue, pageable, after, before).map(ArticleSummaryResponse::from);
+            map.addAttribute("articles", articles.toSlice());
+            map.addAttribute("cursorLinks", paginationService.getCursorLinks(articles));
+
+            return "articles/search-hashtag";
+        }
+
+        Page<ArticleSummaryResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleSummaryResponse::from);
+        List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
 
         map.addAttribute("articles", articles);
-        map.addAttribute("hashtags", hashtags);
         map.addAttribute("paginationBarNumbers", barNumbers);
-        map.addAttribute("searchType", SearchType.HASHTAG);
 
 
         return "articles/search-hashtag";
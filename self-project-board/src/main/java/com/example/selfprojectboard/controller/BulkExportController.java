@@ -0,0 +1,51 @@
+package com.example.selfprojectboard.controller;
+
+import com.example.selfprojectboard.service.bulk.BulkExportService;
+import com.example.selfprojectboard.service.bulk.BulkFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글/댓글 전체 내보내기. 관리자({@code board.security.admin-user-ids})가 스크립트에서 HTTP Basic 으로 호출한다.
+ * <pre>
+ * curl -u sspark:**** -o articles.ndjson 'http://localhost:8080/export/articles?format=NDJSON'
+ * </pre>
+ * 응답 본문을 메모리에 만들지 않고 쿼리 결과를 읽는 대로 출력 스트림에 쓴다.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/export")
+@Controller
+public class BulkExportController {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final BulkExportService bulkExportService;
+
+    @GetMapping("/articles")
+    public void exportArticles(
+            @RequestParam(defaultValue = "NDJSON") BulkFormat format,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(format.getMediaType().toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("articles." + format.getFileExtension())
+                .build()
+                .toString());
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        bulkExportService.exportArticles(format, writer);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.selfprojectboard.controller;
+
+import com.example.selfprojectboard.dto.security.BoardPrincipal;
+import com.example.selfprojectboard.response.BulkImportEventResponse;
+import com.example.selfprojectboard.service.bulk.BulkImportService;
+import com.example.selfprojectboard.service.bulk.BulkFormat;
+import com.example.selfprojectboard.service.bulk.ImportListener;
+import com.example.selfprojectboard.service.bulk.ImportResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글/댓글 대량 가져오기. 관리자({@code board.security.admin-user-ids})가 스크립트에서 HTTP Basic 으로 호출한다.
+ * <pre>
+ * curl -u sspark:**** -H 'Content-Type: application/x-ndjson' --data-binary @articles.ndjson http://localhost:8080/import/articles
+ * curl -u sspark:**** -H 'Content-Type: text/csv' --data-binary @comments.csv http://localhost:8080/import/comments
+ * </pre>
+ * 응답은 NDJSON 으로, 행 오류와 청크별 진행 상황을 처리하는 대로 흘려보내고 마지막 줄에 결과(done)를 쓴다.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/import")
+@Controller
+public class BulkImportController {
+
+    private final BulkImportService bulkImportService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "/articles", consumes = {MediaType.APPLICATION_NDJSON_VALUE, BulkFormat.CSV_VALUE})
+    public void importArticles(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            Authentication authentication,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        BulkFormat format = BulkFormat.from(MediaType.parseMediaType(contentType));
+        PrintWriter writer = openReport(response);
+        ImportResult result = bulkImportService.importArticles(openBody(request), format, listener(writer), authorUserId(authentication));
+        write(writer, BulkImportEventResponse.done(result));
+    }
+
+    @PostMapping(value = "/comments", consumes = {MediaType.APPLICATION_NDJSON_VALUE, BulkFormat.CSV_VALUE})
+    public void importArticleComments(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            Authentication authentication,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        BulkFormat format = BulkFormat.from(MediaType.parseMediaType(contentType));
+        PrintWriter writer = openReport(response);
+        ImportResult result = bulkImportService.importArticleComments(openBody(request), format, listener(writer), authorUserId(authentication));
+        write(writer, BulkImportEventResponse.done(result));
+    }
+
+    /**
+     * 관리자는 행의 userId 를 그대로 쓰고, 그 밖의 사용자는 자기 이름으로만 넣을 수 있다. (보안 설정이 관리자만 들여보내도 한 번 더 막는다)
+     */
+    private static String authorUserId(Authentication authentication) {
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> BoardPrincipal.RoleType.ADMIN.getName().equals(authority.getAuthority()));
+        return admin ? null : authentication.getName();
+    }
+
+    private Reader openBody(HttpServletRequest request) throws IOException {
+        return new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8);
+    }
+
+    private PrintWriter openReport(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        return response.getWriter();
+    }
+
+    private ImportListener listener(PrintWriter writer) {
+        return new ImportListener() {
+            @Override
+            public void onError(long lineNumber, String message) {
+                write(writer, BulkImportEventResponse.error(lineNumber, message));
+            }
+
+            @Override
+            public void onProgress(ImportResult progress) {
+                write(writer, BulkImportEventResponse.progress(progress));
+            }
+        };
+    }
+
+    private void write(PrintWriter writer, BulkImportEventResponse event) {
+        try {
+            writer.write(objectMapper.writeValueAsString(event));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        writer.write('\n');
+        writer.flush();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.selfprojectboard.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpSession;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.StringJoiner;
+
+/**
+ * 화면 조건부 요청 (If-None-Match / If-Modified-Since).
+ * <p>
+ * 같은 버전이라도 로그인 사용자와 세션(CSRF 토큰)에 따라 HTML 이 다르므로 둘 다 ETag 에 섞는다.
+ * 로그인했거나 세션이 있으면 private, 아니면 CDN 도 보관할 수 있게 public 으로 두고, 둘 다 매번 재검증(no-cache)하게 한다.
+ * Cache-Control 을 먼저 정해 두면 Spring Security 는 기본값(no-store)을 덮어쓰지 않는다.
+ */
+final class ConditionalViews {
+
+    private ConditionalViews() {}
+
+    /**
+     * ETag, Last-Modified, Cache-Control 을 응답에 싣고, 클라이언트가 가진 것과 같으면 304 로 정해 true 를 반환한다.
+     * true 이면 핸들러는 모델을 만들지 말고 바로 null 을 반환한다.
+     *
+     * @param lastModified epoch ms. 0 이하면 Last-Modified 는 쓰지 않는다.
+     * @param versionParts 화면 내용이 기대는 버전 값들
+     */
+    static boolean checkNotModified(ServletWebRequest webRequest, long lastModified, Object... versionParts) {
+        Principal principal = webRequest.getUserPrincipal();
+        HttpSession session = webRequest.getRequest().getSession(false);
+
+        StringJoiner version = new StringJoiner("|");
+        for (Object part : versionParts) {
+            version.add(String.valueOf(part));
+        }
+        version.add(principal == null ? "anonymous" : principal.getName());
+        version.add(session == null ? "" : session.getId());
+
+        CacheControl cacheControl = principal == null && session == null
+                ? CacheControl.noCache().cachePublic()
+                : CacheControl.noCache().cachePrivate();
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+
+        String eTag = "W/\"" + DigestUtils.md5DigestAsHex(version.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+        return webRequest.checkNotModified(eTag, lastModified);
+    }
+}
@@ -3,7 +3,10 @@ package com.example.selfprojectboard.domain;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import javax.persistence.*;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -14,14 +17,20 @@ import java.util.Set;
         @Index(columnList = "title"),
         @Index(columnList = "hashtag"),
         @Index(columnList = "createdAt"),
+        @Index(columnList = "modifiedAt"),
         @Index(columnList = "createdBy")
 })
 
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "article")
 @Entity
 public class Article extends AuditingFields {
 
+    // IDENTITY 는 insert 마다 키를 돌려받아야 해서 JDBC batch 가 꺼진다. 시퀀스(MySQL 은 테이블)에서 50개씩 미리 받아 쓴다. (pooled-lo)
+    // data.sql 시드 데이터가 ID 1~1000 을 쓰므로 1001 부터 시작한다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", initialValue = 1001, allocationSize = 50)
     private Long id;
 
     @Setter @ManyToOne(optional = false) @JoinColumn(name = "userId") private UserAccount userAccount;
@@ -29,10 +38,20 @@ public class Article extends AuditingFields {
     @Setter @Column(nullable = false) private String title;
     @Setter @Column(nullable = false, length = 10000) private String content;
 
-    @Setter private String hashtag;
+    @Setter private String hashtag; // 작성자가 입력한 원문. 검색은 hashtags 로 한다.
+
+    @ToString.Exclude
+    @JoinTable(
+            name = "article_hashtag",
+            joinColumns = @JoinColumn(name = "articleId"),
+            inverseJoinColumns = @JoinColumn(name = "hashtagId")
+    )
+    @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    private final Set<Hashtag> hashtags = new LinkedHashSet<>();
 
     @ToString.Exclude // 순환참조 방지 (ToString -> 'Article'객체)
     @OrderBy("createdAt DESC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "articleComments")
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL)
     private final Set<ArticleComment> articleComments = new LinkedHashSet<>();
 
@@ -50,6 +69,14 @@ public class Article extends AuditingFields {
         return new Article(userAccount,title,content,hashtag);
     }
 
+    public void addHashtags(Collection<Hashtag> hashtags) {
+        this.hashtags.addAll(hashtags);
+    }
+
+    public void clearHashtags() {
+        this.hashtags.clear();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
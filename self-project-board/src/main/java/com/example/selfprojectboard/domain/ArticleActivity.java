@@ -0,0 +1,54 @@
+package com.example.selfprojectboard.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 게시글별 댓글 변경 버전. 댓글을 쓰거나 고치거나 지울 때마다 올린다.
+ * <p>
+ * 상세 화면 조건부 요청이 댓글 전체를 집계하지 않고 이 한 행만 읽게 하기 위한 것이다.
+ * 게시글 행에 두면 댓글마다 게시글의 수정 시각(modifiedAt)이 바뀌고, 벌크 update 는 게시글 2차 캐시를 통째로 비우므로 따로 둔다.
+ * 댓글이 한 번도 바뀌지 않은 게시글은 행이 없다. (버전 0)
+ */
+@Getter
+@ToString
+@Entity
+public class ArticleActivity {
+
+    @Id
+    private Long articleId;
+
+    @Column(nullable = false) private long commentVersion;
+
+    @Column(nullable = false) private LocalDateTime commentedAt; // 마지막으로 댓글이 바뀐 시각
+
+    protected ArticleActivity() {}
+
+    private ArticleActivity(Long articleId, long commentVersion, LocalDateTime commentedAt) {
+        this.articleId = articleId;
+        this.commentVersion = commentVersion;
+        this.commentedAt = commentedAt;
+    }
+
+    public static ArticleActivity of(Long articleId, LocalDateTime commentedAt) {
+        return new ArticleActivity(articleId, 1L, commentedAt);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArticleActivity that)) return false;
+        return articleId != null && articleId.equals(that.articleId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(articleId);
+    }
+}
@@ -3,6 +3,8 @@ package com.example.selfprojectboard.domain;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import javax.persistence.*;
 import java.util.Objects;
 
@@ -11,19 +13,25 @@ import java.util.Objects;
 @Table(indexes = {
         @Index(columnList = "content"),
         @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "article_id, createdAt, id") // 게시글별 댓글 keyset 페이징
 
 })
 
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "articleComment")
 @Entity
 public class ArticleComment extends AuditingFields {
 
+    // Article.id 와 같은 방식 (pooled-lo, 1001 부터)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_comment_seq")
+    @SequenceGenerator(name = "article_comment_seq", sequenceName = "article_comment_seq", initialValue = 1001, allocationSize = 50)
     private Long id;
 
+    @ToString.Exclude
     @Setter
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY) // 댓글 쪽에서는 게시글 ID 만 쓴다. 즉시 로딩하면 댓글 조회마다 게시글 select 가 따라온다.
     private Article article;
 
     @Setter @ManyToOne(optional = false) @JoinColumn(name = "userId") private UserAccount userAccount;
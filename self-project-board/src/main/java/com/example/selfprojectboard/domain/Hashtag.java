@@ -0,0 +1,70 @@
+package com.example.selfprojectboard.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.*;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+@Getter
+@ToString(callSuper = true)
+@Table(indexes = {
+        @Index(columnList = "hashtagName", unique = true),
+        @Index(columnList = "createdAt"),
+        @Index(columnList = "createdBy")
+})
+@Entity
+public class Hashtag extends AuditingFields {
+
+    public static final int MAX_NAME_LENGTH = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ToString.Exclude // 순환참조 방지
+    @ManyToMany(mappedBy = "hashtags")
+    private final Set<Article> articles = new LinkedHashSet<>();
+
+    @Column(nullable = false, length = MAX_NAME_LENGTH) private String hashtagName; // '#' 없이 소문자로 저장한다.
+
+    protected Hashtag() {}
+
+    private Hashtag(String hashtagName) {
+        this.hashtagName = hashtagName;
+    }
+
+    public static Hashtag of(String hashtagName) {
+        return new Hashtag(normalize(hashtagName));
+    }
+
+    /**
+     * "#Java", "java" 를 같은 태그로 보도록 '#' 을 떼고 소문자로 바꾼다.
+     */
+    public static String normalize(String hashtagName) {
+        if (hashtagName == null) {
+            return null;
+        }
+
+        String name = hashtagName.strip();
+        while (name.startsWith("#")) {
+            name = name.substring(1);
+        }
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Hashtag hashtag)) return false;
+        return id != null && id.equals(hashtag.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.selfprojectboard.domain.projection;
+
+import com.example.selfprojectboard.domain.Article;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.rest.core.config.Projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data REST 게시글 컬렉션 리소스({@code /api/articles})의 excerpt. 목록 응답에서 본문을 뺀다.
+ */
+@Projection(name = "summary", types = Article.class)
+public interface ArticleSummary {
+    Long getId();
+    String getTitle();
+    String getHashtag();
+    LocalDateTime getCreatedAt();
+
+    @Value("#{target.userAccount.userId}")
+    String getUserId();
+
+    @Value("#{target.userAccount.nickname}")
+    String getNickname();
+}
@@ -0,0 +1,53 @@
+package com.example.selfprojectboard.dto;
+
+import com.example.selfprojectboard.domain.ArticleComment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 댓글 keyset 페이징 커서. 댓글은 항상 (createdAt DESC, id DESC) 순서라 마지막 댓글의 (createdAt, id) 만 담는다.
+ */
+public record ArticleCommentCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static ArticleCommentCursor of(LocalDateTime createdAt, Long id) {
+        return new ArticleCommentCursor(createdAt, id);
+    }
+
+    public static ArticleCommentCursor from(ArticleComment entity) {
+        return new ArticleCommentCursor(entity.getCreatedAt(), entity.getId());
+    }
+
+    /**
+     * 잘못된 토큰은 예외 대신 {@link Optional#empty()} 로 처리해 첫 페이지부터 보여준다.
+     */
+    public static Optional<ArticleCommentCursor> decode(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|");
+            if (parts.length != 2) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new ArticleCommentCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1])));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
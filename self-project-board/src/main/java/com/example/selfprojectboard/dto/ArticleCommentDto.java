@@ -6,6 +6,11 @@ import com.example.selfprojectboard.domain.ArticleComment;
 import com.example.selfprojectboard.domain.UserAccount;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public record ArticleCommentDto(
         Long id,
@@ -26,10 +31,36 @@ public record ArticleCommentDto(
     }
 
     public static ArticleCommentDto from(ArticleComment entity) {
+        return from(entity, UserAccountDto.from(entity.getUserAccount()));
+    }
+
+    /**
+     * 댓글 목록을 한 번에 옮긴다. 같은 작성자의 댓글은 {@link UserAccountDto} 하나를 같이 쓴다.
+     */
+    public static List<ArticleCommentDto> fromAll(Collection<ArticleComment> entities) {
+        return fromAll(entities, new HashMap<>());
+    }
+
+    static List<ArticleCommentDto> fromAll(Collection<ArticleComment> entities, Map<String, UserAccountDto> authors) {
+        List<ArticleCommentDto> dtos = new ArrayList<>(entities.size());
+        for (ArticleComment entity : entities) {
+            String userId = entity.getUserAccount().getUserId();
+            UserAccountDto author = authors.get(userId);
+            if (author == null) {
+                author = UserAccountDto.from(entity.getUserAccount());
+                authors.put(userId, author);
+            }
+            dtos.add(from(entity, author));
+        }
+
+        return dtos;
+    }
+
+    private static ArticleCommentDto from(ArticleComment entity, UserAccountDto userAccountDto) {
         return new ArticleCommentDto(
                 entity.getId(),
                 entity.getArticle().getId(),
-                UserAccountDto.from(entity.getUserAccount()),
+                userAccountDto,
                 entity.getContent(),
                 entity.getCreatedAt(),
                 entity.getCreatedBy(),
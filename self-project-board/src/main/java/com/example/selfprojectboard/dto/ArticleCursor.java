@@ -0,0 +1,90 @@
+package com.example.selfprojectboard.dto;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 게시글 목록 keyset 페이징 커서. (정렬 컬럼 값, id) 를 URL-safe Base64 문자열로 감싼다.
+ */
+public record ArticleCursor(
+        String property,
+        Sort.Direction direction,
+        Long id,
+        String value
+) {
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("createdAt", "title", "hashtag", "userAccount.userId");
+
+    private static final String DELIMITER = "|";
+
+    public static ArticleCursor of(String property, Sort.Direction direction, Long id, String value) {
+        return new ArticleCursor(property, direction, id, value);
+    }
+
+    public static ArticleCursor from(ArticleSummaryDto dto, Sort.Order order) {
+        String value = switch (order.getProperty()) {
+            case "title" -> dto.title();
+            case "hashtag" -> dto.hashtag();
+            case "userAccount.userId" -> dto.userId();
+            default -> dto.createdAt().toString();
+        };
+
+        return new ArticleCursor(order.getProperty(), order.getDirection(), dto.id(), value);
+    }
+
+    /**
+     * 잘못된 토큰은 예외 대신 {@link Optional#empty()} 로 처리해 첫 페이지부터 보여준다.
+     */
+    public static Optional<ArticleCursor> decode(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 4); // value 에 구분자가 있어도 되도록 마지막에 둔다.
+            if (parts.length < 3 || !SORTABLE_PROPERTIES.contains(parts[0])) {
+                return Optional.empty();
+            }
+
+            ArticleCursor cursor = new ArticleCursor(
+                    parts[0],
+                    Sort.Direction.fromString(parts[1]),
+                    Long.valueOf(parts[2]),
+                    parts.length == 4 ? parts[3] : null // null 과 빈 문자열을 구분한다.
+            );
+            if (cursor.isCreatedAt()) {
+                if (cursor.value() == null) {
+                    return Optional.empty();
+                }
+                cursor.createdAtValue(); // 형식이 잘못되면 DateTimeParseException
+            }
+
+            return Optional.of(cursor);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String encode() {
+        String raw = property + DELIMITER + direction.name() + DELIMITER + id + (value == null ? "" : DELIMITER + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime createdAtValue() {
+        return LocalDateTime.parse(value);
+    }
+
+    public boolean isCreatedAt() {
+        return "createdAt".equals(property);
+    }
+
+    public boolean matches(Sort.Order order) {
+        return property.equals(order.getProperty()) && direction == order.getDirection();
+    }
+}
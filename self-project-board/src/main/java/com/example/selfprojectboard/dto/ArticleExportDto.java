@@ -0,0 +1,27 @@
+package com.example.selfprojectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 행. 게시글 하나에 댓글 하나를 붙인 행으로, 댓글이 없는 게시글은 comment* 값이 null 이다.
+ * 엔티티를 거치지 않고 게시글/댓글 커서의 컬럼으로 바로 만든다. 같은 게시글의 행은 게시글 컬럼 값을 공유한다. (ArticleRepositoryCustomImpl)
+ */
+public record ArticleExportDto(
+        Long articleId,
+        String userId,
+        String title,
+        String content,
+        String hashtag,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        Long commentId,
+        String commentUserId,
+        String commentContent,
+        LocalDateTime commentCreatedAt
+) {
+
+    public static ArticleExportDto of(Long articleId, String userId, String title, String content, String hashtag, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                                      Long commentId, String commentUserId, String commentContent, LocalDateTime commentCreatedAt) {
+        return new ArticleExportDto(articleId, userId, title, content, hashtag, createdAt, modifiedAt, commentId, commentUserId, commentContent, commentCreatedAt);
+    }
+}
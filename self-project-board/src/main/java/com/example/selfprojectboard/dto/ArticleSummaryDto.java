@@ -0,0 +1,23 @@
+package com.example.selfprojectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 요약. 본문 전체 대신 앞부분({@code contentPreview})만, 작성자는 userId/nickname 만 담는다.
+ * 엔티티를 거치지 않고 쿼리에서 바로 만든다. (ArticleRepositoryCustomImpl)
+ */
+public record ArticleSummaryDto(
+        Long id,
+        String title,
+        String contentPreview,
+        String hashtag,
+        LocalDateTime createdAt,
+        String userId,
+        String nickname
+) {
+    public static final int CONTENT_PREVIEW_LENGTH = 100;
+
+    public static ArticleSummaryDto of(Long id, String title, String contentPreview, String hashtag, LocalDateTime createdAt, String userId, String nickname) {
+        return new ArticleSummaryDto(id, title, contentPreview, hashtag, createdAt, userId, nickname);
+    }
+}
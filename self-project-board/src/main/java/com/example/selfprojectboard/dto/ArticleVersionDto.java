@@ -0,0 +1,30 @@
+package com.example.selfprojectboard.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 상세 화면의 버전. 게시글 수정 시각과 게시글별 댓글 버전(댓글을 쓰고, 고치고, 지울 때마다 오른다)으로 정한다.
+ * 엔티티와 댓글을 읽지 않고 한 행만 조회해서, 조건부 요청(ETag/Last-Modified)을 판단하는 데 쓴다.
+ */
+public record ArticleVersionDto(
+        Long articleId,
+        LocalDateTime articleModifiedAt,
+        long commentVersion,
+        LocalDateTime commentedAt
+) {
+
+    public static ArticleVersionDto of(Long articleId, LocalDateTime articleModifiedAt, long commentVersion, LocalDateTime commentedAt) {
+        return new ArticleVersionDto(articleId, articleModifiedAt, commentVersion, commentedAt);
+    }
+
+    /**
+     * 게시글과 댓글 중 가장 최근 변경 시각(epoch ms). 같은 밀리초 안의 변경은 구분하지 못하므로 판단은 ETag 를 우선한다.
+     */
+    public long lastModified() {
+        LocalDateTime latest = commentedAt != null && commentedAt.isAfter(articleModifiedAt)
+                ? commentedAt
+                : articleModifiedAt;
+        return latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
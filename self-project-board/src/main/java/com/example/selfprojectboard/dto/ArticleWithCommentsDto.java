@@ -3,14 +3,14 @@ package com.example.selfprojectboard.dto;
 import com.example.selfprojectboard.domain.Article;
 
 import java.time.LocalDateTime;
-import java.util.LinkedHashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public record ArticleWithCommentsDto(
         Long id,
         UserAccountDto userAccountDto,
-        Set<ArticleCommentDto> articleCommentDtos,
+        List<ArticleCommentDto> articleCommentDtos,
         String title,
         String content,
         String hashtag,
@@ -19,17 +19,23 @@ public record ArticleWithCommentsDto(
         LocalDateTime modifiedAt,
         String modifiedBy
 ) {
-    public static ArticleWithCommentsDto of(Long id, UserAccountDto userAccountDto, Set<ArticleCommentDto> articleCommentDtos, String title, String content, String hashtag, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
+    public static ArticleWithCommentsDto of(Long id, UserAccountDto userAccountDto, List<ArticleCommentDto> articleCommentDtos, String title, String content, String hashtag, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
         return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtag, createdAt, createdBy, modifiedAt, modifiedBy);
     }
 
+    /**
+     * 댓글은 엔티티 컬렉션 순서 그대로 리스트에 옮긴다. (record 해시를 계산하는 Set 복사를 하지 않는다)
+     * 게시글 작성자와 댓글 작성자가 같으면 {@link UserAccountDto} 를 같이 쓴다.
+     */
     public static ArticleWithCommentsDto from(Article entity) {
+        UserAccountDto userAccountDto = UserAccountDto.from(entity.getUserAccount());
+        Map<String, UserAccountDto> authors = new HashMap<>();
+        authors.put(userAccountDto.userId(), userAccountDto);
+
         return new ArticleWithCommentsDto(
                 entity.getId(),
-                UserAccountDto.from(entity.getUserAccount()),
-                entity.getArticleComments().stream()
-                        .map(ArticleCommentDto::from)
-                        .collect(Collectors.toCollection(LinkedHashSet::new)),
+                userAccountDto,
+                ArticleCommentDto.fromAll(entity.getArticleComments(), authors),
                 entity.getTitle(),
                 entity.getContent(),
                 entity.getHashtag(),
@@ -0,0 +1,36 @@
+package com.example.selfprojectboard.dto;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset 페이징 결과. 첫/마지막 요소의 커서로 이전/다음 페이지를 요청한다.
+ */
+public record CursorSlice<T>(
+        List<T> content,
+        Pageable pageable,
+        String firstCursor,
+        String lastCursor,
+        boolean hasPrevious,
+        boolean hasNext
+) {
+    public static <T> CursorSlice<T> of(List<T> content, Pageable pageable, String firstCursor, String lastCursor, boolean hasPrevious, boolean hasNext) {
+        return new CursorSlice<>(content, pageable, firstCursor, lastCursor, hasPrevious, hasNext);
+    }
+
+    public static <T> CursorSlice<T> empty(Pageable pageable) {
+        return new CursorSlice<>(List.of(), pageable, null, null, false, false);
+    }
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> converter) {
+        return new CursorSlice<>(content.stream().<R>map(converter).toList(), pageable, firstCursor, lastCursor, hasPrevious, hasNext);
+    }
+
+    public Slice<T> toSlice() {
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
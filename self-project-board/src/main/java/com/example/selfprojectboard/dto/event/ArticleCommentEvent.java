@@ -0,0 +1,43 @@
+package com.example.selfprojectboard.dto.event;
+
+import com.example.selfprojectboard.domain.ArticleComment;
+
+/**
+ * 댓글 생성/수정/삭제 이벤트. 게시판 통계(커밋 후)와 게시글별 댓글 버전(커밋 전)에 반영하기 위해 사용한다.
+ */
+public record ArticleCommentEvent(
+        EventType eventType,
+        Long articleCommentId,
+        Long articleId,
+        String userId
+) {
+
+    public static ArticleCommentEvent of(EventType eventType, Long articleCommentId, Long articleId, String userId) {
+        return new ArticleCommentEvent(eventType, articleCommentId, articleId, userId);
+    }
+
+    public static ArticleCommentEvent created(ArticleComment entity) {
+        return from(EventType.CREATED, entity);
+    }
+
+    public static ArticleCommentEvent updated(ArticleComment entity) {
+        return from(EventType.UPDATED, entity);
+    }
+
+    public static ArticleCommentEvent deleted(ArticleComment entity) {
+        return from(EventType.DELETED, entity);
+    }
+
+    private static ArticleCommentEvent from(EventType eventType, ArticleComment entity) {
+        return new ArticleCommentEvent(
+                eventType,
+                entity.getId(),
+                entity.getArticle().getId(),
+                entity.getUserAccount().getUserId()
+        );
+    }
+
+    public enum EventType {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.selfprojectboard.dto.event;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.Hashtag;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 변경 이벤트. 트랜잭션 커밋 후 인메모리 인덱스 등에 반영하기 위해 사용한다.
+ * Data REST(/api) 쓰기는 저장이 끝난 뒤 트랜잭션 밖에서 발행되므로, 리스너는 {@code fallbackExecution} 으로 바로 받는다.
+ * <p>
+ * 해시태그는 변경 전/후 태그 이름을 함께 담아, 받는 쪽이 게시글을 다시 조회하지 않고 증감을 계산할 수 있게 한다.
+ */
+public record ArticleEvent(
+        EventType eventType,
+        Long articleId,
+        String userId,
+        String title,
+        String content,
+        String hashtag,
+        LocalDateTime createdAt,
+        Set<String> hashtagNames,
+        Set<String> previousHashtagNames
+) {
+
+    public static ArticleEvent of(EventType eventType, Long articleId, String userId, String title, String content, String hashtag, LocalDateTime createdAt) {
+        return of(eventType, articleId, userId, title, content, hashtag, createdAt, Set.of(), Set.of());
+    }
+
+    public static ArticleEvent of(EventType eventType, Long articleId, String userId, String title, String content, String hashtag, LocalDateTime createdAt, Set<String> hashtagNames, Set<String> previousHashtagNames) {
+        return new ArticleEvent(eventType, articleId, userId, title, content, hashtag, createdAt, hashtagNames, previousHashtagNames);
+    }
+
+    public static ArticleEvent created(Article entity) {
+        return from(EventType.CREATED, entity, hashtagNamesOf(entity), Set.of());
+    }
+
+    public static ArticleEvent updated(Article entity, Set<String> previousHashtagNames) {
+        return from(EventType.UPDATED, entity, hashtagNamesOf(entity), previousHashtagNames);
+    }
+
+    public static ArticleEvent deleted(Article entity) {
+        return deleted(entity, hashtagNamesOf(entity));
+    }
+
+    public static ArticleEvent deleted(Article entity, Set<String> previousHashtagNames) {
+        return from(EventType.DELETED, entity, Set.of(), previousHashtagNames);
+    }
+
+    public static Set<String> hashtagNamesOf(Article entity) {
+        return entity.getHashtags().stream()
+                .map(Hashtag::getHashtagName)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static ArticleEvent from(EventType eventType, Article entity, Set<String> hashtagNames, Set<String> previousHashtagNames) {
+        return new ArticleEvent(
+                eventType,
+                entity.getId(),
+                entity.getUserAccount().getUserId(),
+                entity.getTitle(),
+                entity.getContent(),
+                entity.getHashtag(),
+                entity.getCreatedAt(),
+                hashtagNames,
+                previousHashtagNames
+        );
+    }
+
+    public enum EventType {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -20,9 +20,10 @@ public record BoardPrincipal(
 ) implements UserDetails {
 
     public static BoardPrincipal of(String username, String password,  String email, String nickname, String memo) {
+        return of(username, password, email, nickname, memo, Set.of(RoleType.USER));
+    }
 
-        Set<RoleType> roleTypes = Set.of(RoleType.USER);
-
+    public static BoardPrincipal of(String username, String password, String email, String nickname, String memo, Set<RoleType> roleTypes) {
         return new BoardPrincipal(
                 username,
                 password,
@@ -46,6 +47,17 @@ public record BoardPrincipal(
         );
     }
 
+    public static BoardPrincipal from(UserAccountDto dto, Set<RoleType> roleTypes) {
+        return BoardPrincipal.of(
+                dto.userId(),
+                dto.userPassword(),
+                dto.email(),
+                dto.nickname(),
+                dto.memo(),
+                roleTypes
+        );
+    }
+
     public UserAccountDto toDto() {
         return UserAccountDto.of(
                 username,
@@ -69,7 +81,8 @@ public record BoardPrincipal(
 
 
     public enum RoleType {
-        USER("ROLE_USER"); // '_'는 스프링 시큐리티 규칙
+        USER("ROLE_USER"), // '_'는 스프링 시큐리티 규칙
+        ADMIN("ROLE_ADMIN"); // 대량 가져오기/내보내기 (board.security.admin-user-ids)
 
         @Getter
         private final String name;
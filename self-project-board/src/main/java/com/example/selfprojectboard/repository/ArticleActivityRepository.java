@@ -0,0 +1,25 @@
+package com.example.selfprojectboard.repository;
+
+import com.example.selfprojectboard.domain.ArticleActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+import java.time.LocalDateTime;
+
+@RepositoryRestResource(exported = false)
+public interface ArticleActivityRepository extends JpaRepository<ArticleActivity, Long> {
+
+    /**
+     * 댓글 버전을 DB 에서 1 올린다. (동시에 올려도 잃어버리지 않는다) 행이 없으면 0 을 반환한다.
+     */
+    @Modifying
+    @Query("update ArticleActivity a set a.commentVersion = a.commentVersion + 1, a.commentedAt = :commentedAt where a.articleId = :articleId")
+    int increaseCommentVersion(@Param("articleId") Long articleId, @Param("commentedAt") LocalDateTime commentedAt);
+
+    @Modifying
+    @Query("delete from ArticleActivity a where a.articleId = :articleId")
+    int deleteByArticleId(@Param("articleId") Long articleId);
+}
@@ -2,6 +2,7 @@ package com.example.selfprojectboard.repository;
 
 import com.example.selfprojectboard.domain.ArticleComment;
 import com.example.selfprojectboard.domain.QArticleComment;
+import com.example.selfprojectboard.repository.querydsl.ArticleCommentRepositoryCustom;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,12 +16,13 @@ import java.util.List;
 @RepositoryRestResource
 public interface ArticleCommentRepository extends
         JpaRepository<ArticleComment, Long>,
+        ArticleCommentRepositoryCustom,
         QuerydslPredicateExecutor<ArticleComment>,
         QuerydslBinderCustomizer<QArticleComment> {
 
     List<ArticleComment> findByArticle_Id(Long articleId);
 
-    void deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
+    List<ArticleComment> deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
 
 
     @Override
@@ -1,19 +1,28 @@
 package com.example.selfprojectboard.repository;
 
 import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.Hashtag;
 import com.example.selfprojectboard.domain.QArticle;
+import com.example.selfprojectboard.domain.projection.ArticleSummary;
 import com.example.selfprojectboard.repository.querydsl.ArticleRepositoryCustom;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
-@RepositoryRestResource
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+
+@RepositoryRestResource(excerptProjection = ArticleSummary.class) // 컬렉션 응답에는 본문을 싣지 않는다.
 public interface ArticleRepository extends
         JpaRepository<Article, Long>,
         ArticleRepositoryCustom,
@@ -23,9 +32,17 @@ public interface ArticleRepository extends
     Page<Article> findByContentContaining(String content, Pageable pageable);
     Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
     Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
-    Page<Article> findByHashtag(String hashtag, Pageable pageable);
+    Page<Article> findByHashtags_HashtagName(String hashtagName, Pageable pageable);
+    Slice<Article> findByIdGreaterThan(Long id, Pageable pageable);
+
+    List<Article> deleteByIdAndUserAccount_UserId(Long articleId, String userId);
 
-    void deleteByIdAndUserAccount_UserId(Long articleId, String userId);
+    /**
+     * 게시글 행을 잠근다. (같은 게시글의 댓글 버전 행을 동시에 처음 만들지 않게 할 때 사용)
+     */
+    @RestResource(exported = false)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Article> findForUpdateById(Long articleId);
 
     @Override
     default void customize(QuerydslBindings bindings, QArticle root) {
@@ -34,7 +51,7 @@ public interface ArticleRepository extends
 //        bindings.bind(root.title).first(StringExpression::likeIgnoreCase); // like '${v}'
         bindings.bind(root.content).first(StringExpression::containsIgnoreCase); // like '%${v}%'
         bindings.bind(root.title).first(StringExpression::containsIgnoreCase); // like '%${v}%'
-        bindings.bind(root.hashtag).first(StringExpression::containsIgnoreCase); // like '%${v}%'
+        bindings.bind(root.hashtag).first((path, value) -> root.hashtags.any().hashtagName.eq(Hashtag.normalize(value))); // 태그 테이블 equal 조인
         bindings.bind(root.createdAt).first(DateTimeExpression::eq);
         bindings.bind(root.createdBy).first(StringExpression::containsIgnoreCase);
 
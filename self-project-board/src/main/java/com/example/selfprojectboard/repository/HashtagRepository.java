@@ -0,0 +1,39 @@
+package com.example.selfprojectboard.repository;
+
+import com.example.selfprojectboard.domain.Hashtag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * /api 로는 조회만 연다. 태그는 게시글을 저장할 때만 만들고, 게시글과의 연결은 이름으로 관리한다.
+ * (리소스를 아예 숨기면 게시글 응답이 태그를 링크 대신 본문에 펼쳐 지연 로딩을 건드린다)
+ */
+@RepositoryRestResource
+public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
+    List<Hashtag> findByHashtagNameIn(Collection<String> hashtagNames);
+
+    /**
+     * 다른 트랜잭션이 방금 커밋한 태그도 읽는다. REPEATABLE READ 에서 일반 select 는 트랜잭션의 첫 읽기 시점 스냅샷을 보므로 놓친다.
+     */
+    @RestResource(exported = false)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    List<Hashtag> findLockedByHashtagNameIn(Collection<String> hashtagNames);
+
+    @Override
+    @RestResource(exported = false)
+    <S extends Hashtag> S save(S entity);
+
+    @Override
+    @RestResource(exported = false)
+    void deleteById(Long id);
+
+    @Override
+    @RestResource(exported = false)
+    void delete(Hashtag entity);
+}
@@ -0,0 +1,19 @@
+package com.example.selfprojectboard.repository.querydsl;
+
+import com.example.selfprojectboard.domain.ArticleComment;
+import com.example.selfprojectboard.dto.ArticleCommentCursor;
+
+import java.util.List;
+
+public interface ArticleCommentRepositoryCustom {
+    /**
+     * 게시글의 댓글을 커서 다음부터 (createdAt DESC, id DESC) 순서로 최대 {@code limit} 건 조회한다. 작성자는 fetch join 한다.
+     * 커서가 {@code null} 이면 최신 댓글부터 조회한다.
+     */
+    List<ArticleComment> findByArticleIdAfter(Long articleId, ArticleCommentCursor cursor, int limit);
+
+    /**
+     * 가장 큰 댓글 ID. 댓글이 없으면 0.
+     */
+    long findLatestId();
+}
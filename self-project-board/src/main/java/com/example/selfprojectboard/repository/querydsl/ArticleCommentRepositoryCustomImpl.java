@@ -0,0 +1,52 @@
+package com.example.selfprojectboard.repository.querydsl;
+
+import com.example.selfprojectboard.domain.ArticleComment;
+import com.example.selfprojectboard.domain.QArticleComment;
+import com.example.selfprojectboard.dto.ArticleCommentCursor;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.List;
+
+public class ArticleCommentRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleCommentRepositoryCustom {
+
+    public ArticleCommentRepositoryCustomImpl() {
+        super(ArticleComment.class);
+    }
+
+    @Override
+    public List<ArticleComment> findByArticleIdAfter(Long articleId, ArticleCommentCursor cursor, int limit) {
+
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        return from(articleComment)
+                .innerJoin(articleComment.userAccount).fetchJoin()
+                .where(
+                        articleComment.article.id.eq(articleId),
+                        cursor == null ? null : after(articleComment, cursor) // null 조건은 무시된다
+                )
+                .orderBy(articleComment.createdAt.desc(), articleComment.id.desc()) // (article_id, createdAt, id) 인덱스 순서 그대로
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long findLatestId() {
+
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        Long latestId = from(articleComment)
+                .select(articleComment.id.max())
+                .fetchOne();
+
+        return latestId == null ? 0L : latestId;
+    }
+
+    /**
+     * createdAt < :createdAt or (createdAt = :createdAt and id < :id)
+     */
+    private BooleanExpression after(QArticleComment articleComment, ArticleCommentCursor cursor) {
+        return articleComment.createdAt.lt(cursor.createdAt())
+                .or(articleComment.createdAt.eq(cursor.createdAt()).and(articleComment.id.lt(cursor.id())));
+    }
+}
@@ -1,7 +1,91 @@
 package com.example.selfprojectboard.repository.querydsl;
 
+import com.example.selfprojectboard.domain.constant.SearchType;
+import com.example.selfprojectboard.dto.ArticleCursor;
+import com.example.selfprojectboard.dto.ArticleExportDto;
+import com.example.selfprojectboard.dto.ArticleSummaryDto;
+import com.example.selfprojectboard.dto.ArticleVersionDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ArticleRepositoryCustom {
     List<String> findAllDistinctHashtags();
+
+    /**
+     * 해시태그 이름별 게시글 수. 해시태그 레지스트리를 채우거나 맞출 때만 사용한다.
+     */
+    Map<String, Long> countArticlesByHashtagName();
+
+    /**
+     * 작성자(userId)별 게시글 수. 게시판 통계를 채우거나 맞출 때만 사용한다.
+     */
+    Map<String, Long> countArticlesByUserId();
+
+    /**
+     * 가장 큰 게시글 ID. 게시글이 없으면 0.
+     */
+    long findLatestId();
+
+    /**
+     * {@code articleId} 보다 큰 게시글 ID 를 오름차순으로 최대 {@code limit} 개. (검색 인덱스에서 지워진 게시글을 찾을 때 사용)
+     */
+    List<Long> findIdsGreaterThan(long articleId, int limit);
+
+    /**
+     * {@code modifiedAt} 이후에 작성/수정된 게시글 ID. (검색 인덱스를 DB 와 맞출 때 사용)
+     */
+    List<Long> findIdsModifiedSince(LocalDateTime modifiedAt);
+
+    /**
+     * 게시글에 연결된 해시태그 이름. (Data REST 로 바뀐 게시글의 이벤트를 만들 때 사용)
+     */
+    Set<String> findHashtagNamesById(Long articleId);
+
+    /**
+     * 목록 화면용 요약 페이지. 본문 전체와 작성자 엔티티를 읽지 않는다. 검색어가 없으면 전체 목록을 조회한다.
+     */
+    Page<ArticleSummaryDto> findSummaries(SearchType searchType, String searchKeyword, Pageable pageable);
+
+    /**
+     * ID 목록에 해당하는 요약. 순서는 보장하지 않는다.
+     */
+    List<ArticleSummaryDto> findSummariesByIds(Collection<Long> articleIds);
+
+    /**
+     * count 쿼리 없이 size + 1 건을 읽어 다음 페이지 유무만 판단한다. 검색어가 없으면 전체 목록을 조회한다.
+     */
+    Slice<ArticleSummaryDto> findSliceBySearch(SearchType searchType, String searchKeyword, Pageable pageable);
+
+    long countBySearch(SearchType searchType, String searchKeyword);
+
+    /**
+     * 커서 다음부터 {@code order} 순서로 최대 {@code limit} 건을 조회한다. (offset 없이 인덱스 range scan)
+     * 커서가 {@code null} 이면 처음부터 조회한다.
+     */
+    List<ArticleSummaryDto> findByKeyset(SearchType searchType, String searchKeyword, ArticleCursor cursor, Sort.Order order, int limit);
+
+    /**
+     * 상세 화면 조건부 요청용. 게시글 수정 시각과 게시글별 댓글 버전 한 행만 읽는다. (게시글이 없으면 empty)
+     */
+    Optional<ArticleVersionDto> findVersionById(Long articleId);
+
+    /**
+     * 내보내기용. 게시글에 댓글을 left join 한 모양의 행을 게시글 ID, 댓글 작성 시간 순으로 흘려보낸다.
+     * 게시글과 댓글을 각각 forward-only 커서로 읽어 합치므로 본문은 게시글마다 한 번만 읽는다. ({@code fetchSize} 건씩 읽는다)
+     * 컬럼만 읽으므로 영속성 컨텍스트에 엔티티가 쌓이지 않는다. 트랜잭션 안에서 쓰고, 다 쓰면 닫아야 한다.
+     * <p>
+     * MySQL 은 JDBC URL 에 {@code useCursorFetch=true} 가 있어야 한다. 없으면 드라이버가 fetch size 를 무시하고 두 쿼리의 결과 전체를 힙에 받는다.
+     * (fetch size 를 {@code Integer.MIN_VALUE} 로 주는 스트리밍 모드는 한 커넥션에 결과 셋을 하나만 열 수 있어 쓸 수 없다)
+     */
+    Stream<ArticleExportDto> streamForExport(int fetchSize);
 }
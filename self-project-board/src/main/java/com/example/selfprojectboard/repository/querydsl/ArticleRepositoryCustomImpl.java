@@ -1,11 +1,49 @@
 package com.example.selfprojectboard.repository.querydsl;
 
 import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.Hashtag;
 import com.example.selfprojectboard.domain.QArticle;
+import com.example.selfprojectboard.domain.QArticleActivity;
+import com.example.selfprojectboard.domain.QArticleComment;
+import com.example.selfprojectboard.domain.QHashtag;
+import com.example.selfprojectboard.domain.constant.SearchType;
+import com.example.selfprojectboard.dto.ArticleCursor;
+import com.example.selfprojectboard.dto.ArticleExportDto;
+import com.example.selfprojectboard.dto.ArticleSummaryDto;
+import com.example.selfprojectboard.dto.ArticleVersionDto;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.jpa.JPQLQuery;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom { //interface name + Impl은 약속이다
 
@@ -17,12 +55,386 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
     public List<String> findAllDistinctHashtags() {
 
         QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
 
         return from(article)
+                .innerJoin(article.hashtags, hashtag)
                 .distinct()
-                .select(article.hashtag) // 특정한 하나의 컬럼을 지정가능
-                .where(article.hashtag.isNotNull())
+                .select(hashtag.hashtagName) // 특정한 하나의 컬럼을 지정가능
+                .orderBy(hashtag.hashtagName.asc())
                 .fetch();
 
     }
+
+    @Override
+    public Map<String, Long> countArticlesByHashtagName() {
+
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+
+        List<Tuple> counts = from(article)
+                .innerJoin(article.hashtags, hashtag)
+                .select(hashtag.hashtagName, article.count())
+                .groupBy(hashtag.hashtagName)
+                .fetch();
+
+        Map<String, Long> articleCounts = new LinkedHashMap<>();
+        counts.forEach(count -> articleCounts.put(count.get(hashtag.hashtagName), count.get(article.count())));
+        return articleCounts;
+    }
+
+    @Override
+    public Map<String, Long> countArticlesByUserId() {
+
+        QArticle article = QArticle.article;
+
+        List<Tuple> counts = from(article)
+                .select(article.userAccount.userId, article.count())
+                .groupBy(article.userAccount.userId)
+                .fetch();
+
+        Map<String, Long> articleCounts = new LinkedHashMap<>();
+        counts.forEach(count -> articleCounts.put(count.get(article.userAccount.userId), count.get(article.count())));
+        return articleCounts;
+    }
+
+    @Override
+    public long findLatestId() {
+
+        QArticle article = QArticle.article;
+
+        Long latestId = from(article)
+                .select(article.id.max())
+                .fetchOne();
+
+        return latestId == null ? 0L : latestId;
+    }
+
+    @Override
+    public List<Long> findIdsGreaterThan(long articleId, int limit) {
+
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(article.id)
+                .where(article.id.gt(articleId))
+                .orderBy(article.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findIdsModifiedSince(LocalDateTime modifiedAt) {
+
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(article.id)
+                .where(article.modifiedAt.goe(modifiedAt))
+                .fetch();
+    }
+
+    @Override
+    public Set<String> findHashtagNamesById(Long articleId) {
+
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return Set.copyOf(from(article)
+                .innerJoin(article.hashtags, hashtag)
+                .select(hashtag.hashtagName)
+                .where(article.id.eq(articleId))
+                .fetch());
+    }
+
+    @Override
+    public Page<ArticleSummaryDto> findSummaries(SearchType searchType, String searchKeyword, Pageable pageable) {
+
+        QArticle article = QArticle.article;
+        JPQLQuery<ArticleSummaryDto> query = searchQuery(article, searchType, searchKeyword).select(summaryOf(article));
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(query.fetch());
+        }
+
+        List<ArticleSummaryDto> content = getQuerydsl().applyPagination(pageable, query).fetch();
+        return PageableExecutionUtils.getPage(content, pageable, () -> countBySearch(searchType, searchKeyword)); // 마지막 페이지면 count 를 생략한다.
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findSummariesByIds(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of(); // 빈 IN 절을 보내지 않는다.
+        }
+
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .select(summaryOf(article))
+                .where(article.id.in(articleIds))
+                .fetch();
+    }
+
+    @Override
+    public Slice<ArticleSummaryDto> findSliceBySearch(SearchType searchType, String searchKeyword, Pageable pageable) {
+
+        QArticle article = QArticle.article;
+        JPQLQuery<ArticleSummaryDto> query = searchQuery(article, searchType, searchKeyword).select(summaryOf(article));
+
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.fetch());
+        }
+
+        List<ArticleSummaryDto> rows = getQuerydsl().applySorting(pageable.getSort(), query)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public long countBySearch(SearchType searchType, String searchKeyword) {
+
+        QArticle article = QArticle.article;
+
+        Long count = searchQuery(article, searchType, searchKeyword)
+                .select(article.count())
+                .fetchOne();
+
+        return count == null ? 0L : count;
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findByKeyset(SearchType searchType, String searchKeyword, ArticleCursor cursor, Sort.Order order, int limit) {
+
+        QArticle article = QArticle.article;
+        boolean ascending = order.isAscending();
+
+        return searchQuery(article, searchType, searchKeyword)
+                .select(summaryOf(article))
+                .where(cursor == null ? null : keysetCondition(article, cursor, ascending)) // null 조건은 무시된다
+                .orderBy(sortColumnOrder(article, order.getProperty(), ascending), new OrderSpecifier<>(ascending ? Order.ASC : Order.DESC, article.id))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Optional<ArticleVersionDto> findVersionById(Long articleId) {
+
+        QArticle article = QArticle.article;
+        QArticleActivity articleActivity = QArticleActivity.articleActivity;
+
+        // 게시글 한 행과 댓글 버전 한 행만 PK 로 읽는다. 댓글 수와 상관없이 비용이 같다.
+        Tuple version = from(article)
+                .leftJoin(articleActivity).on(articleActivity.articleId.eq(article.id))
+                .where(article.id.eq(articleId))
+                .select(article.modifiedAt, articleActivity.commentVersion, articleActivity.commentedAt)
+                .fetchOne();
+
+        return Optional.ofNullable(version)
+                .map(row -> ArticleVersionDto.of(
+                        articleId,
+                        row.get(article.modifiedAt),
+                        Objects.requireNonNullElse(row.get(articleActivity.commentVersion), 0L),
+                        row.get(articleActivity.commentedAt)
+                ));
+    }
+
+    @Override
+    public Stream<ArticleExportDto> streamForExport(int fetchSize) {
+
+        QArticle article = QArticle.article;
+        QArticleComment articleComment = QArticleComment.articleComment;
+
+        // left join 으로 읽으면 댓글 행마다 게시글 본문이 다시 실려 온다. 게시글과 댓글을 게시글 ID 순서의 커서로 따로 읽어 합친다.
+        Stream<Tuple> articles = from(article)
+                .select(article.id, article.userAccount.userId, article.title, article.content, article.hashtag, article.createdAt, article.modifiedAt)
+                .orderBy(article.id.asc())
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .stream();
+        // 댓글 정렬은 (article_id, createdAt, id) 인덱스 순서와 같게 둔다. 정렬을 위해 결과 전체를 모으지 않게 하기 위함이다.
+        Stream<Tuple> comments = from(articleComment)
+                .select(articleComment.article.id, articleComment.id, articleComment.userAccount.userId, articleComment.content, articleComment.createdAt)
+                .orderBy(articleComment.article.id.asc(), articleComment.createdAt.asc(), articleComment.id.asc())
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .stream();
+
+        ExportRows rows = new ExportRows(articles.iterator(), comments.iterator());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(articles::close)
+                .onClose(comments::close);
+    }
+
+    /**
+     * 목록에 필요한 컬럼만 고른다. 본문은 앞부분만 잘라 읽고, 작성자는 조인한 컬럼만 읽는다.
+     */
+    private ConstructorExpression<ArticleSummaryDto> summaryOf(QArticle article) {
+        return Projections.constructor(
+                ArticleSummaryDto.class,
+                article.id,
+                article.title,
+                article.content.substring(0, ArticleSummaryDto.CONTENT_PREVIEW_LENGTH),
+                article.hashtag,
+                article.createdAt,
+                article.userAccount.userId,
+                article.userAccount.nickname
+        );
+    }
+
+    /**
+     * 검색 조건을 건 조회 쿼리. 해시태그는 문자열 비교 대신 태그 테이블과 equal 조인한다. (태그 이름은 unique 라 행이 늘지 않는다)
+     */
+    private JPQLQuery<Article> searchQuery(QArticle article, SearchType searchType, String searchKeyword) {
+        JPQLQuery<Article> query = from(article);
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return query;
+        }
+
+        QHashtag hashtag = QHashtag.hashtag;
+        return switch (searchType) {
+            case TITLE -> query.where(article.title.contains(searchKeyword));
+            case CONTENT -> query.where(article.content.contains(searchKeyword));
+            case ID -> query.where(article.userAccount.userId.contains(searchKeyword));
+            case NICKNAME -> query.where(article.userAccount.nickname.contains(searchKeyword));
+            case HASHTAG -> query.innerJoin(article.hashtags, hashtag).where(hashtag.hashtagName.eq(Hashtag.normalize(searchKeyword)));
+        };
+    }
+
+    /**
+     * (정렬 컬럼, id) 가 커서보다 뒤에 있는 행만 남긴다.
+     * 예) createdAt DESC: createdAt < :createdAt or (createdAt = :createdAt and id < :id)
+     */
+    private BooleanExpression keysetCondition(QArticle article, ArticleCursor cursor, boolean ascending) {
+        return switch (cursor.property()) {
+            case "title" -> seek(article.title, cursor.value(), article, cursor.id(), ascending, false);
+            case "hashtag" -> seek(article.hashtag, cursor.value(), article, cursor.id(), ascending, true);
+            case "userAccount.userId" -> seek(article.userAccount.userId, cursor.value(), article, cursor.id(), ascending, false);
+            default -> seek(article.createdAt, cursor.createdAtValue(), article, cursor.id(), ascending, false);
+        };
+    }
+
+    /**
+     * nullable 컬럼(hashtag)은 null 을 가장 작은 값으로 본다. (MySQL 기본 정렬과 같고, 정렬에서도 명시한다)
+     */
+    private <T extends Comparable<?>> BooleanExpression seek(
+            ComparableExpression<T> column, T value, QArticle article, Long id, boolean ascending, boolean nullable
+    ) {
+        BooleanExpression tieBreak = ascending ? article.id.gt(id) : article.id.lt(id);
+
+        if (value == null) {
+            BooleanExpression sameNull = column.isNull().and(tieBreak);
+            return ascending ? sameNull.or(column.isNotNull()) : sameNull;
+        }
+
+        BooleanExpression seek = (ascending ? column.gt(value) : column.lt(value))
+                .or(column.eq(value).and(tieBreak));
+        return nullable && !ascending ? seek.or(column.isNull()) : seek;
+    }
+
+    private OrderSpecifier<?> sortColumnOrder(QArticle article, String property, boolean ascending) {
+        Order direction = ascending ? Order.ASC : Order.DESC;
+
+        return switch (property) {
+            case "title" -> new OrderSpecifier<>(direction, article.title);
+            case "hashtag" -> new OrderSpecifier<>(direction, article.hashtag,
+                    ascending ? OrderSpecifier.NullHandling.NullsFirst : OrderSpecifier.NullHandling.NullsLast);
+            case "userAccount.userId" -> new OrderSpecifier<>(direction, article.userAccount.userId);
+            default -> new OrderSpecifier<>(direction, article.createdAt);
+        };
+    }
+
+    /**
+     * 게시글 커서와 댓글 커서를 게시글 ID 로 맞춰 left join 과 같은 행을 만든다. 댓글이 없는 게시글은 comment* 값이 null 인 한 행이 된다.
+     */
+    private static class ExportRows implements Iterator<ArticleExportDto> {
+
+        private static final QArticle ARTICLE = QArticle.article;
+        private static final QArticleComment ARTICLE_COMMENT = QArticleComment.articleComment;
+
+        private final Iterator<Tuple> articles;
+        private final Iterator<Tuple> comments;
+        private Tuple currentArticle;
+        private boolean currentArticleWritten;
+        private Tuple pendingComment;
+        private ArticleExportDto next;
+
+        ExportRows(Iterator<Tuple> articles, Iterator<Tuple> comments) {
+            this.articles = articles;
+            this.comments = comments;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public ArticleExportDto next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ArticleExportDto row = next;
+            next = null;
+            return row;
+        }
+
+        private ArticleExportDto advance() {
+            while (true) {
+                if (currentArticle == null) {
+                    if (!articles.hasNext()) {
+                        return null;
+                    }
+                    currentArticle = articles.next();
+                    currentArticleWritten = false;
+                }
+
+                long articleId = currentArticle.get(ARTICLE.id);
+                Tuple comment = peekComment();
+                while (comment != null && comment.get(ARTICLE_COMMENT.article.id) < articleId) { // 게시글 커서에 없는 게시글의 댓글
+                    pendingComment = null;
+                    comment = peekComment();
+                }
+                if (comment != null && comment.get(ARTICLE_COMMENT.article.id) == articleId) {
+                    pendingComment = null;
+                    currentArticleWritten = true;
+                    return row(currentArticle, comment);
+                }
+
+                Tuple article = currentArticle;
+                boolean written = currentArticleWritten;
+                currentArticle = null;
+                if (!written) {
+                    return row(article, null);
+                }
+            }
+        }
+
+        private Tuple peekComment() {
+            if (pendingComment == null && comments.hasNext()) {
+                pendingComment = comments.next();
+            }
+            return pendingComment;
+        }
+
+        private static ArticleExportDto row(Tuple article, Tuple comment) {
+            return ArticleExportDto.of(
+                    article.get(ARTICLE.id),
+                    article.get(ARTICLE.userAccount.userId),
+                    article.get(ARTICLE.title),
+                    article.get(ARTICLE.content),
+                    article.get(ARTICLE.hashtag),
+                    article.get(ARTICLE.createdAt),
+                    article.get(ARTICLE.modifiedAt),
+                    comment == null ? null : comment.get(ARTICLE_COMMENT.id),
+                    comment == null ? null : comment.get(ARTICLE_COMMENT.userAccount.userId),
+                    comment == null ? null : comment.get(ARTICLE_COMMENT.content),
+                    comment == null ? null : comment.get(ARTICLE_COMMENT.createdAt)
+            );
+        }
+    }
 }
@@ -0,0 +1,28 @@
+package com.example.selfprojectboard.response;
+
+import com.example.selfprojectboard.dto.ArticleCommentDto;
+import com.example.selfprojectboard.dto.CursorSlice;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 댓글 더보기 응답. {@code nextCursor} 가 {@code null} 이면 마지막 페이지다.
+ */
+public record ArticleCommentPageResponse(
+        List<ArticleCommentResponse> articleComments,
+        String nextCursor
+) implements Serializable {
+
+    public static ArticleCommentPageResponse of(List<ArticleCommentResponse> articleComments, String nextCursor) {
+        return new ArticleCommentPageResponse(articleComments, nextCursor);
+    }
+
+    public static ArticleCommentPageResponse from(CursorSlice<ArticleCommentDto> slice) {
+        return new ArticleCommentPageResponse(
+                slice.content().stream().map(ArticleCommentResponse::from).toList(),
+                slice.hasNext() ? slice.lastCursor() : null
+        );
+    }
+
+}
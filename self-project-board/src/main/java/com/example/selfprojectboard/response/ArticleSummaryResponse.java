@@ -0,0 +1,37 @@
+package com.example.selfprojectboard.response;
+
+import com.example.selfprojectboard.dto.ArticleSummaryDto;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+public record ArticleSummaryResponse(
+        Long id,
+        String title,
+        String contentPreview,
+        String hashtag,
+        LocalDateTime createdAt,
+        String nickname
+) implements Serializable {
+
+    public static ArticleSummaryResponse of(Long id, String title, String contentPreview, String hashtag, LocalDateTime createdAt, String nickname) {
+        return new ArticleSummaryResponse(id, title, contentPreview, hashtag, createdAt, nickname);
+    }
+
+    public static ArticleSummaryResponse from(ArticleSummaryDto dto) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
+
+        return new ArticleSummaryResponse(
+                dto.id(),
+                dto.title(),
+                dto.contentPreview(),
+                dto.hashtag(),
+                dto.createdAt(),
+                nickname
+        );
+    }
+
+}
@@ -1,12 +1,11 @@
 package com.example.selfprojectboard.response;
 
+import com.example.selfprojectboard.dto.ArticleDto;
 import com.example.selfprojectboard.dto.ArticleWithCommentsDto;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
-import java.util.LinkedHashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.List;
 
 public record ArticleWithCommentsResponse(
         Long id,
@@ -17,10 +16,10 @@ public record ArticleWithCommentsResponse(
         String email,
         String nickname,
         String userId,
-        Set<ArticleCommentResponse> articleCommentsResponse
+        List<ArticleCommentResponse> articleCommentsResponse
 ) implements Serializable {
 
-    public static ArticleWithCommentsResponse of(Long id, String title, String content, String hashtag, LocalDateTime createdAt, String email, String nickname, String userId, Set<ArticleCommentResponse> articleCommentResponses) {
+    public static ArticleWithCommentsResponse of(Long id, String title, String content, String hashtag, LocalDateTime createdAt, String email, String nickname, String userId, List<ArticleCommentResponse> articleCommentResponses) {
         return new ArticleWithCommentsResponse(id, title, content, hashtag, createdAt, email, nickname, userId, articleCommentResponses);
     }
 
@@ -41,7 +40,29 @@ public record ArticleWithCommentsResponse(
                 dto.userAccountDto().userId(),
                 dto.articleCommentDtos().stream()
                         .map(ArticleCommentResponse::from)
-                        .collect(Collectors.toCollection(LinkedHashSet::new))
+                        .toList()
+        );
+    }
+
+    /**
+     * 댓글은 전체가 아니라 한 페이지만 받아서 감싼다.
+     */
+    public static ArticleWithCommentsResponse from(ArticleDto dto, List<ArticleCommentResponse> articleCommentResponses) {
+        String nickname = dto.userAccountDto().nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userAccountDto().userId();
+        }
+
+        return new ArticleWithCommentsResponse(
+                dto.id(),
+                dto.title(),
+                dto.content(),
+                dto.hashtag(),
+                dto.createdAt(),
+                dto.userAccountDto().email(),
+                nickname,
+                dto.userAccountDto().userId(),
+                articleCommentResponses
         );
     }
 
@@ -0,0 +1,41 @@
+package com.example.selfprojectboard.response;
+
+import com.example.selfprojectboard.service.bulk.ImportResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+
+/**
+ * 대량 가져오기 응답(NDJSON)의 한 줄. {@code type} 은 error(행 오류), progress(청크 저장 후), done(마지막 줄) 중 하나다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkImportEventResponse(
+        String type,
+        Long line,
+        String message,
+        Long rows,
+        Long imported,
+        Long failed,
+        Long elapsedMillis
+) implements Serializable {
+
+    public static BulkImportEventResponse of(String type, Long line, String message, Long rows, Long imported, Long failed, Long elapsedMillis) {
+        return new BulkImportEventResponse(type, line, message, rows, imported, failed, elapsedMillis);
+    }
+
+    public static BulkImportEventResponse error(long line, String message) {
+        return new BulkImportEventResponse("error", line, message, null, null, null, null);
+    }
+
+    public static BulkImportEventResponse progress(ImportResult result) {
+        return from("progress", result);
+    }
+
+    public static BulkImportEventResponse done(ImportResult result) {
+        return from("done", result);
+    }
+
+    private static BulkImportEventResponse from(String type, ImportResult result) {
+        return new BulkImportEventResponse(type, null, null, result.rows(), result.imported(), result.failed(), result.elapsedMillis());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.selfprojectboard.service;
+
+import com.example.selfprojectboard.domain.ArticleActivity;
+import com.example.selfprojectboard.dto.event.ArticleCommentEvent;
+import com.example.selfprojectboard.dto.event.ArticleEvent;
+import com.example.selfprojectboard.repository.ArticleActivityRepository;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글이 바뀌면 같은 트랜잭션 안(커밋 직전)에서 게시글별 댓글 버전({@link ArticleActivity})을 올린다.
+ * 게시글이 지워지면 그 행도 지운다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ArticleActivityRecorder {
+
+    private final ArticleActivityRepository articleActivityRepository;
+    private final ArticleRepository articleRepository;
+
+    @Transactional
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        LocalDateTime commentedAt = LocalDateTime.now();
+        if (articleActivityRepository.increaseCommentVersion(event.articleId(), commentedAt) > 0) {
+            return;
+        }
+
+        // 첫 댓글 변경. 게시글 행을 잠가 같은 게시글의 행을 두 트랜잭션이 동시에 만들지 않게 하고, 그 사이 생겼는지 다시 본다.
+        if (articleRepository.findForUpdateById(event.articleId()).isEmpty()) {
+            return;
+        }
+        if (articleActivityRepository.increaseCommentVersion(event.articleId(), commentedAt) == 0) {
+            articleActivityRepository.save(ArticleActivity.of(event.articleId(), commentedAt));
+        }
+    }
+
+    @Transactional
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.eventType() == ArticleEvent.EventType.DELETED) {
+            articleActivityRepository.deleteByArticleId(event.articleId());
+        }
+    }
+}
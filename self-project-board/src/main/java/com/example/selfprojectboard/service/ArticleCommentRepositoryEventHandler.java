@@ -0,0 +1,40 @@
+package com.example.selfprojectboard.service;
+
+import com.example.selfprojectboard.domain.ArticleComment;
+import com.example.selfprojectboard.dto.event.ArticleCommentEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.rest.core.annotation.HandleAfterCreate;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterSave;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Data REST(/api) 로 댓글을 쓰면 {@link ArticleCommentService} 를 거치지 않으므로, 여기서 같은 {@link ArticleCommentEvent} 를 발행해
+ * 게시판 통계와 게시글별 댓글 버전에 반영한다.
+ * <p>
+ * 저장 트랜잭션이 이미 끝난 뒤 불리므로, 리스너는 트랜잭션 없이 발행된 이벤트도 받도록(fallbackExecution) 되어 있어야 한다.
+ */
+@RequiredArgsConstructor
+@RepositoryEventHandler
+@Component
+public class ArticleCommentRepositoryEventHandler {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @HandleAfterCreate
+    public void afterCreate(ArticleComment articleComment) {
+        eventPublisher.publishEvent(ArticleCommentEvent.created(articleComment));
+    }
+
+    @HandleAfterSave
+    public void afterSave(ArticleComment articleComment) {
+        eventPublisher.publishEvent(ArticleCommentEvent.updated(articleComment));
+    }
+
+    @HandleAfterDelete
+    public void afterDelete(ArticleComment articleComment) {
+        eventPublisher.publishEvent(ArticleCommentEvent.deleted(articleComment));
+    }
+}
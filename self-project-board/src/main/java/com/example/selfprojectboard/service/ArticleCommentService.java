@@ -3,12 +3,18 @@ package com.example.selfprojectboard.service;
 import com.example.selfprojectboard.domain.Article;
 import com.example.selfprojectboard.domain.ArticleComment;
 import com.example.selfprojectboard.domain.UserAccount;
+import com.example.selfprojectboard.dto.ArticleCommentCursor;
 import com.example.selfprojectboard.dto.ArticleCommentDto;
+import com.example.selfprojectboard.dto.CursorSlice;
+import com.example.selfprojectboard.dto.event.ArticleCommentEvent;
 import com.example.selfprojectboard.repository.ArticleCommentRepository;
 import com.example.selfprojectboard.repository.ArticleRepository;
 import com.example.selfprojectboard.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,24 +26,50 @@ import java.util.List;
 @Transactional
 @Service
 public class ArticleCommentService {
+
+    public static final int DEFAULT_COMMENT_PAGE_SIZE = 20;
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+
     private final UserAccountRepository userAccountRepository;
 
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<ArticleCommentDto> searchArticleComments(Long articleId) {
-        return articleCommentRepository.findByArticle_Id(articleId)
-                .stream()
-                .map(ArticleCommentDto::from)
-                .toList();
+        return ArticleCommentDto.fromAll(articleCommentRepository.findByArticle_Id(articleId));
+    }
+
+    /**
+     * 댓글을 커서 다음부터 최신순으로 {@code size} 건만 읽는다. 댓글이 아무리 많아도 요청 한 번에 읽는 양은 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleCommentDto> searchArticleComments(Long articleId, String after, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_COMMENT_PAGE_SIZE));
+        ArticleCommentCursor cursor = ArticleCommentCursor.decode(after).orElse(null);
+
+        List<ArticleComment> rows = articleCommentRepository.findByArticleIdAfter(articleId, cursor, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<ArticleComment> articleComments = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return CursorSlice.of(
+                ArticleCommentDto.fromAll(articleComments),
+                PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt", "id")),
+                articleComments.isEmpty() ? null : ArticleCommentCursor.from(articleComments.get(0)).encode(),
+                articleComments.isEmpty() ? null : ArticleCommentCursor.from(articleComments.get(articleComments.size() - 1)).encode(),
+                cursor != null,
+                hasNext
+        );
     }
 
     public void saveArticleComment(ArticleCommentDto dto) {
         try {
             Article article = articleRepository.getReferenceById(dto.articleId());
             UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-            articleCommentRepository.save(dto.toEntity(article, userAccount));
+            ArticleComment articleComment = dto.toEntity(article, userAccount);
+            articleCommentRepository.save(articleComment);
+            eventPublisher.publishEvent(ArticleCommentEvent.created(articleComment));
         } catch (EntityNotFoundException e) {
             log.warn("댓글 저장 실패. 댓글 작성에 필요한 정보를 찾을 수 없습니다 - dto: {}", e.getLocalizedMessage());
         }
@@ -48,6 +80,7 @@ public class ArticleCommentService {
             ArticleComment articleComment = articleCommentRepository.getReferenceById(dto.id());
             if (dto.content() != null) {
                 articleComment.setContent(dto.content());
+                eventPublisher.publishEvent(ArticleCommentEvent.updated(articleComment));
             }
         } catch (EntityNotFoundException e) {
             log.warn("댓글 업데이트 실패. 댓글을 찾을 수 없습니다 - dto: {}", dto);
@@ -55,7 +88,8 @@ public class ArticleCommentService {
     }
 
     public void deleteArticleComment(Long articleCommentId, String userId) {
-        articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId)
+                .forEach(articleComment -> eventPublisher.publishEvent(ArticleCommentEvent.deleted(articleComment)));
     }
 
 }
@@ -0,0 +1,56 @@
+package com.example.selfprojectboard.service;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.dto.event.ArticleEvent;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.rest.core.annotation.HandleAfterCreate;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterSave;
+import org.springframework.data.rest.core.annotation.HandleBeforeDelete;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Data REST(/api) 로 게시글을 쓰면 {@link ArticleService} 를 거치지 않으므로, 여기서 태그 연결을 맞추고 같은 {@link ArticleEvent} 를 발행해
+ * 검색 인덱스, 해시태그 레지스트리, 통계, 렌더링 캐시에 반영한다.
+ * <p>
+ * /api 는 해시태그 원문(hashtag)만 받는다. 저장 전 엔티티는 트랜잭션 밖(open-in-view 꺼짐)이라 지연 로딩되는 태그 연결을 건드릴 수 없으므로,
+ * 저장이 끝난 뒤 {@link ArticleService#syncHashtags} 가 새 트랜잭션에서 원문으로 태그 연결을 다시 만든다.
+ */
+@RequiredArgsConstructor
+@RepositoryEventHandler
+@Component
+public class ArticleRepositoryEventHandler {
+
+    private final ArticleService articleService;
+    private final ArticleRepository articleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ThreadLocal<Set<String>> deletingHashtagNames = new ThreadLocal<>(); // 삭제 전후 콜백은 같은 요청 스레드에서 불린다.
+
+    @HandleAfterCreate
+    public void afterCreate(Article article) {
+        articleService.syncHashtags(article.getId(), ArticleEvent.EventType.CREATED);
+    }
+
+    @HandleAfterSave
+    public void afterSave(Article article) {
+        articleService.syncHashtags(article.getId(), ArticleEvent.EventType.UPDATED);
+    }
+
+    @HandleBeforeDelete
+    public void beforeDelete(Article article) {
+        deletingHashtagNames.set(articleRepository.findHashtagNamesById(article.getId())); // 지우고 나면 연결 행이 없다.
+    }
+
+    @HandleAfterDelete
+    public void afterDelete(Article article) {
+        Set<String> previousHashtagNames = deletingHashtagNames.get();
+        deletingHashtagNames.remove();
+        eventPublisher.publishEvent(ArticleEvent.deleted(article, previousHashtagNames == null ? Set.of() : previousHashtagNames));
+    }
+}
@@ -1,21 +1,43 @@
 package com.example.selfprojectboard.service;
 
+import com.example.selfprojectboard.config.BoardProperties;
 import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.Hashtag;
 import com.example.selfprojectboard.domain.UserAccount;
 import com.example.selfprojectboard.domain.constant.SearchType;
+import com.example.selfprojectboard.dto.ArticleCursor;
 import com.example.selfprojectboard.dto.ArticleDto;
-import com.example.selfprojectboard.dto.ArticleWithCommentsDto;
+import com.example.selfprojectboard.dto.ArticleSummaryDto;
+import com.example.selfprojectboard.dto.ArticleVersionDto;
+import com.example.selfprojectboard.dto.CursorSlice;
+import com.example.selfprojectboard.dto.event.ArticleEvent;
 import com.example.selfprojectboard.repository.ArticleRepository;
 import com.example.selfprojectboard.repository.UserAccountRepository;
+import com.example.selfprojectboard.service.search.ArticleSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -23,29 +45,64 @@ import java.util.List;
 @Service
 public class ArticleService {
 
+    private static final Sort.Order DEFAULT_KEYSET_ORDER = Sort.Order.desc("createdAt");
+    private static final String SEARCH_TIMER = "board.article.search";
+
     private final ArticleRepository articleRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleStatistics articleStatistics;
+    private final BoardProperties boardProperties;
+    private final HashtagService hashtagService;
+    private final HashtagRegistry hashtagRegistry;
+    private final MeterRegistry meterRegistry;
 
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+    public Page<ArticleSummaryDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         if(searchKeyword == null || searchKeyword.isBlank()) {
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
+            if (isSliceMode()) {
+                return record(sample, null, "slice", withTotal(articleRepository.findSliceBySearch(null, null, pageable), articleStatistics.getArticleCount()));
+            }
+            return record(sample, null, "offset", articleRepository.findSummaries(null, null, pageable));
         }
 
-        return switch (searchType) {
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword,pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword,pageable).map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword,pageable).map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword,pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtag("#" + searchKeyword,pageable).map(ArticleDto::from);
-        };
+        // 제목, 본문 검색은 인메모리 인덱스로 ID 만 뽑고, DB 에서는 해당 페이지만 조회한다.
+        Optional<Page<Long>> indexedArticleIds = articleSearchIndex.search(searchType, searchKeyword, pageable);
+        if (indexedArticleIds.isPresent()) {
+            return record(sample, searchType, "index", findArticlesByIds(indexedArticleIds.get()));
+        }
+
+        String keyword = searchType == SearchType.HASHTAG ? Hashtag.normalize(searchKeyword) : searchKeyword;
+        if (isSliceMode()) {
+            return record(sample, searchType, "slice", searchArticlesBySlice(searchType, keyword, pageable));
+        }
+
+        // 목록에 필요한 컬럼만 읽는다. (본문 전체, 작성자 엔티티를 읽지 않는다)
+        return record(sample, searchType, "offset", articleRepository.findSummaries(searchType, keyword, pageable));
 
     }
+    /**
+     * offset 대신 커서(after/before) 기준으로 게시글 목록을 조회한다. 깊은 페이지도 인덱스 range scan 한 번으로 끝난다.
+     */
     @Transactional(readOnly = true)
-    public ArticleWithCommentsDto getArticleWithComments(Long articleId) {
-        return articleRepository.findById(articleId)
-                .map(ArticleWithCommentsDto::from)
-                .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: "+ articleId));
+    public CursorSlice<ArticleSummaryDto> searchArticlesByCursor(SearchType searchType, String searchKeyword, Pageable pageable, String after, String before) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        if(searchKeyword == null || searchKeyword.isBlank()) {
+            return record(sample, null, "keyset", findArticlesByCursor(null, null, pageable, after, before));
+        }
+
+        String keyword = searchType == SearchType.HASHTAG ? Hashtag.normalize(searchKeyword) : searchKeyword;
+        return record(sample, searchType, "keyset", findArticlesByCursor(searchType, keyword, pageable, after, before));
+    }
+
+    /**
+     * 상세 화면을 다시 그려야 하는지 판단할 때 쓴다. 게시글이 없으면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<ArticleVersionDto> getArticleVersion(Long articleId) {
+        return articleRepository.findVersionById(articleId);
     }
 
     @Transactional(readOnly = true)
@@ -58,7 +115,10 @@ public class ArticleService {
 
     public void saveArticle(ArticleDto dto) {
         UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().userId());
-        articleRepository.save(dto.toEntity(userAccount));
+        Article article = dto.toEntity(userAccount);
+        article.addHashtags(hashtagService.findOrCreateHashtags(dto.hashtag()));
+        article = articleRepository.save(article);
+        eventPublisher.publishEvent(ArticleEvent.created(article));
     }
 
     public void updateArticle(Long articleId, ArticleDto dto) {
@@ -70,7 +130,11 @@ public class ArticleService {
             if(article.getUserAccount().equals(userAccount)){
                 if(dto.title() != null) { article.setTitle(dto.title());}
                 if(dto.content() != null) {article.setContent(dto.content());}
+                Set<String> previousHashtagNames = ArticleEvent.hashtagNamesOf(article);
                 article.setHashtag(dto.hashtag());
+                article.clearHashtags();
+                article.addHashtags(hashtagService.findOrCreateHashtags(dto.hashtag()));
+                eventPublisher.publishEvent(ArticleEvent.updated(article, previousHashtagNames));
             }
             //@Transactional로 묶여있기때문에 영속성 변경을 감지하기 때문에 save가 따로 필요없다
         } catch (EntityNotFoundException e) {
@@ -79,25 +143,150 @@ public class ArticleService {
             // "~~" + dto 로 작성할땐 로그를 찍지않아도 될때에도 dto에 메모리를 쓰지않는다
         }
     }
-    public void deleteArticle(long articleId, String userId) {
-        articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
+    /**
+     * Data REST(/api)로 저장한 게시글은 해시태그 원문(hashtag)만 바뀌어 있다.
+     * 원문으로 태그 연결을 다시 만들고, 서비스로 저장했을 때와 같은 생성/수정 이벤트를 발행한다.
+     */
+    public void syncHashtags(Long articleId, ArticleEvent.EventType eventType) {
+        Article article = articleRepository.getReferenceById(articleId);
+        boolean created = eventType == ArticleEvent.EventType.CREATED;
+        Set<String> previousHashtagNames = created ? Set.of() : ArticleEvent.hashtagNamesOf(article);
+        article.clearHashtags();
+        article.addHashtags(hashtagService.findOrCreateHashtags(article.getHashtag()));
+        eventPublisher.publishEvent(created ? ArticleEvent.created(article) : ArticleEvent.updated(article, previousHashtagNames));
+    }
 
+    public void deleteArticle(long articleId, String userId) {
+        articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId)
+                .forEach(article -> eventPublisher.publishEvent(ArticleEvent.deleted(article)));
     }
 
     public long getArticleCount() {
-        return articleRepository.count();
+        return articleStatistics.getArticleCount();
+    }
+
+    /**
+     * 목록 화면 버전. 게시글이 마지막으로 바뀐 시각(epoch ms)
+     */
+    public long getBoardVersion() {
+        return articleStatistics.getBoardVersion();
     }
 
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticlesViaHashtag(String hashtag, Pageable pageable) {
+    public Page<ArticleSummaryDto> searchArticlesViaHashtag(String hashtag, Pageable pageable) {
         if(hashtag == null || hashtag.isBlank()) {
             return Page.empty(pageable);
         }
 
-        return articleRepository.findByHashtag(hashtag, pageable).map(ArticleDto::from);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String hashtagName = Hashtag.normalize(hashtag);
+        if (isSliceMode()) {
+            return record(sample, SearchType.HASHTAG, "slice", searchArticlesBySlice(SearchType.HASHTAG, hashtagName, pageable));
+        }
+
+        return record(sample, SearchType.HASHTAG, "offset", articleRepository.findSummaries(SearchType.HASHTAG, hashtagName, pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleSummaryDto> searchArticlesViaHashtagByCursor(String hashtag, Pageable pageable, String after, String before) {
+        if(hashtag == null || hashtag.isBlank()) {
+            return CursorSlice.empty(pageable);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return record(sample, SearchType.HASHTAG, "keyset", findArticlesByCursor(SearchType.HASHTAG, Hashtag.normalize(hashtag), pageable, after, before));
     }
 
     public List<String> getHashtags() {
-        return articleRepository.findAllDistinctHashtags();
+        return hashtagRegistry.getHashtagNames();
+    }
+
+    public List<HashtagRegistry.HashtagCount> getPopularHashtags(int limit) {
+        return hashtagRegistry.getPopularHashtags(limit);
+    }
+
+    /**
+     * 목록 조회 시간을 검색 유형(type: 검색어가 없으면 NONE)과 조회 방식(strategy: offset, slice, index, keyset) 별로 남긴다.
+     */
+    private <T> T record(Timer.Sample sample, SearchType searchType, String strategy, T result) {
+        sample.stop(Timer.builder(SEARCH_TIMER)
+                .description("게시글 목록/검색 조회 시간")
+                .tag("type", searchType == null ? "NONE" : searchType.name())
+                .tag("strategy", strategy)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        return result;
+    }
+
+    private boolean isSliceMode() {
+        return boardProperties.getPagination().isSlice();
+    }
+
+    private Page<ArticleSummaryDto> searchArticlesBySlice(SearchType searchType, String keyword, Pageable pageable) {
+        Slice<ArticleSummaryDto> articles = articleRepository.findSliceBySearch(searchType, keyword, pageable);
+        long total = articleStatistics.getSearchTotal(searchType, keyword, () -> articleRepository.countBySearch(searchType, keyword));
+
+        return withTotal(articles, total);
+    }
+
+    /**
+     * Slice 에 별도로 구한 전체 건수를 붙인다.
+     * 캐시된 건수가 실제보다 작더라도 다음 페이지 링크가 막히지 않도록 지금까지 확인된 건수 이상으로 맞춘다.
+     */
+    private Page<ArticleSummaryDto> withTotal(Slice<ArticleSummaryDto> articles, long total) {
+        List<ArticleSummaryDto> content = articles.getContent();
+        if (articles.getPageable().isUnpaged()) {
+            return new PageImpl<>(content);
+        }
+
+        long seen = articles.getPageable().getOffset() + content.size() + (articles.hasNext() ? 1 : 0);
+        return new PageImpl<>(content, articles.getPageable(), Math.max(total, seen));
+    }
+
+    private Page<ArticleSummaryDto> findArticlesByIds(Page<Long> articleIds) {
+        Map<Long, ArticleSummaryDto> articles = articleRepository.findSummariesByIds(articleIds.getContent())
+                .stream()
+                .collect(Collectors.toMap(ArticleSummaryDto::id, Function.identity()));
+
+        // IN 조회는 순서를 보장하지 않으므로 인덱스 순서대로 다시 정렬한다.
+        List<ArticleSummaryDto> content = articleIds.getContent()
+                .stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, articleIds.getPageable(), articleIds.getTotalElements());
+    }
+
+    private CursorSlice<ArticleSummaryDto> findArticlesByCursor(SearchType searchType, String keyword, Pageable pageable, String after, String before) {
+        // keyset 은 정렬 컬럼 하나 + id 로만 가능하므로, 지원하지 않는 정렬은 기본 정렬(createdAt DESC)로 바꾼다.
+        Sort.Order order = pageable.getSort().stream()
+                .findFirst()
+                .filter(o -> ArticleCursor.SORTABLE_PROPERTIES.contains(o.getProperty()))
+                .orElse(DEFAULT_KEYSET_ORDER);
+        int pageSize = pageable.getPageSize();
+
+        // 정렬이 바뀐 뒤의 커서는 의미가 없으므로 버리고 처음부터 보여준다.
+        ArticleCursor beforeCursor = ArticleCursor.decode(before).filter(cursor -> cursor.matches(order)).orElse(null);
+        ArticleCursor afterCursor = ArticleCursor.decode(after).filter(cursor -> cursor.matches(order)).orElse(null);
+        boolean backward = beforeCursor != null;
+
+        // 이전 페이지는 반대 방향으로 pageSize 건을 읽은 뒤 뒤집는다. 한 건 더 읽어서 다음(이전) 페이지 유무를 판단한다.
+        Sort.Order queryOrder = backward ? order.with(order.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC) : order;
+        List<ArticleSummaryDto> rows = articleRepository.findByKeyset(searchType, keyword, backward ? beforeCursor : afterCursor, queryOrder, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<ArticleSummaryDto> articles = new ArrayList<>(hasMore ? rows.subList(0, pageSize) : rows);
+        if (backward) {
+            Collections.reverse(articles);
+        }
+
+        return CursorSlice.of(
+                articles,
+                PageRequest.of(0, pageSize, Sort.by(order)),
+                articles.isEmpty() ? null : ArticleCursor.from(articles.get(0), order).encode(),
+                articles.isEmpty() ? null : ArticleCursor.from(articles.get(articles.size() - 1), order).encode(),
+                backward ? hasMore : afterCursor != null,
+                backward || hasMore // 이전 페이지로 왔다면 커서 위치의 글이 다음 페이지에 있다.
+        );
     }
 }
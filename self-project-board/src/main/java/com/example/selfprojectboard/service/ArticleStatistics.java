@@ -0,0 +1,218 @@
+package com.example.selfprojectboard.service;
+
+import com.example.selfprojectboard.config.BoardProperties;
+import com.example.selfprojectboard.domain.constant.SearchType;
+import com.example.selfprojectboard.dto.event.ArticleCommentEvent;
+import com.example.selfprojectboard.dto.event.ArticleEvent;
+import com.example.selfprojectboard.repository.ArticleCommentRepository;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록/상세 화면에 필요한 집계 값을 쿼리 없이 제공한다.
+ * <p>
+ * 전체 게시글/댓글 수, 작성자별 게시글 수, 최신 게시글/댓글 ID 는 기동 시 한 번 센 뒤
+ * 트랜잭션이 커밋된 게시글/댓글 이벤트로 유지하고, 주기적으로 DB 값과 맞춘다.
+ * 검색 결과 건수는 (검색 유형, 검색어) 별로 설정된 시간 동안만 캐시하는 근사값이다.
+ * 게시판 버전은 목록 화면이 마지막으로 바뀐 시각(ms)으로, 조건부 요청(ETag/Last-Modified)에 쓴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleStatistics {
+
+    private static final int MAX_CACHED_SEARCH_TOTALS = 10_000;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final BoardProperties boardProperties;
+
+    private final AtomicLong articleCount = new AtomicLong();
+    private final AtomicLong commentCount = new AtomicLong();
+    private final AtomicLong latestArticleId = new AtomicLong();
+    private final AtomicLong latestCommentId = new AtomicLong();
+    private final AtomicLong boardVersion = new AtomicLong();
+    private final Map<String, Long> articleCountsByUserId = new ConcurrentHashMap<>();
+    private volatile boolean initialized = false;
+    private volatile boolean commentCountStale = false;
+    private final Map<SearchKey, CachedTotal> searchTotals = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+
+        load();
+        touchBoardVersion(); // 재기동 전후로 버전이 겹치지 않게 기동 시각에서 시작한다.
+        initialized = true;
+        log.info("게시판 통계 초기화 - articles: {}, comments: {}, latestArticleId: {}", articleCount.get(), commentCount.get(), latestArticleId.get());
+    }
+
+    /**
+     * 이벤트를 놓쳤거나(커밋 후 리스너 실패, 다른 인스턴스의 변경) 집계 중에 들어온 이벤트로 어긋난 값을 DB 기준으로 맞춘다.
+     */
+    @Scheduled(
+            initialDelayString = "${board.statistics.reconcile-interval:PT10M}",
+            fixedDelayString = "${board.statistics.reconcile-interval:PT10M}"
+    )
+    public synchronized void reconcile() {
+        if (!initialized) {
+            return;
+        }
+
+        long previousArticleCount = articleCount.get();
+        long previousCommentCount = commentCount.get();
+        load();
+        if (previousArticleCount != articleCount.get()) {
+            touchBoardVersion();
+        }
+        if (previousArticleCount != articleCount.get() || previousCommentCount != commentCount.get()) {
+            log.info("게시판 통계 보정 - articles: {} -> {}, comments: {} -> {}",
+                    previousArticleCount, articleCount.get(), previousCommentCount, commentCount.get());
+        }
+    }
+
+    private void load() {
+        articleCount.set(articleRepository.count());
+        commentCount.set(articleCommentRepository.count());
+        commentCountStale = false;
+        latestArticleId.set(articleRepository.findLatestId());
+        latestCommentId.set(articleCommentRepository.findLatestId());
+
+        Map<String, Long> counts = articleRepository.countArticlesByUserId();
+        articleCountsByUserId.keySet().retainAll(counts.keySet());
+        articleCountsByUserId.putAll(counts);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleEvent(ArticleEvent event) {
+        if (!initialized) {
+            return; // 아직 세지 않았다면 초기화할 때 반영된다.
+        }
+
+        touchBoardVersion();
+
+        switch (event.eventType()) {
+            case CREATED -> {
+                articleCount.incrementAndGet();
+                latestArticleId.accumulateAndGet(event.articleId(), Math::max);
+                articleCountsByUserId.merge(event.userId(), 1L, Long::sum);
+            }
+            case DELETED -> {
+                articleCount.decrementAndGet();
+                articleCountsByUserId.computeIfPresent(event.userId(), (userId, count) -> count > 1 ? count - 1 : null);
+                commentCountStale = true; // 함께 지워진 댓글 수는 이벤트에 없으므로 다음 조회 때 다시 센다.
+            }
+            default -> {}
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        if (!initialized) {
+            return;
+        }
+
+        switch (event.eventType()) {
+            case CREATED -> {
+                commentCount.incrementAndGet();
+                latestCommentId.accumulateAndGet(event.articleCommentId(), Math::max);
+            }
+            case DELETED -> commentCount.decrementAndGet();
+        }
+    }
+
+    public long getArticleCount() {
+        ensureInitialized();
+        return articleCount.get();
+    }
+
+    public long getArticleCount(String userId) {
+        ensureInitialized();
+        return articleCountsByUserId.getOrDefault(userId, 0L);
+    }
+
+    public long getCommentCount() {
+        ensureInitialized();
+        if (commentCountStale) {
+            synchronized (this) {
+                if (commentCountStale) {
+                    commentCount.set(articleCommentRepository.count());
+                    commentCountStale = false;
+                }
+            }
+        }
+        return commentCount.get();
+    }
+
+    /**
+     * 지금까지 만들어진 가장 큰 게시글 ID. 최신 글을 지워도 ID 는 재사용되지 않으므로 다음 보정 때까지 그대로 둔다.
+     */
+    public long getLatestArticleId() {
+        ensureInitialized();
+        return latestArticleId.get();
+    }
+
+    public long getLatestCommentId() {
+        ensureInitialized();
+        return latestCommentId.get();
+    }
+
+    /**
+     * 게시글이 마지막으로 바뀐 시각(epoch ms). 같은 ms 에 여러 번 바뀌어도 매번 커진다. (댓글 변경은 목록에 보이지 않으므로 세지 않는다)
+     */
+    public long getBoardVersion() {
+        ensureInitialized();
+        return boardVersion.get();
+    }
+
+    private void touchBoardVersion() {
+        boardVersion.accumulateAndGet(System.currentTimeMillis(), (previous, now) -> Math.max(previous + 1, now));
+    }
+
+    private void ensureInitialized() {
+        if (!initialized) {
+            initialize();
+        }
+    }
+
+    /**
+     * 캐시된 검색 결과 건수를 반환한다. 없거나 만료되었으면 {@code counter} 로 다시 센다.
+     */
+    public long getSearchTotal(SearchType searchType, String searchKeyword, LongSupplier counter) {
+        SearchKey key = new SearchKey(searchType, searchKeyword);
+        long now = System.nanoTime();
+
+        CachedTotal cached = searchTotals.get(key);
+        if (cached != null && now - cached.expiresAt() < 0) {
+            return cached.total();
+        }
+
+        if (searchTotals.size() >= MAX_CACHED_SEARCH_TOTALS) {
+            searchTotals.values().removeIf(total -> now - total.expiresAt() >= 0);
+            if (searchTotals.size() >= MAX_CACHED_SEARCH_TOTALS) {
+                searchTotals.clear(); // 만료 전 키가 너무 많으면 통째로 비운다. 다시 세면 그만이다.
+            }
+        }
+
+        long total = counter.getAsLong();
+        searchTotals.put(key, new CachedTotal(total, now + boardProperties.getPagination().getSearchTotalTtl().toNanos()));
+        return total;
+    }
+
+    private record SearchKey(SearchType searchType, String searchKeyword) {}
+
+    private record CachedTotal(long total, long expiresAt) {}
+}
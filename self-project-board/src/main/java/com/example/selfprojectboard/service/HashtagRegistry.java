@@ -0,0 +1,134 @@
+package com.example.selfprojectboard.service;
+
+import com.example.selfprojectboard.dto.event.ArticleEvent;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * 해시태그별 게시글 수를 메모리에 유지한다.
+ * <p>
+ * 기동 시 한 번 집계하고 이후에는 게시글 이벤트의 변경 전/후 태그로 증감만 반영한다. 어긋난 값은 {@link #reconcile()} 이 주기적으로 다시 집계해 맞춘다.
+ * 쓰기마다 정렬된 스냅샷을 새로 만들어 두기 때문에, 태그 목록과 인기 태그 조회는 쿼리도 정렬도 없이 스냅샷을 그대로 돌려준다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HashtagRegistry {
+
+    private static final Comparator<HashtagCount> POPULAR_ORDER = Comparator
+            .comparingLong(HashtagCount::articleCount).reversed()
+            .thenComparing(HashtagCount::hashtagName);
+
+    private final ArticleRepository articleRepository;
+
+    private final Map<String, Long> articleCounts = new HashMap<>(); // 쓰기는 synchronized 안에서만
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean initialized = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+
+        load();
+        initialized = true;
+        log.info("해시태그 레지스트리 초기화 - hashtags: {}", articleCounts.size());
+    }
+
+    /**
+     * 이벤트를 놓친 변경(커밋 후 리스너 실패, 다른 인스턴스의 변경)으로 어긋난 태그별 게시글 수를 DB 기준으로 맞춘다.
+     */
+    @Scheduled(
+            initialDelayString = "${board.statistics.reconcile-interval:PT10M}",
+            fixedDelayString = "${board.statistics.reconcile-interval:PT10M}"
+    )
+    public synchronized void reconcile() {
+        if (!initialized) {
+            return;
+        }
+
+        Map<String, Long> previousCounts = new HashMap<>(articleCounts);
+        load();
+        if (!previousCounts.equals(articleCounts)) {
+            log.info("해시태그 레지스트리 보정 - hashtags: {} -> {}", previousCounts.size(), articleCounts.size());
+        }
+    }
+
+    private void load() {
+        articleCounts.clear();
+        articleCounts.putAll(articleRepository.countArticlesByHashtagName());
+        snapshot = Snapshot.of(articleCounts);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onArticleEvent(ArticleEvent event) {
+        if (!initialized) {
+            return; // 초기화할 때 DB 에서 다시 집계한다.
+        }
+
+        Set<String> added = new HashSet<>(event.hashtagNames());
+        added.removeAll(event.previousHashtagNames());
+        Set<String> removed = new HashSet<>(event.previousHashtagNames());
+        removed.removeAll(event.hashtagNames());
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+
+        added.forEach(hashtagName -> articleCounts.merge(hashtagName, 1L, Long::sum));
+        removed.forEach(hashtagName -> articleCounts.computeIfPresent(hashtagName, (name, count) -> count > 1 ? count - 1 : null));
+        snapshot = Snapshot.of(articleCounts);
+    }
+
+    /**
+     * 게시글이 하나 이상 달린 해시태그 이름 (가나다순)
+     */
+    public List<String> getHashtagNames() {
+        ensureInitialized();
+        return snapshot.hashtagNames();
+    }
+
+    /**
+     * 게시글 수가 많은 순서로 상위 {@code limit} 개 해시태그
+     */
+    public List<HashtagCount> getPopularHashtags(int limit) {
+        ensureInitialized();
+        List<HashtagCount> popular = snapshot.popularHashtags();
+        return popular.subList(0, Math.min(Math.max(limit, 0), popular.size()));
+    }
+
+    public long getArticleCount(String hashtagName) {
+        ensureInitialized();
+        return snapshot.articleCounts().getOrDefault(hashtagName, 0L);
+    }
+
+    private void ensureInitialized() {
+        if (!initialized) {
+            initialize();
+        }
+    }
+
+    public record HashtagCount(String hashtagName, long articleCount) {}
+
+    private record Snapshot(List<String> hashtagNames, List<HashtagCount> popularHashtags, Map<String, Long> articleCounts) {
+        static final Snapshot EMPTY = new Snapshot(List.of(), List.of(), Map.of());
+
+        static Snapshot of(Map<String, Long> articleCounts) {
+            List<HashtagCount> popularHashtags = articleCounts.entrySet().stream()
+                    .map(entry -> new HashtagCount(entry.getKey(), entry.getValue()))
+                    .sorted(POPULAR_ORDER)
+                    .toList();
+            List<String> hashtagNames = articleCounts.keySet().stream().sorted().toList();
+
+            return new Snapshot(hashtagNames, popularHashtags, Map.copyOf(articleCounts));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.selfprojectboard.service;
+
+import com.example.selfprojectboard.domain.Hashtag;
+import com.example.selfprojectboard.repository.HashtagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Transactional
+@Service
+public class HashtagService {
+
+    private static final Pattern HASHTAG_PATTERN = Pattern.compile("#?([\\p{L}\\p{N}_]+)");
+
+    private final HashtagRepository hashtagRepository;
+    private final TransactionTemplate newTransaction;
+
+    public HashtagService(HashtagRepository hashtagRepository, PlatformTransactionManager transactionManager) {
+        this.hashtagRepository = hashtagRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * "#Java #spring, boot" 같은 해시태그 입력값을 정규화된 태그 이름 목록({@code [java, spring, boot]})으로 바꾼다.
+     * {@link Hashtag#MAX_NAME_LENGTH} 자보다 긴 태그는 여러 태그로 나누지 않고 앞부분만 남긴다.
+     */
+    public Set<String> parseHashtagNames(String hashtagText) {
+        if (hashtagText == null || hashtagText.isBlank()) {
+            return Set.of();
+        }
+
+        Set<String> hashtagNames = new LinkedHashSet<>();
+        Matcher matcher = HASHTAG_PATTERN.matcher(hashtagText);
+        while (matcher.find()) {
+            hashtagNames.add(truncate(Hashtag.normalize(matcher.group(1))));
+        }
+        return hashtagNames;
+    }
+
+    /**
+     * 입력값에 들어있는 태그를 찾고, 없는 태그는 새로 만든다.
+     * <p>
+     * 같은 새 태그를 두 요청이 동시에 만들 수 있으므로, 태그마다 별도 트랜잭션에서 만들고 유니크 인덱스 충돌은 무시한 뒤 다시 읽는다.
+     * (호출한 트랜잭션 안에서 충돌하면 그 트랜잭션이 롤백 전용이 된다)
+     */
+    public Set<Hashtag> findOrCreateHashtags(String hashtagText) {
+        Set<String> hashtagNames = parseHashtagNames(hashtagText);
+        if (hashtagNames.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Hashtag> hashtags = new LinkedHashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
+        Set<String> existingNames = hashtags.stream().map(Hashtag::getHashtagName).collect(Collectors.toSet());
+        List<String> newHashtagNames = hashtagNames.stream()
+                .filter(hashtagName -> !existingNames.contains(hashtagName))
+                .toList();
+        if (newHashtagNames.isEmpty()) {
+            return hashtags;
+        }
+
+        newHashtagNames.forEach(this::createHashtag);
+        hashtags.addAll(hashtagRepository.findLockedByHashtagNameIn(newHashtagNames));
+
+        return hashtags;
+    }
+
+    private void createHashtag(String hashtagName) {
+        try {
+            newTransaction.executeWithoutResult(status -> hashtagRepository.save(Hashtag.of(hashtagName)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("다른 요청이 먼저 만든 해시태그 - hashtagName: {}", hashtagName);
+        }
+    }
+
+    private static String truncate(String hashtagName) {
+        if (hashtagName.length() <= Hashtag.MAX_NAME_LENGTH) {
+            return hashtagName;
+        }
+
+        int end = Hashtag.MAX_NAME_LENGTH;
+        if (Character.isHighSurrogate(hashtagName.charAt(end - 1))) {
+            end--; // 서로게이트 쌍을 가르지 않는다.
+        }
+        String truncated = hashtagName.substring(0, end);
+        log.debug("해시태그가 길어서 잘라냄 - length: {}, hashtagName: {}", hashtagName.length(), truncated);
+        return truncated;
+    }
+}
@@ -1,16 +1,22 @@
 package com.example.selfprojectboard.service;
 
 
+import com.example.selfprojectboard.config.BoardProperties;
+import com.example.selfprojectboard.dto.CursorSlice;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.stream.IntStream;
 
+@RequiredArgsConstructor
 @Service
 public class PaginationService {
 
     private static final int BAR_LENGTH = 5;
 
+    private final BoardProperties boardProperties;
+
     public List<Integer> getPaginationBarNumbers(int currentPageNumber, int totalPages) {
         int startNumber = Math.max(currentPageNumber - (BAR_LENGTH / 2),0) ;
         int endNumber = Math.min(startNumber + BAR_LENGTH, totalPages);
@@ -22,4 +28,25 @@ public class PaginationService {
         return BAR_LENGTH;
     }
 
+    /**
+     * 커서 파라미터가 있거나 keyset 페이징이 설정되어 있으면 커서 방식으로 목록을 보여준다.
+     */
+    public boolean isCursorMode(String after, String before) {
+        return boardProperties.getPagination().isKeyset()
+                || (after != null && !after.isBlank())
+                || (before != null && !before.isBlank());
+    }
+
+    public CursorLinks getCursorLinks(CursorSlice<?> slice) {
+        return new CursorLinks(
+                slice.hasPrevious() ? slice.firstCursor() : null,
+                slice.hasNext() ? slice.lastCursor() : null
+        );
+    }
+
+    /**
+     * 이전/다음 페이지 요청에 쓸 커서. 해당 방향에 페이지가 없으면 {@code null}.
+     */
+    public record CursorLinks(String before, String after) {}
+
 }
@@ -0,0 +1,65 @@
+package com.example.selfprojectboard.service.bulk;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 명령줄 내보내기. {@code board.export.file} 이 있으면 기동 직후 파일로 내보내고 앱을 종료한다. (야간 배치용)
+ * <pre>
+ * java -jar board.jar --spring.main.web-application-type=none --board.export.file=/data/articles.ndjson.gz --board.export.format=NDJSON
+ * </pre>
+ * 파일 이름이 .gz 로 끝나면 gzip 으로 압축한다.
+ * ApplicationReadyEvent 전에 끝나므로 검색 인덱스, 통계 같은 기동 작업은 하지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "board.export", name = "file")
+@Component
+public class BulkExportRunner implements ApplicationRunner {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final BulkExportService bulkExportService;
+    private final ApplicationContext applicationContext;
+
+    @Value("${board.export.file}")
+    private Path file;
+
+    @Value("${board.export.format:NDJSON}")
+    private BulkFormat format;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        log.info("게시글 내보내기 시작 - file: {}, format: {}", file, format);
+        try (Writer writer = openWriter()) {
+            bulkExportService.exportArticles(format, writer);
+        }
+
+        System.exit(SpringApplication.exit(applicationContext));
+    }
+
+    private Writer openWriter() throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) {
+            out = new GZIPOutputStream(out, WRITE_BUFFER_SIZE);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+    }
+}
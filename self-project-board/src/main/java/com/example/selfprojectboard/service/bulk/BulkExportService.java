@@ -0,0 +1,135 @@
+package com.example.selfprojectboard.service.bulk;
+
+import com.example.selfprojectboard.dto.ArticleExportDto;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 게시글과 댓글 전체를 NDJSON/CSV 로 내보낸다. (분석용 덤프)
+ * <p>
+ * offset 페이징 없이 게시글 쿼리와 댓글 쿼리를 각각 forward-only 커서로 열어 {@link #FETCH_SIZE} 건씩 읽고,
+ * 게시글 ID 순으로 합쳐 곧바로 writer 에 쓴다. ({@link ArticleRepository#streamForExport})
+ * 컬럼 projection 이라 영속성 컨텍스트에 엔티티가 남지 않고, 게시글 하나의 댓글도 모아 두지 않으므로 행 수와 상관없이 힙 사용량이 일정하다.
+ * (MySQL 은 JDBC URL 에 {@code useCursorFetch=true} 가 있어야 그렇다)
+ * <ul>
+ *     <li>NDJSON - 게시글 한 줄에 댓글 배열({@code comments})을 넣는다.</li>
+ *     <li>CSV - 댓글 한 행에 게시글 컬럼을 반복한다. 댓글이 없는 게시글은 댓글 컬럼이 빈 한 행이다.</li>
+ * </ul>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BulkExportService {
+
+    static final int FETCH_SIZE = 1_000;
+    private static final String[] CSV_HEADER = {
+            "articleId", "userId", "title", "content", "hashtag", "createdAt", "modifiedAt",
+            "commentId", "commentUserId", "commentContent", "commentCreatedAt"
+    };
+
+    private final ArticleRepository articleRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 내보낸 게시글 수
+     */
+    @Transactional(readOnly = true)
+    public long exportArticles(BulkFormat format, Writer writer) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long articles;
+        try (Stream<ArticleExportDto> rows = articleRepository.streamForExport(FETCH_SIZE)) {
+            articles = switch (format) {
+                case NDJSON -> writeNdjson(rows.iterator(), writer);
+                case CSV -> writeCsv(rows.iterator(), writer);
+            };
+        }
+        writer.flush();
+
+        log.info("게시글 내보내기 완료 - format: {}, articles: {}, elapsed: {}ms", format, articles, System.currentTimeMillis() - startedAt);
+        return articles;
+    }
+
+    private long writeNdjson(Iterator<ArticleExportDto> rows, Writer writer) throws IOException {
+        long articles = 0;
+        Long currentArticleId = null;
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null); // 줄 구분은 직접 넣는다.
+
+        while (rows.hasNext()) {
+            ArticleExportDto row = rows.next();
+            if (!Objects.equals(row.articleId(), currentArticleId)) {
+                if (currentArticleId != null) {
+                    endArticle(generator);
+                }
+                startArticle(generator, row);
+                currentArticleId = row.articleId();
+                articles++;
+            }
+            if (row.commentId() != null) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", row.commentId());
+                generator.writeStringField("userId", row.commentUserId());
+                generator.writeStringField("content", row.commentContent());
+                generator.writeObjectField("createdAt", row.commentCreatedAt());
+                generator.writeEndObject();
+            }
+        }
+        if (currentArticleId != null) {
+            endArticle(generator);
+        }
+        generator.flush();
+
+        return articles;
+    }
+
+    private void startArticle(JsonGenerator generator, ArticleExportDto row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.articleId());
+        generator.writeStringField("userId", row.userId());
+        generator.writeStringField("title", row.title());
+        generator.writeStringField("content", row.content());
+        generator.writeStringField("hashtag", row.hashtag());
+        generator.writeObjectField("createdAt", row.createdAt());
+        generator.writeObjectField("modifiedAt", row.modifiedAt());
+        generator.writeArrayFieldStart("comments");
+    }
+
+    private void endArticle(JsonGenerator generator) throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private long writeCsv(Iterator<ArticleExportDto> rows, Writer writer) throws IOException {
+        long articles = 0;
+        Long currentArticleId = null;
+        CsvWriter csv = new CsvWriter(writer);
+        csv.writeRecord((Object[]) CSV_HEADER);
+
+        while (rows.hasNext()) {
+            ArticleExportDto row = rows.next();
+            if (!Objects.equals(row.articleId(), currentArticleId)) {
+                currentArticleId = row.articleId();
+                articles++;
+            }
+            csv.writeRecord(
+                    row.articleId(), row.userId(), row.title(), row.content(), row.hashtag(), row.createdAt(), row.modifiedAt(),
+                    row.commentId(), row.commentUserId(), row.commentContent(), row.commentCreatedAt()
+            );
+        }
+
+        return articles;
+    }
+}
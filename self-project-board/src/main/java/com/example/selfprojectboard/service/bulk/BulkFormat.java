@@ -0,0 +1,41 @@
+package com.example.selfprojectboard.service.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * 대량 가져오기/내보내기 본문 형식. 가져오기는 요청의 Content-Type 으로 고른다.
+ */
+@Getter
+public enum BulkFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    BulkFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public static BulkFormat from(MediaType contentType) {
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.includes(contentType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 형식입니다 - contentType: " + contentType));
+    }
+
+    RowReader open(Reader reader, ObjectMapper objectMapper) {
+        return switch (this) {
+            case NDJSON -> new NdjsonRowReader(reader, objectMapper);
+            case CSV -> new CsvRowReader(reader);
+        };
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.selfprojectboard.service.bulk;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.ArticleComment;
+import com.example.selfprojectboard.domain.Hashtag;
+import com.example.selfprojectboard.domain.UserAccount;
+import com.example.selfprojectboard.dto.event.ArticleCommentEvent;
+import com.example.selfprojectboard.dto.event.ArticleEvent;
+import com.example.selfprojectboard.repository.ArticleCommentRepository;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import com.example.selfprojectboard.repository.HashtagRepository;
+import com.example.selfprojectboard.repository.UserAccountRepository;
+import com.example.selfprojectboard.service.HashtagService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * NDJSON/CSV 로 게시글, 댓글을 대량으로 넣는다. (이전 게시판 이관용)
+ * <p>
+ * 요청 본문을 한 행씩 읽어 {@link #CHUNK_SIZE} 건씩 트랜잭션 하나로 저장한다. 한 청크 안의 insert 는 JDBC batch 로 묶인다.
+ * 메모리에는 청크 하나와 작성자/게시글/해시태그 참조 캐시만 두므로 업로드 크기와 상관없이 일정하다.
+ * 잘못된 행은 건너뛰고 {@link ImportListener} 로 줄 번호와 함께 알린다.
+ * <p>
+ * 저장한 행마다 평소와 같은 게시글/댓글 이벤트를 발행하므로, 청크가 커밋되면 검색 인덱스와 통계에 바로 반영된다.
+ */
+@Slf4j
+@Service
+public class BulkImportService {
+
+    static final int CHUNK_SIZE = 1_000;
+    private static final int MAX_CACHED_REFERENCES = 10_000;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final HashtagRepository hashtagRepository;
+    private final HashtagService hashtagService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkImportService(
+            ArticleRepository articleRepository,
+            ArticleCommentRepository articleCommentRepository,
+            UserAccountRepository userAccountRepository,
+            HashtagRepository hashtagRepository,
+            HashtagService hashtagService,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.hashtagRepository = hashtagRepository;
+        this.hashtagService = hashtagService;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 컬럼: userId, title, content, hashtag(선택)
+     *
+     * @param authorUserId 작성자를 이 사용자로 고정한다. userId 컬럼은 없어도 되고, 있으면 같아야 한다. (null 이면 행의 userId 를 쓴다 - 관리자)
+     */
+    public ImportResult importArticles(Reader reader, BulkFormat format, ImportListener listener, String authorUserId) throws IOException {
+        References references = new References(authorUserId);
+        return importRows("articles", format.open(reader, objectMapper), listener, references, row -> {
+            UserAccount userAccount = references.userAccount(row);
+            String hashtag = row.get("hashtag", 255);
+            Set<String> hashtagNames = hashtagService.parseHashtagNames(hashtag);
+
+            Article article = Article.of(userAccount, row.required("title", 255), row.required("content", 10_000), hashtag);
+            article.addHashtags(references.hashtags(hashtagNames));
+            article = articleRepository.save(article);
+
+            // 해시태그는 참조(프록시)만 들고 있으므로, 이름은 엔티티를 읽지 않고 입력값에서 넘긴다.
+            eventPublisher.publishEvent(ArticleEvent.of(
+                    ArticleEvent.EventType.CREATED, article.getId(), userAccount.getUserId(), article.getTitle(), article.getContent(),
+                    hashtag, article.getCreatedAt(), hashtagNames, Set.of()
+            ));
+        });
+    }
+
+    /**
+     * 컬럼: articleId, userId, content
+     *
+     * @param authorUserId {@link #importArticles} 와 같다.
+     */
+    public ImportResult importArticleComments(Reader reader, BulkFormat format, ImportListener listener, String authorUserId) throws IOException {
+        References references = new References(authorUserId);
+        return importRows("comments", format.open(reader, objectMapper), listener, references, row -> {
+            Article article = references.article(row);
+            UserAccount userAccount = references.userAccount(row);
+
+            ArticleComment articleComment = articleCommentRepository.save(ArticleComment.of(article, userAccount, row.required("content", 500)));
+            eventPublisher.publishEvent(ArticleCommentEvent.created(articleComment));
+        });
+    }
+
+    private ImportResult importRows(String target, RowReader rows, ImportListener listener, References references, RowWriter writer) throws IOException {
+        Tally tally = new Tally(System.currentTimeMillis());
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (true) {
+            ImportRow row;
+            try {
+                row = rows.next();
+            } catch (ImportRowException e) {
+                tally.rows++;
+                tally.failed++;
+                listener.onError(e.getLineNumber(), e.getMessage());
+                continue;
+            }
+
+            if (row != null) {
+                tally.rows++;
+                chunk.add(row);
+            }
+            if (chunk.size() == CHUNK_SIZE || (row == null && !chunk.isEmpty())) {
+                writeChunk(chunk, listener, references, writer, tally);
+                chunk.clear();
+                listener.onProgress(tally.toResult());
+            }
+            if (row == null) {
+                break;
+            }
+        }
+
+        ImportResult result = tally.toResult();
+        log.info("대량 가져오기 완료 - target: {}, result: {}", target, result);
+        return result;
+    }
+
+    private void writeChunk(List<ImportRow> chunk, ImportListener listener, References references, RowWriter writer, Tally tally) {
+        List<ImportRowException> rowErrors = new ArrayList<>();
+        try {
+            Integer written = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (ImportRow row : chunk) {
+                    try {
+                        writer.write(row);
+                        count++;
+                    } catch (ImportRowException e) {
+                        rowErrors.add(e);
+                    }
+                }
+                return count;
+            });
+            tally.imported += written == null ? 0 : written;
+        } catch (RuntimeException e) {
+            // 롤백된 청크에서 새로 만든 해시태그 등이 캐시에 남지 않도록 비운다.
+            references.clear();
+            long firstLine = chunk.get(0).lineNumber();
+            long lastLine = chunk.get(chunk.size() - 1).lineNumber();
+            log.warn("대량 가져오기 청크 저장 실패 - lines: {}~{}", firstLine, lastLine, e);
+            tally.failed += chunk.size() - rowErrors.size();
+            listener.onError(firstLine, "%d~%d 줄을 저장하지 못했습니다 - %s".formatted(
+                    firstLine, lastLine, NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+        }
+
+        tally.failed += rowErrors.size();
+        rowErrors.forEach(e -> listener.onError(e.getLineNumber(), e.getMessage()));
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ImportRow row);
+    }
+
+    private static final class Tally {
+        private final long startedAt;
+        private long rows;
+        private long imported;
+        private long failed;
+
+        private Tally(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private ImportResult toResult() {
+            return ImportResult.of(rows, imported, failed, System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    /**
+     * 행마다 작성자, 게시글, 해시태그를 조회하지 않도록 존재 여부/ID 를 기억해 두고 참조(프록시)만 넘긴다.
+     */
+    private final class References {
+        private final String authorUserId;
+        private final Map<String, Boolean> userIds = lruMap();
+        private final Map<Long, Boolean> articleIds = lruMap();
+        private final Map<String, Long> hashtagIds = lruMap();
+
+        References(String authorUserId) {
+            this.authorUserId = authorUserId;
+        }
+
+        UserAccount userAccount(ImportRow row) {
+            String userId = authorUserId == null ? row.required("userId", 50).strip() : authorUserId(row);
+            if (!userIds.computeIfAbsent(userId, userAccountRepository::existsById)) {
+                throw new ImportRowException(row.lineNumber(), "사용자가 없습니다 - userId: " + userId);
+            }
+            return userAccountRepository.getReferenceById(userId);
+        }
+
+        /**
+         * 작성자가 고정되어 있으면 다른 사용자 이름으로 쓴 행은 거절한다.
+         */
+        private String authorUserId(ImportRow row) {
+            String userId = row.get("userId", 50);
+            if (userId != null && !userId.strip().equals(authorUserId)) {
+                throw new ImportRowException(row.lineNumber(), "다른 사용자로 가져올 수 없습니다 - userId: " + userId.strip());
+            }
+            return authorUserId;
+        }
+
+        Article article(ImportRow row) {
+            long articleId = row.requiredLong("articleId");
+            if (!articleIds.computeIfAbsent(articleId, articleRepository::existsById)) {
+                throw new ImportRowException(row.lineNumber(), "게시글이 없습니다 - articleId: " + articleId);
+            }
+            return articleRepository.getReferenceById(articleId);
+        }
+
+        Set<Hashtag> hashtags(Set<String> hashtagNames) {
+            List<String> missingNames = hashtagNames.stream()
+                    .filter(hashtagName -> !hashtagIds.containsKey(hashtagName))
+                    .toList();
+            if (!missingNames.isEmpty()) {
+                hashtagService.findOrCreateHashtags(String.join(" ", missingNames))
+                        .forEach(hashtag -> hashtagIds.put(hashtag.getHashtagName(), hashtag.getId()));
+            }
+
+            return hashtagNames.stream()
+                    .map(hashtagIds::get)
+                    .map(hashtagRepository::getReferenceById)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+
+        void clear() {
+            userIds.clear();
+            articleIds.clear();
+            hashtagIds.clear();
+        }
+
+        private static <K, V> Map<K, V> lruMap() {
+            return new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    return size() > MAX_CACHED_REFERENCES;
+                }
+            };
+        }
+    }
+}
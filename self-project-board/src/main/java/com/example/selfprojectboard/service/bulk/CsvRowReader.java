@@ -0,0 +1,133 @@
+package com.example.selfprojectboard.service.bulk;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 첫 레코드를 헤더로 쓰는 RFC 4180 CSV. 큰따옴표로 감싼 값에는 쉼표, 줄바꿈, 두 번 쓴 큰따옴표("")를 넣을 수 있다.
+ * <pre>
+ * articleId,userId,content
+ * 1,sspark,"첫 줄
+ * 둘째 줄, ""인용"""
+ * </pre>
+ */
+class CsvRowReader implements RowReader {
+
+    static final int MAX_FIELD_LENGTH = 16 * 1024;
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private List<String> header;
+    private long lineNumber = 0;
+    private boolean fieldTooLong;
+
+    CsvRowReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (header == null) {
+            List<String> names = readRecord();
+            if (names == null) {
+                return null;
+            }
+            if (!names.isEmpty() && !names.get(0).isEmpty() && names.get(0).charAt(0) == BOM) {
+                names.set(0, names.get(0).substring(1));
+            }
+            header = names.stream().map(String::strip).toList();
+        }
+
+        List<String> values;
+        long startLineNumber;
+        do {
+            startLineNumber = lineNumber + 1;
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isEmpty());
+
+        if (fieldTooLong) {
+            throw new ImportRowException(startLineNumber, "값이 너무 깁니다 (최대 %d 자)".formatted(MAX_FIELD_LENGTH));
+        }
+        if (values.size() != header.size()) {
+            throw new ImportRowException(startLineNumber, "컬럼 수가 헤더와 다릅니다 - %d 개 (헤더 %d 개)".formatted(values.size(), header.size()));
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            fields.put(header.get(i), values.get(i));
+        }
+        return ImportRow.of(startLineNumber, fields);
+    }
+
+    /**
+     * 레코드 하나(따옴표 안의 줄바꿈 포함)를 읽는다. 입력이 끝났으면 null 을 돌려준다.
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        long startLineNumber = lineNumber + 1;
+        boolean quoted = false;
+        field.setLength(0);
+        fieldTooLong = false;
+        while (true) {
+            if (c == -1) {
+                lineNumber++;
+                if (quoted) {
+                    throw new ImportRowException(startLineNumber, "닫히지 않은 큰따옴표가 있습니다");
+                }
+                values.add(field.toString());
+                return values;
+            }
+
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                    append('"');
+                } else {
+                    if (ch == '\n') {
+                        lineNumber++;
+                    }
+                    append(ch);
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                lineNumber++;
+                values.add(field.toString());
+                return values;
+            } else if (ch != '\r') {
+                append(ch);
+            }
+            c = reader.read();
+        }
+    }
+
+    private void append(char ch) {
+        if (field.length() < MAX_FIELD_LENGTH) {
+            field.append(ch);
+        } else {
+            fieldTooLong = true;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.selfprojectboard.service.bulk;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 CSV 레코드를 쓴다. 쉼표, 큰따옴표, 줄바꿈이 들어간 값만 큰따옴표로 감싼다. ({@link CsvRowReader} 로 다시 읽을 수 있다)
+ */
+final class CsvWriter {
+
+    private final Writer writer;
+
+    CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    void writeRecord(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeField(values[i].toString());
+            }
+        }
+        writer.write('\n');
+    }
+
+    private void writeField(String value) throws IOException {
+        boolean quoted = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quoted) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
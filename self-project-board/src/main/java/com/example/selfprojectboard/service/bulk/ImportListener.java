@@ -0,0 +1,11 @@
+package com.example.selfprojectboard.service.bulk;
+
+/**
+ * 가져오기 도중의 행 오류와 진행 상황을 받는다. 업로드 크기와 상관없이 메모리를 쓰지 않도록 결과를 모아 두지 않고 바로 넘긴다.
+ */
+public interface ImportListener {
+
+    void onError(long lineNumber, String message);
+
+    void onProgress(ImportResult progress);
+}
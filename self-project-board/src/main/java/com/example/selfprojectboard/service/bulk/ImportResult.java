@@ -0,0 +1,21 @@
+package com.example.selfprojectboard.service.bulk;
+
+/**
+ * 가져오기 진행 상황. 청크마다 중간 값으로, 끝나면 최종 값으로 쓴다.
+ *
+ * @param rows          읽은 행 수
+ * @param imported      저장한 행 수
+ * @param failed        형식 오류, 검증 실패, 저장 실패로 건너뛴 행 수
+ * @param elapsedMillis 시작 후 걸린 시간
+ */
+public record ImportResult(
+        long rows,
+        long imported,
+        long failed,
+        long elapsedMillis
+) {
+
+    public static ImportResult of(long rows, long imported, long failed, long elapsedMillis) {
+        return new ImportResult(rows, imported, failed, elapsedMillis);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.selfprojectboard.service.bulk;
+
+import java.util.Map;
+
+/**
+ * NDJSON 한 줄 또는 CSV 한 레코드. 값은 모두 문자열로 들고, 꺼낼 때 검증한다.
+ *
+ * @param lineNumber 원본에서 행이 시작하는 줄 번호 (1부터)
+ */
+public record ImportRow(
+        long lineNumber,
+        Map<String, String> fields
+) {
+
+    public static ImportRow of(long lineNumber, Map<String, String> fields) {
+        return new ImportRow(lineNumber, fields);
+    }
+
+    /**
+     * 비어 있으면 null 을 돌려준다.
+     */
+    public String get(String name, int maxLength) {
+        String value = fields.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        if (value.length() > maxLength) {
+            throw new ImportRowException(lineNumber, "%s 값이 너무 깁니다 - %d 자 (최대 %d 자)".formatted(name, value.length(), maxLength));
+        }
+        return value;
+    }
+
+    public String required(String name, int maxLength) {
+        String value = get(name, maxLength);
+        if (value == null) {
+            throw new ImportRowException(lineNumber, name + " 값이 없습니다");
+        }
+        return value;
+    }
+
+    public long requiredLong(String name) {
+        String value = required(name, 20).strip();
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ImportRowException(lineNumber, "%s 값이 숫자가 아닙니다 - %s".formatted(name, value));
+        }
+    }
+}
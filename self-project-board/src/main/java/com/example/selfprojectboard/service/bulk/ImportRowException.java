@@ -0,0 +1,17 @@
+package com.example.selfprojectboard.service.bulk;
+
+import lombok.Getter;
+
+/**
+ * 행 하나를 읽거나 검증하지 못했을 때 던진다. 가져오기는 해당 행만 건너뛰고 계속한다.
+ */
+@Getter
+public class ImportRowException extends RuntimeException {
+
+    private final long lineNumber;
+
+    public ImportRowException(long lineNumber, String message) {
+        super(message);
+        this.lineNumber = lineNumber;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.selfprojectboard.service.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 줄에 JSON 객체 하나. 빈 줄은 건너뛴다.
+ * <pre>
+ * {"userId": "sspark", "title": "제목", "content": "본문", "hashtag": "#java"}
+ * </pre>
+ */
+class NdjsonRowReader implements RowReader {
+
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<>() {};
+
+    private final Reader reader;
+    private final ObjectMapper objectMapper;
+    private final StringBuilder line = new StringBuilder();
+    private long lineNumber = 0;
+    private boolean endOfInput = false;
+
+    NdjsonRowReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        while (readLine()) {
+            if (line.toString().isBlank()) {
+                continue;
+            }
+
+            Map<String, Object> values;
+            try {
+                values = objectMapper.readValue(line.toString(), ROW_TYPE);
+            } catch (JsonProcessingException e) {
+                throw new ImportRowException(lineNumber, "JSON 객체가 아닙니다 - " + e.getOriginalMessage());
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            values.forEach((name, value) -> fields.put(name, value == null ? null : value.toString()));
+            return ImportRow.of(lineNumber, fields);
+        }
+        return null;
+    }
+
+    /**
+     * 한 줄을 line 에 읽는다. 너무 긴 줄은 끝까지 버리고 오류로 알린다. (줄 하나 크기 이상의 메모리를 쓰지 않는다)
+     */
+    private boolean readLine() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+
+        line.setLength(0);
+        boolean tooLong = false;
+        int c;
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (line.length() < MAX_LINE_LENGTH) {
+                line.append((char) c);
+            } else {
+                tooLong = true;
+            }
+        }
+        endOfInput = c == -1;
+        lineNumber++;
+
+        if (tooLong) {
+            throw new ImportRowException(lineNumber, "줄이 너무 깁니다 (최대 %d 자)".formatted(MAX_LINE_LENGTH));
+        }
+        if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+        return !endOfInput || !line.isEmpty();
+    }
+}
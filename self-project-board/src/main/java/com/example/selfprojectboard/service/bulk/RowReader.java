@@ -0,0 +1,16 @@
+package com.example.selfprojectboard.service.bulk;
+
+import java.io.IOException;
+
+/**
+ * 요청 본문에서 행을 하나씩 읽는다. 전체를 메모리에 올리지 않는다.
+ */
+interface RowReader {
+
+    /**
+     * 다음 행을 읽는다. 더 없으면 null 을 돌려준다.
+     *
+     * @throws ImportRowException 이 행의 형식이 잘못된 경우. 다음 호출은 그다음 행부터 읽는다.
+     */
+    ImportRow next() throws IOException;
+}
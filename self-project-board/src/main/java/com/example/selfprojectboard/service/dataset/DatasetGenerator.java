@@ -0,0 +1,274 @@
+package com.example.selfprojectboard.service.dataset;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 성능 측정용 합성 데이터(사용자, 게시글, 해시태그, 댓글)를 multi-row insert 로 적재한다.
+ * <p>
+ * 작성자와 해시태그는 Zipf 분포로, 게시글당 댓글 수는 꼬리가 긴 Lomax(Pareto II) 분포로 뽑아 일부 게시글/사용자에 데이터가 몰리게 한다.
+ * 같은 시드, 같은 시작 상태면 같은 데이터가 나온다.
+ * <p>
+ * 게시글/댓글 ID 는 기존 최댓값 다음부터 직접 매기고, 끝나면 시퀀스를 그 뒤로 옮긴다.
+ * 그래서 앱이 ID 블록을 받아 가기 전에 돌려야 한다. (perf 프로필의 {@link DatasetGeneratorRunner}, 또는 앱을 내린 상태에서 {@link #main})
+ * <pre>
+ * ./gradlew generateDataset --args="--url=jdbc:mysql://localhost:3306/board?rewriteBatchedStatements=true --username=root --password=0000 --users=10000 --articles=1000000"
+ * </pre>
+ * 스키마는 미리 있어야 한다. (앱을 한 번 띄워 ddl-auto 로 만든다)
+ */
+@Slf4j
+public class DatasetGenerator {
+
+    public static final String DEFAULT_PASSWORD = "{noop}asdf1234";
+    public static final List<String> HASHTAG_NAMES = List.of(
+            "java", "spring", "jpa", "querydsl", "mysql", "kotlin", "docker", "kubernetes", "aws", "react",
+            "typescript", "python", "linux", "git", "redis", "kafka", "test", "performance", "security", "gradle",
+            "algorithm", "interview", "career", "book", "회고", "질문", "공부", "취업", "면접", "일상",
+            "프로젝트", "스터디", "리뷰", "후기", "여행", "맛집", "운동", "개발", "신입", "이직"
+    );
+
+    private static final int ROWS_PER_STATEMENT = 500;
+    private static final int MAX_HASHTAGS_PER_ARTICLE = 3;
+    private static final int MAX_COMMENTS_PER_ARTICLE = 5_000;
+    private static final double COMMENT_TAIL_INDEX = 1.5; // 작을수록 댓글이 소수의 게시글에 더 몰린다. (1 보다 커야 평균이 있다)
+    private static final double ZIPF_EXPONENT = 1.0;
+    private static final double KOREAN_RATIO = 0.7;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final long TIME_SPAN_SECONDS = Duration.ofDays(3 * 365).toSeconds();
+    private static final String CREATED_BY = "dataset";
+
+    private static final String[] USER_COLUMNS = {"user_id", "user_password", "email", "nickname", "memo", "created_at", "created_by", "modified_at", "modified_by"};
+    private static final String[] HASHTAG_COLUMNS = {"hashtag_name", "created_at", "created_by", "modified_at", "modified_by"};
+    private static final String[] ARTICLE_COLUMNS = {"id", "user_id", "title", "content", "hashtag", "created_at", "created_by", "modified_at", "modified_by"};
+    private static final String[] ARTICLE_HASHTAG_COLUMNS = {"article_id", "hashtag_id"};
+    private static final String[] COMMENT_COLUMNS = {"id", "article_id", "user_id", "content", "created_at", "created_by", "modified_at", "modified_by"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatasetGenerator(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 명령줄 실행. 옵션: --url, --username, --password, --users, --articles, --comments-per-article, --seed
+     */
+    public static void main(String[] args) {
+        SimpleCommandLinePropertySource options = new SimpleCommandLinePropertySource(args);
+        String url = options.getProperty("url");
+        if (url == null) {
+            throw new IllegalArgumentException("--url 이 필요합니다.");
+        }
+
+        DataSource dataSource = new DriverManagerDataSource(url, option(options, "username", ""), option(options, "password", ""));
+        DatasetSpec spec = DatasetSpec.of(
+                Integer.parseInt(option(options, "users", "1000")),
+                Long.parseLong(option(options, "articles", "100000")),
+                Double.parseDouble(option(options, "comments-per-article", "8")),
+                Long.parseLong(option(options, "seed", "20221017"))
+        );
+
+        DatasetResult result = new DatasetGenerator(dataSource).generate(spec);
+        log.info("합성 데이터 적재 - {}, {} rows/s", result, result.rowsPerSecond());
+    }
+
+    public DatasetResult generate(DatasetSpec spec) {
+        return jdbcTemplate.execute((ConnectionCallback<DatasetResult>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                DatasetResult result = load(connection, spec);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback(); // 이미 커밋한 청크는 남는다.
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        });
+    }
+
+    private DatasetResult load(Connection connection, DatasetSpec spec) throws SQLException {
+        long startedAt = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(spec.seed());
+        DatasetText text = new DatasetText(random);
+
+        List<String> userIds = insertUsers(connection, spec.users(), random, text);
+        List<Long> hashtagIds = insertHashtags(connection);
+        ZipfDistribution authors = new ZipfDistribution(userIds.size(), ZIPF_EXPONENT);
+        ZipfDistribution hashtags = new ZipfDistribution(hashtagIds.size(), ZIPF_EXPONENT);
+        long stepSeconds = Math.max(1, TIME_SPAN_SECONDS / Math.max(1, spec.articles()));
+        double commentScale = spec.commentsPerArticle() * (COMMENT_TAIL_INDEX - 1); // Lomax 평균 = scale / (alpha - 1)
+
+        long articleId = maxId(connection, "article");
+        long commentId = maxId(connection, "article_comment");
+        long articleHashtagCount;
+        long commentCount;
+        try (MultiRowInsert articles = new MultiRowInsert(connection, "article", ARTICLE_COLUMNS, ROWS_PER_STATEMENT);
+             MultiRowInsert articleHashtags = new MultiRowInsert(connection, "article_hashtag", ARTICLE_HASHTAG_COLUMNS, ROWS_PER_STATEMENT);
+             MultiRowInsert comments = new MultiRowInsert(connection, "article_comment", COMMENT_COLUMNS, ROWS_PER_STATEMENT)) {
+
+            List<GeneratedArticle> block = new ArrayList<>(ROWS_PER_STATEMENT);
+            for (long i = 0; i < spec.articles(); i++) {
+                boolean korean = random.nextDouble() < KOREAN_RATIO;
+                String userId = userIds.get(authors.sample(random));
+                Timestamp createdAt = Timestamp.valueOf(BASE_TIME.plusSeconds(i * stepSeconds + random.nextLong(stepSeconds)));
+                Set<Integer> tags = pickHashtags(random, hashtags);
+
+                articles.add(++articleId, userId, text.title(korean), text.content(korean), hashtagText(tags),
+                        createdAt, userId, createdAt, userId);
+                block.add(new GeneratedArticle(articleId, createdAt, korean, tags));
+
+                if (block.size() == ROWS_PER_STATEMENT || i == spec.articles() - 1) {
+                    articles.flush(); // 연결 행, 댓글이 참조하기 전에 게시글부터 넣는다.
+                    for (GeneratedArticle article : block) {
+                        for (Integer tag : article.hashtags()) {
+                            articleHashtags.add(article.id(), hashtagIds.get(tag));
+                        }
+                        long count = Math.min(MAX_COMMENTS_PER_ARTICLE, (long) (commentScale * (Math.pow(1 - random.nextDouble(), -1 / COMMENT_TAIL_INDEX) - 1)));
+                        LocalDateTime commentedAt = article.createdAt().toLocalDateTime();
+                        for (long c = 0; c < count; c++) {
+                            commentedAt = commentedAt.plusSeconds(random.nextLong(60, 36_000));
+                            String commenterId = userIds.get(authors.sample(random));
+                            Timestamp commentCreatedAt = Timestamp.valueOf(commentedAt);
+                            comments.add(++commentId, article.id(), commenterId, text.comment(article.korean()),
+                                    commentCreatedAt, commenterId, commentCreatedAt, commenterId);
+                        }
+                    }
+                    block.clear();
+                }
+            }
+            articleHashtags.flush();
+            comments.flush();
+            articleHashtagCount = articleHashtags.insertedRows();
+            commentCount = comments.insertedRows();
+        }
+
+        restartSequence(connection, "article_seq", maxId(connection, "article") + 1);
+        restartSequence(connection, "article_comment_seq", maxId(connection, "article_comment") + 1);
+
+        return DatasetResult.of(userIds.size(), spec.articles(), articleHashtagCount, commentCount, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * user000001 처럼 번호를 매긴다. 번호는 이미 있는 사용자 수 다음부터 시작한다.
+     */
+    private List<String> insertUsers(Connection connection, int count, SplittableRandom random, DatasetText text) throws SQLException {
+        long existingUsers = queryForLong(connection, "select count(*) from user_account");
+        Timestamp createdAt = Timestamp.valueOf(BASE_TIME);
+        List<String> userIds = new ArrayList<>(count);
+        try (MultiRowInsert users = new MultiRowInsert(connection, "user_account", USER_COLUMNS, ROWS_PER_STATEMENT)) {
+            for (int i = 0; i < count; i++) {
+                String userId = "user%06d".formatted(existingUsers + i + 1);
+                users.add(userId, DEFAULT_PASSWORD, userId + "@mail.com", text.nickname(random.nextDouble() < KOREAN_RATIO), null,
+                        createdAt, userId, createdAt, userId);
+                userIds.add(userId);
+            }
+        }
+        return userIds;
+    }
+
+    /**
+     * 없는 태그만 넣고, {@link #HASHTAG_NAMES} 순서대로 ID 를 돌려준다. (hashtag 는 IDENTITY 라 ID 를 DB 가 매긴다)
+     */
+    private List<Long> insertHashtags(Connection connection) throws SQLException {
+        Map<String, Long> existing = hashtagIdsByName(connection);
+        Timestamp createdAt = Timestamp.valueOf(BASE_TIME);
+        try (MultiRowInsert hashtags = new MultiRowInsert(connection, "hashtag", HASHTAG_COLUMNS, ROWS_PER_STATEMENT)) {
+            for (String name : HASHTAG_NAMES) {
+                if (!existing.containsKey(name)) {
+                    hashtags.add(name, createdAt, CREATED_BY, createdAt, CREATED_BY);
+                }
+            }
+        }
+
+        Map<String, Long> ids = hashtagIdsByName(connection);
+        return HASHTAG_NAMES.stream().map(ids::get).toList();
+    }
+
+    private Set<Integer> pickHashtags(SplittableRandom random, ZipfDistribution hashtags) {
+        int count = random.nextInt(MAX_HASHTAGS_PER_ARTICLE + 1); // 4개 중 1개는 태그 없음
+        Set<Integer> tags = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(hashtags.sample(random)); // 같은 태그가 나오면 개수가 줄어든다.
+        }
+        return tags;
+    }
+
+    private String hashtagText(Set<Integer> tags) {
+        if (tags.isEmpty()) {
+            return null;
+        }
+        StringBuilder text = new StringBuilder();
+        for (Integer tag : tags) {
+            if (!text.isEmpty()) {
+                text.append(' ');
+            }
+            text.append('#').append(HASHTAG_NAMES.get(tag));
+        }
+        return text.toString();
+    }
+
+    /**
+     * pooled-lo 시퀀스의 다음 값을 옮긴다. 다음 값이 블록의 첫 ID 가 되므로 최댓값 + 1 로 두면 된다.
+     */
+    private void restartSequence(Connection connection, String sequenceName, long nextValue) throws SQLException {
+        String sql = switch (connection.getMetaData().getDatabaseProductName()) {
+            case "MySQL", "MariaDB" -> "update " + sequenceName + " set next_val = " + nextValue; // 시퀀스가 없어 Hibernate 가 테이블로 흉내 낸다.
+            default -> "alter sequence " + sequenceName + " restart with " + nextValue; // H2, PostgreSQL
+        };
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+    }
+
+    private Map<String, Long> hashtagIdsByName(Connection connection) throws SQLException {
+        Map<String, Long> ids = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement("select id, hashtag_name from hashtag");
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                ids.put(resultSet.getString(2), resultSet.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private long maxId(Connection connection, String table) throws SQLException {
+        return queryForLong(connection, "select coalesce(max(id), 0) from " + table);
+    }
+
+    private long queryForLong(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static String option(SimpleCommandLinePropertySource options, String name, String defaultValue) {
+        String value = options.getProperty(name);
+        return value == null ? defaultValue : value;
+    }
+
+    private record GeneratedArticle(long id, Timestamp createdAt, boolean korean, Set<Integer> hashtags) {}
+}
@@ -0,0 +1,44 @@
+package com.example.selfprojectboard.service.dataset;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * perf 프로필에서 data.sql 대신 합성 데이터를 적재한다. (크기는 board.dataset.*)
+ * <p>
+ * ApplicationRunner 는 ApplicationReadyEvent 보다 먼저 실행되므로, 검색 인덱스/해시태그/통계 초기화에 적재한 데이터가 반영된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Profile("perf")
+@Component
+public class DatasetGeneratorRunner implements ApplicationRunner {
+
+    private final DataSource dataSource;
+
+    @Value("${board.dataset.users:1000}")
+    private int users;
+
+    @Value("${board.dataset.articles:100000}")
+    private long articles;
+
+    @Value("${board.dataset.comments-per-article:8}")
+    private double commentsPerArticle;
+
+    @Value("${board.dataset.seed:20221017}")
+    private long seed;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        DatasetResult result = new DatasetGenerator(dataSource).generate(DatasetSpec.of(users, articles, commentsPerArticle, seed));
+        log.info("합성 데이터 적재 - users: {}, articles: {}, comments: {}, {} ms ({} rows/s)",
+                result.users(), result.articles(), result.comments(), result.elapsedMillis(), result.rowsPerSecond());
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.selfprojectboard.service.dataset;
+
+/**
+ * 합성 데이터 적재 결과.
+ *
+ * @param users           넣은 사용자 수
+ * @param articles        넣은 게시글 수
+ * @param articleHashtags 넣은 게시글-해시태그 연결 수
+ * @param comments        넣은 댓글 수
+ * @param elapsedMillis   걸린 시간
+ */
+public record DatasetResult(
+        long users,
+        long articles,
+        long articleHashtags,
+        long comments,
+        long elapsedMillis
+) {
+
+    public static DatasetResult of(long users, long articles, long articleHashtags, long comments, long elapsedMillis) {
+        return new DatasetResult(users, articles, articleHashtags, comments, elapsedMillis);
+    }
+
+    public long rows() {
+        return users + articles + articleHashtags + comments;
+    }
+
+    public long rowsPerSecond() {
+        return elapsedMillis == 0 ? rows() : rows() * 1000 / elapsedMillis;
+    }
+}
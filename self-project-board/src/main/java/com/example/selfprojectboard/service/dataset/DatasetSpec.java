@@ -0,0 +1,30 @@
+package com.example.selfprojectboard.service.dataset;
+
+/**
+ * 합성 데이터 크기와 시드. 같은 값으로 같은 상태의 DB 에 적재하면 같은 데이터가 나온다.
+ *
+ * @param users              만들 사용자 수
+ * @param articles           만들 게시글 수
+ * @param commentsPerArticle 게시글당 평균 댓글 수 (분포는 꼬리가 길다)
+ * @param seed               난수 시드
+ */
+public record DatasetSpec(
+        int users,
+        long articles,
+        double commentsPerArticle,
+        long seed
+) {
+
+    public DatasetSpec {
+        if (users < 1) {
+            throw new IllegalArgumentException("사용자는 1명 이상이어야 합니다: " + users);
+        }
+        if (articles < 0 || commentsPerArticle < 0) {
+            throw new IllegalArgumentException("게시글 수와 댓글 수는 음수일 수 없습니다: " + articles + ", " + commentsPerArticle);
+        }
+    }
+
+    public static DatasetSpec of(int users, long articles, double commentsPerArticle, long seed) {
+        return new DatasetSpec(users, articles, commentsPerArticle, seed);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.selfprojectboard.service.dataset;
+
+import java.util.SplittableRandom;
+
+/**
+ * 합성 데이터용 한국어/영어 문장을 만든다. 문법은 맞지 않지만 단어 길이, 띄어쓰기, 문단 구성이 실제 글과 비슷해서
+ * 검색 인덱스, LIKE 검색, 본문 크기가 실제와 비슷하게 나온다.
+ */
+final class DatasetText {
+
+    private static final String[] KOREAN_WORDS = {
+            "스프링", "게시판", "성능", "데이터베이스", "인덱스", "오늘", "정말", "질문", "코드", "배포",
+            "서버", "캐시", "테스트", "쿼리", "트랜잭션", "커밋", "리뷰", "회고", "주말", "점심",
+            "커피", "프로젝트", "팀", "회의", "문서", "버그", "장애", "모니터링", "알림", "로그",
+            "설정", "환경", "개발", "운영", "사용자", "화면", "검색", "댓글", "추천", "공유",
+            "생각", "경험", "방법", "문제", "해결", "결과", "이유", "처음", "다시", "조금",
+            "많이", "빠르게", "천천히", "함께", "우리", "동료", "선배", "신입", "면접", "공부"
+    };
+    private static final String[] KOREAN_ENDINGS = {
+            "입니다.", "같아요.", "궁금합니다.", "정리해 봤습니다.", "공유합니다.", "어떻게 하나요?",
+            "좋네요!", "문제가 있어요.", "해결했습니다.", "추천합니다.", "고민 중입니다.", "후기입니다."
+    };
+    private static final String[] ENGLISH_WORDS = {
+            "spring", "query", "index", "cache", "latency", "deploy", "review", "weekend", "coffee", "team",
+            "release", "bug", "fix", "server", "database", "board", "article", "comment", "search", "thread",
+            "memory", "profile", "build", "test", "question", "answer", "idea", "today", "really", "quick",
+            "slow", "better", "simple", "note", "guide", "update", "issue", "plan", "design", "the",
+            "a", "with", "for", "about", "after", "before", "our", "new", "old", "first"
+    };
+    private static final String[] ENGLISH_ENDINGS = {".", ".", ".", "?", "!"};
+    private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오"};
+    private static final String[] GIVEN_NAMES = {
+            "민준", "서연", "도윤", "지우", "하준", "서윤", "시우", "하은", "지호", "수아", "예준", "지민", "현우", "채원"
+    };
+
+    private final SplittableRandom random;
+
+    DatasetText(SplittableRandom random) {
+        this.random = random;
+    }
+
+    String title(boolean korean) {
+        return sentence(korean, 2, 7);
+    }
+
+    /**
+     * 1 ~ 4 문단, 문단마다 2 ~ 5 문장. (최대 3,000 자 안팎으로 content 컬럼 길이 10,000 안에 들어간다)
+     */
+    String content(boolean korean) {
+        StringBuilder content = new StringBuilder(512);
+        int paragraphs = random.nextInt(1, 5);
+        for (int p = 0; p < paragraphs; p++) {
+            if (p > 0) {
+                content.append('\n');
+            }
+            int sentences = random.nextInt(2, 6);
+            for (int s = 0; s < sentences; s++) {
+                if (s > 0) {
+                    content.append(' ');
+                }
+                content.append(sentence(korean, 4, 13));
+            }
+        }
+        return content.toString();
+    }
+
+    /**
+     * 1 ~ 2 문장. (댓글 content 컬럼 길이 500 안에 들어간다)
+     */
+    String comment(boolean korean) {
+        String first = sentence(korean, 2, 11);
+        return random.nextBoolean() ? first : first + " " + sentence(korean, 2, 11);
+    }
+
+    String nickname(boolean korean) {
+        if (korean) {
+            return pick(FAMILY_NAMES) + pick(GIVEN_NAMES);
+        }
+        return capitalize(pick(ENGLISH_WORDS)) + random.nextInt(10, 1000);
+    }
+
+    private String sentence(boolean korean, int minWords, int maxWords) {
+        String[] words = korean ? KOREAN_WORDS : ENGLISH_WORDS;
+        int wordCount = random.nextInt(minWords, maxWords);
+        StringBuilder sentence = new StringBuilder(wordCount * 8);
+        for (int w = 0; w < wordCount; w++) {
+            if (w > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(w == 0 && !korean ? capitalize(pick(words)) : pick(words));
+        }
+        return korean
+                ? sentence.append(' ').append(pick(KOREAN_ENDINGS)).toString()
+                : sentence.append(pick(ENGLISH_ENDINGS)).toString();
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.selfprojectboard.service.dataset;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.StringJoiner;
+
+/**
+ * 행을 모아 {@code insert into t (...) values (...), (...), ...} 한 문장으로 보낸다.
+ * <p>
+ * JDBC batch 는 드라이버에 따라 행마다 한 번씩 왕복하지만, multi-row insert 는 DB 와 상관없이 문장 하나에 여러 행이 들어간다.
+ * 꽉 찬 문장은 준비해 둔 것을 다시 쓰고, 마지막 남은 행만 크기에 맞는 문장을 따로 만든다.
+ * 커밋은 {@link #STATEMENTS_PER_COMMIT} 문장마다 한다. (언두 로그가 한없이 커지지 않게)
+ */
+final class MultiRowInsert implements AutoCloseable {
+
+    private static final int STATEMENTS_PER_COMMIT = 10;
+
+    private final Connection connection;
+    private final String insertPrefix;
+    private final String rowPlaceholder;
+    private final int columnCount;
+    private final int rowsPerStatement;
+    private final Object[] values;
+
+    private PreparedStatement fullStatement;
+    private int bufferedRows;
+    private int uncommittedStatements;
+    private long insertedRows;
+
+    MultiRowInsert(Connection connection, String table, String[] columns, int rowsPerStatement) {
+        this.connection = connection;
+        this.insertPrefix = "insert into " + table + " (" + String.join(", ", columns) + ") values ";
+        this.rowPlaceholder = "(" + "?, ".repeat(columns.length - 1) + "?)";
+        this.columnCount = columns.length;
+        this.rowsPerStatement = rowsPerStatement;
+        this.values = new Object[columns.length * rowsPerStatement];
+    }
+
+    void add(Object... row) throws SQLException {
+        System.arraycopy(row, 0, values, bufferedRows * columnCount, columnCount);
+        if (++bufferedRows == rowsPerStatement) {
+            flush();
+        }
+    }
+
+    /**
+     * 모아 둔 행을 지금 보낸다. 다른 테이블 행이 이 행들을 참조하기 전에 부른다. (외래 키)
+     */
+    void flush() throws SQLException {
+        if (bufferedRows == 0) {
+            return;
+        }
+
+        if (bufferedRows == rowsPerStatement) {
+            if (fullStatement == null) {
+                fullStatement = connection.prepareStatement(sql(rowsPerStatement));
+            }
+            execute(fullStatement);
+        } else {
+            try (PreparedStatement statement = connection.prepareStatement(sql(bufferedRows))) {
+                execute(statement);
+            }
+        }
+
+        insertedRows += bufferedRows;
+        bufferedRows = 0;
+        if (++uncommittedStatements == STATEMENTS_PER_COMMIT) {
+            connection.commit();
+            uncommittedStatements = 0;
+        }
+    }
+
+    long insertedRows() {
+        return insertedRows + bufferedRows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+        } finally {
+            if (fullStatement != null) {
+                fullStatement.close();
+            }
+        }
+    }
+
+    private void execute(PreparedStatement statement) throws SQLException {
+        int parameterCount = bufferedRows * columnCount;
+        for (int i = 0; i < parameterCount; i++) {
+            statement.setObject(i + 1, values[i]);
+        }
+        statement.executeUpdate();
+    }
+
+    private String sql(int rows) {
+        StringJoiner placeholders = new StringJoiner(", ", insertPrefix, "");
+        for (int i = 0; i < rows; i++) {
+            placeholders.add(rowPlaceholder);
+        }
+        return placeholders.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.selfprojectboard.service.dataset;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 0 ~ size-1 순위를 Zipf 분포로 뽑는다. 앞 순위일수록 자주 나온다. (일부 사용자가 글을 많이 쓰고, 일부 태그가 많이 쓰이는 모양)
+ * <p>
+ * 누적 확률을 미리 만들어 두고 이분 탐색하므로 한 번 뽑는 데 O(log size) 다.
+ */
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(int size, double exponent) {
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1); // 부동소수 오차로 마지막 값이 1 보다 작을 때
+    }
+}
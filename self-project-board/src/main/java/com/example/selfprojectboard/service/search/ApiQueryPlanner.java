@@ -0,0 +1,251 @@
+package com.example.selfprojectboard.service.search;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.ArticleComment;
+import com.example.selfprojectboard.domain.QArticle;
+import com.example.selfprojectboard.domain.QArticleComment;
+import com.example.selfprojectboard.domain.constant.SearchType;
+import com.example.selfprojectboard.service.ArticleStatistics;
+import com.example.selfprojectboard.service.HashtagRegistry;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * /api (Spring Data REST) 의 Querydsl 검색 조건을 실행 전에 고치고, 읽게 될 행 수를 어림해서 실행 여부를 정한다.
+ * <p>
+ * 리포지토리의 QuerydslBindings 는 문자열을 {@code lower(col) like '%v%'} 로 묶으므로 그대로 두면 테이블 전체를 읽는다.
+ * AND 로 묶인 조건마다 다음 순서로 바꾼다.
+ * <ul>
+ *     <li>값이 {@code *} 로 끝나면 대소문자를 무시하는 접두어 검색 {@code lower(col) like 'v%'} 로 바꾼다. (원래 조건처럼 대소문자를 무시하고, 앞부분이 고정이라 걸리는 행이 적다)</li>
+ *     <li>게시글 제목/본문은 {@link ArticleSearchIndex} 에서 ID 를 찾아 {@code id in (...) and 원래 조건} 으로 바꾼다. (인덱스가 조금 넓게 걸리므로 원래 조건으로 한 번 더 거른다)</li>
+ *     <li>해시태그는 {@link HashtagRegistry} 의 게시글 수를, 인덱스가 있는 컬럼의 equal 은 고정 선택도를 예상 행 수로 쓴다.</li>
+ *     <li>나머지는 테이블 전체(게시글/댓글 수)를 읽는 것으로 본다.</li>
+ * </ul>
+ * 가장 적게 읽는 조건이 실행 계획을 이끈다고 보고 조건들 중 가장 작은 값을 예상 행 수로 쓴다.
+ * 예상 행 수가 상한을 넘으면 실행하지 않고, 기준을 넘으면 동시에 실행할 수 있는 수를 세마포어로 제한한다.
+ * 예상 행 수와 접근 방식은 응답 헤더 {@value #COST_HEADER}, {@value #PLAN_HEADER} 로 알려준다.
+ */
+@Slf4j
+@Component
+public class ApiQueryPlanner {
+
+    public static final String COST_HEADER = "X-Query-Cost";
+    public static final String PLAN_HEADER = "X-Query-Plan";
+
+    static final double EQUALITY_SELECTIVITY = 0.01;
+    static final double PREFIX_SELECTIVITY = 0.1;
+    private static final String PREFIX_WILDCARD = "*";
+
+    private static final QArticle ARTICLE = QArticle.article;
+    private static final QArticleComment ARTICLE_COMMENT = QArticleComment.articleComment;
+    private static final Path<String> HASHTAG_NAME = ARTICLE.hashtags.any().hashtagName;
+    private static final Set<Path<?>> INDEXED_COLUMNS = Set.of(
+            ARTICLE.title, ARTICLE.hashtag, ARTICLE.createdAt, ARTICLE.createdBy,
+            ARTICLE_COMMENT.content, ARTICLE_COMMENT.createdAt, ARTICLE_COMMENT.createdBy
+    );
+    private static final Map<Path<?>, SearchType> SEARCH_INDEXED_COLUMNS = Map.of(
+            ARTICLE.title, SearchType.TITLE,
+            ARTICLE.content, SearchType.CONTENT
+    );
+
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleStatistics articleStatistics;
+    private final HashtagRegistry hashtagRegistry;
+    private final long maxEstimatedRows;
+    private final long throttleEstimatedRows;
+    private final int maxIndexCandidates;
+    private final long scanWaitTimeoutNanos;
+    private final Semaphore scanPermits;
+
+    public ApiQueryPlanner(
+            ArticleSearchIndex articleSearchIndex,
+            ArticleStatistics articleStatistics,
+            HashtagRegistry hashtagRegistry,
+            @Value("${board.api.query.max-estimated-rows:100000}") long maxEstimatedRows,
+            @Value("${board.api.query.throttle-estimated-rows:10000}") long throttleEstimatedRows,
+            @Value("${board.api.query.max-concurrent-scans:2}") int maxConcurrentScans,
+            @Value("${board.api.query.scan-wait-timeout:PT2S}") Duration scanWaitTimeout,
+            @Value("${board.api.query.max-index-candidates:1000}") int maxIndexCandidates
+    ) {
+        this.articleSearchIndex = articleSearchIndex;
+        this.articleStatistics = articleStatistics;
+        this.hashtagRegistry = hashtagRegistry;
+        this.maxEstimatedRows = maxEstimatedRows;
+        this.throttleEstimatedRows = throttleEstimatedRows;
+        this.maxIndexCandidates = maxIndexCandidates;
+        this.scanWaitTimeoutNanos = scanWaitTimeout.toNanos();
+        this.scanPermits = new Semaphore(maxConcurrentScans, true);
+    }
+
+    public static boolean supports(Class<?> domainType) {
+        return domainType == Article.class || domainType == ArticleComment.class;
+    }
+
+    /**
+     * @param pageable 페이지 요청 (정렬만 있거나 페이징 없는 조회면 null)
+     */
+    public QueryPlan plan(Class<?> domainType, Predicate predicate, Pageable pageable) {
+        Predicate where = predicate instanceof BooleanBuilder builder ? builder.getValue() : predicate;
+        if (where == null && pageable != null && pageable.isPaged()) {
+            return QueryPlan.of(predicate, pageable.getPageSize(), "all"); // 조건 없는 목록은 PK 순서로 한 페이지만 읽는다.
+        }
+
+        long tableRows = domainType == Article.class ? articleStatistics.getArticleCount() : articleStatistics.getCommentCount();
+        if (where == null) {
+            return QueryPlan.of(predicate, tableRows, "all");
+        }
+
+        List<Step> steps = new ArrayList<>();
+        for (Predicate conjunct : conjuncts(where, new ArrayList<>())) {
+            steps.add(planConjunct(conjunct, tableRows));
+        }
+        String description = steps.stream().map(Step::description).collect(Collectors.joining(", "));
+        if (steps.stream().anyMatch(step -> step.predicate() == null)) {
+            return QueryPlan.noMatch(description);
+        }
+
+        return QueryPlan.of(
+                ExpressionUtils.allOf(steps.stream().map(Step::predicate).toList()),
+                steps.stream().mapToLong(Step::estimatedRows).min().orElse(tableRows),
+                description
+        );
+    }
+
+    /**
+     * 예상 비용을 응답 헤더에 싣고, 실행해도 되는지 정한다. 돌려받은 허가는 조회가 끝나면 닫아야 한다.
+     *
+     * @throws QueryCostExceededException 상한을 넘거나(400), 큰 검색 자리를 기다리다 시간이 초과된 경우(429)
+     */
+    public Admission admit(QueryPlan plan) {
+        exposeHeaders(plan);
+        if (plan.estimatedRows() > maxEstimatedRows) {
+            log.info("/api 검색 거절 - estimatedRows: {}, plan: {}", plan.estimatedRows(), plan.description());
+            throw QueryCostExceededException.rejected(plan, maxEstimatedRows);
+        }
+        if (plan.estimatedRows() <= throttleEstimatedRows) {
+            return () -> {};
+        }
+
+        try {
+            if (!scanPermits.tryAcquire(scanWaitTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                log.info("/api 검색 대기 시간 초과 - estimatedRows: {}, plan: {}", plan.estimatedRows(), plan.description());
+                throw QueryCostExceededException.throttled(plan);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw QueryCostExceededException.throttled(plan);
+        }
+        return scanPermits::release;
+    }
+
+    private List<Predicate> conjuncts(Predicate predicate, List<Predicate> conjuncts) {
+        if (predicate instanceof Operation<?> operation && operation.getOperator() == Ops.AND) {
+            operation.getArgs().forEach(arg -> conjuncts((Predicate) arg, conjuncts));
+        } else {
+            conjuncts.add(predicate);
+        }
+        return conjuncts;
+    }
+
+    private Step planConjunct(Predicate conjunct, long tableRows) {
+        if (conjunct instanceof Operation<?> operation
+                && operation.getArgs().size() == 2
+                && operation.getArg(0) instanceof Path<?> path
+                && operation.getArg(1) instanceof Constant<?> constant) {
+            if (operation.getOperator() == Ops.STRING_CONTAINS_IC && constant.getConstant() instanceof String keyword) {
+                return planContains(conjunct, path, keyword, tableRows);
+            }
+            if (operation.getOperator() == Ops.EQ) {
+                return planEquals(conjunct, path, constant.getConstant(), tableRows);
+            }
+        }
+        return new Step(conjunct, tableRows, "scan");
+    }
+
+    private Step planContains(Predicate conjunct, Path<?> path, String keyword, long tableRows) {
+        String property = path.getMetadata().getName();
+        if (keyword.length() > PREFIX_WILDCARD.length() && keyword.endsWith(PREFIX_WILDCARD)) {
+            String prefix = keyword.substring(0, keyword.length() - PREFIX_WILDCARD.length());
+            Predicate startsWith = Expressions.booleanOperation(Ops.STARTS_WITH_IC, path, Expressions.constant(prefix));
+            return INDEXED_COLUMNS.contains(path)
+                    ? new Step(startsWith, estimate(tableRows, PREFIX_SELECTIVITY), property + ":prefix")
+                    : new Step(startsWith, tableRows, property + ":scan");
+        }
+
+        SearchType searchType = SEARCH_INDEXED_COLUMNS.get(path);
+        if (searchType != null) {
+            Optional<List<Long>> articleIds = articleSearchIndex.findIds(searchType, keyword, maxIndexCandidates);
+            if (articleIds.isPresent()) {
+                return articleIds.get().isEmpty()
+                        ? new Step(null, 0L, property + ":index")
+                        : new Step(ARTICLE.id.in(articleIds.get()).and(conjunct), articleIds.get().size(), property + ":index");
+            }
+        }
+        return new Step(conjunct, tableRows, property + ":scan");
+    }
+
+    private Step planEquals(Predicate conjunct, Path<?> path, Object value, long tableRows) {
+        String property = path.getMetadata().getName();
+        if (HASHTAG_NAME.equals(path)) {
+            return new Step(conjunct, hashtagRegistry.getArticleCount(Objects.toString(value)), "hashtag:lookup");
+        }
+        return INDEXED_COLUMNS.contains(path)
+                ? new Step(conjunct, estimate(tableRows, EQUALITY_SELECTIVITY), property + ":index")
+                : new Step(conjunct, tableRows, property + ":scan");
+    }
+
+    private static long estimate(long tableRows, double selectivity) {
+        return Math.min(tableRows, Math.max(1L, (long) Math.ceil(tableRows * selectivity)));
+    }
+
+    /**
+     * 웹 요청 안에서 불렸을 때만 헤더를 싣는다. (거절할 때도 실리도록 실행 여부를 정하기 전에 싣는다)
+     */
+    private static void exposeHeaders(QueryPlan plan) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletResponse response = attributes.getResponse();
+            if (response != null && !response.isCommitted()) {
+                response.setHeader(COST_HEADER, String.valueOf(plan.estimatedRows()));
+                response.setHeader(PLAN_HEADER, plan.description());
+            }
+        }
+    }
+
+    /**
+     * 큰 검색이 쥐고 있는 자리. 쥐고 있지 않으면 닫아도 아무 일도 없다.
+     */
+    @FunctionalInterface
+    public interface Admission extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * @param predicate 결과가 없음을 알면 null
+     */
+    private record Step(Predicate predicate, long estimatedRows, String description) {}
+}
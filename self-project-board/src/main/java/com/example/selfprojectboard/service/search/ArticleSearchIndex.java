@@ -0,0 +1,341 @@
+package com.example.selfprojectboard.service.search;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.constant.SearchType;
+import com.example.selfprojectboard.dto.event.ArticleEvent;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import com.example.selfprojectboard.service.search.HangulNgramTokenizer.QueryTerm;
+import com.example.selfprojectboard.service.search.PostingList.Posting;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제목/본문 검색용 인메모리 역색인 (term -> (createdAt, 게시글 ID) 순으로 정렬된 {@link PostingList}).
+ * <p>
+ * term 은 {@link HangulNgramTokenizer} 의 bigram/초성 term 이며, 검색어의 모든 term 을 가진 게시글만 돌려준다.
+ * bigram 교집합이므로 LIKE 보다 약간 넓게 걸릴 수 있다. DB 는 최종 페이지의 게시글 ID 조회에만 사용한다.
+ * <p>
+ * 기동 시 전체를 색인하고 이후에는 게시글 이벤트로 반영한다. 놓친 변경은 {@link #reconcile()} 이 주기적으로 DB 기준으로 맞춘다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndex {
+
+    private static final int BUILD_BATCH_SIZE = 500;
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+    private static final PostingList EMPTY_POSTINGS = new PostingList();
+    private static final Duration MODIFIED_AT_MARGIN = Duration.ofMinutes(1); // 인스턴스 간 시계 차이, 보정 중 커밋된 변경
+
+    private final ArticleRepository articleRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, PostingList> titlePostings = new TreeMap<>();
+    private final NavigableMap<String, PostingList> contentPostings = new TreeMap<>();
+    private final Map<Long, IndexedArticle> indexedArticles = new HashMap<>();
+    private volatile boolean ready = false;
+    private LocalDateTime reconciledAt; // 쓰기는 synchronized 안에서만
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        long startedAt = System.currentTimeMillis();
+        reconciledAt = LocalDateTime.now();
+        Pageable batch = PageRequest.of(0, BUILD_BATCH_SIZE, Sort.by("id"));
+        long lastArticleId = 0L;
+        Slice<Article> articles;
+        do {
+            // offset 페이징은 뒤로 갈수록 느려지므로 마지막 ID 다음부터 읽는다.
+            articles = articleRepository.findByIdGreaterThan(lastArticleId, batch);
+            for (Article article : articles) {
+                put(article.getId(), article.getCreatedAt(), article.getTitle(), article.getContent());
+                lastArticleId = article.getId();
+            }
+        } while (articles.hasNext());
+
+        ready = true;
+        log.info("게시글 검색 인덱스 생성 완료 - articles: {}, elapsed: {}ms", size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 이벤트를 놓친 변경(커밋 후 리스너 실패, 다른 인스턴스의 변경)을 DB 기준으로 맞춘다.
+     * 지난 보정 이후 modifiedAt 이 바뀐 게시글만 다시 색인하고, 그래도 건수가 DB 와 다르면 지워진 게시글을 찾아 뺀다.
+     */
+    @Scheduled(
+            initialDelayString = "${board.search.reconcile-interval:PT5M}",
+            fixedDelayString = "${board.search.reconcile-interval:PT5M}"
+    )
+    public synchronized void reconcile() {
+        if (!ready) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        int reindexed = reindexModifiedSince(reconciledAt.minus(MODIFIED_AT_MARGIN));
+        int removed = size() == articleRepository.count() ? 0 : removeDeleted();
+        reconciledAt = startedAt;
+
+        if (reindexed > 0 || removed > 0) {
+            log.info("게시글 검색 인덱스 보정 - reindexed: {}, removed: {}, articles: {}", reindexed, removed, size());
+        }
+    }
+
+    private int reindexModifiedSince(LocalDateTime modifiedAt) {
+        List<Long> modifiedIds = articleRepository.findIdsModifiedSince(modifiedAt);
+        for (int from = 0; from < modifiedIds.size(); from += BUILD_BATCH_SIZE) {
+            List<Long> batch = modifiedIds.subList(from, Math.min(from + BUILD_BATCH_SIZE, modifiedIds.size()));
+            for (Article article : articleRepository.findAllById(batch)) {
+                put(article.getId(), article.getCreatedAt(), article.getTitle(), article.getContent());
+            }
+        }
+        return modifiedIds.size();
+    }
+
+    /**
+     * DB 를 읽기 전에 색인된 ID 를 떠 두고, DB 에 남아 있는 ID 를 지운 나머지만 인덱스에서 뺀다.
+     * (읽는 동안 새로 색인된 게시글은 비교 대상이 아니다)
+     */
+    private int removeDeleted() {
+        Set<Long> missingIds;
+        lock.readLock().lock();
+        try {
+            missingIds = new HashSet<>(indexedArticles.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long lastArticleId = 0L;
+        List<Long> articleIds;
+        do {
+            articleIds = articleRepository.findIdsGreaterThan(lastArticleId, BUILD_BATCH_SIZE);
+            articleIds.forEach(missingIds::remove);
+            if (!articleIds.isEmpty()) {
+                lastArticleId = articleIds.get(articleIds.size() - 1);
+            }
+        } while (articleIds.size() == BUILD_BATCH_SIZE);
+
+        missingIds.forEach(this::remove);
+        return missingIds.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleEvent(ArticleEvent event) {
+        switch (event.eventType()) {
+            case CREATED, UPDATED -> put(event.articleId(), event.createdAt(), event.title(), event.content());
+            case DELETED -> remove(event.articleId());
+        }
+    }
+
+    public boolean supports(SearchType searchType, Pageable pageable) {
+        if (!ready || pageable.isUnpaged() || (searchType != SearchType.TITLE && searchType != SearchType.CONTENT)) {
+            return false;
+        }
+        // posting list 가 createdAt 순서로만 유지되므로, 다른 정렬은 DB 에 맡긴다.
+        return pageable.getSort().isUnsorted() || pageable.getSort().equals(DEFAULT_SORT);
+    }
+
+    /**
+     * 검색 결과의 해당 페이지 게시글 ID 와 전체 건수를 반환한다.
+     * 인덱스로 처리할 수 없는 요청이면 {@link Optional#empty()} 를 반환한다.
+     */
+    public Optional<Page<Long>> search(SearchType searchType, String keyword, Pageable pageable) {
+        if (!supports(searchType, pageable)) {
+            return Optional.empty();
+        }
+
+        List<QueryTerm> queryTerms = HangulNgramTokenizer.queryTerms(keyword);
+        if (queryTerms.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> termMatches = termMatches(postingsOf(searchType), queryTerms);
+
+            // 가장 짧은 posting list 를 기준으로 나머지 list 에 모두 포함된 posting 만 남긴다. (최신순으로 순회)
+            PostingList candidates = termMatches.get(0);
+            List<PostingList> others = termMatches.subList(1, termMatches.size());
+            List<Long> articleIds = new ArrayList<>(pageable.getPageSize());
+            long offset = pageable.getOffset();
+            long total = 0;
+            for (int i = candidates.size() - 1; i >= 0; i--) {
+                Posting posting = candidates.get(i);
+                if (!containsAll(others, posting)) {
+                    continue;
+                }
+                if (total >= offset && articleIds.size() < pageable.getPageSize()) {
+                    articleIds.add(posting.articleId());
+                }
+                total++;
+            }
+
+            return Optional.of(new PageImpl<>(articleIds, pageable, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 term 을 가진 게시글 ID 전체를 최신순으로 반환한다. (API 검색 조건을 ID 조건으로 바꿀 때 사용)
+     * 인덱스가 준비되지 않았거나, 인덱스로 처리할 수 없는 검색어이거나, {@code limit} 건을 넘게 걸리면 {@link Optional#empty()} 를 반환한다.
+     */
+    public Optional<List<Long>> findIds(SearchType searchType, String keyword, int limit) {
+        if (!ready || (searchType != SearchType.TITLE && searchType != SearchType.CONTENT)) {
+            return Optional.empty();
+        }
+
+        List<QueryTerm> queryTerms = HangulNgramTokenizer.queryTerms(keyword);
+        if (queryTerms.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> termMatches = termMatches(postingsOf(searchType), queryTerms);
+            PostingList candidates = termMatches.get(0);
+            List<PostingList> others = termMatches.subList(1, termMatches.size());
+            List<Long> articleIds = new ArrayList<>();
+            for (int i = candidates.size() - 1; i >= 0; i--) {
+                Posting posting = candidates.get(i);
+                if (!containsAll(others, posting)) {
+                    continue;
+                }
+                if (articleIds.size() == limit) {
+                    return Optional.empty();
+                }
+                articleIds.add(posting.articleId());
+            }
+
+            return Optional.of(articleIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return indexedArticles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(Long articleId, LocalDateTime createdAt, String title, String content) {
+        if (articleId == null) {
+            return;
+        }
+
+        Posting posting = new Posting(createdAt, articleId);
+        Set<String> titleTerms = HangulNgramTokenizer.indexTerms(title);
+        Set<String> contentTerms = HangulNgramTokenizer.indexTerms(content);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(articleId);
+            indexedArticles.put(articleId, new IndexedArticle(
+                    posting,
+                    addPostings(titlePostings, titleTerms, posting),
+                    addPostings(contentPostings, contentTerms, posting)
+            ));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long articleId) {
+        IndexedArticle previous = indexedArticles.remove(articleId);
+        if (previous == null) {
+            return;
+        }
+
+        removePostings(titlePostings, previous.titleTerms(), previous.posting());
+        removePostings(contentPostings, previous.contentTerms(), previous.posting());
+    }
+
+    /**
+     * posting 을 추가하고, 삭제할 때 쓰도록 게시글의 term 목록을 반환한다.
+     * term 문자열은 색인 key 인스턴스를 그대로 재사용해 게시글마다 문자열이 중복으로 남지 않게 한다.
+     */
+    private String[] addPostings(NavigableMap<String, PostingList> terms, Set<String> articleTerms, Posting posting) {
+        String[] canonicalTerms = new String[articleTerms.size()];
+        int i = 0;
+        for (String term : articleTerms) {
+            terms.computeIfAbsent(term, key -> new PostingList()).add(posting);
+            canonicalTerms[i++] = terms.floorKey(term);
+        }
+        return canonicalTerms;
+    }
+
+    private void removePostings(NavigableMap<String, PostingList> terms, String[] articleTerms, Posting posting) {
+        for (String term : articleTerms) {
+            PostingList postingList = terms.get(term);
+            if (postingList != null && postingList.remove(posting) && postingList.isEmpty()) {
+                terms.remove(term);
+            }
+        }
+    }
+
+    private NavigableMap<String, PostingList> postingsOf(SearchType searchType) {
+        return switch (searchType) {
+            case TITLE -> titlePostings;
+            case CONTENT -> contentPostings;
+            default -> throw new IllegalArgumentException("인덱스가 없는 검색 유형입니다 - searchType: " + searchType);
+        };
+    }
+
+    /**
+     * 검색어 term 별 posting list. 교집합을 짧은 list 부터 구하도록 길이 순으로 정렬한다.
+     */
+    private List<PostingList> termMatches(NavigableMap<String, PostingList> terms, List<QueryTerm> queryTerms) {
+        return queryTerms.stream()
+                .map(queryTerm -> find(terms, queryTerm))
+                .sorted(Comparator.comparingInt(PostingList::size))
+                .toList();
+    }
+
+    private boolean containsAll(List<PostingList> postingLists, Posting posting) {
+        for (PostingList postingList : postingLists) {
+            if (!postingList.contains(posting)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private PostingList find(NavigableMap<String, PostingList> terms, QueryTerm queryTerm) {
+        String term = queryTerm.term();
+        if (!queryTerm.prefix()) {
+            return terms.getOrDefault(term, EMPTY_POSTINGS);
+        }
+
+        return PostingList.union(terms.subMap(term, true, term + Character.MAX_VALUE, true).values());
+    }
+
+    private record IndexedArticle(Posting posting, String[] titleTerms, String[] contentTerms) {}
+}
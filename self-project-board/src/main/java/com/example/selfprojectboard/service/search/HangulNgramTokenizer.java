@@ -0,0 +1,97 @@
+package com.example.selfprojectboard.service.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 복합어 검색을 위한 bigram + 초성 토크나이저.
+ * <p>
+ * 색인: 단어마다 글자 bigram 과 마지막 글자 unigram 을 만들고, 한글 음절이 있는 단어는 초성 문자열에 대해서도 같은 term 을 만든다.
+ * 검색: 두 글자 이상이면 bigram 을 그대로 찾고, 한 글자면 그 글자로 시작하는 term 을 모두 찾는다.
+ * "ㄱㅅ" 처럼 초성만 입력해도 초성 term 과 일치하므로 같은 방식으로 조회된다.
+ */
+public final class HangulNgramTokenizer {
+
+    private static final char HANGUL_SYLLABLE_BEGIN = '가';
+    private static final char HANGUL_SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulNgramTokenizer() {}
+
+    public static Set<String> indexTerms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            addNgrams(word, terms);
+
+            String choseong = toChoseong(word);
+            if (choseong != null) {
+                addNgrams(choseong, terms);
+            }
+        }
+        return terms;
+    }
+
+    public static List<QueryTerm> queryTerms(String keyword) {
+        List<QueryTerm> queryTerms = new ArrayList<>();
+        for (String word : words(keyword)) {
+            if (word.length() == 1) {
+                queryTerms.add(new QueryTerm(word, true));
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                queryTerms.add(new QueryTerm(word.substring(i, i + 2), false));
+            }
+        }
+        return queryTerms.stream().distinct().toList();
+    }
+
+    /**
+     * 단어에 한글 음절이 있으면 음절을 초성으로 바꾼 문자열을, 없으면 {@code null} 을 반환한다.
+     */
+    static String toChoseong(String word) {
+        StringBuilder choseong = new StringBuilder(word.length());
+        boolean hasSyllable = false;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c >= HANGUL_SYLLABLE_BEGIN && c <= HANGUL_SYLLABLE_END) {
+                choseong.append(CHOSEONG[(c - HANGUL_SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+                hasSyllable = true;
+            } else {
+                choseong.append(c);
+            }
+        }
+        return hasSyllable ? choseong.toString() : null;
+    }
+
+    private static void addNgrams(String word, Set<String> terms) {
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            terms.add(word.substring(i, i + 2));
+        }
+        // 한 글자 검색어가 단어 마지막 글자에도 걸리도록 unigram 을 남긴다.
+        terms.add(word.substring(word.length() - 1));
+    }
+
+    private static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    public record QueryTerm(String term, boolean prefix) {}
+}
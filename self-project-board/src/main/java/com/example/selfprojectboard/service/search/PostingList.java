@@ -0,0 +1,110 @@
+package com.example.selfprojectboard.service.search;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * term 하나의 posting list. (createdAt, id) 오름차순 배열로 유지한다.
+ * <p>
+ * 새 글은 대부분 가장 최신이라 배열 끝에 붙으므로 추가는 거의 O(1) 이고,
+ * 엔트리당 참조 하나만 쓰기 때문에 트리 기반 Set 보다 메모리를 훨씬 적게 쓴다.
+ * 동기화는 하지 않으므로 {@link ArticleSearchIndex} 의 lock 안에서만 사용한다.
+ */
+final class PostingList {
+
+    private static final Posting[] EMPTY = new Posting[0];
+
+    private Posting[] postings;
+    private int size;
+
+    PostingList() {
+        this(EMPTY, 0);
+    }
+
+    private PostingList(Posting[] postings, int size) {
+        this.postings = postings;
+        this.size = size;
+    }
+
+    /**
+     * 여러 posting list 의 합집합을 만든다. 접두어 검색처럼 여러 term 에 걸친 결과에 사용한다.
+     */
+    static PostingList union(Collection<PostingList> postingLists) {
+        int total = 0;
+        for (PostingList postingList : postingLists) {
+            total += postingList.size;
+        }
+
+        Posting[] merged = new Posting[total];
+        int offset = 0;
+        for (PostingList postingList : postingLists) {
+            System.arraycopy(postingList.postings, 0, merged, offset, postingList.size);
+            offset += postingList.size;
+        }
+        Arrays.sort(merged, Posting.ORDER);
+
+        int distinct = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (distinct == 0 || Posting.ORDER.compare(merged[distinct - 1], merged[i]) != 0) {
+                merged[distinct++] = merged[i];
+            }
+        }
+        return new PostingList(merged, distinct);
+    }
+
+    boolean add(Posting posting) {
+        int index;
+        if (size == 0 || Posting.ORDER.compare(postings[size - 1], posting) < 0) {
+            index = size;
+        } else {
+            int found = Arrays.binarySearch(postings, 0, size, posting, Posting.ORDER);
+            if (found >= 0) {
+                return false;
+            }
+            index = -found - 1;
+        }
+
+        if (size == postings.length) {
+            postings = Arrays.copyOf(postings, size + (size >> 1) + 1);
+        }
+        System.arraycopy(postings, index, postings, index + 1, size - index);
+        postings[index] = posting;
+        size++;
+        return true;
+    }
+
+    boolean remove(Posting posting) {
+        int index = Arrays.binarySearch(postings, 0, size, posting, Posting.ORDER);
+        if (index < 0) {
+            return false;
+        }
+
+        System.arraycopy(postings, index + 1, postings, index, size - index - 1);
+        postings[--size] = null;
+        return true;
+    }
+
+    boolean contains(Posting posting) {
+        return Arrays.binarySearch(postings, 0, size, posting, Posting.ORDER) >= 0;
+    }
+
+    Posting get(int index) {
+        return postings[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    record Posting(LocalDateTime createdAt, Long articleId) {
+        static final Comparator<Posting> ORDER = Comparator
+                .comparing(Posting::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+                .thenComparing(Posting::articleId);
+    }
+}
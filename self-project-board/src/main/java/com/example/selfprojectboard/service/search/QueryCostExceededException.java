@@ -0,0 +1,41 @@
+package com.example.selfprojectboard.service.search;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 예상 비용 때문에 /api 검색을 실행하지 않았을 때 던진다.
+ * <ul>
+ *     <li>400: 예상 행 수가 상한을 넘는다. 접두어 검색(값 끝에 {@code *})이나 인덱스가 있는 조건으로 좁혀야 한다.</li>
+ *     <li>429: 큰 검색이 이미 동시에 실행 중이라 자리를 기다리다 시간이 초과되었다.</li>
+ * </ul>
+ */
+public class QueryCostExceededException extends ResponseStatusException {
+
+    private final transient QueryPlan plan;
+
+    private QueryCostExceededException(HttpStatus status, String reason, QueryPlan plan) {
+        super(status, reason);
+        this.plan = plan;
+    }
+
+    public static QueryCostExceededException rejected(QueryPlan plan, long maxEstimatedRows) {
+        return new QueryCostExceededException(
+                HttpStatus.BAD_REQUEST,
+                "검색 조건이 너무 넓습니다. (예상 " + plan.estimatedRows() + "행, 최대 " + maxEstimatedRows + "행 - " + plan.description() + ")",
+                plan
+        );
+    }
+
+    public static QueryCostExceededException throttled(QueryPlan plan) {
+        return new QueryCostExceededException(
+                HttpStatus.TOO_MANY_REQUESTS,
+                "넓은 검색이 이미 실행 중입니다. 잠시 후 다시 시도해 주세요. (예상 " + plan.estimatedRows() + "행)",
+                plan
+        );
+    }
+
+    public QueryPlan getPlan() {
+        return plan;
+    }
+}
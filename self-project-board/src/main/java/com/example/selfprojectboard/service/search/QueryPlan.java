@@ -0,0 +1,22 @@
+package com.example.selfprojectboard.service.search;
+
+import com.querydsl.core.types.Predicate;
+
+/**
+ * /api 검색 조건을 실행하기 전에 고친 조건과, 읽게 될 것으로 예상하는 행 수.
+ *
+ * @param predicate     실제로 실행할 조건 (조건이 없으면 null)
+ * @param estimatedRows 조건을 걸어 읽게 될 것으로 예상하는 행 수
+ * @param description   조건별 접근 방식 (예: {@code title:index, createdBy:prefix})
+ * @param noMatch       실행하지 않아도 결과가 없음을 아는 경우
+ */
+public record QueryPlan(Predicate predicate, long estimatedRows, String description, boolean noMatch) {
+
+    public static QueryPlan of(Predicate predicate, long estimatedRows, String description) {
+        return new QueryPlan(predicate, estimatedRows, description, false);
+    }
+
+    public static QueryPlan noMatch(String description) {
+        return new QueryPlan(null, 0L, description, true);
+    }
+}
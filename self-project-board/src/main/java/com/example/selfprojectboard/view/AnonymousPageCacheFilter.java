@@ -0,0 +1,99 @@
+package com.example.selfprojectboard.view;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * 로그인하지 않은 사용자의 목록 화면은 누가 보든 같으므로, 렌더링한 HTML 을 통째로 캐시해 두고 템플릿 엔진 없이 돌려준다.
+ * <p>
+ * 세션이 있는 요청은 캐시하지 않는다. (세션이 있으면 링크에 jsessionid 가 붙을 수 있고, 세션에 담긴 값을 그릴 수도 있다)
+ * 캐시 여부는 응답 헤더 {@value #CACHE_HEADER} (HIT/MISS) 로 알 수 있다.
+ * 컨트롤러가 정한 ETag, Last-Modified, Cache-Control 도 함께 보관해서, 캐시에서 줄 때도 If-None-Match 가 같으면 304 로 답한다.
+ * Spring Security 필터 뒤에서 돌아야 로그인 여부를 알 수 있다.
+ */
+public class AnonymousPageCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_HEADER = "X-Page-Cache";
+
+    private final RenderedViewCache renderedViewCache;
+
+    public AnonymousPageCacheFilter(RenderedViewCache renderedViewCache) {
+        this.renderedViewCache = renderedViewCache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || request.getSession(false) != null
+                || !RenderedViewCache.ANONYMOUS.equals(RenderedViewCache.currentPrincipal());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String key = pageKey(request);
+        Optional<RenderedViewCache.CachedPage> cached = renderedViewCache.getPage(key);
+        if (cached.isPresent()) {
+            writeCachedPage(request, response, cached.get());
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        responseWrapper.setHeader(CACHE_HEADER, "MISS");
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            if (isCacheable(request, responseWrapper)) {
+                renderedViewCache.putPage(key, RenderedViewCache.CachedPage.of(
+                        responseWrapper.getContentAsByteArray(),
+                        responseWrapper.getHeader(HttpHeaders.ETAG),
+                        responseWrapper.getHeader(HttpHeaders.LAST_MODIFIED),
+                        responseWrapper.getHeader(HttpHeaders.CACHE_CONTROL)
+                ));
+            }
+        } finally {
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private static void writeCachedPage(HttpServletRequest request, HttpServletResponse response, RenderedViewCache.CachedPage page) throws IOException {
+        response.setHeader(CACHE_HEADER, "HIT");
+        if (page.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, page.cacheControl());
+        }
+        if (page.lastModified() != null) {
+            response.setHeader(HttpHeaders.LAST_MODIFIED, page.lastModified());
+        }
+        if (page.eTag() != null && new ServletWebRequest(request, response).checkNotModified(page.eTag())) {
+            return;
+        }
+
+        byte[] html = page.html();
+        response.setContentType(MediaType.TEXT_HTML_VALUE + ";charset=UTF-8");
+        response.setContentLength(html.length);
+        response.getOutputStream().write(html);
+    }
+
+    private static boolean isCacheable(HttpServletRequest request, ContentCachingResponseWrapper response) {
+        return response.getStatus() == HttpStatus.OK.value()
+                && response.getContentType() != null
+                && response.getContentType().startsWith(MediaType.TEXT_HTML_VALUE)
+                && request.getSession(false) == null;
+    }
+
+    private static String pageKey(HttpServletRequest request) {
+        return request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+    }
+}
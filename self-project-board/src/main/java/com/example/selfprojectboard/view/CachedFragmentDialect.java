@@ -0,0 +1,40 @@
+package com.example.selfprojectboard.view;
+
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.dialect.AbstractProcessorDialect;
+import org.thymeleaf.processor.IProcessor;
+import org.thymeleaf.standard.StandardDialect;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * {@code board:fragment="키 표현식"} - 요소를 렌더링한 HTML 을 키로 캐시해 두고, 다음부터는 템플릿 엔진을 거치지 않고 그대로 쓴다.
+ * <p>
+ * 캐시 키에는 요소 출력이 기대는 모델 값을 모두 넣어야 한다. (로그인 사용자는 {@link RenderedViewCache} 가 붙인다)
+ * 키 표현식 결과가 null 이면 캐시하지 않는다. CSRF 토큰처럼 요청마다 다른 값을 그리는 요소에는 쓰지 않는다.
+ * <pre>
+ * &lt;attr sel="#header" board:fragment="'header'" th:replace="header :: header" /&gt;
+ * </pre>
+ * 템플릿 엔진은 이 방언을 등록해서 만들어지므로, 엔진은 처음 캐시를 채울 때 꺼내 쓴다.
+ * 표준 방언보다 먼저 처리하므로 같은 요소의 th:replace, th:if 등도 캐시한 HTML 에 포함된다.
+ */
+public class CachedFragmentDialect extends AbstractProcessorDialect {
+
+    public static final String NAME = "Board Cached Fragment";
+    public static final String PREFIX = "board";
+
+    private final RenderedViewCache renderedViewCache;
+    private final Supplier<ITemplateEngine> templateEngine;
+
+    public CachedFragmentDialect(RenderedViewCache renderedViewCache, Supplier<ITemplateEngine> templateEngine) {
+        super(NAME, PREFIX, StandardDialect.PROCESSOR_PRECEDENCE - 100);
+        this.renderedViewCache = renderedViewCache;
+        this.templateEngine = templateEngine;
+    }
+
+    @Override
+    public Set<IProcessor> getProcessors(String dialectPrefix) {
+        return Set.of(new CachedFragmentTagProcessor(dialectPrefix, renderedViewCache, templateEngine));
+    }
+}
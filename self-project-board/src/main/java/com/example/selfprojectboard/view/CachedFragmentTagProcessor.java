@@ -0,0 +1,83 @@
+package com.example.selfprojectboard.view;
+
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.ITemplateContext;
+import org.thymeleaf.context.IWebContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.engine.AttributeName;
+import org.thymeleaf.model.IProcessableElementTag;
+import org.thymeleaf.processor.element.AbstractAttributeTagProcessor;
+import org.thymeleaf.processor.element.IElementTagStructureHandler;
+import org.thymeleaf.standard.expression.StandardExpressions;
+import org.thymeleaf.templatemode.TemplateMode;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 캐시에 없으면 같은 템플릿을 {@code #id} 선택자로 한 번 더 렌더링해서 요소 하나의 HTML 을 얻는다.
+ * 다시 렌더링하는 동안에는 이 처리기를 건너뛰어, 요소에 붙은 표준 속성이 그대로 처리된다.
+ * <p>
+ * 모델은 요청 속성에 들어 있으므로 같은 요청으로 만든 WebContext 에서 그대로 보인다.
+ */
+class CachedFragmentTagProcessor extends AbstractAttributeTagProcessor {
+
+    static final String ATTRIBUTE_NAME = "fragment";
+    static final String RENDERING_VARIABLE = CachedFragmentTagProcessor.class.getName() + ".RENDERING";
+    private static final int PRECEDENCE = 100;
+
+    private final RenderedViewCache renderedViewCache;
+    private final Supplier<ITemplateEngine> templateEngine;
+
+    CachedFragmentTagProcessor(String dialectPrefix, RenderedViewCache renderedViewCache, Supplier<ITemplateEngine> templateEngine) {
+        super(TemplateMode.HTML, dialectPrefix, null, false, ATTRIBUTE_NAME, true, PRECEDENCE, true);
+        this.renderedViewCache = renderedViewCache;
+        this.templateEngine = templateEngine;
+    }
+
+    @Override
+    protected void doProcess(
+            ITemplateContext context,
+            IProcessableElementTag tag,
+            AttributeName attributeName,
+            String attributeValue,
+            IElementTagStructureHandler structureHandler
+    ) {
+        if (!(context instanceof IWebContext webContext) || context.containsVariable(RENDERING_VARIABLE)) {
+            return;
+        }
+
+        String id = tag.getAttributeValue("id");
+        Object key = StandardExpressions.getExpressionParser(context.getConfiguration())
+                .parseExpression(context, attributeValue)
+                .execute(context);
+        if (id == null || key == null) {
+            return;
+        }
+
+        String html = renderedViewCache.getFragment(key.toString()).orElseGet(() -> {
+            String rendered = render(webContext, context.getTemplateData().getTemplate(), id);
+            renderedViewCache.putFragment(key.toString(), rendered);
+            return rendered;
+        });
+        structureHandler.replaceWith(html, false);
+    }
+
+    private String render(IWebContext webContext, String template, String id) {
+        HttpServletRequest request = webContext.getRequest();
+        WebContext fragmentContext = new WebContext(
+                request,
+                webContext.getResponse(),
+                webContext.getServletContext(),
+                webContext.getLocale(),
+                Map.of(RENDERING_VARIABLE, true)
+        );
+        try {
+            return templateEngine.get().process(template, Set.of("#" + id), fragmentContext);
+        } finally {
+            request.removeAttribute(RENDERING_VARIABLE); // WebContext 변수는 요청 속성에 저장된다.
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.selfprojectboard.view;
+
+import com.example.selfprojectboard.dto.event.ArticleEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 렌더링이 끝난 HTML 을 보관한다.
+ * <ul>
+ *     <li>fragment: {@code board:fragment} 로 표시한 요소 (헤더, 푸터, 해시태그 목록, 페이지 번호)</li>
+ *     <li>page: 로그인하지 않은 사용자의 목록 화면 전체</li>
+ * </ul>
+ * 게시글이 바뀌면 (커밋 후) 모두 비운다. 이벤트로 잡히지 않는 변경은 TTL 이 지나면 반영된다.
+ */
+@Slf4j
+public class RenderedViewCache {
+
+    static final String ANONYMOUS = "anonymous";
+
+    private final Cache<String, String> fragments;
+    private final Cache<String, CachedPage> pages;
+
+    public RenderedViewCache(long maximumFragments, Duration fragmentTtl, long maximumPages, Duration pageTtl) {
+        this.fragments = Caffeine.newBuilder()
+                .maximumSize(maximumFragments)
+                .expireAfterWrite(fragmentTtl)
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maximumPages)
+                .expireAfterWrite(pageTtl)
+                .build();
+    }
+
+    /**
+     * 같은 키라도 로그인 사용자마다 따로 보관한다. (헤더의 사용자 이름, sec:authorize 결과가 다르므로)
+     */
+    public Optional<String> getFragment(String key) {
+        return Optional.ofNullable(fragments.getIfPresent(fragmentKey(key)));
+    }
+
+    public void putFragment(String key, String html) {
+        fragments.put(fragmentKey(key), html);
+    }
+
+    public Optional<CachedPage> getPage(String key) {
+        return Optional.ofNullable(pages.getIfPresent(key));
+    }
+
+    public void putPage(String key, CachedPage page) {
+        pages.put(key, page);
+    }
+
+    public long fragmentCount() {
+        return fragments.estimatedSize();
+    }
+
+    public long pageCount() {
+        return pages.estimatedSize();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleEvent(ArticleEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        fragments.invalidateAll();
+        pages.invalidateAll();
+        log.debug("렌더링 캐시 비움");
+    }
+
+    /**
+     * 로그인한 사용자 아이디, 아니면 {@value #ANONYMOUS}
+     */
+    static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()) {
+            return ANONYMOUS;
+        }
+        return authentication.getName();
+    }
+
+    private static String fragmentKey(String key) {
+        return currentPrincipal() + "|" + key;
+    }
+
+    /**
+     * 화면 HTML 과, 조건부 요청에 다시 답하는 데 필요한 응답 헤더 (없으면 null)
+     */
+    public record CachedPage(byte[] html, String eTag, String lastModified, String cacheControl) {
+        public static CachedPage of(byte[] html, String eTag, String lastModified, String cacheControl) {
+            return new CachedPage(html, eTag, lastModified, cacheControl);
+        }
+    }
+}
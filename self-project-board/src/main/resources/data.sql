@@ -10,1209 +10,1227 @@ values ('sspark2', '{noop}asdf1234', 'Sspark2', 'sspark2@mail.com', 'I am Sspark
 ;
 
 -- 123 게시글
-insert into article (user_id, title, content, hashtag, created_by, modified_by, created_at, modified_at)
-values ('sspark2', 'Quisque ut erat.', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.
+insert into article (id, user_id, title, content, hashtag, created_by, modified_by, created_at, modified_at)
+values (1, 'sspark2', 'Quisque ut erat.', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.
 Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.
 Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.',
         '#pink', 'Kamilah', 'Murial', '2021-05-30 23:53:46', '2021-03-10 08:48:50'),
-       ('sspark2', 'Morbi ut odio.', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.
+       (2, 'sspark2', 'Morbi ut odio.', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.
 Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.
 Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '#purple', 'Arv', 'Keelby',
         '2021-05-06 11:51:24', '2021-05-23 08:34:54'),
-       ('sspark2',
+       (3, 'sspark2',
         'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio.',
         'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '#purple', 'Adams', 'Thalia',
         '2021-08-13 08:32:22', '2021-04-02 02:58:19'),
-       ('sspark', 'Fusce posuere felis sed lacus.', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.',
+       (4, 'sspark', 'Fusce posuere felis sed lacus.', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.',
         '#mauv', 'Johny', 'Constantin', '2021-09-05 04:28:16', '2021-10-31 17:46:08'),
-       ('sspark', 'Aliquam erat volutpat.',
+       (5, 'sspark', 'Aliquam erat volutpat.',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '#green', 'Karlene', 'Marmaduke', '2022-01-25 16:10:23', '2021-11-08 08:47:03'),
-       ('sspark', 'Donec ut mauris eget massa tempor convallis.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
+       (6, 'sspark', 'Donec ut mauris eget massa tempor convallis.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
 Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.',
         '#maroon', 'Alonso', 'Eustacia', '2022-01-26 06:33:42', '2021-12-08 11:27:30'),
-       ('sspark', 'Nullam molestie nibh in lectus.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.
+       (7, 'sspark', 'Nullam molestie nibh in lectus.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.
 Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '#orange', 'Dedra', 'Wilek',
         '2021-05-04 19:51:29', '2021-10-09 16:52:09'),
-       ('sspark', 'Sed ante.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.
+       (8, 'sspark', 'Sed ante.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.
 Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.',
         '#teal', 'Doe', 'Jodi', '2021-10-23 23:45:21', '2021-08-05 14:19:36'),
-       ('sspark', 'In hac habitasse platea dictumst.', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.
+       (9, 'sspark', 'In hac habitasse platea dictumst.', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.
 Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.',
         '#khaki', 'Fitz', 'Jemmie', '2021-01-10 21:03:03', '2021-04-15 05:02:39'),
-       ('sspark', 'Vivamus in felis eu sapien cursus vestibulum.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
+       (10, 'sspark', 'Vivamus in felis eu sapien cursus vestibulum.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
 Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
 Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '#puce',
         'Grace', 'Bryn', '2021-09-28 07:01:29', '2021-09-01 13:54:55'),
-       ('sspark', 'Morbi a ipsum.',
+       (11, 'sspark', 'Morbi a ipsum.',
         'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.',
         '#orange', 'Lalo', 'Lorrie', '2022-01-26 03:40:15', '2021-07-18 05:30:34'),
-       ('sspark', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.
+       (12, 'sspark', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.
 Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.',
         '#purple', 'Jane', 'Tresa', '2021-07-22 22:25:07', '2021-05-16 14:20:27'),
-       ('sspark', 'Duis at velit eu est congue elementum.',
+       (13, 'sspark', 'Duis at velit eu est congue elementum.',
         'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.',
         '#maroon', 'Cookie', 'Rosalia', '2021-02-20 10:06:13', '2021-10-10 06:05:30'),
-       ('sspark', 'In hac habitasse platea dictumst.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.
+       (14, 'sspark', 'In hac habitasse platea dictumst.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.
 Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.',
         null, 'Gerti', 'Everard', '2021-08-17 15:14:51', '2021-10-01 13:01:41'),
-       ('sspark', 'Nulla suscipit ligula in lacus.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.
+       (15, 'sspark', 'Nulla suscipit ligula in lacus.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.
 Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.
 Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.',
         '#khaki', 'Adolf', 'Tiff', '2021-12-03 03:44:00', '2021-07-12 00:20:12'),
-       ('sspark', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.
+       (16, 'sspark', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.
 Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.', null, 'Vivyanne', 'Humbert',
         '2021-08-11 04:04:05', '2021-09-05 17:15:51'),
-       ('sspark', 'Donec semper sapien a libero.',
+       (17, 'sspark', 'Donec semper sapien a libero.',
         'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.',
         null, 'Ki', 'Ophelia', '2021-12-21 13:27:54', '2021-05-07 08:06:52'),
-       ('sspark', 'Quisque id justo sit amet sapien dignissim vestibulum.', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.
+       (18, 'sspark', 'Quisque id justo sit amet sapien dignissim vestibulum.', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.
 Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '#goldenrod', 'Jackelyn', 'Vlad',
         '2021-06-29 13:00:35', '2021-05-11 00:47:43'),
-       ('sspark', 'Morbi quis tortor id nulla ultrices aliquet.',
+       (19, 'sspark', 'Morbi quis tortor id nulla ultrices aliquet.',
         'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '#yellow',
         'Jesus', 'Peri', '2021-06-18 20:56:37', '2021-07-05 18:44:15'),
-       ('sspark', 'In sagittis dui vel nisl.', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.
+       (20, 'sspark', 'In sagittis dui vel nisl.', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.
 Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         '#orange', 'Abbot', 'Carolann', '2021-06-16 12:20:50', '2021-01-26 02:34:46'),
-       ('sspark', 'Integer non velit.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.
+       (21, 'sspark', 'Integer non velit.', 'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.
 Phasellus in felis. Donec semper sapien a libero. Nam dui.', '#fuscia', 'Shae', 'Rhody', '2021-01-14 23:22:59',
         '2022-01-31 12:02:00'),
-       ('sspark', 'Quisque id justo sit amet sapien dignissim vestibulum.', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.
+       (22, 'sspark', 'Quisque id justo sit amet sapien dignissim vestibulum.', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.
 Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.',
         '#puce', 'Dominik', 'Enos', '2021-12-17 17:42:09', '2021-06-28 19:55:49'),
-       ('sspark', 'Nullam varius.', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.
+       (23, 'sspark', 'Nullam varius.', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.
 Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.
 Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', null, 'Sheila-kathryn', 'Lil',
         '2021-06-11 13:47:12', '2021-11-30 13:45:21'),
-       ('sspark', 'Sed ante.', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.
+       (24, 'sspark', 'Sed ante.', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.
 Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.
 Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.',
         '#teal', 'Moina', 'Coletta', '2021-09-01 00:39:21', '2021-06-20 13:09:41'),
-       ('sspark', 'Morbi non lectus.', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.
+       (25, 'sspark', 'Morbi non lectus.', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.
 In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.
 Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.',
         '#fuscia', 'Niel', 'Alexio', '2021-04-13 02:59:34', '2021-01-26 00:43:20'),
-       ('sspark', 'Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla.',
+       (26, 'sspark', 'Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla.',
         'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.',
         '#maroon', 'Gannie', 'Alicea', '2021-05-18 21:27:32', '2021-04-26 23:42:00'),
-       ('sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.
+       (27, 'sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.
 In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.
 Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '#teal', 'Burg', 'Saudra',
         '2022-01-09 16:49:14', '2021-01-30 05:24:22'),
-       ('sspark', 'Nulla justo.', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.
+       (28, 'sspark', 'Nulla justo.', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.
 Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.
 Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '#turquoise', 'Monah',
         'Alexandro', '2021-08-25 08:42:32', '2021-06-24 17:50:44'),
-       ('sspark', 'Pellentesque viverra pede ac diam.',
+       (29, 'sspark', 'Pellentesque viverra pede ac diam.',
         'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.',
         '#fuscia', 'Tadeas', 'Lynnelle', '2021-04-16 16:05:00', '2021-11-18 17:42:45'),
-       ('sspark', 'Curabitur gravida nisi at nibh.',
+       (30, 'sspark', 'Curabitur gravida nisi at nibh.',
         'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.',
         null, 'Clim', 'Carin', '2021-11-14 22:48:52', '2021-01-15 04:11:23'),
-       ('sspark', 'Duis aliquam convallis nunc.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.
+       (31, 'sspark', 'Duis aliquam convallis nunc.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.
 Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.',
         '#blue', 'Vonnie', 'Amery', '2021-07-07 06:30:56', '2021-06-21 07:33:19'),
-       ('sspark', 'Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.
+       (32, 'sspark', 'Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.', 'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.
 Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '#yellow', 'Billi', 'Laure',
         '2021-10-22 11:07:01', '2022-01-24 21:15:02'),
-       ('sspark', 'Donec semper sapien a libero.',
+       (33, 'sspark', 'Donec semper sapien a libero.',
         'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '#pink', 'Terese', 'Dalli',
         '2021-07-04 02:06:12', '2021-10-27 03:27:56'),
-       ('sspark', 'Phasellus in felis.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.
+       (34, 'sspark', 'Phasellus in felis.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.
 Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.',
         '#goldenrod', 'Arlen', 'Francoise', '2021-03-06 10:32:19', '2021-09-16 12:49:52'),
-       ('sspark', 'Etiam vel augue.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.
+       (35, 'sspark', 'Etiam vel augue.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.
 Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '#blue', 'Roderich', 'Daphna',
         '2021-07-29 05:37:58', '2021-09-09 14:57:16'),
-       ('sspark', 'In hac habitasse platea dictumst.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.
+       (36, 'sspark', 'In hac habitasse platea dictumst.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.
 Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', null, 'Jeremy', 'Allx',
         '2021-03-29 02:31:37', '2021-10-04 04:51:02'),
-       ('sspark', 'Nunc purus.',
+       (37, 'sspark', 'Nunc purus.',
         'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.',
         '#purple', 'Neely', 'Hubey', '2021-12-09 23:08:51', '2022-01-19 22:52:00'),
-       ('sspark', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa.', 'Fusce consequat. Nulla nisl. Nunc nisl.
+       (38, 'sspark', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa.', 'Fusce consequat. Nulla nisl. Nunc nisl.
 Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.',
         '#green', 'Kasper', 'Nealy', '2021-01-06 11:57:12', '2021-09-22 23:51:12'),
-       ('sspark', 'Curabitur at ipsum ac tellus semper interdum.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
+       (39, 'sspark', 'Curabitur at ipsum ac tellus semper interdum.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
 Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
 Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', null,
         'Herminia', 'Alexandra', '2022-01-24 16:01:31', '2021-09-04 09:45:28'),
-       ('sspark', 'Morbi non lectus.', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.
+       (40, 'sspark', 'Morbi non lectus.', 'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.
 Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.', '#turquoise', 'Dionne',
         'Arvy', '2021-04-07 19:45:14', '2021-05-04 04:31:17'),
-       ('sspark',
+       (41, 'sspark',
         'Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante.',
         'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', null,
         'Armin', 'Hetti', '2021-12-13 04:47:57', '2021-11-21 10:40:03'),
-       ('sspark', 'Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla.',
+       (42, 'sspark', 'Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla.',
         'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.', '#fuscia', 'Eamon',
         'Alberta', '2021-01-14 18:42:07', '2021-08-08 01:49:02'),
-       ('sspark', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.
+       (43, 'sspark', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.
 Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.
 Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '#violet', 'Udale',
         'Steffane', '2021-01-09 05:17:28', '2022-01-07 13:29:29'),
-       ('sspark', 'Ut tellus.', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.
+       (44, 'sspark', 'Ut tellus.', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.
 Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.
 Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', null, 'Jackie', 'Emelda',
         '2021-11-20 09:06:53', '2021-06-29 21:11:43'),
-       ('sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.',
+       (45, 'sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.',
         'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '#red', 'Judye', 'Hulda', '2022-01-31 02:12:17',
         '2021-11-13 04:25:33'),
-       ('sspark', 'Donec quis orci eget orci vehicula condimentum.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.
+       (46, 'sspark', 'Donec quis orci eget orci vehicula condimentum.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.
 In congue. Etiam justo. Etiam pretium iaculis justo.', null, 'Hana', 'Anabel', '2021-05-19 15:38:50',
         '2021-09-18 12:45:53'),
-       ('sspark', 'Pellentesque eget nunc.',
+       (47, 'sspark', 'Pellentesque eget nunc.',
         'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '#purple', 'Gil',
         'Gerri', '2021-07-13 02:04:06', '2021-04-28 03:43:55'),
-       ('sspark', 'Nam dui.', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '#crimson', 'Peyton', 'Leena',
+       (48, 'sspark', 'Nam dui.', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '#crimson', 'Peyton', 'Leena',
         '2021-01-09 14:46:57', '2021-10-20 07:05:55'),
-       ('sspark', 'Morbi a ipsum.', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.
+       (49, 'sspark', 'Morbi a ipsum.', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.
 Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
 Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.',
         '#indigo', 'Pepillo', 'Bride', '2021-07-23 15:14:41', '2021-07-29 20:10:02'),
-       ('sspark', 'Aenean auctor gravida sem.',
+       (50, 'sspark', 'Aenean auctor gravida sem.',
         'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.',
         '#khaki', 'Tull', 'Tracee', '2021-03-01 23:36:57', '2021-04-20 05:54:22'),
-       ('sspark', 'Morbi quis tortor id nulla ultrices aliquet.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.
+       (51, 'sspark', 'Morbi quis tortor id nulla ultrices aliquet.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.
 Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.',
         null, 'Gregorius', 'Marlane', '2021-08-16 16:20:12', '2021-09-28 15:21:22'),
-       ('sspark', 'Nulla nisl.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.',
+       (52, 'sspark', 'Nulla nisl.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.',
         '#turquoise', 'Cindi', 'Cary', '2021-09-29 02:56:11', '2021-04-26 00:16:31'),
-       ('sspark', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc.', 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.
+       (53, 'sspark', 'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc.', 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.
 Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', null,
         'Rachel', 'Maurise', '2021-11-05 23:17:06', '2021-06-02 11:12:17'),
-       ('sspark', 'Morbi non quam nec dui luctus rutrum.',
+       (54, 'sspark', 'Morbi non quam nec dui luctus rutrum.',
         'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.',
         '#pink', 'Muriel', 'Ki', '2021-06-29 18:05:20', '2021-11-14 19:30:51'),
-       ('sspark', 'Phasellus in felis.', 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.
+       (55, 'sspark', 'Phasellus in felis.', 'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.
 Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.
 Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', '#orange',
         'Emanuele', 'Frank', '2021-01-13 10:45:47', '2022-01-07 02:08:42'),
-       ('sspark',
+       (56, 'sspark',
         'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi.', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.
 Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         null, 'Arlen', 'Kelley', '2021-01-18 04:14:36', '2021-01-12 15:49:40'),
-       ('sspark', 'Nunc nisl.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.',
+       (57, 'sspark', 'Nunc nisl.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.',
         '#orange', 'Brant', 'Rycca', '2021-10-24 18:34:37', '2021-09-24 11:55:07'),
-       ('sspark', 'Nulla justo.',
+       (58, 'sspark', 'Nulla justo.',
         'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.',
         '#pink', 'Glenn', 'Isaiah', '2021-12-27 21:37:13', '2021-06-21 11:23:36'),
-       ('sspark', 'Praesent lectus.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
+       (59, 'sspark', 'Praesent lectus.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
 Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
 Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.',
         '#crimson', 'Doro', 'Adah', '2021-04-15 20:39:03', '2021-07-29 20:08:20'),
-       ('sspark', 'Etiam pretium iaculis justo.', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.
+       (60, 'sspark', 'Etiam pretium iaculis justo.', 'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.
 Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.',
         '#crimson', 'Coletta', 'Magdalene', '2021-11-14 13:15:09', '2021-10-13 16:51:20'),
-       ('sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.
+       (61, 'sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.
 Sed ante. Vivamus tortor. Duis mattis egestas metus.', '#teal', 'Miltie', 'Krissy', '2021-11-29 14:30:18',
         '2021-06-28 06:23:31'),
-       ('sspark', 'Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue.', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.
+       (62, 'sspark', 'Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue.', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.
 Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.
 Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.', null,
         'Alvan', 'Stu', '2021-02-07 15:13:30', '2021-03-20 08:42:35'),
-       ('sspark', 'Maecenas tincidunt lacus at velit.',
+       (63, 'sspark', 'Maecenas tincidunt lacus at velit.',
         'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '#violet', 'Lurleen', 'Sly',
         '2021-10-12 02:16:28', '2021-03-28 22:35:10'),
-       ('sspark', 'Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
+       (64, 'sspark', 'Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
         'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '#violet', 'Gus', 'Roy',
         '2021-04-30 18:14:12', '2021-08-07 12:28:47'),
-       ('sspark', 'Nulla facilisi.', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.
+       (65, 'sspark', 'Nulla facilisi.', 'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.
 Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         '#violet', 'Alfons', 'Meredith', '2021-11-30 09:26:07', '2021-05-25 03:28:14'),
-       ('sspark', 'Nunc nisl.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.
+       (66, 'sspark', 'Nunc nisl.', 'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.
 Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.
 Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.', '#turquoise', 'Alaine',
         'Kaile', '2021-05-19 04:01:38', '2022-01-20 20:21:15'),
-       ('sspark', 'Praesent blandit lacinia erat.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.
+       (67, 'sspark', 'Praesent blandit lacinia erat.', 'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.
 Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.
 Sed ante. Vivamus tortor. Duis mattis egestas metus.', '#puce', 'Bancroft', 'Brittne', '2021-11-07 20:25:38',
         '2021-07-15 23:44:30'),
-       ('sspark', 'Quisque porta volutpat erat.',
+       (68, 'sspark', 'Quisque porta volutpat erat.',
         'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.',
         '#fuscia', 'Sibyl', 'Felicia', '2021-07-23 03:14:59', '2021-09-23 12:59:16'),
-       ('sspark',
+       (69, 'sspark',
         'In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.',
         'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.',
         null, 'Nikos', 'Brooks', '2021-05-26 23:29:09', '2021-10-30 22:20:34'),
-       ('sspark', 'Proin eu mi.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.
+       (70, 'sspark', 'Proin eu mi.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.
 Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.
 Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.', '#puce', 'Christa',
         'Avrom', '2021-01-03 15:19:52', '2021-07-26 09:56:42'),
-       ('sspark',
+       (71, 'sspark',
         'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam.',
         'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.',
         '#pink', 'Kassey', 'Abbi', '2021-10-23 18:21:35', '2021-08-12 08:13:10'),
-       ('sspark', 'Fusce posuere felis sed lacus.',
+       (72, 'sspark', 'Fusce posuere felis sed lacus.',
         'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '#fuscia', 'Thebault',
         'Adi', '2021-04-23 16:56:09', '2022-01-14 06:35:51'),
-       ('sspark', 'Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
+       (73, 'sspark', 'Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.', 'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
 Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.
 Phasellus in felis. Donec semper sapien a libero. Nam dui.', '#red', 'Claire', 'Alyson', '2021-06-05 04:03:52',
         '2021-04-21 16:51:40'),
-       ('sspark', 'Proin eu mi.', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.
+       (74, 'sspark', 'Proin eu mi.', 'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.
 Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.', null, 'Rodrick',
         'Judd', '2021-09-15 04:12:40', '2021-07-16 08:11:59'),
-       ('sspark', 'Cras in purus eu magna vulputate luctus.', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.
+       (75, 'sspark', 'Cras in purus eu magna vulputate luctus.', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.
 Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.',
         '#turquoise', 'Heidi', 'Madlen', '2021-09-28 19:02:55', '2021-07-10 16:49:00'),
-       ('sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.
+       (76, 'sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.
 In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.
 Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.',
         '#blue', 'Yasmeen', 'Edie', '2021-12-29 02:35:31', '2021-09-28 00:32:13'),
-       ('sspark',
+       (77, 'sspark',
         'Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante.', 'In congue. Etiam justo. Etiam pretium iaculis justo.
 In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.
 Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '#pink', 'Abbot', 'Nicoline',
         '2022-01-30 03:12:36', '2021-06-05 04:08:51'),
-       ('sspark', 'Nulla suscipit ligula in lacus.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.
+       (78, 'sspark', 'Nulla suscipit ligula in lacus.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.
 Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.
 Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', null, 'Guthry', 'Darla', '2021-05-17 21:21:38',
         '2021-12-25 10:06:03'),
-       ('sspark', 'Maecenas rhoncus aliquam lacus.',
+       (79, 'sspark', 'Maecenas rhoncus aliquam lacus.',
         'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.',
         null, 'Andris', 'Leigh', '2021-02-16 03:49:50', '2021-01-23 08:55:39'),
-       ('sspark', 'Vestibulum ac est lacinia nisi venenatis tristique.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.
+       (80, 'sspark', 'Vestibulum ac est lacinia nisi venenatis tristique.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.
 In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.
 Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.',
         '#purple', 'Alika', 'Egbert', '2021-03-25 21:56:32', '2021-08-06 09:25:55'),
-       ('sspark', 'In congue.',
+       (81, 'sspark', 'In congue.',
         'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.',
         '#violet', 'Rosaleen', 'Laurel', '2021-05-31 02:31:10', '2021-05-25 07:40:17'),
-       ('sspark', 'Nam tristique tortor eu pede.', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.
+       (82, 'sspark', 'Nam tristique tortor eu pede.', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.
 Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.',
         '#turquoise', 'Rosie', 'Jeddy', '2021-04-21 13:04:12', '2021-12-21 21:27:10'),
-       ('sspark', 'In sagittis dui vel nisl.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.
+       (83, 'sspark', 'In sagittis dui vel nisl.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.
 Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.
 Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '#purple', 'Hermann', 'Dynah', '2021-08-11 15:17:07', '2021-07-26 14:59:15'),
-       ('sspark', 'Ut tellus.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.
+       (84, 'sspark', 'Ut tellus.', 'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.
 Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.
 Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.', '#crimson', 'Blanch', 'Florinda',
         '2021-04-07 02:11:09', '2021-03-11 07:18:08'),
-       ('sspark', 'Pellentesque at nulla.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.
+       (85, 'sspark', 'Pellentesque at nulla.', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.
 Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.',
         '#teal', 'Gleda', 'Ellary', '2021-02-09 04:55:31', '2021-06-03 13:44:00'),
-       ('sspark', 'Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.
+       (86, 'sspark', 'Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.
 Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.
 Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.',
         '#red', 'Joete', 'Tedmund', '2021-02-24 21:47:59', '2021-03-26 22:36:33'),
-       ('sspark', 'Suspendisse potenti.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.
+       (87, 'sspark', 'Suspendisse potenti.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.
 In congue. Etiam justo. Etiam pretium iaculis justo.
 In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', null, 'Jamie', 'Alexa',
         '2021-08-06 04:32:39', '2021-02-19 12:04:36'),
-       ('sspark', 'Nulla suscipit ligula in lacus.', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.
+       (88, 'sspark', 'Nulla suscipit ligula in lacus.', 'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.
 Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.', '#violet', 'Doris', 'Mendel',
         '2021-09-17 11:09:35', '2021-05-08 09:41:26'),
-       ('sspark', 'Nulla ac enim.',
+       (89, 'sspark', 'Nulla ac enim.',
         'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.',
         null, 'Bartie', 'Tess', '2021-11-23 16:40:31', '2021-02-14 18:25:25'),
-       ('sspark', 'Morbi ut odio.',
+       (90, 'sspark', 'Morbi ut odio.',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '#khaki', 'Sile', 'Bertram', '2021-07-05 03:55:44', '2021-04-26 06:11:20'),
-       ('sspark', 'Proin interdum mauris non ligula pellentesque ultrices.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.
+       (91, 'sspark', 'Proin interdum mauris non ligula pellentesque ultrices.', 'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.
 Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.', '#orange', 'Stillman', 'Robinett',
         '2021-01-28 08:36:31', '2022-01-22 04:26:21'),
-       ('sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.
+       (92, 'sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.
 Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.
 Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.',
         '#purple', 'Teresa', 'Geordie', '2021-10-01 23:56:53', '2021-03-14 14:48:32'),
-       ('sspark', 'Vivamus in felis eu sapien cursus vestibulum.', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.
+       (93, 'sspark', 'Vivamus in felis eu sapien cursus vestibulum.', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.
 Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '#turquoise', 'Silvie', 'Ely',
         '2021-06-25 15:27:52', '2021-07-11 22:35:10'),
-       ('sspark', 'Sed ante.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.
+       (94, 'sspark', 'Sed ante.', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.
 Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.
 Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '#turquoise', 'Marline', 'Avigdor',
         '2021-10-28 11:05:02', '2022-01-01 22:59:45'),
-       ('sspark', 'Morbi non quam nec dui luctus rutrum.', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.
+       (95, 'sspark', 'Morbi non quam nec dui luctus rutrum.', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.
 Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.',
         '#fuscia', 'Bella', 'Redd', '2021-07-25 10:58:10', '2022-01-03 06:44:01'),
-       ('sspark', 'Donec ut mauris eget massa tempor convallis.',
+       (96, 'sspark', 'Donec ut mauris eget massa tempor convallis.',
         'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '#maroon', 'Rubie', 'Gallard',
         '2021-04-17 00:00:13', '2021-01-01 16:09:42'),
-       ('sspark', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'In congue. Etiam justo. Etiam pretium iaculis justo.
+       (97, 'sspark', 'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.', 'In congue. Etiam justo. Etiam pretium iaculis justo.
 In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.
 Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '#yellow', 'Meghan', 'Bone',
         '2021-10-01 06:58:34', '2021-08-06 07:47:53'),
-       ('sspark', 'Integer non velit.',
+       (98, 'sspark', 'Integer non velit.',
         'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.',
         '#orange', 'Meris', 'Griffin', '2021-04-19 01:54:16', '2021-04-23 08:04:24'),
-       ('sspark', 'Donec dapibus.', 'In congue. Etiam justo. Etiam pretium iaculis justo.
+       (99, 'sspark', 'Donec dapibus.', 'In congue. Etiam justo. Etiam pretium iaculis justo.
 In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.
 Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '#violet', 'Amy', 'Tann',
         '2021-05-06 13:30:44', '2021-12-04 03:54:16'),
-       ('sspark', 'Duis at velit eu est congue elementum.', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.
+       (100, 'sspark', 'Duis at velit eu est congue elementum.', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.
 Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.',
         '#crimson', 'Colan', 'Anthe', '2021-11-27 23:07:19', '2021-04-21 19:58:19'),
-       ('sspark', 'Etiam justo.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.
+       (101, 'sspark', 'Etiam justo.', 'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.
 In congue. Etiam justo. Etiam pretium iaculis justo.', null, 'Honor', 'Fayina', '2021-05-14 16:02:48',
         '2022-01-07 21:17:52'),
-       ('sspark', 'Pellentesque eget nunc.', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.
+       (102, 'sspark', 'Pellentesque eget nunc.', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.
 Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.
 Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         '#puce', 'Brooke', 'Demetris', '2021-11-14 19:35:48', '2021-09-27 23:55:31'),
-       ('sspark', 'Curabitur gravida nisi at nibh.', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.
+       (103, 'sspark', 'Curabitur gravida nisi at nibh.', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.
 In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '#red',
         'Regina', 'Son', '2021-09-05 08:18:57', '2021-08-29 18:59:01'),
-       ('sspark', 'Sed sagittis.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.
+       (104, 'sspark', 'Sed sagittis.', 'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.
 Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.
 Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.',
         '#khaki', 'Matelda', 'Alla', '2021-09-08 21:13:52', '2021-07-02 08:49:38'),
-       ('sspark', 'Morbi porttitor lorem id ligula.',
+       (105, 'sspark', 'Morbi porttitor lorem id ligula.',
         'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.',
         '#turquoise', 'Brock', 'Ludwig', '2021-06-26 11:28:38', '2021-07-24 17:24:01'),
-       ('sspark', 'Fusce consequat.',
+       (106, 'sspark', 'Fusce consequat.',
         'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.',
         '#red', 'Kat', 'Zelig', '2021-09-24 11:37:56', '2021-07-12 13:57:43'),
-       ('sspark', 'Maecenas ut massa quis augue luctus tincidunt.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
+       (107, 'sspark', 'Maecenas ut massa quis augue luctus tincidunt.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
 Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
 Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '#blue',
         'Thaddus', 'Merna', '2021-05-23 13:06:03', '2021-03-24 08:32:10'),
-       ('sspark', 'Pellentesque viverra pede ac diam.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.
+       (108, 'sspark', 'Pellentesque viverra pede ac diam.', 'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.
 In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.
 Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.',
         null, 'Ronnie', 'Brittaney', '2021-12-26 19:23:32', '2021-09-05 19:27:21'),
-       ('sspark', 'In quis justo.', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.
+       (109, 'sspark', 'In quis justo.', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.
 Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.
 Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.',
         null, 'Byron', 'Randy', '2021-08-18 13:40:37', '2021-12-28 08:34:19'),
-       ('sspark', 'Fusce consequat.', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.
+       (110, 'sspark', 'Fusce consequat.', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.
 Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.',
         null, 'Neron', 'Christa', '2021-05-24 18:32:45', '2021-01-01 16:15:57'),
-       ('sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.
+       (111, 'sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit.', 'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.
 Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.
 In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.', '#yellow',
         'Merilee', 'Dolli', '2021-04-20 00:10:42', '2021-03-27 16:42:26'),
-       ('sspark', 'Proin at turpis a pede posuere nonummy.', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.
+       (112, 'sspark', 'Proin at turpis a pede posuere nonummy.', 'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.
 Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.
 Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.',
         '#indigo', 'Caron', 'Valle', '2021-11-23 23:38:55', '2021-03-23 16:50:35'),
-       ('sspark', 'Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.',
+       (113, 'sspark', 'Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.',
         'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.',
         '#mauv', 'Delbert', 'Cammy', '2021-06-03 08:38:23', '2021-07-16 21:36:19'),
-       ('sspark',
+       (114, 'sspark',
         'Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est.', 'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.
 Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.
 Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.', '#crimson', 'Konstantin',
         'Sarine', '2021-12-21 13:46:23', '2021-12-27 03:46:03'),
-       ('sspark', 'Nunc purus.', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.
+       (115, 'sspark', 'Nunc purus.', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.
 Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.',
         null, 'Krysta', 'Euphemia', '2021-05-03 23:53:27', '2021-04-16 15:39:57'),
-       ('sspark', 'Etiam pretium iaculis justo.',
+       (116, 'sspark', 'Etiam pretium iaculis justo.',
         'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.',
         '#turquoise', 'Oliver', 'Clint', '2021-06-12 07:00:00', '2021-06-14 11:33:22'),
-       ('sspark', 'In quis justo.',
+       (117, 'sspark', 'In quis justo.',
         'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.',
         '#red', 'Vito', 'Bird', '2021-06-20 08:39:02', '2021-05-06 03:06:08'),
-       ('sspark', 'In sagittis dui vel nisl.', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.',
+       (118, 'sspark', 'In sagittis dui vel nisl.', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.',
         null, 'Errick', 'Shirlee', '2021-08-18 08:08:42', '2021-11-04 15:44:08'),
-       ('sspark', 'Integer ac leo.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
+       (119, 'sspark', 'Integer ac leo.', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.
 Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.
 Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.', '#puce',
         'Benjamin', 'Arlie', '2021-11-23 02:21:46', '2021-02-13 07:35:14'),
-       ('sspark', 'Morbi non quam nec dui luctus rutrum.', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.
+       (120, 'sspark', 'Morbi non quam nec dui luctus rutrum.', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.
 Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', '#yellow', 'Tessy', 'Nan',
         '2021-10-07 20:30:36', '2021-03-06 01:51:12'),
-       ('sspark', 'Nulla justo.',
+       (121, 'sspark', 'Nulla justo.',
         'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.',
         null, 'Babette', 'Dudley', '2021-02-05 15:19:07', '2021-04-01 14:46:59'),
-       ('sspark', 'Aenean lectus.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.
+       (122, 'sspark', 'Aenean lectus.', 'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.
 Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.
 Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.',
         '#yellow', 'Hoyt', 'Austina', '2021-06-26 18:20:38', '2021-02-20 16:09:49'),
-       ('sspark', 'Ut tellus.', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.
+       (123, 'sspark', 'Ut tellus.', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.
 Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.', null, 'Wilmer', 'Ingra',
         '2021-07-19 14:18:17', '2022-01-23 17:29:54')
 ;
 
 -- 1000 댓글
-insert into article_comment (article_id, user_id, content, created_at, modified_at, created_by, modified_by)
-values (49, 'sspark',
+insert into article_comment (id, article_id, user_id, content, created_at, modified_at, created_by, modified_by)
+values (1, 49, 'sspark',
         'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         '2021-03-02 22:40:04', '2021-04-27 15:38:09', 'Lind', 'Orv'),
-       (108, 'sspark',
+       (2, 108, 'sspark',
         'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         '2021-06-08 04:36:02', '2022-01-25 15:35:42', 'Trstram', 'Loy'),
-       (31, 'sspark2',
+       (3, 31, 'sspark2',
         'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.',
         '2021-04-10 00:47:10', '2021-02-06 20:58:04', 'Duff', 'Early'),
-       (120, 'sspark2', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.',
+       (4, 120, 'sspark2', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.',
         '2021-08-21 08:39:39', '2021-11-17 22:47:35', 'Sydney', 'Boony'),
-       (123, 'sspark2',
+       (5, 123, 'sspark2',
         'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.',
         '2021-06-17 10:57:29', '2021-05-13 12:28:47', 'Burk', 'Markus'),
-       (39, 'sspark2',
+       (6, 39, 'sspark2',
         'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.',
         '2022-01-15 11:37:12', '2021-02-19 17:42:22', 'Calvin', 'Garreth'),
-       (30, 'sspark2',
+       (7, 30, 'sspark2',
         'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.',
         '2021-11-23 18:29:30', '2021-03-09 00:57:27', 'Kain', 'Brsspark'),
-       (57, 'sspark2',
+       (8, 57, 'sspark2',
         'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.',
         '2021-03-19 18:39:02', '2021-03-16 17:47:17', 'Kippie', 'Alexio'),
-       (41, 'sspark2',
+       (9, 41, 'sspark2',
         'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.',
         '2021-03-21 16:34:30', '2021-03-17 15:18:55', 'Frannie', 'Horacio'),
-       (100, 'sspark2',
+       (10, 100, 'sspark2',
         'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.',
         '2021-02-24 16:53:08', '2021-05-09 06:00:58', 'Osborn', 'Pren'),
-       (48, 'sspark2', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2021-03-29 08:26:41',
+       (11, 48, 'sspark2', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2021-03-29 08:26:41',
         '2021-11-22 20:55:26', 'Dorie', 'Georgie'),
-       (122, 'sspark2',
+       (12, 122, 'sspark2',
         'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.',
         '2021-06-12 07:38:25', '2021-03-03 07:14:43', 'Obed', 'Chrissy'),
-       (87, 'sspark2', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
+       (13, 87, 'sspark2', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
         '2021-05-11 08:47:16', '2021-04-13 00:47:50', 'Reinhard', 'Robbert'),
-       (100, 'sspark2',
+       (14, 100, 'sspark2',
         'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.',
         '2022-01-18 23:33:51', '2022-01-14 12:38:23', 'Clim', 'Chester'),
-       (22, 'sspark2',
+       (15, 22, 'sspark2',
         'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.',
         '2021-09-18 10:27:37', '2021-09-29 20:31:09', 'Odie', 'Britt'),
-       (97, 'sspark2', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
+       (16, 97, 'sspark2', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
         '2021-12-14 01:55:52', '2021-11-02 15:12:00', 'Ulises', 'Denney'),
-       (103, 'sspark2', 'Fusce consequat. Nulla nisl. Nunc nisl.', '2021-04-03 11:44:04', '2022-01-05 21:01:34',
+       (17, 103, 'sspark2', 'Fusce consequat. Nulla nisl. Nunc nisl.', '2021-04-03 11:44:04', '2022-01-05 21:01:34',
         'Kendricks', 'Aubert'),
-       (25, 'sspark2',
+       (18, 25, 'sspark2',
         'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.',
         '2021-05-25 09:46:40', '2021-10-10 18:46:59', 'Dal', 'Maxy'),
-       (91, 'sspark2', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2021-04-29 23:36:48',
+       (19, 91, 'sspark2', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2021-04-29 23:36:48',
         '2021-12-03 12:08:48', 'Vaclav', 'Patric'),
-       (18, 'sspark2',
+       (20, 18, 'sspark2',
         'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.',
         '2021-09-26 00:29:13', '2021-07-10 01:44:07', 'Carl', 'Riley'),
-       (89, 'sspark2',
+       (21, 89, 'sspark2',
         'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.',
         '2021-12-11 05:07:10', '2021-05-31 15:26:03', 'Dex', 'Wallas'),
-       (107, 'sspark2',
+       (22, 107, 'sspark2',
         'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.',
         '2021-10-31 11:33:44', '2021-03-04 15:19:35', 'Lutero', 'Hussein'),
-       (90, 'sspark2',
+       (23, 90, 'sspark2',
         'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.',
         '2021-08-17 14:52:58', '2021-11-24 16:28:01', 'Garvy', 'Gris'),
-       (121, 'sspark2',
+       (24, 121, 'sspark2',
         'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.',
         '2021-02-17 16:50:19', '2021-01-31 09:21:51', 'Shayne', 'Stafford'),
-       (91, 'sspark2',
+       (25, 91, 'sspark2',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-06-23 10:06:39', '2021-10-27 22:04:41', 'Haze', 'Giraldo'),
-       (32, 'sspark2', 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.',
+       (26, 32, 'sspark2', 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.',
         '2021-10-21 19:41:56', '2021-03-12 02:47:38', 'Cobbie', 'Thornton'),
-       (47, 'sspark2', 'Fusce consequat. Nulla nisl. Nunc nisl.', '2021-05-02 07:45:04', '2021-06-26 13:36:44', 'Humfried',
+       (27, 47, 'sspark2', 'Fusce consequat. Nulla nisl. Nunc nisl.', '2021-05-02 07:45:04', '2021-06-26 13:36:44', 'Humfried',
         'Bram'),
-       (92, 'sspark2',
+       (28, 92, 'sspark2',
         'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.',
         '2021-10-22 04:46:24', '2021-07-06 02:25:34', 'Luis', 'Chicky'),
-       (76, 'sspark2',
+       (29, 76, 'sspark2',
         'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.',
         '2021-12-30 18:39:24', '2021-10-13 03:58:46', 'Derwin', 'Zacherie'),
-       (31, 'sspark2', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.',
+       (30, 31, 'sspark2', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.',
         '2021-11-07 02:25:31', '2021-11-30 11:15:34', 'Boris', 'Egbert'),
-       (29, 'sspark2', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.',
+       (31, 29, 'sspark2', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.',
         '2021-11-27 19:03:53', '2021-02-16 07:42:30', 'Gabriel', 'Gary'),
-       (115, 'sspark2',
+       (32, 115, 'sspark2',
         'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         '2021-12-30 17:50:07', '2021-10-13 11:06:50', 'Gilles', 'Derrek'),
-       (106, 'sspark2', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2021-06-10 02:26:59',
+       (33, 106, 'sspark2', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2021-06-10 02:26:59',
         '2021-12-17 18:00:38', 'Jodie', 'Whitney'),
-       (5, 'sspark2', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.',
+       (34, 5, 'sspark2', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.',
         '2021-04-16 12:44:52', '2022-01-19 17:32:59', 'Palmer', 'Orton'),
-       (115, 'sspark2',
+       (35, 115, 'sspark2',
         'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.',
         '2021-09-09 05:12:56', '2021-07-31 05:07:35', 'Mahmoud', 'Urson'),
-       (112, 'sspark2',
+       (36, 112, 'sspark2',
         'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.',
         '2021-01-31 06:52:27', '2021-02-07 17:19:58', 'Dunn', 'Monti'),
-       (119, 'sspark2',
+       (37, 119, 'sspark2',
         'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.',
         '2021-03-20 10:06:32', '2021-07-28 14:45:35', 'Franz', 'Tris'),
-       (66, 'sspark2', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2021-09-11 09:32:59',
+       (38, 66, 'sspark2', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2021-09-11 09:32:59',
         '2021-03-17 01:22:39', 'Tony', 'Ikey'),
-       (36, 'sspark2',
+       (39, 36, 'sspark2',
         'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.',
         '2021-03-04 17:43:07', '2021-10-08 16:20:32', 'Rees', 'Hubey'),
-       (104, 'sspark2', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.',
+       (40, 104, 'sspark2', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.',
         '2021-07-11 18:23:15', '2021-06-09 13:23:03', 'Hall', 'Rollie'),
-       (63, 'sspark2',
+       (41, 63, 'sspark2',
         'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.',
         '2021-06-26 18:57:48', '2021-06-30 23:24:08', 'Keir', 'Ky'),
-       (99, 'sspark2',
+       (42, 99, 'sspark2',
         'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.',
         '2021-10-03 02:36:13', '2021-11-27 11:12:43', 'Georgi', 'Thane'),
-       (17, 'sspark2',
+       (43, 17, 'sspark2',
         'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.',
         '2021-07-19 19:04:40', '2021-06-30 19:59:12', 'Oliver', 'Jarrad'),
-       (33, 'sspark2',
+       (44, 33, 'sspark2',
         'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.',
         '2021-03-19 04:18:04', '2021-11-28 06:15:06', 'Elvin', 'Sunny'),
-       (102, 'sspark2', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-11-28 18:39:57',
+       (45, 102, 'sspark2', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-11-28 18:39:57',
         '2021-06-24 11:01:37', 'Fax', 'Jayme'),
-       (28, 'sspark2',
+       (46, 28, 'sspark2',
         'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.',
         '2021-08-03 06:01:12', '2021-03-12 08:58:02', 'Eldon', 'Emory'),
-       (37, 'sspark2', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
+       (47, 37, 'sspark2', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
         '2021-05-31 02:48:41', '2021-10-21 23:00:17', 'Northrup', 'Bart'),
-       (75, 'sspark2',
+       (48, 75, 'sspark2',
         'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.',
         '2021-03-11 21:47:46', '2021-04-19 14:10:05', 'Timmie', 'Roma'),
-       (70, 'sspark2',
+       (49, 70, 'sspark2',
         'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.',
         '2021-10-30 16:41:56', '2021-09-06 14:43:59', 'Maximo', 'Eziechiele'),
-       (53, 'sspark2',
+       (50, 53, 'sspark2',
         'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         '2021-06-09 22:28:41', '2022-01-20 12:47:05', 'Myrvyn', 'Faulkner'),
-       (33, 'sspark2',
+       (51, 33, 'sspark2',
         'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.',
         '2021-11-18 08:10:04', '2021-10-15 12:18:35', 'Milty', 'Gordie'),
-       (41, 'sspark2',
+       (52, 41, 'sspark2',
         'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.',
         '2021-05-05 07:39:10', '2021-03-17 04:48:00', 'Guillaume', 'Holt'),
-       (103, 'sspark2',
+       (53, 103, 'sspark2',
         'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.',
         '2021-07-16 03:33:44', '2021-12-27 03:33:26', 'Cyrille', 'Ruprecht'),
-       (7, 'sspark2', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.',
+       (54, 7, 'sspark2', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.',
         '2022-01-04 16:06:48', '2021-06-11 14:41:17', 'Jervis', 'Base'),
-       (26, 'sspark2',
+       (55, 26, 'sspark2',
         'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.',
         '2022-01-09 16:07:10', '2021-07-25 22:44:28', 'Nikolos', 'Stanly'),
-       (8, 'sspark2', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2021-02-14 01:02:43',
+       (56, 8, 'sspark2', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2021-02-14 01:02:43',
         '2022-01-10 03:11:26', 'Stefano', 'Hillel'),
-       (58, 'sspark2',
+       (57, 58, 'sspark2',
         'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.',
         '2021-02-27 03:57:38', '2021-10-16 02:36:54', 'Flinn', 'Pembroke'),
-       (87, 'sspark2', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-06-17 04:52:04',
+       (58, 87, 'sspark2', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-06-17 04:52:04',
         '2021-09-29 05:08:41', 'Tome', 'Nat'),
-       (11, 'sspark2',
+       (59, 11, 'sspark2',
         'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.',
         '2021-06-20 03:31:09', '2021-08-09 08:07:50', 'Garrick', 'Bailey'),
-       (103, 'sspark2', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-01-15 03:35:49',
+       (60, 103, 'sspark2', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2022-01-15 03:35:49',
         '2021-08-19 05:46:11', 'Fonz', 'Mohandas'),
-       (119, 'sspark2',
+       (61, 119, 'sspark2',
         'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         '2021-10-19 22:27:28', '2021-03-18 00:32:07', 'Swen', 'My'),
-       (33, 'sspark2',
+       (62, 33, 'sspark2',
         'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.',
         '2022-01-23 21:02:14', '2021-07-22 18:04:02', 'Klement', 'Giordano'),
-       (118, 'sspark2',
+       (63, 118, 'sspark2',
         'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.',
         '2021-12-25 15:45:04', '2021-07-25 01:53:41', 'Alister', 'Gavan'),
-       (87, 'sspark2',
+       (64, 87, 'sspark2',
         'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.',
         '2021-03-13 11:05:05', '2021-04-24 11:01:30', 'Scotty', 'Pascal'),
-       (95, 'sspark2',
+       (65, 95, 'sspark2',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-08-21 20:13:53', '2021-05-28 10:09:16', 'Clevey', 'Bailey'),
-       (48, 'sspark2', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.',
+       (66, 48, 'sspark2', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.',
         '2021-12-28 19:03:27', '2021-07-19 05:47:56', 'Grantham', 'Hadrian'),
-       (27, 'sspark2', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2021-09-08 06:14:44',
+       (67, 27, 'sspark2', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2021-09-08 06:14:44',
         '2021-03-08 01:09:46', 'Gardner', 'Zolly'),
-       (93, 'sspark2', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.',
+       (68, 93, 'sspark2', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.',
         '2021-11-17 23:36:20', '2021-04-14 08:16:21', 'Jerome', 'Dev'),
-       (11, 'sspark2',
+       (69, 11, 'sspark2',
         'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.',
         '2021-06-13 21:19:56', '2021-10-29 10:51:51', 'Lincoln', 'Erwin'),
-       (68, 'sspark2', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-08-30 18:51:16',
+       (70, 68, 'sspark2', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-08-30 18:51:16',
         '2021-04-04 13:02:51', 'Sky', 'Lindon'),
-       (103, 'sspark2',
+       (71, 103, 'sspark2',
         'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.',
         '2021-05-25 13:40:27', '2021-07-08 18:29:16', 'Bary', 'Arri'),
-       (109, 'sspark2',
+       (72, 109, 'sspark2',
         'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.',
         '2021-06-13 00:58:44', '2021-11-02 14:32:58', 'Rafael', 'Ivor'),
-       (86, 'sspark2', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-01-25 01:28:11',
+       (73, 86, 'sspark2', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2022-01-25 01:28:11',
         '2021-04-17 01:10:19', 'Mathe', 'Mattie'),
-       (70, 'sspark2',
+       (74, 70, 'sspark2',
         'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.',
         '2021-04-12 21:18:27', '2021-07-01 12:03:21', 'Geoffrey', 'Tadeo'),
-       (37, 'sspark2', 'Fusce consequat. Nulla nisl. Nunc nisl.', '2021-06-21 12:34:50', '2021-03-09 11:05:09', 'Powell',
+       (75, 37, 'sspark2', 'Fusce consequat. Nulla nisl. Nunc nisl.', '2021-06-21 12:34:50', '2021-03-09 11:05:09', 'Powell',
         'Winifield'),
-       (82, 'sspark2', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.',
+       (76, 82, 'sspark2', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.',
         '2021-10-31 08:16:23', '2021-03-23 18:55:47', 'Winifield', 'Rolando'),
-       (69, 'sspark2', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2021-03-29 13:14:38',
+       (77, 69, 'sspark2', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2021-03-29 13:14:38',
         '2021-03-23 01:58:27', 'Giordano', 'Averell'),
-       (23, 'sspark2',
+       (78, 23, 'sspark2',
         'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.',
         '2021-05-20 07:38:20', '2021-08-05 13:35:48', 'Lammond', 'Martie'),
-       (53, 'sspark2',
+       (79, 53, 'sspark2',
         'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.',
         '2021-02-02 22:43:50', '2021-03-21 01:18:12', 'Tades', 'Jedidiah'),
-       (21, 'sspark2', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-05-29 06:29:02',
+       (80, 21, 'sspark2', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-05-29 06:29:02',
         '2021-10-13 02:23:19', 'Germayne', 'Jermayne'),
-       (94, 'sspark2',
+       (81, 94, 'sspark2',
         'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.',
         '2021-06-02 12:21:13', '2021-09-03 15:17:13', 'Gregory', 'Woodrow'),
-       (9, 'sspark2', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2021-06-07 05:33:53', '2021-04-26 03:00:50',
+       (82, 9, 'sspark2', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2021-06-07 05:33:53', '2021-04-26 03:00:50',
         'Theodore', 'Godwin'),
-       (74, 'sspark2',
+       (83, 74, 'sspark2',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-11-22 01:27:42', '2021-12-07 13:24:52', 'Richy', 'Garvin'),
-       (93, 'sspark2', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.',
+       (84, 93, 'sspark2', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.',
         '2021-11-29 14:10:08', '2021-12-21 15:41:28', 'Skipp', 'Broderick'),
-       (66, 'sspark2', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.',
+       (85, 66, 'sspark2', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.',
         '2021-07-18 13:45:38', '2021-09-07 10:37:11', 'Kaine', 'Rooney'),
-       (46, 'sspark2', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.',
+       (86, 46, 'sspark2', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.',
         '2021-09-08 17:42:59', '2021-08-28 15:12:30', 'Humfrid', 'Steffen'),
-       (26, 'sspark2', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.',
+       (87, 26, 'sspark2', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.',
         '2022-01-22 19:23:45', '2021-04-19 07:53:02', 'Jamie', 'Reinaldos'),
-       (2, 'sspark2', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.',
+       (88, 2, 'sspark2', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.',
         '2021-02-23 17:42:56', '2021-10-09 08:03:13', 'Glynn', 'Truman'),
-       (15, 'sspark2',
+       (89, 15, 'sspark2',
         'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.',
         '2021-10-12 14:19:16', '2021-09-11 22:13:27', 'Maddy', 'Tynan'),
-       (96, 'sspark2',
+       (90, 96, 'sspark2',
         'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.',
         '2021-12-27 11:42:15', '2022-01-19 14:11:02', 'Merill', 'Kermit'),
-       (118, 'sspark2',
+       (91, 118, 'sspark2',
         'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.',
         '2021-07-30 23:57:48', '2021-11-13 11:45:31', 'Llewellyn', 'Welch'),
-       (118, 'sspark2',
+       (92, 118, 'sspark2',
         'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.',
         '2021-07-21 15:39:09', '2021-10-24 12:13:07', 'Augustine', 'Cash'),
-       (82, 'sspark2',
+       (93, 82, 'sspark2',
         'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.',
         '2021-04-10 22:46:57', '2021-10-07 06:49:09', 'Jermain', 'Felice'),
-       (17, 'sspark2',
+       (94, 17, 'sspark2',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-02-10 12:15:50', '2021-02-08 21:36:20', 'Ned', 'Marlow'),
-       (118, 'sspark2',
+       (95, 118, 'sspark2',
         'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.',
         '2021-04-28 19:26:22', '2021-04-01 16:32:22', 'Griswold', 'Brion'),
-       (37, 'sspark2',
+       (96, 37, 'sspark2',
         'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.',
         '2021-04-23 15:49:37', '2021-12-14 18:20:38', 'Lemuel', 'Karel'),
-       (60, 'sspark2', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.',
+       (97, 60, 'sspark2', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.',
         '2021-08-14 16:26:15', '2021-07-05 14:35:38', 'Yance', 'Henderson'),
-       (114, 'sspark2',
+       (98, 114, 'sspark2',
         'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.',
         '2021-05-20 19:07:27', '2022-01-26 17:02:57', 'Munroe', 'Olvan'),
-       (20, 'sspark2', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
+       (99, 20, 'sspark2', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
         '2021-08-30 20:30:28', '2021-09-11 10:18:50', 'Salim', 'Keene'),
-       (51, 'sspark2',
+       (100, 51, 'sspark2',
         'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.',
         '2021-03-08 12:55:54', '2021-07-12 23:56:12', 'Rustie', 'Lorne'),
-       (50, 'sspark2',
+       (101, 50, 'sspark2',
         'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.',
         '2021-10-13 17:57:44', '2021-05-10 21:31:48', 'Lorry', 'Alex'),
-       (43, 'sspark2',
+       (102, 43, 'sspark2',
         'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.',
         '2021-04-02 01:37:13', '2021-09-16 05:24:04', 'Leonidas', 'Fulton'),
-       (115, 'sspark2', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.',
+       (103, 115, 'sspark2', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.',
         '2021-11-11 04:39:17', '2021-11-03 15:21:42', 'Marietta', 'Brnaba'),
-       (97, 'sspark2',
+       (104, 97, 'sspark2',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-01-31 06:45:18', '2021-03-10 22:17:41', 'Obie', 'Allard'),
-       (8, 'sspark2',
+       (105, 8, 'sspark2',
         'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.',
         '2021-08-25 23:41:07', '2021-04-19 09:14:12', 'Dru', 'Osborn'),
-       (11, 'sspark2', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2021-11-28 19:55:06',
+       (106, 11, 'sspark2', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2021-11-28 19:55:06',
         '2021-09-22 19:59:06', 'Iain', 'Job'),
-       (43, 'sspark2',
+       (107, 43, 'sspark2',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-09-29 14:30:08', '2021-04-05 17:41:49', 'Rikki', 'Hymie'),
-       (31, 'sspark2', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.',
+       (108, 31, 'sspark2', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.',
         '2021-10-05 20:08:45', '2021-10-31 14:59:42', 'Em', 'Aldric'),
-       (88, 'sspark2',
+       (109, 88, 'sspark2',
         'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.',
         '2021-03-27 00:02:27', '2021-12-17 06:02:34', 'Burty', 'Martainn'),
-       (56, 'sspark2',
+       (110, 56, 'sspark2',
         'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.',
         '2021-12-22 12:41:15', '2021-04-14 03:12:08', 'Garvin', 'Esra'),
-       (9, 'sspark2', 'Fusce consequat. Nulla nisl. Nunc nisl.', '2021-05-29 13:08:55', '2021-08-01 08:38:29', 'Siward',
+       (111, 9, 'sspark2', 'Fusce consequat. Nulla nisl. Nunc nisl.', '2021-05-29 13:08:55', '2021-08-01 08:38:29', 'Siward',
         'Garey'),
-       (31, 'sspark2',
+       (112, 31, 'sspark2',
         'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.',
         '2021-12-15 19:49:25', '2022-01-27 19:49:47', 'Fran', 'Cece'),
-       (1, 'sspark2',
+       (113, 1, 'sspark2',
         'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.',
         '2021-03-02 11:57:54', '2021-05-09 12:36:08', 'Torry', 'Rolando'),
-       (110, 'sspark2', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.',
+       (114, 110, 'sspark2', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.',
         '2021-07-27 01:40:15', '2021-06-25 16:54:44', 'Kevin', 'Chico'),
-       (78, 'sspark2',
+       (115, 78, 'sspark2',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-03-30 22:33:45', '2021-03-13 12:40:17', 'Xavier', 'Nicol'),
-       (73, 'sspark2',
+       (116, 73, 'sspark2',
         'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.',
         '2021-11-26 19:26:39', '2021-04-14 20:32:25', 'Grannie', 'Cobbie'),
-       (20, 'sspark2', 'Fusce consequat. Nulla nisl. Nunc nisl.', '2021-06-30 06:56:10', '2021-02-25 03:34:01', 'Haskell',
+       (117, 20, 'sspark2', 'Fusce consequat. Nulla nisl. Nunc nisl.', '2021-06-30 06:56:10', '2021-02-25 03:34:01', 'Haskell',
         'Terence'),
-       (99, 'sspark2', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.',
+       (118, 99, 'sspark2', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.',
         '2021-07-27 20:53:45', '2021-03-13 15:29:58', 'Nealy', 'Doyle'),
-       (58, 'sspark2', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.',
+       (119, 58, 'sspark2', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.',
         '2021-08-04 21:54:34', '2021-05-17 14:36:46', 'Sibyl', 'Consalve'),
-       (33, 'sspark2', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2021-08-12 10:07:09',
+       (120, 33, 'sspark2', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2021-08-12 10:07:09',
         '2021-02-14 00:36:15', 'Arvy', 'Tymothy'),
-       (111, 'sspark2', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.',
+       (121, 111, 'sspark2', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.',
         '2021-09-16 06:12:57', '2021-09-04 15:51:30', 'Morten', 'Gerhard'),
-       (83, 'sspark2',
+       (122, 83, 'sspark2',
         'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.',
         '2021-12-16 10:24:39', '2021-02-25 21:15:30', 'Sheridan', 'Cash'),
-       (13, 'sspark', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.',
+       (123, 13, 'sspark', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.',
         '2021-09-25 16:26:15', '2021-09-04 06:36:17', 'Heath', 'Irwinn'),
-       (47, 'sspark',
+       (124, 47, 'sspark',
         'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.',
         '2021-02-15 09:00:36', '2021-12-02 02:50:19', 'Bordy', 'Kliment'),
-       (37, 'sspark',
+       (125, 37, 'sspark',
         'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.',
         '2021-08-08 15:11:06', '2021-05-31 22:32:58', 'Graeme', 'Cody'),
-       (19, 'sspark',
+       (126, 19, 'sspark',
         'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         '2021-01-29 18:57:18', '2021-10-01 12:57:33', 'Ram', 'Gino'),
-       (9, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
+       (127, 9, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
         '2021-12-31 02:29:25', '2021-02-04 09:29:05', 'Umberto', 'Timotheus'),
-       (3, 'sspark',
+       (128, 3, 'sspark',
         'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.',
         '2021-09-01 13:11:45', '2021-10-28 14:30:23', 'Juan', 'Forest'),
-       (97, 'sspark', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
+       (129, 97, 'sspark', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
         '2021-12-19 15:39:54', '2021-07-10 04:11:12', 'Urbanus', 'Noach'),
-       (88, 'sspark', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.',
+       (130, 88, 'sspark', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.',
         '2021-11-12 11:38:06', '2021-12-13 15:21:53', 'Zack', 'Jammal'),
-       (20, 'sspark', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-10-20 18:22:32',
+       (131, 20, 'sspark', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-10-20 18:22:32',
         '2021-07-10 16:15:54', 'Norrie', 'Barny'),
-       (93, 'sspark',
+       (132, 93, 'sspark',
         'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.',
         '2021-09-08 08:49:05', '2021-02-27 04:15:27', 'Donn', 'Adan'),
-       (61, 'sspark',
+       (133, 61, 'sspark',
         'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.',
         '2021-06-24 16:06:45', '2021-10-31 08:38:22', 'Paxton', 'Stevy'),
-       (73, 'sspark',
+       (134, 73, 'sspark',
         'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.',
         '2021-03-11 20:20:34', '2021-04-19 22:24:56', 'Carolus', 'Niven'),
-       (60, 'sspark',
+       (135, 60, 'sspark',
         'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.',
         '2021-10-12 16:46:55', '2021-05-08 14:42:18', 'Cameron', 'Beniamino'),
-       (41, 'sspark',
+       (136, 41, 'sspark',
         'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.',
         '2021-03-16 05:38:39', '2021-02-26 21:41:53', 'Flint', 'Artur'),
-       (116, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
+       (137, 116, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
         '2021-08-15 22:55:29', '2021-09-22 03:03:29', 'Efren', 'Carrol'),
-       (113, 'sspark',
+       (138, 113, 'sspark',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-06-13 10:25:18', '2021-10-27 10:34:16', 'Nevins', 'Caspar'),
-       (86, 'sspark',
+       (139, 86, 'sspark',
         'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.',
         '2021-04-12 11:14:15', '2021-02-13 09:33:29', 'Carrol', 'Isac'),
-       (122, 'sspark',
+       (140, 122, 'sspark',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-11-30 20:48:06', '2021-02-19 12:25:33', 'Dagny', 'Silvain'),
-       (42, 'sspark',
+       (141, 42, 'sspark',
         'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.',
         '2021-09-29 09:08:16', '2021-01-29 16:01:20', 'Thurstan', 'Vidovic'),
-       (3, 'sspark',
+       (142, 3, 'sspark',
         'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.',
         '2021-02-10 03:27:32', '2021-11-07 23:23:44', 'Jerrold', 'Mac'),
-       (92, 'sspark',
+       (143, 92, 'sspark',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-09-24 15:03:04', '2021-03-09 13:36:02', 'Tommie', 'Uriel'),
-       (3, 'sspark',
+       (144, 3, 'sspark',
         'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.',
         '2021-03-18 14:50:37', '2021-04-25 15:04:11', 'Desi', 'Patrizius'),
-       (24, 'sspark', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-04-26 17:14:34', '2021-07-04 04:58:06',
+       (145, 24, 'sspark', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-04-26 17:14:34', '2021-07-04 04:58:06',
         'Frederigo', 'Heath'),
-       (62, 'sspark', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.',
+       (146, 62, 'sspark', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.',
         '2021-07-30 17:36:48', '2021-02-22 02:50:31', 'Conroy', 'Ralf'),
-       (49, 'sspark',
+       (147, 49, 'sspark',
         'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.',
         '2021-06-30 07:55:25', '2021-05-01 04:31:05', 'Carolus', 'Kiley'),
-       (11, 'sspark',
+       (148, 11, 'sspark',
         'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.',
         '2021-11-30 02:55:08', '2021-12-17 10:25:02', 'Killian', 'Ewell'),
-       (3, 'sspark',
+       (149, 3, 'sspark',
         'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.',
         '2021-10-17 05:31:12', '2021-12-19 13:25:46', 'Gary', 'Korey'),
-       (89, 'sspark',
+       (150, 89, 'sspark',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-05-16 00:33:39', '2021-04-21 11:16:34', 'Jeth', 'Shem'),
-       (104, 'sspark', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2021-04-11 19:12:30',
+       (151, 104, 'sspark', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2021-04-11 19:12:30',
         '2021-07-28 21:58:46', 'Archambault', 'Elwyn'),
-       (120, 'sspark',
+       (152, 120, 'sspark',
         'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.',
         '2021-11-09 07:48:20', '2021-05-25 01:18:53', 'Owen', 'Aldrich'),
-       (119, 'sspark', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-12-11 18:39:03',
+       (153, 119, 'sspark', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-12-11 18:39:03',
         '2021-05-29 15:07:40', 'Fleming', 'Kaine'),
-       (71, 'sspark',
+       (154, 71, 'sspark',
         'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.',
         '2021-09-22 10:07:58', '2021-06-29 20:27:29', 'Gianni', 'Leroi'),
-       (45, 'sspark',
+       (155, 45, 'sspark',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-06-03 15:54:44', '2022-01-21 14:50:05', 'Saundra', 'Timofei'),
-       (78, 'sspark', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2021-05-19 04:22:01',
+       (156, 78, 'sspark', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.', '2021-05-19 04:22:01',
         '2021-02-23 20:41:21', 'Raphael', 'Earl'),
-       (29, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
+       (157, 29, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
         '2021-02-14 18:22:02', '2021-03-16 18:55:35', 'Thorstein', 'Boycie'),
-       (14, 'sspark', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.',
+       (158, 14, 'sspark', 'Nullam sit amet turpis elementum ligula vehicula consequat. Morbi a ipsum. Integer a nibh.',
         '2021-12-12 21:27:12', '2022-01-13 21:51:23', 'Haywood', 'Orland'),
-       (36, 'sspark', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-12-04 23:26:12', '2021-06-24 00:39:21',
+       (159, 36, 'sspark', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-12-04 23:26:12', '2021-06-24 00:39:21',
         'Arley', 'Bealle'),
-       (16, 'sspark',
+       (160, 16, 'sspark',
         'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.',
         '2021-10-20 22:49:39', '2021-09-16 21:40:00', 'Gerik', 'Tom'),
-       (30, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
+       (161, 30, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
         '2021-04-22 18:41:14', '2021-02-14 23:42:46', 'Kimbell', 'Avigdor'),
-       (119, 'sspark',
+       (162, 119, 'sspark',
         'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.',
         '2021-11-05 20:30:44', '2021-08-23 04:17:55', 'Manny', 'Roth'),
-       (49, 'sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.',
+       (163, 49, 'sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.',
         '2021-03-30 20:19:39', '2021-11-11 18:15:08', 'Clare', 'Frants'),
-       (53, 'sspark',
+       (164, 53, 'sspark',
         'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.',
         '2021-07-25 16:59:57', '2021-12-26 16:40:39', 'Verge', 'Uriel'),
-       (58, 'sspark',
+       (165, 58, 'sspark',
         'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.',
         '2021-10-24 00:02:07', '2021-05-14 21:38:51', 'Tobe', 'Padraig'),
-       (97, 'sspark',
+       (166, 97, 'sspark',
         'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.',
         '2021-03-15 03:17:22', '2021-03-09 07:40:08', 'Tommy', 'Stanton'),
-       (58, 'sspark',
+       (167, 58, 'sspark',
         'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.',
         '2021-02-17 15:44:23', '2021-05-12 19:09:44', 'Addy', 'Georas'),
-       (18, 'sspark',
+       (168, 18, 'sspark',
         'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.',
         '2022-01-14 07:16:57', '2022-01-18 13:43:16', 'Salem', 'Franklin'),
-       (48, 'sspark', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.',
+       (169, 48, 'sspark', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.',
         '2021-03-25 20:09:14', '2021-06-05 06:26:54', 'Wang', 'Gunner'),
-       (1, 'sspark',
+       (170, 1, 'sspark',
         'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.',
         '2021-10-28 04:52:36', '2021-12-25 06:43:01', 'Brendan', 'Rouvin'),
-       (102, 'sspark',
+       (171, 102, 'sspark',
         'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.',
         '2021-06-13 23:00:54', '2021-03-02 16:25:07', 'Bran', 'Chet'),
-       (105, 'sspark',
+       (172, 105, 'sspark',
         'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.',
         '2021-07-23 01:10:10', '2021-10-09 04:58:11', 'My', 'Conny'),
-       (1, 'sspark', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2021-06-15 07:11:35',
+       (173, 1, 'sspark', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2021-06-15 07:11:35',
         '2021-11-10 07:57:55', 'Raimondo', 'Lou'),
-       (87, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
+       (174, 87, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
         '2021-04-12 09:26:39', '2021-02-05 04:29:18', 'Curry', 'Gian'),
-       (113, 'sspark', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.',
+       (175, 113, 'sspark', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.',
         '2021-04-14 23:17:12', '2021-12-21 20:18:49', 'Raleigh', 'Marlon'),
-       (74, 'sspark',
+       (176, 74, 'sspark',
         'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.',
         '2021-10-26 17:58:35', '2022-01-27 11:45:17', 'Lauren', 'Hoebart'),
-       (28, 'sspark', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.',
+       (177, 28, 'sspark', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.',
         '2021-05-17 07:57:54', '2021-03-16 07:48:16', 'Tonnie', 'Borden'),
-       (47, 'sspark',
+       (178, 47, 'sspark',
         'Proin leo odio, porttitor id, consequat in, consequat ut, nulla. Sed accumsan felis. Ut at dolor quis odio consequat varius.',
         '2021-07-30 20:29:36', '2021-12-29 07:52:24', 'Galvin', 'Olenolin'),
-       (104, 'sspark', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-07-16 13:21:55',
+       (179, 104, 'sspark', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-07-16 13:21:55',
         '2021-02-18 15:51:26', 'Burty', 'Nicky'),
-       (121, 'sspark', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-02-02 04:12:07',
+       (180, 121, 'sspark', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-02-02 04:12:07',
         '2021-12-07 02:32:36', 'Ashton', 'Galvin'),
-       (12, 'sspark', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2021-10-18 21:01:27',
+       (181, 12, 'sspark', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2021-10-18 21:01:27',
         '2021-10-02 00:45:14', 'Pacorro', 'Johan'),
-       (62, 'sspark',
+       (182, 62, 'sspark',
         'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.',
         '2021-02-26 12:57:07', '2021-05-28 13:25:39', 'Chip', 'Lazaro'),
-       (3, 'sspark',
+       (183, 3, 'sspark',
         'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.',
         '2021-08-09 03:26:07', '2021-11-24 20:01:46', 'Odey', 'Alasdair'),
-       (111, 'sspark', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.',
+       (184, 111, 'sspark', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.',
         '2021-09-11 06:11:36', '2021-02-08 18:50:27', 'Francis', 'Clywd'),
-       (15, 'sspark',
+       (185, 15, 'sspark',
         'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.',
         '2021-10-28 03:52:43', '2021-05-07 04:46:57', 'Ambros', 'Allistir'),
-       (63, 'sspark', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
+       (186, 63, 'sspark', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
         '2021-02-26 11:44:06', '2021-04-04 10:50:51', 'Godwin', 'Darn'),
-       (64, 'sspark',
+       (187, 64, 'sspark',
         'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.',
         '2021-09-18 01:26:49', '2021-10-18 22:02:35', 'Saw', 'Hersch'),
-       (75, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
+       (188, 75, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
         '2021-05-07 22:15:22', '2021-04-09 04:53:46', 'Jonas', 'Walther'),
-       (115, 'sspark',
+       (189, 115, 'sspark',
         'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.',
         '2022-01-09 09:24:31', '2021-11-23 05:50:30', 'Maison', 'Rutledge'),
-       (66, 'sspark', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2021-04-29 15:50:03',
+       (190, 66, 'sspark', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2021-04-29 15:50:03',
         '2021-10-09 05:24:40', 'Warde', 'Ezra'),
-       (113, 'sspark',
+       (191, 113, 'sspark',
         'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.',
         '2021-11-27 02:08:50', '2021-09-17 23:44:27', 'Beale', 'John'),
-       (22, 'sspark', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-12-07 04:27:25',
+       (192, 22, 'sspark', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-12-07 04:27:25',
         '2021-08-01 16:35:36', 'Stephanus', 'Woodie'),
-       (101, 'sspark', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.',
+       (193, 101, 'sspark', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.',
         '2022-01-09 23:00:02', '2021-02-03 16:50:34', 'Kendrick', 'Stevie'),
-       (74, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
+       (194, 74, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
         '2021-11-13 17:40:36', '2021-05-24 19:48:38', 'Renato', 'Lazar'),
-       (117, 'sspark',
+       (195, 117, 'sspark',
         'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.',
         '2021-04-07 23:37:24', '2021-07-31 23:54:24', 'Clim', 'Kerwin'),
-       (109, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
+       (196, 109, 'sspark', 'Phasellus sit amet erat. Nulla tempus. Vivamus in felis eu sapien cursus vestibulum.',
         '2021-06-01 10:19:17', '2021-05-05 01:35:40', 'Merry', 'Alejoa'),
-       (35, 'sspark',
+       (197, 35, 'sspark',
         'Morbi non lectus. Aliquam sit amet diam in magna bibendum imperdiet. Nullam orci pede, venenatis non, sodales sed, tincidunt eu, felis.',
         '2021-07-26 04:44:47', '2021-08-04 20:39:24', 'Hank', 'Bronnie'),
-       (58, 'sspark',
+       (198, 58, 'sspark',
         'Integer tincidunt ante vel ipsum. Praesent blandit lacinia erat. Vestibulum sed magna at nunc commodo placerat.',
         '2021-06-05 17:56:40', '2021-12-16 06:08:45', 'Pembroke', 'Rudolfo'),
-       (94, 'sspark',
+       (199, 94, 'sspark',
         'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.',
         '2021-07-27 15:28:41', '2021-02-03 15:56:24', 'Skye', 'Travus'),
-       (110, 'sspark', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-05-13 08:24:45',
+       (200, 110, 'sspark', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-05-13 08:24:45',
         '2021-11-05 10:30:53', 'Anatole', 'Josh'),
-       (38, 'sspark', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-01-03 09:28:12',
+       (201, 38, 'sspark', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2022-01-03 09:28:12',
         '2021-06-15 10:09:44', 'Wolfy', 'Denver'),
-       (112, 'sspark', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.',
+       (202, 112, 'sspark', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.',
         '2021-10-28 06:09:00', '2021-04-18 09:32:47', 'Ave', 'Samson'),
-       (55, 'sspark', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2021-03-30 07:04:00',
+       (203, 55, 'sspark', 'Nulla ut erat id mauris vulputate elementum. Nullam varius. Nulla facilisi.', '2021-03-30 07:04:00',
         '2021-06-11 23:16:21', 'Merrick', 'Taddeo'),
-       (38, 'sspark', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.',
+       (204, 38, 'sspark', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.',
         '2021-05-12 15:07:01', '2021-03-01 11:26:25', 'Lamar', 'Denver'),
-       (57, 'sspark', 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.',
+       (205, 57, 'sspark', 'Pellentesque at nulla. Suspendisse potenti. Cras in purus eu magna vulputate luctus.',
         '2021-07-19 19:58:41', '2022-01-09 10:16:22', 'Marc', 'Dudley'),
-       (110, 'sspark',
+       (206, 110, 'sspark',
         'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.',
         '2021-10-10 12:35:10', '2021-06-08 16:03:44', 'Cirilo', 'Hewie'),
-       (16, 'sspark',
+       (207, 16, 'sspark',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-09-15 20:31:58', '2021-09-10 04:08:45', 'Parnell', 'Justen'),
-       (77, 'sspark',
+       (208, 77, 'sspark',
         'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.',
         '2021-10-10 05:06:58', '2021-03-07 18:41:41', 'Wait', 'Jefferey'),
-       (80, 'sspark', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-11-29 14:56:54', '2021-08-11 08:38:14',
+       (209, 80, 'sspark', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-11-29 14:56:54', '2021-08-11 08:38:14',
         'Oliver', 'Gordan'),
-       (93, 'sspark', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2021-08-08 12:08:41', '2021-02-21 14:20:28',
+       (210, 93, 'sspark', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2021-08-08 12:08:41', '2021-02-21 14:20:28',
         'Boy', 'Erhard'),
-       (21, 'sspark', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.',
+       (211, 21, 'sspark', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.',
         '2021-02-02 10:37:42', '2021-07-07 09:13:50', 'Kingsley', 'Cristiano'),
-       (121, 'sspark',
+       (212, 121, 'sspark',
         'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.',
         '2021-05-01 16:02:15', '2021-03-16 04:57:53', 'Jack', 'Emerson'),
-       (81, 'sspark', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.',
+       (213, 81, 'sspark', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.',
         '2021-10-06 07:22:15', '2021-04-13 18:38:19', 'Shadow', 'Olivero'),
-       (115, 'sspark',
+       (214, 115, 'sspark',
         'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.',
         '2021-08-21 18:30:28', '2022-01-27 04:56:23', 'Torrance', 'Jay'),
-       (71, 'sspark',
+       (215, 71, 'sspark',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-07-14 22:27:52', '2021-12-20 14:06:44', 'Griz', 'Rice'),
-       (10, 'sspark',
+       (216, 10, 'sspark',
         'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.',
         '2021-09-22 03:34:12', '2021-08-02 23:30:33', 'Johnathan', 'Gasper'),
-       (83, 'sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.',
+       (217, 83, 'sspark', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Proin risus. Praesent lectus.',
         '2021-11-09 09:44:05', '2021-09-27 16:32:41', 'Krishnah', 'Gauthier'),
-       (65, 'sspark',
+       (218, 65, 'sspark',
         'Duis consequat dui nec nisi volutpat eleifend. Donec ut dolor. Morbi vel lectus in quam fringilla rhoncus.',
         '2021-06-05 10:03:50', '2021-04-03 21:14:02', 'Padraig', 'Hagan'),
-       (65, 'sspark',
+       (219, 65, 'sspark',
         'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.',
         '2021-02-08 03:59:27', '2022-01-05 18:54:29', 'Marven', 'Cesaro'),
-       (40, 'sspark', 'Fusce consequat. Nulla nisl. Nunc nisl.', '2021-09-10 06:18:43', '2022-01-05 12:44:51', 'Iggy',
+       (220, 40, 'sspark', 'Fusce consequat. Nulla nisl. Nunc nisl.', '2021-09-10 06:18:43', '2022-01-05 12:44:51', 'Iggy',
         'Giffer'),
-       (40, 'sspark',
+       (221, 40, 'sspark',
         'Curabitur gravida nisi at nibh. In hac habitasse platea dictumst. Aliquam augue quam, sollicitudin vitae, consectetuer eget, rutrum at, lorem.',
         '2021-11-24 21:14:01', '2021-07-24 00:45:50', 'Tanner', 'Alasdair'),
-       (53, 'sspark',
+       (222, 53, 'sspark',
         'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.',
         '2021-04-30 20:09:55', '2021-07-19 23:40:23', 'Germain', 'Raffaello'),
-       (35, 'sspark',
+       (223, 35, 'sspark',
         'Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Vivamus vestibulum sagittis sapien. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus.',
         '2021-09-23 19:49:04', '2021-07-17 12:46:19', 'Pat', 'Lynn'),
-       (108, 'sspark', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
+       (224, 108, 'sspark', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
         '2021-02-26 17:41:27', '2021-06-19 13:50:02', 'Ancell', 'Zack'),
-       (123, 'sspark',
+       (225, 123, 'sspark',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-04-02 23:38:41', '2021-05-25 09:51:50', 'Augustus', 'Noak'),
-       (10, 'sspark',
+       (226, 10, 'sspark',
         'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.',
         '2021-08-04 16:14:43', '2021-05-14 16:24:37', 'Verne', 'Jae'),
-       (70, 'sspark',
+       (227, 70, 'sspark',
         'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.',
         '2021-11-06 06:46:35', '2022-01-10 16:32:48', 'Guillermo', 'Donavon'),
-       (66, 'sspark',
+       (228, 66, 'sspark',
         'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.',
         '2022-01-14 20:49:05', '2021-02-17 00:51:12', 'Ermin', 'Eugenius'),
-       (60, 'sspark',
+       (229, 60, 'sspark',
         'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         '2021-10-31 12:14:52', '2021-12-16 14:05:55', 'Beniamino', 'Lucius'),
-       (86, 'sspark',
+       (230, 86, 'sspark',
         'Donec diam neque, vestibulum eget, vulputate ut, ultrices vel, augue. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Donec pharetra, magna vestibulum aliquet ultrices, erat tortor sollicitudin mi, sit amet lobortis sapien sapien non mi. Integer ac neque.',
         '2021-05-14 17:45:54', '2021-11-04 17:25:01', 'Roman', 'Pippo'),
-       (46, 'sspark',
+       (231, 46, 'sspark',
         'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.',
         '2021-12-30 18:54:39', '2021-10-27 17:51:06', 'Laird', 'Rooney'),
-       (109, 'sspark', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2021-02-15 22:55:20',
+       (232, 109, 'sspark', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2021-02-15 22:55:20',
         '2021-05-19 06:29:30', 'Harwell', 'Hamish'),
-       (29, 'sspark',
+       (233, 29, 'sspark',
         'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.',
         '2021-03-03 14:41:45', '2021-08-21 19:45:03', 'Farrell', 'Putnam'),
-       (4, 'sspark',
+       (234, 4, 'sspark',
         'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.',
         '2021-05-07 23:41:49', '2021-07-20 15:05:46', 'Cullan', 'Brenden'),
-       (72, 'sspark',
+       (235, 72, 'sspark',
         'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         '2022-01-21 09:58:07', '2021-09-30 10:22:58', 'Reinhard', 'Gustav'),
-       (103, 'sspark',
+       (236, 103, 'sspark',
         'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.',
         '2021-06-21 04:54:38', '2021-02-04 14:03:34', 'Redford', 'Odey'),
-       (3, 'sspark', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.',
+       (237, 3, 'sspark', 'Duis aliquam convallis nunc. Proin at turpis a pede posuere nonummy. Integer non velit.',
         '2021-07-03 22:53:01', '2021-12-17 02:16:19', 'Onofredo', 'Burnard'),
-       (47, 'sspark', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-04-14 07:12:05', '2022-01-25 09:31:18',
+       (238, 47, 'sspark', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-04-14 07:12:05', '2022-01-25 09:31:18',
         'Ludwig', 'Bink'),
-       (108, 'sspark',
+       (239, 108, 'sspark',
         'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.',
         '2021-01-29 06:11:21', '2021-11-28 10:36:30', 'Brose', 'Dory'),
-       (18, 'sspark',
+       (240, 18, 'sspark',
         'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.',
         '2021-07-11 22:57:32', '2021-12-29 13:13:47', 'Jorgan', 'Tully'),
-       (122, 'sspark',
+       (241, 122, 'sspark',
         'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.',
         '2021-07-07 11:28:36', '2022-01-11 22:25:11', 'Noak', 'Randi'),
-       (10, 'sspark',
+       (242, 10, 'sspark',
         'Duis bibendum, felis sed interdum venenatis, turpis enim blandit mi, in porttitor pede justo eu massa. Donec dapibus. Duis at velit eu est congue elementum.',
         '2021-01-28 04:18:05', '2021-03-15 00:49:20', 'Robers', 'Lucien'),
-       (100, 'sspark', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.',
+       (243, 100, 'sspark', 'In quis justo. Maecenas rhoncus aliquam lacus. Morbi quis tortor id nulla ultrices aliquet.',
         '2021-10-21 10:15:11', '2021-07-15 02:29:24', 'Ellwood', 'Haley'),
-       (109, 'sspark',
+       (244, 109, 'sspark',
         'In sagittis dui vel nisl. Duis ac nibh. Fusce lacus purus, aliquet at, feugiat non, pretium quis, lectus.',
         '2021-09-20 02:30:44', '2021-02-23 21:10:19', 'Rand', 'Farr'),
-       (7, 'sspark',
+       (245, 7, 'sspark',
         'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.',
         '2021-03-30 03:51:17', '2021-03-12 03:31:28', 'Benn', 'Felicio'),
-       (3, 'sspark', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2021-09-28 17:14:00',
+       (246, 3, 'sspark', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2021-09-28 17:14:00',
         '2021-11-10 07:58:33', 'Bram', 'Reamonn'),
-       (19, 'sspark',
+       (247, 19, 'sspark',
         'Nam ultrices, libero non mattis pulvinar, nulla pede ullamcorper augue, a suscipit nulla elit ac nulla. Sed vel enim sit amet nunc viverra dapibus. Nulla suscipit ligula in lacus.',
         '2021-11-21 02:15:09', '2021-09-26 07:25:00', 'Tobiah', 'Elvyn'),
-       (29, 'sspark', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2021-06-17 22:45:24',
+       (248, 29, 'sspark', 'Integer ac leo. Pellentesque ultrices mattis odio. Donec vitae nisi.', '2021-06-17 22:45:24',
         '2021-02-22 00:27:48', 'Tuckie', 'Alano'),
-       (38, 'sspark', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
+       (249, 38, 'sspark', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
         '2021-03-08 06:05:41', '2021-08-23 14:39:11', 'Torrey', 'Lincoln'),
-       (89, 'sspark', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
+       (250, 89, 'sspark', 'Praesent blandit. Nam nulla. Integer pede justo, lacinia eget, tincidunt eget, tempus vel, pede.',
         '2021-05-02 07:48:14', '2021-04-21 23:59:10', 'Sheppard', 'Mordy'),
-       (37, 'sspark',
+       (251, 37, 'sspark',
         'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.',
         '2021-09-23 10:38:38', '2021-09-28 17:28:23', 'Alasteir', 'Rodolph'),
-       (96, 'sspark',
+       (252, 96, 'sspark',
         'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.',
         '2021-12-13 02:05:08', '2021-08-13 20:19:31', 'Curcio', 'Frankie'),
-       (9, 'sspark',
+       (253, 9, 'sspark',
         'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.',
         '2021-08-03 08:05:59', '2021-07-18 13:07:29', 'Randal', 'Lowrance'),
-       (95, 'sspark',
+       (254, 95, 'sspark',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-05-23 16:26:14', '2022-01-27 15:13:11', 'Corbin', 'Gardy'),
-       (41, 'sspark',
+       (255, 41, 'sspark',
         'In hac habitasse platea dictumst. Morbi vestibulum, velit id pretium iaculis, diam erat fermentum justo, nec condimentum neque sapien placerat ante. Nulla justo.',
         '2021-04-12 18:28:56', '2021-09-16 06:18:28', 'Sammie', 'Jerrold'),
-       (80, 'sspark',
+       (256, 80, 'sspark',
         'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.',
         '2021-02-20 22:12:07', '2021-05-20 15:04:18', 'Abram', 'Foster'),
-       (46, 'sspark',
+       (257, 46, 'sspark',
         'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.',
         '2021-02-05 14:12:10', '2021-04-21 22:37:57', 'Rusty', 'Martin'),
-       (117, 'sspark',
+       (258, 117, 'sspark',
         'Morbi porttitor lorem id ligula. Suspendisse ornare consequat lectus. In est risus, auctor sed, tristique in, tempus sit amet, sem.',
         '2021-08-30 23:52:53', '2021-04-13 04:02:26', 'Mohammed', 'Roman'),
-       (117, 'sspark',
+       (259, 117, 'sspark',
         'Maecenas tristique, est et tempus semper, est quam pharetra magna, ac consequat metus sapien ut nunc. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Mauris viverra diam vitae quam. Suspendisse potenti.',
         '2021-11-28 01:58:02', '2021-12-21 11:52:52', 'Tomas', 'Lorry'),
-       (102, 'sspark',
+       (260, 102, 'sspark',
         'Curabitur at ipsum ac tellus semper interdum. Mauris ullamcorper purus sit amet nulla. Quisque arcu libero, rutrum ac, lobortis vel, dapibus at, diam.',
         '2021-02-07 07:54:20', '2022-01-26 07:40:14', 'Laurence', 'Obediah'),
-       (105, 'sspark',
+       (261, 105, 'sspark',
         'Aenean fermentum. Donec ut mauris eget massa tempor convallis. Nulla neque libero, convallis eget, eleifend luctus, ultricies eu, nibh.',
         '2021-12-07 21:09:27', '2021-02-25 05:08:10', 'Doyle', 'Manolo'),
-       (31, 'sspark',
+       (262, 31, 'sspark',
         'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.',
         '2021-06-08 17:54:29', '2021-04-09 21:42:54', 'Alfons', 'Merrel'),
-       (104, 'sspark',
+       (263, 104, 'sspark',
         'Cras mi pede, malesuada in, imperdiet et, commodo vulputate, justo. In blandit ultrices enim. Lorem ipsum dolor sit amet, consectetuer adipiscing elit.',
         '2021-02-15 00:43:19', '2021-05-11 00:01:36', 'Barris', 'Thayne'),
-       (6, 'sspark',
+       (264, 6, 'sspark',
         'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.',
         '2021-08-23 18:08:15', '2021-02-14 18:46:55', 'Chester', 'Raimund'),
-       (23, 'sspark',
+       (265, 23, 'sspark',
         'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.',
         '2021-08-22 05:10:51', '2021-11-14 05:48:36', 'Gunner', 'Daryle'),
-       (9, 'sspark',
+       (266, 9, 'sspark',
         'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.',
         '2021-07-08 21:49:32', '2021-10-16 05:19:59', 'Garey', 'Newton'),
-       (61, 'sspark',
+       (267, 61, 'sspark',
         'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.',
         '2021-02-16 21:02:31', '2021-03-14 09:32:46', 'Pryce', 'Ruggiero'),
-       (60, 'sspark',
+       (268, 60, 'sspark',
         'Vestibulum ac est lacinia nisi venenatis tristique. Fusce congue, diam id ornare imperdiet, sapien urna pretium nisl, ut volutpat sapien arcu sed augue. Aliquam erat volutpat.',
         '2021-07-01 14:11:02', '2022-01-05 14:35:41', 'Alphonse', 'Jimmie'),
-       (66, 'sspark', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-07-21 22:00:47', '2021-04-15 01:34:52',
+       (269, 66, 'sspark', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-07-21 22:00:47', '2021-04-15 01:34:52',
         'Francesco', 'Sigismond'),
-       (110, 'sspark', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.',
+       (270, 110, 'sspark', 'Maecenas ut massa quis augue luctus tincidunt. Nulla mollis molestie lorem. Quisque ut erat.',
         '2022-01-20 13:04:44', '2021-07-23 13:46:46', 'Lee', 'Hillie'),
-       (49, 'sspark',
+       (271, 49, 'sspark',
         'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.',
         '2021-08-17 22:15:55', '2021-08-14 18:08:06', 'Xerxes', 'Gavan'),
-       (30, 'sspark', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.',
+       (272, 30, 'sspark', 'Praesent id massa id nisl venenatis lacinia. Aenean sit amet justo. Morbi ut odio.',
         '2022-01-01 09:01:26', '2021-02-05 06:06:11', 'Nilson', 'Abramo'),
-       (66, 'sspark',
+       (273, 66, 'sspark',
         'Maecenas leo odio, condimentum id, luctus nec, molestie sed, justo. Pellentesque viverra pede ac diam. Cras pellentesque volutpat dui.',
         '2021-03-19 18:31:00', '2021-02-02 18:13:43', 'Efrem', 'Nappie'),
-       (20, 'sspark',
+       (274, 20, 'sspark',
         'Sed sagittis. Nam congue, risus semper porta volutpat, quam pede lobortis ligula, sit amet eleifend pede libero quis orci. Nullam molestie nibh in lectus.',
         '2021-08-10 09:50:08', '2021-06-10 09:21:44', 'Killy', 'Link'),
-       (60, 'sspark',
+       (275, 60, 'sspark',
         'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         '2021-07-01 11:17:44', '2021-06-12 14:47:11', 'Redd', 'Findlay'),
-       (84, 'sspark',
+       (276, 84, 'sspark',
         'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.',
         '2021-11-20 19:24:29', '2021-07-09 22:30:51', 'Jermaine', 'Giordano'),
-       (16, 'sspark',
+       (277, 16, 'sspark',
         'Proin interdum mauris non ligula pellentesque ultrices. Phasellus id sapien in sapien iaculis congue. Vivamus metus arcu, adipiscing molestie, hendrerit at, vulputate vitae, nisl.',
         '2021-03-31 15:02:53', '2022-01-27 10:41:22', 'Nevins', 'Tades'),
-       (24, 'sspark', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.',
+       (278, 24, 'sspark', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.',
         '2021-12-14 16:08:30', '2021-07-27 17:14:42', 'Ford', 'Bert'),
-       (118, 'sspark',
+       (279, 118, 'sspark',
         'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.',
         '2021-04-06 13:22:24', '2021-03-22 21:55:23', 'Derward', 'Gilberto'),
-       (80, 'sspark',
+       (280, 80, 'sspark',
         'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.',
         '2021-11-11 14:40:19', '2021-03-18 04:28:34', 'Raynard', 'Harmon'),
-       (15, 'sspark',
+       (281, 15, 'sspark',
         'Aliquam quis turpis eget elit sodales scelerisque. Mauris sit amet eros. Suspendisse accumsan tortor quis turpis.',
         '2021-08-03 10:39:41', '2021-10-10 14:36:42', 'Link', 'Herculie'),
-       (53, 'sspark',
+       (282, 53, 'sspark',
         'Mauris enim leo, rhoncus sed, vestibulum sit amet, cursus id, turpis. Integer aliquet, massa id lobortis convallis, tortor risus dapibus augue, vel accumsan tellus nisi eu orci. Mauris lacinia sapien quis libero.',
         '2021-10-16 21:35:19', '2021-02-03 11:50:26', 'Brsspark', 'Morry'),
-       (116, 'sspark',
+       (283, 116, 'sspark',
         'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         '2021-06-30 09:33:06', '2021-03-14 15:57:56', 'Ash', 'Kain'),
-       (18, 'sspark',
+       (284, 18, 'sspark',
         'Vestibulum quam sapien, varius ut, blandit non, interdum in, ante. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Duis faucibus accumsan odio. Curabitur convallis.',
         '2021-12-17 04:35:08', '2021-12-03 02:48:23', 'Vance', 'Sherwood'),
-       (39, 'sspark',
+       (285, 39, 'sspark',
         'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.',
         '2022-01-24 11:08:07', '2021-03-10 17:24:44', 'Alexio', 'Zak'),
-       (36, 'sspark', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-10-26 14:32:13',
+       (286, 36, 'sspark', 'Duis bibendum. Morbi non quam nec dui luctus rutrum. Nulla tellus.', '2021-10-26 14:32:13',
         '2021-12-09 16:40:34', 'Gustavus', 'Dennis'),
-       (95, 'sspark', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.',
+       (287, 95, 'sspark', 'Suspendisse potenti. In eleifend quam a odio. In hac habitasse platea dictumst.',
         '2022-01-04 18:07:58', '2021-06-09 11:32:21', 'Correy', 'Michale'),
-       (83, 'sspark',
+       (288, 83, 'sspark',
         'Proin eu mi. Nulla ac enim. In tempor, turpis nec euismod scelerisque, quam turpis adipiscing lorem, vitae mattis nibh ligula nec sem.',
         '2021-08-26 19:21:23', '2021-08-18 00:16:06', 'Marsh', 'Jake'),
-       (32, 'sspark',
+       (289, 32, 'sspark',
         'Fusce posuere felis sed lacus. Morbi sem mauris, laoreet ut, rhoncus aliquet, pulvinar sed, nisl. Nunc rhoncus dui vel sem.',
         '2021-04-06 03:33:13', '2021-02-08 18:06:28', 'Joey', 'Jeddy'),
-       (97, 'sspark',
+       (290, 97, 'sspark',
         'Curabitur in libero ut massa volutpat convallis. Morbi odio odio, elementum eu, interdum eu, tincidunt in, leo. Maecenas pulvinar lobortis est.',
         '2021-10-02 12:32:35', '2021-03-31 17:12:09', 'Ermin', 'Randy'),
-       (101, 'sspark', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-06-26 12:29:52',
+       (291, 101, 'sspark', 'In congue. Etiam justo. Etiam pretium iaculis justo.', '2021-06-26 12:29:52',
         '2021-01-29 02:54:16', 'Archer', 'Denney'),
-       (109, 'sspark',
+       (292, 109, 'sspark',
         'Cras non velit nec nisi vulputate nonummy. Maecenas tincidunt lacus at velit. Vivamus vel nulla eget eros elementum pellentesque.',
         '2021-05-01 12:24:18', '2021-05-30 21:29:42', 'Fransisco', 'Francisco'),
-       (93, 'sspark',
+       (293, 93, 'sspark',
         'Quisque porta volutpat erat. Quisque erat eros, viverra eget, congue eget, semper rutrum, nulla. Nunc purus.',
         '2021-02-22 10:56:34', '2021-09-02 15:20:32', 'Georgy', 'Wells'),
-       (118, 'sspark',
+       (294, 118, 'sspark',
         'Quisque id justo sit amet sapien dignissim vestibulum. Vestibulum ante ipsum primis in faucibus orci luctus et ultrices posuere cubilia Curae; Nulla dapibus dolor vel est. Donec odio justo, sollicitudin ut, suscipit a, feugiat et, eros.',
         '2021-11-04 07:35:10', '2021-12-24 13:17:12', 'Oates', 'Clayborne'),
-       (97, 'sspark', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.',
+       (295, 97, 'sspark', 'Nullam porttitor lacus at turpis. Donec posuere metus vitae ipsum. Aliquam non mauris.',
         '2021-07-18 10:42:20', '2021-12-25 13:59:02', 'Richmound', 'Wilmar'),
-       (6, 'sspark', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2021-02-08 10:45:24',
+       (296, 6, 'sspark', 'Phasellus in felis. Donec semper sapien a libero. Nam dui.', '2021-02-08 10:45:24',
         '2021-04-04 03:18:49', 'Rees', 'Kerk'),
-       (106, 'sspark', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.',
+       (297, 106, 'sspark', 'Etiam vel augue. Vestibulum rutrum rutrum neque. Aenean auctor gravida sem.',
         '2021-02-12 12:56:15', '2021-06-19 00:23:26', 'Kiley', 'Keenan'),
-       (77, 'sspark', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.',
+       (298, 77, 'sspark', 'Aenean lectus. Pellentesque eget nunc. Donec quis orci eget orci vehicula condimentum.',
         '2022-01-08 02:32:10', '2021-07-23 12:21:01', 'Harlen', 'Zacharia'),
-       (56, 'sspark', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2021-11-18 01:32:48', '2021-06-06 01:59:25',
+       (299, 56, 'sspark', 'Sed ante. Vivamus tortor. Duis mattis egestas metus.', '2021-11-18 01:32:48', '2021-06-06 01:59:25',
         'Vittorio', 'Milty'),
-       (19, 'sspark', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2021-05-07 23:57:29',
+       (300, 19, 'sspark', 'In hac habitasse platea dictumst. Etiam faucibus cursus urna. Ut tellus.', '2021-05-07 23:57:29',
         '2021-04-03 21:55:11', 'Oliver', 'Graehme')
-;
\ No newline at end of file
+;
+-- 해시태그 (게시글의 hashtag 원문에서 '#' 을 떼고 소문자로 정규화)
+insert into hashtag (hashtag_name, created_at, created_by, modified_at, modified_by)
+select distinct lower(substring(hashtag, 2)), now(), 'sspark', now(), 'sspark'
+from article
+where hashtag is not null
+;
+insert into article_hashtag (article_id, hashtag_id)
+select a.id, h.id
+from article a
+         join hashtag h on h.hashtag_name = lower(substring(a.hashtag, 2))
+;
+-- 게시글별 댓글 버전 (댓글 수, 마지막 댓글 변경 시각에서 시작한다)
+insert into article_activity (article_id, comment_version, commented_at)
+select a.id, count(c.id), coalesce(max(c.modified_at), a.created_at)
+from article a
+         left join article_comment c on c.article_id = a.id
+group by a.id, a.created_at
+;
@@ -1,8 +1,11 @@
 package com.example.selfprojectboard;
 
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 class SelfProjectBoardApplicationTests {
 
@@ -10,4 +13,13 @@ class SelfProjectBoardApplicationTests {
 	void contextLoads() {
 	}
 
+	@DisplayName("기동 단계 기록은, faststart 프로필이나 board.startup.record-steps=true 로 띄울 때만 켠다.")
+	@Test
+	void givenArgs_whenDecidingStartupRecording_thenRecordsOnlyWhenAsked() {
+		assertThat(SelfProjectBoardApplication.recordsStartupSteps(new String[]{})).isFalse();
+		assertThat(SelfProjectBoardApplication.recordsStartupSteps(new String[]{"--spring.profiles.active=perf"})).isFalse();
+		assertThat(SelfProjectBoardApplication.recordsStartupSteps(new String[]{"--spring.profiles.active=perf,faststart"})).isTrue();
+		assertThat(SelfProjectBoardApplication.recordsStartupSteps(new String[]{"--board.startup.record-steps=true"})).isTrue();
+	}
+
 }
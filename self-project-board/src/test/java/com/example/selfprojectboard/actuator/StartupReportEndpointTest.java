@@ -0,0 +1,56 @@
+package com.example.selfprojectboard.actuator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("actuator - 기동 시간 보고서")
+class StartupReportEndpointTest {
+
+    @DisplayName("빈 생성 시간은, 안에서 만든 의존 빈 시간을 뺀 자기 시간으로 정렬한다.")
+    @Test
+    void givenNestedBeanSteps_whenReporting_thenSortsBySelfTime() throws InterruptedException {
+        // Given
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(100);
+        StartupStep refresh = applicationStartup.start("spring.context.refresh");
+        StartupStep service = applicationStartup.start("spring.beans.instantiate").tag("beanName", "articleService");
+        StartupStep repository = applicationStartup.start("spring.beans.instantiate").tag("beanName", "articleRepository");
+        Thread.sleep(50);
+        repository.end();
+        service.end();
+        refresh.end();
+        StartupReportEndpoint sut = new StartupReportEndpoint(applicationStartup);
+
+        // When
+        StartupReportEndpoint.StartupReport report = sut.report();
+
+        // Then
+        assertThat(report.beanCount()).isEqualTo(2);
+        assertThat(report.phases()).containsOnlyKeys("spring.context.refresh");
+        assertThat(report.slowestBeans()).first().satisfies(bean -> {
+            assertThat(bean.beanName()).isEqualTo("articleRepository");
+            assertThat(bean.selfMillis()).isGreaterThanOrEqualTo(50);
+        });
+        assertThat(report.slowestBeans().get(1).beanName()).isEqualTo("articleService");
+        assertThat(report.slowestBeans().get(1).totalMillis()).isGreaterThanOrEqualTo(50);
+        assertThat(report.slowestBeans().get(1).selfMillis()).isLessThan(50);
+    }
+
+    @DisplayName("기록하지 않는 ApplicationStartup 이면, 빈 보고서를 준다.")
+    @Test
+    void givenNonBufferingApplicationStartup_whenReporting_thenReturnsEmptyReport() {
+        // Given
+        StartupReportEndpoint sut = new StartupReportEndpoint(ApplicationStartup.DEFAULT);
+
+        // When
+        StartupReportEndpoint.StartupReport report = sut.report();
+
+        // Then
+        assertThat(report.beanCount()).isZero();
+        assertThat(report.slowestBeans()).isEmpty();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.selfprojectboard.config;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.QArticle;
+import com.example.selfprojectboard.service.search.ApiQueryPlanner;
+import com.example.selfprojectboard.service.search.QueryPlan;
+import com.querydsl.core.types.Predicate;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@DisplayName("검색 실행 계획 적용 범위 - /api 리포지토리 호출")
+@ExtendWith(MockitoExtension.class)
+class ApiQueryPlanConfigTest {
+
+    private ApiQueryPlanConfig.QueryPlanningInterceptor sut;
+
+    @Mock private ObjectProvider<ApiQueryPlanner> apiQueryPlannerProvider;
+    @Mock private ApiQueryPlanner apiQueryPlanner;
+    @Mock private MethodInvocation invocation;
+
+    private final Predicate predicate = QArticle.article.title.containsIgnoreCase("spring");
+    private Object[] arguments;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        sut = new ApiQueryPlanConfig.QueryPlanningInterceptor(Article.class, apiQueryPlannerProvider, "/api");
+        given(invocation.getMethod()).willReturn(QuerydslPredicateExecutor.class.getMethod("findAll", Predicate.class, Pageable.class));
+        arguments = new Object[]{predicate, Pageable.ofSize(20)};
+        given(invocation.getArguments()).willReturn(arguments);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("/api 요청 안에서 검색하면, 실행 계획의 조건으로 바꿔서 실행한다.")
+    @Test
+    void givenDataRestRequest_whenFindingAllByPredicate_thenRunsPlannedPredicate() throws Throwable {
+        // Given
+        setRequestUri("/api/articles");
+        Predicate planned = QArticle.article.id.in(1L, 2L).and(predicate);
+        QueryPlan plan = QueryPlan.of(planned, 2L, "title:index");
+        given(apiQueryPlannerProvider.getObject()).willReturn(apiQueryPlanner);
+        given(apiQueryPlanner.plan(Article.class, predicate, Pageable.ofSize(20))).willReturn(plan);
+        given(apiQueryPlanner.admit(plan)).willReturn(() -> {});
+
+        // When
+        sut.invoke(invocation);
+
+        // Then
+        assertThat(arguments[0]).isEqualTo(planned);
+        then(invocation).should().proceed();
+    }
+
+    @DisplayName("화면 요청이나 요청 밖에서 검색하면, 실행 계획 없이 그대로 실행한다.")
+    @Test
+    void givenNonDataRestCall_whenFindingAllByPredicate_thenProceedsWithoutPlanning() throws Throwable {
+        // Given
+        setRequestUri("/articles");
+
+        // When
+        sut.invoke(invocation);
+        RequestContextHolder.resetRequestAttributes();
+        sut.invoke(invocation);
+
+        // Then
+        then(invocation).should(times(2)).proceed();
+        then(apiQueryPlannerProvider).shouldHaveNoInteractions();
+    }
+
+    private void setRequestUri(String requestUri) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("GET", requestUri)));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.selfprojectboard.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@DisplayName("DB 커넥션 동시 사용 제한")
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitingDataSourceTest {
+
+    private ConcurrencyLimitingDataSource sut;
+
+    @Mock private DataSource dataSource;
+    @Mock private Connection connection;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ConcurrencyLimitingDataSource(dataSource, 1, Duration.ofMillis(50));
+    }
+
+    @DisplayName("허가를 모두 쓰고 있으면, 기다리다 SQLTransientConnectionException 을 던진다.")
+    @Test
+    void givenAllPermitsInUse_whenGettingConnection_thenThrowsAfterTimeout() throws SQLException {
+        // Given
+        given(dataSource.getConnection()).willReturn(connection);
+        Connection inUse = sut.getConnection();
+
+        // When & Then
+        assertThatThrownBy(sut::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(sut.getAvailablePermits()).isZero();
+        then(dataSource).should().getConnection();
+        inUse.close();
+    }
+
+    @DisplayName("커넥션을 닫으면, 여러 번 닫아도 허가를 한 번만 돌려준다.")
+    @Test
+    void givenConnection_whenClosingTwice_thenReleasesPermitOnce() throws SQLException {
+        // Given
+        given(dataSource.getConnection()).willReturn(connection);
+        Connection limited = sut.getConnection();
+
+        // When
+        limited.close();
+        limited.close();
+
+        // Then
+        assertThat(sut.getAvailablePermits()).isEqualTo(1);
+        then(connection).should(times(2)).close();
+    }
+
+    @DisplayName("커넥션을 얻지 못하면, 허가를 바로 돌려준다.")
+    @Test
+    void givenTargetFailure_whenGettingConnection_thenReleasesPermit() throws SQLException {
+        // Given
+        given(dataSource.getConnection()).willThrow(new SQLException("pool exhausted"));
+
+        // When & Then
+        assertThatThrownBy(sut::getConnection).isInstanceOf(SQLException.class).hasMessage("pool exhausted");
+        assertThat(sut.getAvailablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.selfprojectboard.config;
+
+import com.example.selfprojectboard.controller.MainController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("정적 파일 - 내용 해시 URL, 캐시 헤더")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(MainController.class)
+class StaticResourceConfigTest {
+
+    private final MockMvc mvc;
+    private final ResourceUrlProvider resourceUrlProvider;
+
+    StaticResourceConfigTest(@Autowired MockMvc mvc, @Autowired ResourceUrlProvider resourceUrlProvider) {
+        this.mvc = mvc;
+        this.resourceUrlProvider = resourceUrlProvider;
+    }
+
+    @DisplayName("css 링크는, 내용 해시를 붙인 URL 로 바뀐다.")
+    @Test
+    void givenCssPath_whenResolvingUrl_thenAppendsContentHash() {
+        // Given
+        String path = "/css/articles/table-header.css";
+
+        // When
+        String url = resourceUrlProvider.getForLookupPath(path);
+
+        // Then
+        assertThat(url).matches("/css/articles/table-header-[0-9a-f]{32}\\.css");
+    }
+
+    @DisplayName("해시 URL 로 요청하면, 보안 필터를 거치지 않고 1년짜리 immutable 캐시 헤더와 함께 준다.")
+    @Test
+    void givenVersionedUrl_whenRequesting_thenReturnsImmutableAssetWithoutSecurityHeaders() throws Exception {
+        // Given
+        String url = resourceUrlProvider.getForLookupPath("/css/search-bar.css");
+
+        // When & Then
+        mvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/css"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().doesNotExist("X-Content-Type-Options"));
+    }
+
+    @DisplayName("해시 없는 URL 로 요청하면, immutable 없이 매번 재검증하도록 no-cache 헤더와 함께 준다.")
+    @Test
+    void givenUnversionedUrl_whenRequesting_thenReturnsAssetWithNoCache() throws Exception {
+        // Given
+        String url = "/css/search-bar.css";
+
+        // When & Then
+        mvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/css"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @DisplayName("내용과 맞지 않는 해시 URL 로 요청하면, 파일을 찾지 못한다.")
+    @Test
+    void givenStaleVersionedUrl_whenRequesting_thenReturnsNotFound() throws Exception {
+        // Given
+        String url = "/css/search-bar-" + "0".repeat(32) + ".css";
+
+        // When & Then
+        mvc.perform(get(url))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -3,6 +3,8 @@ package com.example.selfprojectboard.controller;
 import com.example.selfprojectboard.config.SecurityConfig;
 import com.example.selfprojectboard.config.TestSecurityConfig;
 import com.example.selfprojectboard.dto.ArticleCommentDto;
+import com.example.selfprojectboard.dto.CursorSlice;
+import com.example.selfprojectboard.dto.UserAccountDto;
 import com.example.selfprojectboard.dto.request.ArticleCommentRequest;
 import com.example.selfprojectboard.service.ArticleCommentService;
 import com.example.selfprojectboard.util.FormDataEncoder;
@@ -12,17 +14,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -46,6 +53,35 @@ class ArticleCommentControllerTest {
         this.formDataEncoder = formDataEncoder;
     }
 
+    @WithUserDetails(value="ssparkTest",setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[json][GET] 댓글 더보기 - 커서 다음 댓글과 다음 커서 반환")
+    @Test
+    void givenArticleIdAndCursor_whenRequestingMoreComments_thenReturnsCommentPage() throws Exception {
+        //Given
+        long articleId = 1L;
+        String after = "cursor";
+        ArticleCommentDto comment = ArticleCommentDto.of(
+                2L, articleId,
+                UserAccountDto.of("ssparkTest", "pw", "sspark@mail.com", "Sspark", "memo"),
+                "test comment",
+                LocalDateTime.now(), "ssparkTest", LocalDateTime.now(), "ssparkTest"
+        );
+        given(articleCommentService.searchArticleComments(articleId, after, 20))
+                .willReturn(CursorSlice.of(List.of(comment), Pageable.ofSize(20), "first", "last", true, true));
+
+        // When & Then
+        mvc.perform(
+                get("/comments")
+                        .queryParam("articleId", String.valueOf(articleId))
+                        .queryParam("after", after)
+        )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.articleComments[0].content").value("test comment"))
+                .andExpect(jsonPath("$.nextCursor").value("last"));
+        then(articleCommentService).should().searchArticleComments(articleId, after, 20);
+    }
+
     @WithUserDetails(value="ssparkTest",setupBefore = TestExecutionEvent.TEST_EXECUTION)
     @DisplayName("[view][POST] 댓글 등록 - 정상 호출")
     @Test
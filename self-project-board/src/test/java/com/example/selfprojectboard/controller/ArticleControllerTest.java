@@ -5,10 +5,12 @@ import com.example.selfprojectboard.config.TestSecurityConfig;
 import com.example.selfprojectboard.domain.constant.FormStatus;
 import com.example.selfprojectboard.domain.constant.SearchType;
 import com.example.selfprojectboard.dto.ArticleDto;
+import com.example.selfprojectboard.dto.ArticleVersionDto;
+import com.example.selfprojectboard.dto.CursorSlice;
 import com.example.selfprojectboard.dto.request.ArticleRequest;
-import com.example.selfprojectboard.dto.ArticleWithCommentsDto;
 import com.example.selfprojectboard.dto.UserAccountDto;
 import com.example.selfprojectboard.response.ArticleResponse;
+import com.example.selfprojectboard.service.ArticleCommentService;
 import com.example.selfprojectboard.service.ArticleService;
 import com.example.selfprojectboard.service.PaginationService;
 import com.example.selfprojectboard.util.FormDataEncoder;
@@ -23,7 +25,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.context.support.WithUserDetails;
@@ -31,8 +35,9 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -49,6 +54,7 @@ class ArticleControllerTest {
     private final FormDataEncoder formDataEncoder;
 
     @MockBean private ArticleService articleService;
+    @MockBean private ArticleCommentService articleCommentService;
     @MockBean private PaginationService paginationService;
 
     public ArticleControllerTest(
@@ -124,9 +130,9 @@ class ArticleControllerTest {
     public void givenNothing_whenRequestingArticleView_thenReturnsArticleView() throws Exception {
         //Given
         Long articleId = 1L;
-        long totalCount = 1L;
-        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
-        given(articleService.getArticleCount()).willReturn(totalCount);
+        given(articleService.getArticle(articleId)).willReturn(createArticleDto(articleId));
+        given(articleCommentService.searchArticleComments(articleId, null, ArticleCommentService.DEFAULT_COMMENT_PAGE_SIZE))
+                .willReturn(CursorSlice.of(List.of(), Pageable.ofSize(ArticleCommentService.DEFAULT_COMMENT_PAGE_SIZE), null, null, false, false));
 
         //When & Then
         mvc.perform(get("/articles/1"))
@@ -135,7 +141,71 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/detail"))
                 .andExpect(model().attributeExists("article"))
                 .andExpect(model().attributeExists("articleComments"));
-        then(articleService).should().getArticleWithComments(articleId);
+        then(articleService).should().getArticle(articleId);
+        then(articleCommentService).should().searchArticleComments(articleId, null, ArticleCommentService.DEFAULT_COMMENT_PAGE_SIZE);
+    }
+
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 상세 페이지 - 댓글 커서, 다음 댓글 페이지 링크")
+    @Test
+    void givenCommentCursor_whenRequestingArticleView_thenReturnsNextCommentPage() throws Exception {
+        //Given
+        Long articleId = 1L;
+        String commentAfter = "commentCursor";
+        given(articleService.getArticle(articleId)).willReturn(createArticleDto(articleId));
+        given(articleCommentService.searchArticleComments(articleId, commentAfter, ArticleCommentService.DEFAULT_COMMENT_PAGE_SIZE))
+                .willReturn(CursorSlice.of(List.of(), Pageable.ofSize(ArticleCommentService.DEFAULT_COMMENT_PAGE_SIZE), "first", "last", true, true));
+
+        //When & Then
+        mvc.perform(get("/articles/1").queryParam("commentAfter", commentAfter))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"))
+                .andExpect(model().attribute("nextCommentCursor", "last"));
+        then(articleCommentService).should().searchArticleComments(articleId, commentAfter, ArticleCommentService.DEFAULT_COMMENT_PAGE_SIZE);
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트(게시판)페이지 - 게시판 버전이 같으면 304, 목록을 조회하지 않음")
+    @Test
+    void givenSameBoardVersion_whenRequestingArticlesViewAgain_thenReturnsNotModified() throws Exception {
+        //Given
+        MockHttpSession session = new MockHttpSession();
+        given(articleService.getBoardVersion()).willReturn(1_666_000_000_000L);
+        given(articleService.searchArticles(eq(null), eq(null), any(Pageable.class))).willReturn(Page.empty());
+        given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0));
+        String eTag = mvc.perform(get("/articles").session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //When & Then
+        mvc.perform(get("/articles").session(session).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        then(articleService).should(times(1)).searchArticles(eq(null), eq(null), any(Pageable.class));
+    }
+
+    @WithMockUser
+    @DisplayName("[view][GET] 게시글 상세 페이지 - 게시글/댓글 버전이 같으면 304, 게시글을 읽지 않음")
+    @Test
+    void givenSameArticleVersion_whenRequestingArticleViewAgain_thenReturnsNotModified() throws Exception {
+        //Given
+        Long articleId = 1L;
+        MockHttpSession session = new MockHttpSession();
+        ArticleVersionDto articleVersion = ArticleVersionDto.of(articleId, LocalDateTime.of(2022, 10, 1, 9, 0), 3L, LocalDateTime.of(2022, 10, 2, 9, 0));
+        given(articleService.getArticleVersion(articleId)).willReturn(Optional.of(articleVersion));
+        given(articleService.getArticle(articleId)).willReturn(createArticleDto(articleId));
+        given(articleCommentService.searchArticleComments(articleId, null, ArticleCommentService.DEFAULT_COMMENT_PAGE_SIZE))
+                .willReturn(CursorSlice.of(List.of(), Pageable.ofSize(ArticleCommentService.DEFAULT_COMMENT_PAGE_SIZE), null, null, false, false));
+        String eTag = mvc.perform(get("/articles/1").session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("private")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //When & Then
+        mvc.perform(get("/articles/1").session(session).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        then(articleService).should(times(1)).getArticle(articleId);
+        then(articleCommentService).should(times(1)).searchArticleComments(articleId, null, ArticleCommentService.DEFAULT_COMMENT_PAGE_SIZE);
     }
 
     @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 페이징, 정렬 기능")
@@ -167,6 +237,30 @@ class ArticleControllerTest {
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서 페이징")
+    @Test
+    void givenCursor_whenSearchingArticlesView_thenReturnsArticlesViewWithCursorLinks() throws Exception {
+        // Given
+        String after = "cursor";
+        PaginationService.CursorLinks cursorLinks = new PaginationService.CursorLinks("first", "last");
+        given(paginationService.isCursorMode(after, null)).willReturn(true);
+        given(articleService.searchArticlesByCursor(eq(null), eq(null), any(Pageable.class), eq(after), eq(null)))
+                .willReturn(CursorSlice.empty(Pageable.ofSize(10)));
+        given(paginationService.getCursorLinks(any())).willReturn(cursorLinks);
+
+        // When & Then
+        mvc.perform(get("/articles").queryParam("after", after))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("cursorLinks", cursorLinks))
+                .andExpect(model().attributeDoesNotExist("paginationBarNumbers"));
+        then(articleService).should().searchArticlesByCursor(eq(null), eq(null), any(Pageable.class), eq(after), eq(null));
+        then(articleService).should().getBoardVersion();
+        then(articleService).shouldHaveNoMoreInteractions();
+    }
+
     @Disabled("구현 중")
     @DisplayName("[view][GET] 게시글 검색 전용 페이지 - 정상 호출")
     @Test
@@ -350,11 +444,10 @@ class ArticleControllerTest {
         );
     }
 
-    private ArticleWithCommentsDto createArticleWithCommentsDto() {
-        return ArticleWithCommentsDto.of(
-                1L,
+    private ArticleDto createArticleDto(Long id) {
+        return ArticleDto.of(
+                id,
                 createUserAccountDto(),
-                Set.of(),
                 "title",
                 "content",
                 "#java",
@@ -0,0 +1,116 @@
+package com.example.selfprojectboard.controller;
+
+import com.example.selfprojectboard.config.TestSecurityConfig;
+import com.example.selfprojectboard.service.bulk.BulkImportService;
+import com.example.selfprojectboard.service.bulk.BulkFormat;
+import com.example.selfprojectboard.service.bulk.ImportListener;
+import com.example.selfprojectboard.service.bulk.ImportResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("컨트롤러 - 대량 가져오기")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(BulkImportController.class)
+class BulkImportControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean private BulkImportService bulkImportService;
+
+    BulkImportControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+    @WithMockUser(username = "ssparkTest", roles = {"USER", "ADMIN"})
+    @DisplayName("[ndjson][POST] 게시글 가져오기 - 행 오류, 진행 상황, 최종 결과를 NDJSON 으로 흘려보낸다")
+    @Test
+    void givenNdjsonBody_whenImportingArticles_thenStreamsReport() throws Exception {
+        //Given
+        given(bulkImportService.importArticles(any(), eq(BulkFormat.NDJSON), any(), isNull())).willAnswer(invocation -> {
+            ImportListener listener = invocation.getArgument(2);
+            listener.onError(2, "JSON 객체가 아닙니다");
+            listener.onProgress(ImportResult.of(3, 2, 1, 10));
+            return ImportResult.of(3, 2, 1, 12);
+        });
+
+        //When & Then
+        mvc.perform(post("/import/articles")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"userId\": \"ssparkTest\", \"title\": \"t\", \"content\": \"c\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("""
+                        {"type":"error","line":2,"message":"JSON 객체가 아닙니다"}
+                        {"type":"progress","rows":3,"imported":2,"failed":1,"elapsedMillis":10}
+                        {"type":"done","rows":3,"imported":2,"failed":1,"elapsedMillis":12}
+                        """));
+    }
+
+    @WithMockUser(username = "ssparkTest", roles = {"USER", "ADMIN"})
+    @DisplayName("[csv][POST] 댓글 가져오기 - CSV 본문을 댓글 가져오기로 넘긴다")
+    @Test
+    void givenCsvBody_whenImportingComments_thenDelegatesToService() throws Exception {
+        //Given
+        given(bulkImportService.importArticleComments(any(), eq(BulkFormat.CSV), any(), isNull())).willReturn(ImportResult.of(1, 1, 0, 5));
+
+        //When & Then
+        mvc.perform(post("/import/comments")
+                        .contentType("text/csv;charset=UTF-8")
+                        .content("articleId,userId,content\n1,ssparkTest,comment\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"type\":\"done\",\"rows\":1,\"imported\":1,\"failed\":0,\"elapsedMillis\":5}\n"));
+        then(bulkImportService).should().importArticleComments(any(), eq(BulkFormat.CSV), any(), isNull());
+    }
+
+    @DisplayName("[POST] 게시글 가져오기 - 인증 정보가 없으면 로그인 페이지 대신 401 을 준다")
+    @Test
+    void givenNoAuthentication_whenImportingArticles_thenReturnsUnauthorized() throws Exception {
+        //When & Then
+        mvc.perform(post("/import/articles")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{}\n"))
+                .andExpect(status().isUnauthorized());
+        then(bulkImportService).shouldHaveNoInteractions();
+    }
+
+    @WithUserDetails(value = "ssparkTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[POST] 게시글 가져오기 - 관리자가 아니면, 다른 사용자 이름으로 쓸 수 없도록 403 을 준다")
+    @Test
+    void givenPlainUser_whenImportingArticles_thenReturnsForbidden() throws Exception {
+        //When & Then
+        mvc.perform(post("/import/articles")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"userId\": \"someoneElse\", \"title\": \"t\", \"content\": \"c\"}\n"))
+                .andExpect(status().isForbidden());
+        then(bulkImportService).shouldHaveNoInteractions();
+    }
+
+    @WithMockUser(username = "ssparkTest", roles = {"USER", "ADMIN"})
+    @DisplayName("[POST] 게시글 가져오기 - NDJSON, CSV 가 아니면 415 를 준다")
+    @Test
+    void givenUnsupportedContentType_whenImportingArticles_thenReturnsUnsupportedMediaType() throws Exception {
+        //When & Then
+        mvc.perform(post("/import/articles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+        then(bulkImportService).shouldHaveNoInteractions();
+    }
+}
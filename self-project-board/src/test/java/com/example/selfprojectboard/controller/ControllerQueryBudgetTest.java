@@ -0,0 +1,215 @@
+package com.example.selfprojectboard.controller;
+
+import com.example.selfprojectboard.actuator.SqlStatementCounter;
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.ArticleComment;
+import com.example.selfprojectboard.domain.UserAccount;
+import com.example.selfprojectboard.repository.ArticleCommentRepository;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import com.example.selfprojectboard.repository.UserAccountRepository;
+import com.example.selfprojectboard.util.ExpectedQueries;
+import com.example.selfprojectboard.util.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실제 DB(H2 + data.sql) 위에서 컨트롤러 엔드포인트마다 실행되는 SQL 문 수의 상한을 지킨다.
+ * <p>
+ * 2차 캐시는 매번 비우고 시작하므로 캐시가 식었을 때의 최악 값이 기준이다.
+ * 상한을 넘으면 N+1 등으로 쿼리가 늘어난 것이니, 상한을 올리기 전에 원인을 먼저 본다.
+ * 목록은 slice 모드(board.pagination.slice=true, 기본값은 꺼짐) 기준이다. offset 모드면 목록마다 건수 쿼리가 1 더 나간다.
+ */
+@DisplayName("SQL 문 수 상한 - 컨트롤러 엔드포인트")
+@WithUserDetails(value = "sspark", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+@Import(QueryCounter.class)
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "board.pagination.slice=true")
+class ControllerQueryBudgetTest {
+
+    private final MockMvc mvc;
+    private final QueryCounter queryCounter;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+
+    ControllerQueryBudgetTest(
+            @Autowired MockMvc mvc,
+            @Autowired QueryCounter queryCounter,
+            @Autowired EntityManagerFactory entityManagerFactory,
+            @Autowired ArticleRepository articleRepository,
+            @Autowired ArticleCommentRepository articleCommentRepository,
+            @Autowired UserAccountRepository userAccountRepository
+    ) {
+        this.mvc = mvc;
+        this.queryCounter = queryCounter;
+        this.entityManagerFactory = entityManagerFactory;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.userAccountRepository = userAccountRepository;
+    }
+
+    @BeforeEach
+    void evictSecondLevelCache() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @DisplayName("[GET] 게시글 목록 - 목록 1")
+    @ExpectedQueries(select = 1, insert = 0, update = 0, delete = 0)
+    @Test
+    void articles() throws Exception {
+        mvc.perform(get("/articles")).andExpect(status().isOk());
+    }
+
+    @DisplayName("[GET] 게시글 목록 - 닉네임 검색: 목록 1 + 건수 1")
+    @ExpectedQueries(select = 2, insert = 0, update = 0, delete = 0)
+    @Test
+    void articlesSearchedByNickname() throws Exception {
+        mvc.perform(get("/articles").queryParam("searchType", "NICKNAME").queryParam("searchValue", "Sspark"))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("[GET] 게시글 목록 - 제목 검색: 인덱스에서 찾은 ID 로 목록 1")
+    @ExpectedQueries(select = 1, insert = 0, update = 0, delete = 0)
+    @Test
+    void articlesSearchedByTitle() throws Exception {
+        mvc.perform(get("/articles").queryParam("searchType", "TITLE").queryParam("searchValue", "Quisque"))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("[GET] 게시글 상세 - 버전(조건부 요청) 1 + 게시글(작성자 조인) 1 + 댓글 한 페이지(작성자 fetch join) 1")
+    @ExpectedQueries(select = 3, insert = 0, update = 0, delete = 0)
+    @Test
+    void articleDetail() throws Exception {
+        mvc.perform(get("/articles/1")).andExpect(status().isOk());
+    }
+
+    @DisplayName("[GET] 해시태그 검색 - 목록 1 + 건수 1")
+    @ExpectedQueries(select = 2, insert = 0, update = 0, delete = 0)
+    @Test
+    void articlesSearchedByHashtag() throws Exception {
+        mvc.perform(get("/articles/search-hashtag").queryParam("searchValue", "pink")).andExpect(status().isOk());
+    }
+
+    @DisplayName("[GET] 새 게시글 폼 - 쿼리 없음")
+    @ExpectedQueries(select = 0, insert = 0, update = 0, delete = 0)
+    @Test
+    void newArticleForm() throws Exception {
+        mvc.perform(get("/articles/form")).andExpect(status().isOk());
+    }
+
+    @DisplayName("[GET] 게시글 수정 폼 - 게시글 1")
+    @ExpectedQueries(select = 1, insert = 0, update = 0, delete = 0)
+    @Test
+    void updateArticleForm() throws Exception {
+        mvc.perform(get("/articles/1/form")).andExpect(status().isOk());
+    }
+
+    @DisplayName("[GET] 댓글 더보기 - 댓글 한 페이지 1")
+    @ExpectedQueries(select = 1, insert = 0, update = 0, delete = 0)
+    @Test
+    void articleComments() throws Exception {
+        mvc.perform(get("/comments").queryParam("articleId", "1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("[GET] Data REST 게시글 목록 - 목록 1 + 작성자 batch 1 + 건수 1")
+    @ExpectedQueries(select = 3, insert = 0, update = 0, delete = 0)
+    @Test
+    void dataRestArticles() throws Exception {
+        mvc.perform(get("/api/articles")).andExpect(status().isOk());
+    }
+
+    @DisplayName("[POST] 새 게시글 - 해시태그 조회 1, 게시글/해시태그 연결 insert 2")
+    @ExpectedQueries(select = 1, insert = 2, update = 0, delete = 0)
+    @Test
+    void postNewArticle() throws Exception {
+        mvc.perform(post("/articles/form")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .content("title=new%20title&content=new%20content&hashtag=%23pink")
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    @DisplayName("[POST] 게시글 수정 - 게시글, 해시태그 컬렉션, 해시태그 조회 3 + 게시글 update 1")
+    @Test
+    void updateArticle() throws Throwable {
+        Article article = saveArticle();
+
+        SqlStatementCounter.Counts counts = queryCounter.count(() -> mvc.perform(post("/articles/" + article.getId() + "/form")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .content("title=updated%20title&content=updated%20content&hashtag=%23pink")
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection()));
+
+        assertThat(counts.select()).isLessThanOrEqualTo(3);
+        assertThat(counts.update()).isLessThanOrEqualTo(1);
+        assertThat(counts.insert()).isLessThanOrEqualTo(1);
+    }
+
+    @DisplayName("[POST] 게시글 삭제 - 게시글, 작성자, 댓글/해시태그 컬렉션 조회 4 이하 + 해시태그 연결/댓글 버전/게시글 delete 3 이하")
+    @Test
+    void deleteArticle() throws Throwable {
+        Article article = saveArticle();
+
+        SqlStatementCounter.Counts counts = queryCounter.count(() -> mvc.perform(post("/articles/" + article.getId() + "/delete").with(csrf()))
+                .andExpect(status().is3xxRedirection()));
+
+        assertThat(counts.select()).isLessThanOrEqualTo(4);
+        assertThat(counts.delete()).isLessThanOrEqualTo(3);
+        assertThat(counts.insert()).isZero();
+    }
+
+    @DisplayName("[POST] 새 댓글 - 게시글/작성자는 참조만, 댓글 insert 1 + 댓글 버전 update 1")
+    @ExpectedQueries(select = 0, insert = 1, update = 1, delete = 0)
+    @Test
+    void postNewArticleComment() throws Exception {
+        mvc.perform(post("/comments/new")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .content("articleId=1&content=new%20comment")
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    @DisplayName("[POST] 댓글 삭제 - 댓글(작성자) 조회 2 이하 + 댓글 delete 1")
+    @Test
+    void deleteArticleComment() throws Throwable {
+        UserAccount userAccount = userAccountRepository.findById("sspark").orElseThrow();
+        ArticleComment articleComment = articleCommentRepository.save(
+                ArticleComment.of(articleRepository.findById(1L).orElseThrow(), userAccount, "comment to delete")
+        );
+
+        SqlStatementCounter.Counts counts = queryCounter.count(() -> mvc.perform(post("/comments/" + articleComment.getId() + "/delete")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .content("articleId=1")
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection()));
+
+        assertThat(counts.select()).isLessThanOrEqualTo(2);
+        assertThat(counts.delete()).isEqualTo(1);
+    }
+
+    private Article saveArticle() {
+        UserAccount userAccount = userAccountRepository.findById("sspark").orElseThrow();
+        return articleRepository.save(Article.of(userAccount, "budget title", "budget content", null));
+    }
+}
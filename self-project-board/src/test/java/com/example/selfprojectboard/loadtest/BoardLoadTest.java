@@ -0,0 +1,68 @@
+package com.example.selfprojectboard.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2(loadtest 프로필) 위에 앱을 별도 JVM 으로 띄우고({@link LoadTestServer}), 시나리오 파일대로 게시판 엔드포인트에 읽기/쓰기 혼합 부하를 준다.
+ * <p>
+ * 기본 test 태스크에서는 제외되며 {@code ./gradlew loadTest -Dloadtest.articles=100000 -Dloadtest.scenario=classpath:loadtest/board-mixed.json} 으로 실행한다.
+ * 결과는 {@code build/reports/loadtest/<시나리오 이름>-<platform|virtual>.json} 에 쓴다.
+ * {@code -Dloadtest.virtual-threads=true} 면 가상 스레드 모드로 띄운다. (Java 21, {@code -PruntimeJava=21})
+ */
+@Tag("loadtest")
+@DisplayName("[loadtest] 게시판 엔드포인트 부하 테스트")
+class BoardLoadTest {
+
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    private final String scenarioLocation = System.getProperty("loadtest.scenario", "classpath:loadtest/board-mixed.json");
+    private final Path reportDirectory = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+    private final long articles = Long.getLong("loadtest.articles", 10_000);
+    private final int commentsPerArticle = Integer.getInteger("loadtest.comments-per-article", 5);
+    private final boolean virtualThreads = Boolean.getBoolean("loadtest.virtual-threads");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    @DisplayName("시나리오대로 부하를 주고 엔드포인트별 지연시간/처리량 리포트를 남긴다.")
+    @Test
+    void runScenario() throws Exception {
+        LoadTestScenario scenario = readScenario();
+        String threadModel = virtualThreads ? "virtual" : "platform";
+
+        LoadTestReport report;
+        try (LoadTestServer server = LoadTestServer.start()) {
+            report = new LoadTestRunner(server.baseUri(), scenario, server.maxArticleId(), server.hashtags(), server.memoryMXBean(), server.threadMXBean())
+                    .run(articles, commentsPerArticle, threadModel);
+        }
+
+        Files.createDirectories(reportDirectory);
+        Path reportFile = reportDirectory.resolve(scenario.name() + "-" + threadModel + ".json");
+        objectMapper.writeValue(reportFile.toFile(), report);
+        System.out.println(objectMapper.writeValueAsString(report));
+        System.out.println("리포트: " + reportFile.toAbsolutePath());
+
+        assertThat(report.requests()).isPositive();
+        assertThat(report.errorRate()).isLessThan(MAX_ERROR_RATE);
+    }
+
+    private LoadTestScenario readScenario() throws Exception {
+        Resource resource = new DefaultResourceLoader().getResource(scenarioLocation);
+        try (InputStream inputStream = resource.getInputStream()) {
+            return objectMapper.readValue(inputStream, LoadTestScenario.class);
+        }
+    }
+}
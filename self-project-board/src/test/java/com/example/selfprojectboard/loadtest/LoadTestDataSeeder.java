@@ -0,0 +1,49 @@
+package com.example.selfprojectboard.loadtest;
+
+import com.example.selfprojectboard.service.dataset.DatasetGenerator;
+import com.example.selfprojectboard.service.dataset.DatasetResult;
+import com.example.selfprojectboard.service.dataset.DatasetSpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import javax.sql.DataSource;
+
+/**
+ * data.sql 위에 부하 테스트용 사용자/게시글/댓글을 합성 데이터 생성기({@link DatasetGenerator})로 더 넣는다.
+ * <p>
+ * ApplicationRunner 는 ApplicationReadyEvent 보다 먼저 실행되므로, 검색 인덱스/해시태그/통계 초기화에 적재한 데이터가 반영된다.
+ * 게시글당 댓글 수는 평균이다. (분포는 꼬리가 길다) 가상 사용자는 data.sql 계정으로 로그인한다.
+ */
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestDataSeeder.class);
+    private static final long SEED = 20221017L;
+
+    private final DataSource dataSource;
+    private final int userCount;
+    private final long articleCount;
+    private final int commentsPerArticle;
+
+    public LoadTestDataSeeder(
+            DataSource dataSource,
+            @Value("${loadtest.users:100}") int userCount,
+            @Value("${loadtest.articles:10000}") long articleCount,
+            @Value("${loadtest.comments-per-article:5}") int commentsPerArticle
+    ) {
+        this.dataSource = dataSource;
+        this.userCount = userCount;
+        this.articleCount = articleCount;
+        this.commentsPerArticle = commentsPerArticle;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        DatasetResult result = new DatasetGenerator(dataSource).generate(DatasetSpec.of(userCount, articleCount, commentsPerArticle, SEED));
+
+        log.info("부하 테스트 데이터 적재 - users: {}, articles: {}, comments: {}, {} ms",
+                result.users(), result.articles(), result.comments(), result.elapsedMillis());
+    }
+}
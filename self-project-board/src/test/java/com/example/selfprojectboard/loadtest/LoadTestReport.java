@@ -0,0 +1,42 @@
+package com.example.selfprojectboard.loadtest;
+
+import java.util.List;
+
+/**
+ * 부하 테스트 결과. 빌드마다 같은 순서/단위로 쓰므로 JSON 파일끼리 diff 로 비교할 수 있다. (시간 단위: ms)
+ * <p>
+ * 힙, 스레드 수는 측정 구간 동안 서버 JVM(부하를 주는 클라이언트와 다른 프로세스)을 샘플링한 값이다. 가상 스레드는 스레드 수에 들어가지 않는다.
+ */
+public record LoadTestReport(
+        String scenario,
+        String threadModel,
+        long articles,
+        int commentsPerArticle,
+        int virtualUsers,
+        long durationSeconds,
+        long requests,
+        long errors,
+        double requestsPerSecond,
+        long peakHeapUsedMb,
+        long averageHeapUsedMb,
+        int peakLiveThreads,
+        List<EndpointReport> endpoints
+) {
+
+    public record EndpointReport(
+            String name,
+            String method,
+            String path,
+            long requests,
+            long errors,
+            double requestsPerSecond,
+            double p50,
+            double p95,
+            double p99,
+            double max
+    ) {}
+
+    public double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+}
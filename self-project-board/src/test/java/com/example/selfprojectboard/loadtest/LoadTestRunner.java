@@ -0,0 +1,365 @@
+package com.example.selfprojectboard.loadtest;
+
+import java.io.IOException;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 시나리오대로 가상 사용자 스레드를 돌리고 단계(엔드포인트)별 응답 시간을 모은다.
+ * <p>
+ * 가상 사용자마다 쿠키 저장소를 따로 두고 폼 로그인한 세션과 CSRF 토큰으로 요청한다.
+ * 2xx, 3xx(PRG 리다이렉트) 는 성공, 나머지 상태 코드와 I/O 예외는 오류로 센다. 워밍업 동안의 요청은 집계하지 않는다.
+ * 힙, 스레드 수는 넘겨받은 서버 JVM 의 MXBean 으로 읽는다. ({@link LoadTestServer})
+ */
+public class LoadTestRunner {
+
+    private static final Pattern CSRF_INPUT = Pattern.compile("<input[^>]*name=\"_csrf\"[^>]*>");
+    private static final Pattern VALUE_ATTRIBUTE = Pattern.compile("value=\"([^\"]+)\"");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long MB = 1024 * 1024;
+
+    private final URI baseUri;
+    private final LoadTestScenario scenario;
+    private final long maxArticleId;
+    private final List<String> hashtags;
+    private final MemoryMXBean serverMemory;
+    private final ThreadMXBean serverThreads;
+    private final Map<LoadTestScenario.Step, StepRecorder> recorders = new LinkedHashMap<>();
+    private final int totalWeight;
+
+    public LoadTestRunner(URI baseUri, LoadTestScenario scenario, long maxArticleId, List<String> hashtags,
+                          MemoryMXBean serverMemory, ThreadMXBean serverThreads) {
+        this.baseUri = baseUri;
+        this.scenario = scenario;
+        this.maxArticleId = maxArticleId;
+        this.hashtags = hashtags;
+        this.serverMemory = serverMemory;
+        this.serverThreads = serverThreads;
+        scenario.steps().forEach(step -> recorders.put(step, new StepRecorder()));
+        this.totalWeight = scenario.steps().stream().mapToInt(LoadTestScenario.Step::weight).sum();
+    }
+
+    public LoadTestReport run(long articles, int commentsPerArticle, String threadModel) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + scenario.warmup().toNanos();
+        long deadline = measureFrom + scenario.duration().toNanos();
+
+        ResourceSampler resourceSampler = new ResourceSampler(serverMemory, serverThreads, measureFrom, deadline);
+        Thread samplerThread = new Thread(resourceSampler, "load-test-sampler");
+        samplerThread.setDaemon(true);
+        samplerThread.start();
+
+        CountDownLatch finished = new CountDownLatch(scenario.virtualUsers());
+        for (int i = 0; i < scenario.virtualUsers(); i++) {
+            int virtualUser = i;
+            new Thread(() -> {
+                try {
+                    runVirtualUser(virtualUser, measureFrom, deadline);
+                } finally {
+                    finished.countDown();
+                }
+            }, "load-test-vu-" + i).start();
+        }
+        finished.await();
+        samplerThread.interrupt();
+        samplerThread.join();
+
+        return report(articles, commentsPerArticle, threadModel, resourceSampler);
+    }
+
+    private void runVirtualUser(int virtualUser, long measureFrom, long deadline) {
+        Random random = new Random(20221017L + virtualUser);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+
+        String csrfToken;
+        try {
+            csrfToken = login(httpClient, scenario.accounts().get(virtualUser % scenario.accounts().size()));
+        } catch (IOException e) {
+            throw new IllegalStateException("가상 사용자 로그인 실패 - vu: " + virtualUser, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            LoadTestScenario.Step step = pickStep(random);
+            HttpRequest request = buildRequest(step, random, csrfToken);
+
+            long requestedAt = System.nanoTime();
+            boolean success;
+            try {
+                int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                success = status < 400;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long elapsed = System.nanoTime() - requestedAt;
+            if (requestedAt >= measureFrom) {
+                recorders.get(step).record(elapsed, success);
+            }
+
+            if (!scenario.thinkTime().isZero()) {
+                try {
+                    Thread.sleep(scenario.thinkTime().toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 폼 로그인 후, 로그인 세션에 새로 발급된 CSRF 토큰을 게시글 상세 화면(댓글 폼)에서 읽어 온다.
+     */
+    private String login(HttpClient httpClient, LoadTestScenario.Account account) throws IOException, InterruptedException {
+        String loginPage = httpClient.send(get("/login"), HttpResponse.BodyHandlers.ofString()).body();
+        HttpResponse<Void> loggedIn = httpClient.send(post("/login", Map.of(
+                "username", account.username(),
+                "password", account.password(),
+                "_csrf", csrfToken(loginPage)
+        )), HttpResponse.BodyHandlers.discarding());
+        String location = loggedIn.headers().firstValue("Location").orElse("");
+        if (loggedIn.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("로그인 실패 - username: " + account.username() + ", status: " + loggedIn.statusCode());
+        }
+
+        String detailPage = httpClient.send(get("/articles/1"), HttpResponse.BodyHandlers.ofString()).body();
+        return csrfToken(detailPage);
+    }
+
+    private String csrfToken(String html) {
+        Matcher input = CSRF_INPUT.matcher(html);
+        if (input.find()) {
+            Matcher value = VALUE_ATTRIBUTE.matcher(input.group());
+            if (value.find()) {
+                return value.group(1);
+            }
+        }
+        throw new IllegalStateException("CSRF 토큰을 찾을 수 없습니다.");
+    }
+
+    private LoadTestScenario.Step pickStep(Random random) {
+        int point = random.nextInt(totalWeight);
+        for (LoadTestScenario.Step step : scenario.steps()) {
+            point -= step.weight();
+            if (point < 0) {
+                return step;
+            }
+        }
+        throw new IllegalStateException("가중치 합이 맞지 않습니다.");
+    }
+
+    private HttpRequest buildRequest(LoadTestScenario.Step step, Random random, String csrfToken) {
+        String path = resolve(step.path(), random);
+        if (!step.isPost()) {
+            return get(path);
+        }
+
+        Map<String, String> form = new LinkedHashMap<>();
+        if (step.form() != null) {
+            step.form().forEach((name, value) -> form.put(name, resolve(value, random)));
+        }
+        form.put("_csrf", csrfToken);
+        return post(path, form);
+    }
+
+    private String resolve(String template, Random random) {
+        String resolved = template;
+        if (resolved.contains("{articleId}")) {
+            resolved = resolved.replace("{articleId}", String.valueOf(1 + (long) (random.nextDouble() * maxArticleId)));
+        }
+        if (resolved.contains("{page}")) {
+            resolved = resolved.replace("{page}", String.valueOf(random.nextInt(scenario.maxPage() + 1)));
+        }
+        if (resolved.contains("{hashtag}")) {
+            resolved = resolved.replace("{hashtag}", URLEncoder.encode(hashtags.get(random.nextInt(hashtags.size())), StandardCharsets.UTF_8));
+        }
+        return resolved;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, Map<String, String> form) {
+        String body = form.entrySet().stream()
+                .map(entry -> URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "=" + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private LoadTestReport report(long articles, int commentsPerArticle, String threadModel, ResourceSampler resourceSampler) {
+        double seconds = scenario.duration().toNanos() / 1_000_000_000.0;
+        List<LoadTestReport.EndpointReport> endpoints = new ArrayList<>();
+        long requests = 0;
+        long errors = 0;
+        for (Map.Entry<LoadTestScenario.Step, StepRecorder> entry : recorders.entrySet()) {
+            LoadTestScenario.Step step = entry.getKey();
+            long[] latencies = entry.getValue().latencies();
+            long stepErrors = entry.getValue().errors();
+            Arrays.sort(latencies);
+
+            endpoints.add(new LoadTestReport.EndpointReport(
+                    step.name(),
+                    step.method().toUpperCase(),
+                    step.path(),
+                    latencies.length,
+                    stepErrors,
+                    round(latencies.length / seconds),
+                    percentile(latencies, 0.50),
+                    percentile(latencies, 0.95),
+                    percentile(latencies, 0.99),
+                    latencies.length == 0 ? 0 : millis(latencies[latencies.length - 1])
+            ));
+            requests += latencies.length;
+            errors += stepErrors;
+        }
+
+        return new LoadTestReport(
+                scenario.name(),
+                threadModel,
+                articles,
+                commentsPerArticle,
+                scenario.virtualUsers(),
+                scenario.duration().toSeconds(),
+                requests,
+                errors,
+                round(requests / seconds),
+                resourceSampler.peakHeapUsedBytes() / MB,
+                resourceSampler.averageHeapUsedBytes() / MB,
+                resourceSampler.peakLiveThreads(),
+                endpoints
+        );
+    }
+
+    /**
+     * nearest-rank 방식 백분위수
+     */
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return millis(sorted[Math.max(rank, 1) - 1]);
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static class StepRecorder {
+        private long[] latencies = new long[1024];
+        private int size = 0;
+        private long errors = 0;
+
+        synchronized void record(long elapsedNanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = elapsedNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized long[] latencies() {
+            return Arrays.copyOf(latencies, size);
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+    }
+
+    /**
+     * 측정 구간 동안 서버의 힙 사용량과 살아 있는 (플랫폼) 스레드 수를 주기적으로 읽는다.
+     */
+    private static class ResourceSampler implements Runnable {
+        private static final long INTERVAL_MILLIS = 100;
+
+        private final MemoryMXBean memoryMXBean;
+        private final ThreadMXBean threadMXBean;
+        private final long measureFrom;
+        private final long deadline;
+
+        private long samples = 0;
+        private long heapUsedSum = 0;
+        private long peakHeapUsed = 0;
+        private int peakLiveThreads = 0;
+
+        ResourceSampler(MemoryMXBean memoryMXBean, ThreadMXBean threadMXBean, long measureFrom, long deadline) {
+            this.memoryMXBean = memoryMXBean;
+            this.threadMXBean = threadMXBean;
+            this.measureFrom = measureFrom;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            while (System.nanoTime() < deadline) {
+                try {
+                    Thread.sleep(INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (System.nanoTime() >= measureFrom) {
+                    long heapUsed = memoryMXBean.getHeapMemoryUsage().getUsed();
+                    samples++;
+                    heapUsedSum += heapUsed;
+                    peakHeapUsed = Math.max(peakHeapUsed, heapUsed);
+                    peakLiveThreads = Math.max(peakLiveThreads, threadMXBean.getThreadCount());
+                }
+            }
+        }
+
+        long peakHeapUsedBytes() {
+            return peakHeapUsed;
+        }
+
+        long averageHeapUsedBytes() {
+            return samples == 0 ? 0 : heapUsedSum / samples;
+        }
+
+        int peakLiveThreads() {
+            return peakLiveThreads;
+        }
+    }
+}
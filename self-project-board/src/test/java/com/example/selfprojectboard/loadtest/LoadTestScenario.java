@@ -0,0 +1,37 @@
+package com.example.selfprojectboard.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 시나리오 (src/test/resources/loadtest/*.json)
+ * <p>
+ * 가상 사용자는 각자 로그인한 뒤 {@code duration} 동안 {@code steps} 중 하나를 {@code weight} 비율로 골라 요청한다.
+ * 경로와 폼 값의 {@code {articleId}}, {@code {page}}, {@code {hashtag}} 는 요청마다 무작위 값으로 바뀐다.
+ */
+public record LoadTestScenario(
+        String name,
+        int virtualUsers,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        int maxPage,
+        List<Account> accounts,
+        List<Step> steps
+) {
+
+    public record Account(String username, String password) {}
+
+    public record Step(
+            String name,
+            String method,
+            String path,
+            Map<String, String> form,
+            int weight
+    ) {
+        public boolean isPost() {
+            return "POST".equalsIgnoreCase(method);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.selfprojectboard.loadtest;
+
+import com.example.selfprojectboard.SelfProjectBoardApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.tools.attach.AttachNotSupportedException;
+import com.sun.tools.attach.VirtualMachine;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 대상 앱을 별도 JVM 으로 띄운다.
+ * <p>
+ * 같은 JVM 에 띄우면 가상 사용자 스레드와 HTTP 클라이언트가 쓰는 힙이 서버 측정값에 섞이므로 프로세스를 나눈다.
+ * 자식 JVM 은 테스트 클래스패스와 loadtest.* 시스템 속성을 그대로 받아 {@link #main} 에서 loadtest 프로필로 기동하고,
+ * 데이터 적재가 끝나면 포트, 게시글 ID 상한, 해시태그 목록을 준비 파일로 남긴다.
+ * 서버의 힙/스레드 수는 Attach API 로 연 JMX 연결로 읽는다.
+ * 서버 힙 크기는 {@code -Dloadtest.server-heap} 으로 정한다. (기본 2g)
+ */
+public class LoadTestServer implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(10);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    private static final List<String> FORWARDED_PROPERTY_PREFIXES = List.of("loadtest.", "net.bytebuddy.");
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Process process;
+    private final Ready ready;
+    private final JMXConnector jmxConnector;
+
+    record Ready(int port, long maxArticleId, List<String> hashtags) {}
+
+    private LoadTestServer(Process process, Ready ready, JMXConnector jmxConnector) {
+        this.process = process;
+        this.ready = ready;
+        this.jmxConnector = jmxConnector;
+    }
+
+    /**
+     * 자식 JVM 진입점. 인자: 준비 파일 경로
+     */
+    public static void main(String[] args) throws IOException {
+        Path readyFile = Path.of(args[0]);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SelfProjectBoardApplication.class, LoadTestDataSeeder.class)
+                .profiles("loadtest")
+                .initializers(applicationContext -> applicationContext.getBeanFactory().registerSingleton(
+                        TestConfigurationExcludeFilter.class.getName(), new TestConfigurationExcludeFilter()))
+                .run("--server.port=0");
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Ready ready = new Ready(
+                context.getEnvironment().getRequiredProperty("local.server.port", Integer.class),
+                jdbcTemplate.queryForObject("select max(id) from article", Long.class),
+                jdbcTemplate.queryForList("select hashtag_name from hashtag", String.class)
+        );
+        Path writing = readyFile.resolveSibling(readyFile.getFileName() + ".tmp");
+        objectMapper.writeValue(writing.toFile(), ready);
+        Files.move(writing, readyFile, StandardCopyOption.ATOMIC_MOVE); // 다 쓴 파일만 보이게 한다.
+    }
+
+    public static LoadTestServer start() throws IOException, InterruptedException {
+        Path readyFile = Files.createTempDirectory("loadtest-server").resolve("ready.json");
+        Process process = new ProcessBuilder(command(readyFile)).inheritIO().start();
+        try {
+            Ready ready = awaitReady(process, readyFile);
+            return new LoadTestServer(process, ready, connectJmx(process));
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            process.destroyForcibly();
+            throw e;
+        }
+    }
+
+    public URI baseUri() {
+        return URI.create("http://localhost:" + ready.port());
+    }
+
+    public long maxArticleId() {
+        return ready.maxArticleId();
+    }
+
+    public List<String> hashtags() {
+        return ready.hashtags();
+    }
+
+    public MemoryMXBean memoryMXBean() throws IOException {
+        return ManagementFactory.newPlatformMXBeanProxy(jmxConnector.getMBeanServerConnection(), ManagementFactory.MEMORY_MXBEAN_NAME, MemoryMXBean.class);
+    }
+
+    public ThreadMXBean threadMXBean() throws IOException {
+        return ManagementFactory.newPlatformMXBeanProxy(jmxConnector.getMBeanServerConnection(), ManagementFactory.THREAD_MXBEAN_NAME, ThreadMXBean.class);
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        try {
+            jmxConnector.close();
+        } finally {
+            process.destroy(); // SIGTERM - 앱이 정상 종료 절차를 밟는다.
+            if (!process.waitFor(SHUTDOWN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static List<String> command(Path readyFile) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Xmx" + System.getProperty("loadtest.server-heap", "2g"));
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> FORWARDED_PROPERTY_PREFIXES.stream().anyMatch(name::startsWith))
+                .sorted()
+                .forEach(name -> command.add("-D" + name + "=" + System.getProperty(name)));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(LoadTestServer.class.getName());
+        command.add(readyFile.toString());
+        return command;
+    }
+
+    private static Ready awaitReady(Process process, Path readyFile) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (!Files.exists(readyFile)) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("부하 테스트 서버가 기동 중에 종료됨 - exit code: " + process.exitValue());
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("부하 테스트 서버 기동 시간 초과 - " + STARTUP_TIMEOUT);
+            }
+            Thread.sleep(200);
+        }
+        return objectMapper.readValue(readyFile.toFile(), Ready.class);
+    }
+
+    private static JMXConnector connectJmx(Process process) throws IOException {
+        VirtualMachine virtualMachine;
+        try {
+            virtualMachine = VirtualMachine.attach(String.valueOf(process.pid()));
+        } catch (AttachNotSupportedException e) {
+            throw new IllegalStateException("부하 테스트 서버에 attach 할 수 없음 - pid: " + process.pid(), e);
+        }
+        try {
+            return JMXConnectorFactory.connect(new JMXServiceURL(virtualMachine.startLocalManagementAgent()));
+        } finally {
+            virtualMachine.detach();
+        }
+    }
+
+    /**
+     * 자식 JVM 은 테스트 클래스패스로 뜨므로, 다른 테스트의 {@code @TestConfiguration} 이 컴포넌트 스캔에 걸리지 않게 한다.
+     * (테스트 컨텍스트에서는 스프링 부트 테스트가 같은 필터를 등록한다)
+     */
+    private static class TestConfigurationExcludeFilter extends TypeExcludeFilter {
+
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            return metadataReader.getAnnotationMetadata().hasAnnotation(TestConfiguration.class.getName());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj != null && getClass() == obj.getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.selfprojectboard.repository;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.ArticleComment;
+import com.example.selfprojectboard.domain.UserAccount;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 10만 건을 JPA 로 저장할 때의 처리량을 잰다. (시퀀스 pooled-lo + JDBC batch)
+ * <p>
+ * 기본 test 태스크에서는 제외되며 {@code ./gradlew benchmark -Dbenchmark.comments=100000 -Dbenchmark.batch-size=50} 으로 실행한다.
+ * {@code -Dbenchmark.batch-size=1} 로 돌리면 batch 없이 건마다 insert 하는 경우와 비교할 수 있다.
+ */
+@Tag("benchmark")
+@DisplayName("[benchmark] 댓글 대량 insert")
+@Import({JpaRepositoryTest.TestJpaConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=info"
+})
+class ArticleCommentInsertBenchmarkTest {
+
+    private static final int COMMENT_COUNT = Integer.getInteger("benchmark.comments", 100_000);
+    private static final int BATCH_SIZE = Integer.getInteger("benchmark.batch-size", 50);
+    private static final int COMMENTS_PER_TRANSACTION = 10_000;
+    private static final int COMMENTS_PER_FLUSH = 1_000;
+
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+
+    ArticleCommentInsertBenchmarkTest(
+            @Autowired EntityManager entityManager,
+            @Autowired EntityManagerFactory entityManagerFactory,
+            @Autowired PlatformTransactionManager transactionManager
+    ) {
+        this.entityManager = entityManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @DynamicPropertySource
+    static void batchSize(DynamicPropertyRegistry registry) {
+        registry.add("spring.jpa.properties.hibernate.jdbc.batch_size", () -> BATCH_SIZE);
+    }
+
+    @DisplayName("댓글 대량 저장 처리량")
+    @Test
+    void insertComments() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long startedAt = System.nanoTime();
+        for (int saved = 0; saved < COMMENT_COUNT; saved += COMMENTS_PER_TRANSACTION) {
+            int count = Math.min(COMMENTS_PER_TRANSACTION, COMMENT_COUNT - saved);
+            transactionTemplate.executeWithoutResult(status -> persistComments(count));
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        System.out.printf("%-10s | %-10s | %-10s | %-14s | %-12s%n", "batch", "comments", "elapsed(s)", "comments / s", "statements");
+        System.out.printf("%-10d | %,10d | %10.2f | %,14.0f | %,12d%n",
+                BATCH_SIZE, COMMENT_COUNT, elapsedSeconds, COMMENT_COUNT / elapsedSeconds, statistics.getPrepareStatementCount());
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(COMMENT_COUNT);
+        if (BATCH_SIZE > 1) {
+            assertThat(statistics.getPrepareStatementCount()).isLessThan(COMMENT_COUNT / 10);
+        }
+    }
+
+    private void persistComments(int count) {
+        for (int i = 0; i < count; i++) {
+            if (i % COMMENTS_PER_FLUSH == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+            Article article = entityManager.getReference(Article.class, 1L);
+            UserAccount userAccount = entityManager.getReference(UserAccount.class, "sspark");
+            entityManager.persist(ArticleComment.of(article, userAccount, "benchmark comment " + i));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.selfprojectboard.repository;
+
+import com.example.selfprojectboard.dto.ArticleDto;
+import com.example.selfprojectboard.response.ArticleResponse;
+import com.example.selfprojectboard.response.ArticleSummaryResponse;
+import com.example.selfprojectboard.util.BenchmarkRunner;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 한 페이지를 엔티티로 읽을 때와 컬럼 projection 으로 읽을 때의 응답 시간, 힙 할당량, 읽어 온 본문 크기를 비교한다.
+ * <p>
+ * 기본 test 태스크에서는 제외되며 {@code ./gradlew benchmark -Dbenchmark.articles=100000} 으로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("[benchmark] 게시글 목록 - 엔티티 vs projection")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=info"
+})
+class ArticleProjectionBenchmarkTest {
+
+    private static final long ARTICLE_COUNT = Long.getLong("benchmark.articles", 100_000L);
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 100;
+    private static final Pageable PAGE = PageRequest.of(10, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private final ArticleRepository articleRepository;
+    private final DataSource dataSource;
+
+    ArticleProjectionBenchmarkTest(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired DataSource dataSource
+    ) {
+        this.articleRepository = articleRepository;
+        this.dataSource = dataSource;
+    }
+
+    @BeforeAll
+    void setUp() {
+        BenchmarkRunner.insertArticles(dataSource, ARTICLE_COUNT);
+    }
+
+    @DisplayName("목록 한 페이지 응답 만들기 비교")
+    @Test
+    void compareListPage() {
+        Result entity = measure(() -> articleRepository.findAll(PAGE)
+                .map(ArticleDto::from)
+                .map(ArticleResponse::from)
+                .getContent(), response -> response.content().length());
+        Result projection = measure(() -> articleRepository.findSummaries(null, null, PAGE)
+                .map(ArticleSummaryResponse::from)
+                .getContent(), response -> response.contentPreview().length());
+
+        BenchmarkRunner.printRow("path", "avg (ms)", "heap / page (KB)", "content chars");
+        BenchmarkRunner.printRow("entity", entity.averageMillis(), entity.allocatedBytes() / 1024, entity.contentChars());
+        BenchmarkRunner.printRow("projection", projection.averageMillis(), projection.allocatedBytes() / 1024, projection.contentChars());
+
+        assertThat(projection.contentChars()).isLessThan(entity.contentChars());
+    }
+
+    private <T> Result measure(PageLoader<T> loader, ToLongFunction<T> contentLength) {
+        BenchmarkRunner.Result<List<T>> result = BenchmarkRunner.measure(WARMUP_ROUNDS, MEASURED_ROUNDS, loader::load);
+        long contentChars = result.lastValue().stream().mapToLong(contentLength).sum();
+
+        return new Result(result.average(), result.allocatedBytesPerRound(), contentChars);
+    }
+
+    @FunctionalInterface
+    private interface PageLoader<T> {
+        List<T> load();
+    }
+
+    private record Result(double averageMillis, long allocatedBytes, long contentChars) {}
+}
@@ -2,7 +2,13 @@ package com.example.selfprojectboard.repository;
 
 import com.example.selfprojectboard.config.JpaConfig;
 import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.ArticleComment;
 import com.example.selfprojectboard.domain.UserAccount;
+import com.example.selfprojectboard.domain.constant.SearchType;
+import com.example.selfprojectboard.dto.ArticleExportDto;
+import com.example.selfprojectboard.dto.ArticleSummaryDto;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,11 +16,17 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import javax.persistence.EntityManagerFactory;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -26,16 +38,19 @@ class JpaRepositoryTest {
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final EntityManagerFactory entityManagerFactory;
 
     public JpaRepositoryTest(
             @Autowired ArticleRepository articleRepository, //생성자주입 패턴
             @Autowired ArticleCommentRepository articleCommentRepository,
-            @Autowired UserAccountRepository userAccountRepository
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired EntityManagerFactory entityManagerFactory
     ) {
 
         this.articleRepository = articleRepository;
         this.articleCommentRepository = articleCommentRepository;
         this.userAccountRepository = userAccountRepository;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     @DisplayName("select Test")
@@ -51,6 +66,67 @@ class JpaRepositoryTest {
                 .hasSize(123);
     }
 
+    @DisplayName("해시태그 조인 select test")
+    @Test
+    void givenTestData_whenSelectingByHashtagName_thenReturnsArticlesThroughJoinTable() {
+        //given
+        String hashtagName = "pink";
+
+        //when
+        Page<Article> articles = articleRepository.findByHashtags_HashtagName(hashtagName, Pageable.ofSize(5));
+
+        //then
+        assertThat(articles.getTotalElements()).isEqualTo(6);
+        assertThat(articles.getContent())
+                .hasSize(5)
+                .allSatisfy(article -> assertThat(article.getHashtag()).isEqualTo("#pink"));
+        assertThat(articleRepository.findAllDistinctHashtags()).contains("pink", "purple");
+    }
+
+    @DisplayName("게시글 목록 select test - 필요한 컬럼만 읽고 엔티티는 만들지 않는다")
+    @Test
+    void givenTestData_whenSelectingSummaries_thenReturnsProjectionWithoutLoadingEntities() {
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        Page<ArticleSummaryDto> articles = articleRepository.findSummaries(SearchType.HASHTAG, "pink", Pageable.ofSize(5));
+
+        //then
+        assertThat(articles.getTotalElements()).isEqualTo(6);
+        assertThat(articles.getContent())
+                .hasSize(5)
+                .allSatisfy(article -> {
+                    assertThat(article.hashtag()).isEqualTo("#pink");
+                    assertThat(article.nickname()).isNotNull();
+                    assertThat(article.contentPreview()).hasSizeLessThanOrEqualTo(ArticleSummaryDto.CONTENT_PREVIEW_LENGTH);
+                });
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // 목록 + count
+    }
+
+    @DisplayName("내보내기 select test - 댓글 없는 게시글까지 게시글 ID 순으로 흘려보낸다")
+    @Test
+    void givenTestData_whenStreamingForExport_thenReturnsArticlesWithComments() {
+        //given
+        long commentCount = articleCommentRepository.count();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        List<ArticleExportDto> rows;
+        try (Stream<ArticleExportDto> stream = articleRepository.streamForExport(100)) {
+            rows = stream.toList();
+        }
+
+        //then
+        assertThat(rows).isSortedAccordingTo(Comparator.comparing(ArticleExportDto::articleId));
+        assertThat(rows.stream().map(ArticleExportDto::articleId).distinct()).hasSize(123);
+        assertThat(rows.stream().filter(row -> row.commentId() != null)).hasSize((int) commentCount);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // 게시글 커서 + 댓글 커서
+    }
+
     @DisplayName("Insert test")
     @Test
     void givenTestData_whenInserting_thenWorksFine() {
@@ -68,6 +144,27 @@ class JpaRepositoryTest {
 
     }
 
+    @DisplayName("댓글 여러 건 insert test - 시퀀스 ID 를 블록으로 받고 JDBC batch 로 묶는다")
+    @Test
+    void givenManyComments_whenInserting_thenBatchesStatements() {
+        //given
+        Article article = articleRepository.getReferenceById(1L);
+        UserAccount userAccount = userAccountRepository.getReferenceById("sspark");
+        List<ArticleComment> articleComments = IntStream.range(0, 120)
+                .mapToObj(i -> ArticleComment.of(article, userAccount, "batch comment " + i))
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        articleCommentRepository.saveAllAndFlush(articleComments);
+
+        //then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(12); // 시퀀스 3번 + batch insert 3번 (50, 50, 20)
+        assertThat(articleComments).allSatisfy(articleComment -> assertThat(articleComment.getId()).isGreaterThan(1000L));
+    }
+
     @DisplayName("update test")
     @Test
     void givenTestData_whenUpdating_thenWorksFine() {
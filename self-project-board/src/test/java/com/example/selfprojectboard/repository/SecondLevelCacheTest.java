@@ -0,0 +1,98 @@
+package com.example.selfprojectboard.repository;
+
+import com.example.selfprojectboard.domain.ArticleComment;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JPA 2차 캐시 테스트")
+@Import({JpaRepositoryTest.TestJpaConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 세션이 바뀌어야 2차 캐시를 거친다. 테스트 트랜잭션 하나로 묶지 않는다.
+@DataJpaTest
+class SecondLevelCacheTest {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    public SecondLevelCacheTest(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired ArticleCommentRepository articleCommentRepository,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired EntityManagerFactory entityManagerFactory,
+            @Autowired PlatformTransactionManager transactionManager
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("같은 게시글을 다른 세션에서 다시 조회하면, 2차 캐시에서 꺼낸다.")
+    @Test
+    void givenCachedArticle_whenSelectingAgain_thenHitsSecondLevelCache() {
+        //given
+        articleRepository.findById(1L).orElseThrow();
+
+        //when
+        articleRepository.findById(1L).orElseThrow();
+
+        //then
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("article");
+        assertThat(region.getMissCount()).isEqualTo(1);
+        assertThat(region.getHitCount()).isEqualTo(1);
+    }
+
+    @DisplayName("댓글을 저장/삭제하면, 게시글의 댓글 컬렉션 캐시가 비워져 바로 반영된다.")
+    @Test
+    void givenCachedArticleComments_whenSavingAndDeletingComment_thenEvictsCollectionCache() {
+        //given
+        int previousSize = countArticleComments(1L);
+        countArticleComments(1L);
+        assertThat(statistics.getDomainDataRegionStatistics("articleComments").getHitCount()).isEqualTo(1);
+
+        //when
+        ArticleComment savedComment = transactionTemplate.execute(status -> articleCommentRepository.save(ArticleComment.of(
+                articleRepository.getReferenceById(1L),
+                userAccountRepository.getReferenceById("sspark"),
+                "new comment"
+        )));
+        int sizeAfterSaving = countArticleComments(1L);
+        articleCommentRepository.deleteById(savedComment.getId());
+        int sizeAfterDeleting = countArticleComments(1L);
+
+        //then
+        assertThat(sizeAfterSaving).isEqualTo(previousSize + 1);
+        assertThat(sizeAfterDeleting).isEqualTo(previousSize);
+    }
+
+    private int countArticleComments(Long articleId) {
+        return transactionTemplate.execute(status -> articleRepository.findById(articleId).orElseThrow().getArticleComments().size());
+    }
+}
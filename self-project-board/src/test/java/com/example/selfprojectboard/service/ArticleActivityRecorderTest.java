@@ -0,0 +1,75 @@
+package com.example.selfprojectboard.service;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.ArticleActivity;
+import com.example.selfprojectboard.dto.event.ArticleCommentEvent;
+import com.example.selfprojectboard.dto.event.ArticleEvent;
+import com.example.selfprojectboard.repository.ArticleActivityRepository;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@DisplayName("비즈니스 로직 - 게시글별 댓글 버전")
+@ExtendWith(MockitoExtension.class)
+class ArticleActivityRecorderTest {
+
+    @InjectMocks
+    private ArticleActivityRecorder sut;
+
+    @Mock
+    private ArticleActivityRepository articleActivityRepository;
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @DisplayName("댓글 버전 행이 있으면, 게시글을 잠그지 않고 버전만 올린다.")
+    @Test
+    void givenExistingActivity_whenCommentChanges_thenIncreasesVersionOnly() {
+        //Given
+        given(articleActivityRepository.increaseCommentVersion(eq(1L), any(LocalDateTime.class))).willReturn(1);
+
+        //When
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.CREATED, 10L, 1L, "sspark"));
+
+        //Then
+        then(articleRepository).shouldHaveNoInteractions();
+        then(articleActivityRepository).should(never()).save(any(ArticleActivity.class));
+    }
+
+    @DisplayName("게시글의 첫 댓글 변경이면, 게시글을 잠근 뒤 버전 행을 만든다.")
+    @Test
+    void givenNoActivity_whenCommentChanges_thenCreatesActivityUnderArticleLock() {
+        //Given
+        given(articleActivityRepository.increaseCommentVersion(eq(1L), any(LocalDateTime.class))).willReturn(0);
+        given(articleRepository.findForUpdateById(1L)).willReturn(Optional.of(mock(Article.class)));
+
+        //When
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.DELETED, 10L, 1L, "sspark"));
+
+        //Then
+        then(articleActivityRepository).should().save(any(ArticleActivity.class));
+    }
+
+    @DisplayName("게시글이 지워지면, 댓글 버전 행도 지운다.")
+    @Test
+    void givenDeletedArticle_whenHandlingArticleEvent_thenDeletesActivity() {
+        //When
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.DELETED, 1L, "sspark", null, null, null, null));
+
+        //Then
+        then(articleActivityRepository).should().deleteByArticleId(1L);
+    }
+}
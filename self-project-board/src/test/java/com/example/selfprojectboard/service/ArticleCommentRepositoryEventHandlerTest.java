@@ -0,0 +1,76 @@
+package com.example.selfprojectboard.service;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.ArticleComment;
+import com.example.selfprojectboard.domain.UserAccount;
+import com.example.selfprojectboard.dto.event.ArticleCommentEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("비즈니스 로직 - Data REST 댓글 이벤트")
+@ExtendWith(MockitoExtension.class)
+class ArticleCommentRepositoryEventHandlerTest {
+
+    @InjectMocks
+    private ArticleCommentRepositoryEventHandler sut;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @DisplayName("/api 로 댓글을 작성하면, 생성 이벤트를 발행한다.")
+    @Test
+    void givenCreatedArticleComment_whenHandlingAfterCreate_thenPublishesCreatedEvent() {
+        //Given
+        ArticleComment articleComment = createArticleComment(10L, 1L);
+
+        //When
+        sut.afterCreate(articleComment);
+
+        //Then
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.CREATED, 10L, 1L, "sspark"));
+    }
+
+    @DisplayName("/api 로 댓글을 수정하면, 수정 이벤트를 발행한다.")
+    @Test
+    void givenSavedArticleComment_whenHandlingAfterSave_thenPublishesUpdatedEvent() {
+        //Given
+        ArticleComment articleComment = createArticleComment(10L, 1L);
+
+        //When
+        sut.afterSave(articleComment);
+
+        //Then
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.UPDATED, 10L, 1L, "sspark"));
+    }
+
+    @DisplayName("/api 로 댓글을 삭제하면, 삭제 이벤트를 발행한다.")
+    @Test
+    void givenDeletedArticleComment_whenHandlingAfterDelete_thenPublishesDeletedEvent() {
+        //Given
+        ArticleComment articleComment = createArticleComment(10L, 1L);
+
+        //When
+        sut.afterDelete(articleComment);
+
+        //Then
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.DELETED, 10L, 1L, "sspark"));
+    }
+
+    private ArticleComment createArticleComment(Long id, Long articleId) {
+        UserAccount userAccount = UserAccount.of("sspark", "pw", null, null, null);
+        Article article = Article.of(userAccount, "title", "content", "#java");
+        ReflectionTestUtils.setField(article, "id", articleId);
+        ArticleComment articleComment = ArticleComment.of(article, userAccount, "content");
+        ReflectionTestUtils.setField(articleComment, "id", id);
+
+        return articleComment;
+    }
+}
@@ -3,8 +3,11 @@ package com.example.selfprojectboard.service;
 import com.example.selfprojectboard.domain.Article;
 import com.example.selfprojectboard.domain.ArticleComment;
 import com.example.selfprojectboard.domain.UserAccount;
+import com.example.selfprojectboard.dto.ArticleCommentCursor;
 import com.example.selfprojectboard.dto.ArticleCommentDto;
+import com.example.selfprojectboard.dto.CursorSlice;
 import com.example.selfprojectboard.dto.UserAccountDto;
+import com.example.selfprojectboard.dto.event.ArticleCommentEvent;
 import com.example.selfprojectboard.repository.ArticleCommentRepository;
 import com.example.selfprojectboard.repository.ArticleRepository;
 import com.example.selfprojectboard.repository.UserAccountRepository;
@@ -14,6 +17,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
@@ -35,6 +40,8 @@ class ArticleCommentServiceTest {
     private ArticleCommentRepository articleCommentRepository;
     @Mock
     private UserAccountRepository userAccountRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @DisplayName("게시글 ID로 조회하면, 해당하는 댓글 리스트를 반환한다.")
     @Test
@@ -55,6 +62,46 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().findByArticle_Id(articleId);
     }
 
+    @DisplayName("게시글 ID로 댓글 페이지를 조회하면, size 건과 다음 페이지 커서를 반환한다.")
+    @Test
+    void givenArticleIdAndSize_whenSearchingArticleCommentPage_thenReturnsBoundedSliceWithCursor() {
+        // Given
+        Long articleId = 1L;
+        ArticleComment newest = createArticleComment(3L, "newest", LocalDateTime.of(2022, 1, 3, 0, 0));
+        ArticleComment middle = createArticleComment(2L, "middle", LocalDateTime.of(2022, 1, 2, 0, 0));
+        ArticleComment oldest = createArticleComment(1L, "oldest", LocalDateTime.of(2022, 1, 1, 0, 0));
+        given(articleCommentRepository.findByArticleIdAfter(eq(articleId), isNull(), eq(3))).willReturn(List.of(newest, middle, oldest));
+
+        // When
+        CursorSlice<ArticleCommentDto> actual = sut.searchArticleComments(articleId, null, 2);
+
+        // Then
+        assertThat(actual.content()).extracting(ArticleCommentDto::content).containsExactly("newest", "middle");
+        assertThat(actual.hasNext()).isTrue();
+        assertThat(actual.hasPrevious()).isFalse();
+        assertThat(ArticleCommentCursor.decode(actual.lastCursor()))
+                .contains(ArticleCommentCursor.of(middle.getCreatedAt(), middle.getId()));
+    }
+
+    @DisplayName("댓글 커서를 주면, 커서 다음 댓글부터 조회한다.")
+    @Test
+    void givenCursor_whenSearchingArticleCommentPage_thenSearchesAfterCursor() {
+        // Given
+        Long articleId = 1L;
+        ArticleCommentCursor cursor = ArticleCommentCursor.of(LocalDateTime.of(2022, 1, 2, 0, 0), 2L);
+        ArticleComment oldest = createArticleComment(1L, "oldest", LocalDateTime.of(2022, 1, 1, 0, 0));
+        given(articleCommentRepository.findByArticleIdAfter(articleId, cursor, 3)).willReturn(List.of(oldest));
+
+        // When
+        CursorSlice<ArticleCommentDto> actual = sut.searchArticleComments(articleId, cursor.encode(), 2);
+
+        // Then
+        assertThat(actual.content()).extracting(ArticleCommentDto::content).containsExactly("oldest");
+        assertThat(actual.hasNext()).isFalse();
+        assertThat(actual.hasPrevious()).isTrue();
+        then(articleCommentRepository).should().findByArticleIdAfter(articleId, cursor, 3);
+    }
+
     @DisplayName("댓글 정보를 입력하면, 댓글을 저장한다.")
     @Test
     void givenArticleCommentInfo_whenSavingArticleComment_thenSavesArticleComment() {
@@ -71,6 +118,7 @@ class ArticleCommentServiceTest {
         then(articleRepository).should().getReferenceById(dto.articleId());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleCommentRepository).should().save(any(ArticleComment.class));
+        then(eventPublisher).should().publishEvent(any(ArticleCommentEvent.class));
     }
 
     @DisplayName("댓글 저장을 시도했는데 맞는 게시글이 없으면, 경고 로그를 찍고 아무것도 안 한다.")
@@ -107,6 +155,7 @@ class ArticleCommentServiceTest {
                 .isNotEqualTo(oldContent)
                 .isEqualTo(updatedContent);
         then(articleCommentRepository).should().getReferenceById(dto.id());
+        then(eventPublisher).should().publishEvent(any(ArticleCommentEvent.class)); // 게시글별 댓글 버전을 올린다.
     }
 
     @DisplayName("없는 댓글 정보를 수정하려고 하면, 경고 로그를 찍고 아무 것도 안 한다.")
@@ -129,13 +178,14 @@ class ArticleCommentServiceTest {
         // Given
         Long articleCommentId = 1L;
         String userId = "sspark";
-        willDoNothing().given(articleCommentRepository).deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        given(articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId)).willReturn(List.of(createArticleComment("content")));
 
         // When
         sut.deleteArticleComment(articleCommentId, userId);
 
         // Then
         then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(articleCommentId,userId);
+        then(eventPublisher).should().publishEvent(any(ArticleCommentEvent.class));
     }
 
 
@@ -174,6 +224,13 @@ class ArticleCommentServiceTest {
         );
     }
 
+    private ArticleComment createArticleComment(Long id, String content, LocalDateTime createdAt) {
+        ArticleComment articleComment = createArticleComment(content);
+        ReflectionTestUtils.setField(articleComment, "id", id);
+        ReflectionTestUtils.setField(articleComment, "createdAt", createdAt);
+        return articleComment;
+    }
+
     private UserAccount createUserAccount() {
         return UserAccount.of(
                 "uno",
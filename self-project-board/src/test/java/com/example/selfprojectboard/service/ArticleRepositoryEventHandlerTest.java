@@ -0,0 +1,91 @@
+package com.example.selfprojectboard.service;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.UserAccount;
+import com.example.selfprojectboard.dto.event.ArticleEvent;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("비즈니스 로직 - Data REST 게시글 이벤트")
+@ExtendWith(MockitoExtension.class)
+class ArticleRepositoryEventHandlerTest {
+
+    @InjectMocks
+    private ArticleRepositoryEventHandler sut;
+
+    @Mock
+    private ArticleService articleService;
+    @Mock
+    private ArticleRepository articleRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @DisplayName("/api 로 게시글을 작성하면, 해시태그 원문으로 태그 연결을 만들고 생성 이벤트를 발행하게 한다.")
+    @Test
+    void givenCreatedArticle_whenHandlingAfterCreate_thenSyncsHashtagsAsCreated() {
+        //Given
+        Article article = createArticle(1L);
+
+        //When
+        sut.afterCreate(article);
+
+        //Then
+        then(articleService).should().syncHashtags(1L, ArticleEvent.EventType.CREATED);
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("/api 로 게시글을 수정하면, 해시태그 원문으로 태그 연결을 다시 만들고 수정 이벤트를 발행하게 한다.")
+    @Test
+    void givenSavedArticle_whenHandlingAfterSave_thenSyncsHashtagsAsUpdated() {
+        //Given
+        Article article = createArticle(1L);
+
+        //When
+        sut.afterSave(article);
+
+        //Then
+        then(articleService).should().syncHashtags(1L, ArticleEvent.EventType.UPDATED);
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("/api 로 게시글을 삭제하면, 삭제 전에 읽어 둔 태그로 삭제 이벤트를 발행한다.")
+    @Test
+    void givenDeletedArticle_whenHandlingDelete_thenPublishesDeletedEventWithPreviousHashtags() {
+        //Given
+        Article article = createArticle(1L);
+        given(articleRepository.findHashtagNamesById(1L)).willReturn(Set.of("java", "spring"));
+
+        //When
+        sut.beforeDelete(article);
+        sut.afterDelete(article);
+
+        //Then
+        ArgumentCaptor<ArticleEvent> event = ArgumentCaptor.forClass(ArticleEvent.class);
+        then(eventPublisher).should().publishEvent(event.capture());
+        assertThat(event.getValue())
+                .hasFieldOrPropertyWithValue("eventType", ArticleEvent.EventType.DELETED)
+                .hasFieldOrPropertyWithValue("hashtagNames", Set.of())
+                .hasFieldOrPropertyWithValue("previousHashtagNames", Set.of("java", "spring"));
+    }
+
+    private Article createArticle(Long id) {
+        Article article = Article.of(UserAccount.of("sspark", "pw", null, null, null), "title", "content", "#java");
+        ReflectionTestUtils.setField(article, "id", id);
+
+        return article;
+    }
+}
@@ -1,31 +1,50 @@
 package com.example.selfprojectboard.service;
 
+import com.example.selfprojectboard.config.BoardProperties;
 import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.Hashtag;
 import com.example.selfprojectboard.domain.UserAccount;
 import com.example.selfprojectboard.domain.constant.SearchType;
+import com.example.selfprojectboard.dto.ArticleCursor;
 import com.example.selfprojectboard.dto.ArticleDto;
-import com.example.selfprojectboard.dto.ArticleWithCommentsDto;
+import com.example.selfprojectboard.dto.ArticleSummaryDto;
+import com.example.selfprojectboard.dto.CursorSlice;
 import com.example.selfprojectboard.dto.UserAccountDto;
+import com.example.selfprojectboard.dto.event.ArticleEvent;
 import com.example.selfprojectboard.repository.ArticleRepository;
 import com.example.selfprojectboard.repository.UserAccountRepository;
+import com.example.selfprojectboard.service.search.ArticleSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.*;
 
 @DisplayName("비즈니스 로직 - 게시글")
@@ -39,20 +58,34 @@ class ArticleServiceTest {
     private ArticleRepository articleRepository;
     @Mock
     private UserAccountRepository userAccountRepository;
+    @Mock
+    private ArticleSearchIndex articleSearchIndex;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ArticleStatistics articleStatistics;
+    @Mock
+    private HashtagService hashtagService;
+    @Mock
+    private HashtagRegistry hashtagRegistry;
+    @Spy
+    private BoardProperties boardProperties = new BoardProperties(new BoardProperties.Pagination(false, false, Duration.ofMinutes(1)));
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @DisplayName("검색어 없이 게시글을 검색하면, 게시글 페이지를 반환한다.")
     @Test
     void givenNoSearchParameters_whenSearchingArticles_thenReturnsArticlePage() {
         //Given
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        given(articleRepository.findSummaries(null, null, pageable)).willReturn(Page.empty());
 
         //When
-        Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticles(null, null, pageable);
 
         //Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        then(articleRepository).should().findSummaries(null, null, pageable);
 
     }
 
@@ -63,15 +96,98 @@ class ArticleServiceTest {
         SearchType searchType = SearchType.TITLE;
         String searchKeyword = "title";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByTitleContaining(searchKeyword,pageable)).willReturn(Page.empty());
+        given(articleRepository.findSummaries(searchType, searchKeyword, pageable)).willReturn(Page.empty());
 
         //When
-        Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
         //Page 안에 paging, sorting 기능이 포함되어있다.
         //Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        then(articleRepository).should().findSummaries(searchType, searchKeyword, pageable);
+
+    }
 
+    @DisplayName("게시글을 검색하면, 검색 유형과 조회 방식 태그로 조회 시간을 기록한다.")
+    @Test
+    void givenSearchParameters_whenSearchingArticles_thenRecordsSearchTimerByType() {
+        //Given
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleRepository.findSummaries(SearchType.NICKNAME, "Sspark", pageable)).willReturn(Page.empty());
+        given(articleRepository.findSummaries(null, null, pageable)).willReturn(Page.empty());
+
+        //When
+        sut.searchArticles(SearchType.NICKNAME, "Sspark", pageable);
+        sut.searchArticles(null, null, pageable);
+
+        //Then
+        assertThat(meterRegistry.get("board.article.search").tags("type", "NICKNAME", "strategy", "offset").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.article.search").tags("type", "NONE", "strategy", "offset").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("검색 인덱스로 처리 가능한 검색어로 검색하면, 인덱스 결과 순서대로 게시글 페이지를 반환한다.")
+    @Test
+    void givenIndexedSearchParameters_whenSearchingArticles_thenReturnsArticlePageFromIndex() {
+        //Given
+        SearchType searchType = SearchType.CONTENT;
+        String searchKeyword = "content";
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleSummaryDto first = createArticleSummary(2L, 2);
+        ArticleSummaryDto second = createArticleSummary(1L, 1);
+        given(articleSearchIndex.search(searchType, searchKeyword, pageable))
+                .willReturn(Optional.of(new PageImpl<>(List.of(2L, 1L), pageable, 2)));
+        given(articleRepository.findSummariesByIds(List.of(2L, 1L))).willReturn(List.of(second, first));
+
+        //When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        //Then
+        assertThat(articles.getTotalElements()).isEqualTo(2);
+        assertThat(articles.getContent())
+                .extracting(ArticleSummaryDto::id)
+                .containsExactly(2L, 1L);
+        then(articleRepository).should().findSummariesByIds(List.of(2L, 1L));
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("slice 모드에서 검색어 없이 게시글을 검색하면, count 쿼리 없이 게시글 수 카운터로 페이지를 만든다.")
+    @Test
+    void givenSliceModeAndNoSearchParameters_whenSearchingArticles_thenReturnsArticlePageWithCountedTotal() {
+        //Given
+        Pageable pageable = PageRequest.of(0, 1);
+        given(boardProperties.getPagination()).willReturn(new BoardProperties.Pagination(false, true, Duration.ofMinutes(1)));
+        given(articleRepository.findSliceBySearch(null, null, pageable)).willReturn(new SliceImpl<>(List.of(createArticleSummary(1L, 1)), pageable, true));
+        given(articleStatistics.getArticleCount()).willReturn(123L);
+
+        //When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(null, null, pageable);
+
+        //Then
+        assertThat(articles.getContent()).hasSize(1);
+        assertThat(articles.getTotalElements()).isEqualTo(123L);
+        then(articleRepository).should().findSliceBySearch(null, null, pageable);
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("slice 모드에서 게시글을 검색하면, 캐시된 검색 결과 건수로 페이지를 만든다.")
+    @Test
+    void givenSliceModeAndSearchParameters_whenSearchingArticles_thenReturnsArticlePageWithCachedTotal() {
+        //Given
+        SearchType searchType = SearchType.NICKNAME;
+        String searchKeyword = "Sspark";
+        Pageable pageable = PageRequest.of(1, 1);
+        given(boardProperties.getPagination()).willReturn(new BoardProperties.Pagination(false, true, Duration.ofMinutes(1)));
+        given(articleSearchIndex.search(searchType, searchKeyword, pageable)).willReturn(Optional.empty());
+        given(articleRepository.findSliceBySearch(searchType, searchKeyword, pageable)).willReturn(new SliceImpl<>(List.of(createArticleSummary(1L, 1)), pageable, true));
+        given(articleStatistics.getSearchTotal(eq(searchType), eq(searchKeyword), any())).willReturn(1L);
+
+        //When
+        Page<ArticleSummaryDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+
+        //Then
+        assertThat(articles.getTotalElements()).isEqualTo(3L); // 캐시 값이 작아도 다음 페이지가 있으면 그만큼은 보장한다.
+        assertThat(articles.hasNext()).isTrue();
+        then(articleRepository).should().findSliceBySearch(searchType, searchKeyword, pageable);
+        then(articleRepository).shouldHaveNoMoreInteractions();
     }
 
     @DisplayName("검색어 없이 게시글을 해시태그 검색하면, 게시글 페이지를 반환한다.")
@@ -81,7 +197,7 @@ class ArticleServiceTest {
         Pageable pageable = Pageable.ofSize(20);
 
         //When
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(null, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(null, pageable);
         //Page 안에 paging, sorting 기능이 포함되어있다.
         //Then
         assertThat(articles).isEmpty(); //== .isEqualTo(Page.empty(pageable));
@@ -95,65 +211,83 @@ class ArticleServiceTest {
         //Given
         String hashtag = "#java";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByHashtag(hashtag,pageable)).willReturn(Page.empty(pageable));
+        given(articleRepository.findSummaries(SearchType.HASHTAG, "java", pageable)).willReturn(Page.empty(pageable));
 
         //When
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtag, pageable);
+        Page<ArticleSummaryDto> articles = sut.searchArticlesViaHashtag(hashtag, pageable);
         //Page 안에 paging, sorting 기능이 포함되어있다.
         //Then
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByHashtag(hashtag,pageable);
+        then(articleRepository).should().findSummaries(SearchType.HASHTAG, "java", pageable); // '#' 을 떼고 정규화된 태그 이름으로 조인 검색
 
     }
 
-    @DisplayName("게시글을 해시태그 검색하면, 게시글 페이지를 반환한다.")
+    @DisplayName("커서 없이 게시글을 커서 방식으로 검색하면, 첫 페이지와 다음 페이지 커서를 반환한다.")
     @Test
-    void givenNothing_whenCalling_thenReturnsHashtags() {
+    void givenNoCursor_whenSearchingArticlesByCursor_thenReturnsFirstSliceWithNextCursor() {
         //Given
-        List<String> expectedHashtags = List.of("#java","#spring","#boot");
-        given(articleRepository.findAllDistinctHashtags()).willReturn(expectedHashtags);
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Sort.Order order = Sort.Order.desc("createdAt");
+        given(articleRepository.findByKeyset(null, null, null, order, 3))
+                .willReturn(List.of(createArticleSummary(3L, 3), createArticleSummary(2L, 2), createArticleSummary(1L, 1)));
 
         //When
-        List<String> actualHashtags = sut.getHashtags();
+        CursorSlice<ArticleSummaryDto> articles = sut.searchArticlesByCursor(null, null, pageable, null, null);
+
         //Then
-        assertThat(actualHashtags).isEqualTo(expectedHashtags);
-        then(articleRepository).should().findAllDistinctHashtags();
+        assertThat(articles.content()).extracting(ArticleSummaryDto::id).containsExactly(3L, 2L);
+        assertThat(articles.hasPrevious()).isFalse();
+        assertThat(articles.hasNext()).isTrue();
+        assertThat(ArticleCursor.decode(articles.lastCursor()))
+                .hasValue(ArticleCursor.of("createdAt", Sort.Direction.DESC, 2L, createdAt(2).toString()));
+        then(articleRepository).should().findByKeyset(null, null, null, order, 3);
     }
 
-    @DisplayName("게시글 ID로 조회하면, 댓글 달긴 게시글을 반환한다.")
+    @DisplayName("이전 페이지 커서로 게시글을 검색하면, 반대 방향으로 조회해 원래 순서로 뒤집어 반환한다.")
     @Test
-    void givenArticleId_whenSearchingArticleWithComments_thenReturnsArticleWithComments() {
-        // Given
-        Long articleId = 1L;
-        Article article = createArticle();
-        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+    void givenBeforeCursor_whenSearchingArticlesByCursor_thenReturnsPreviousSliceInOriginalOrder() {
+        //Given
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+        ArticleCursor cursor = ArticleCursor.of("createdAt", Sort.Direction.DESC, 3L, createdAt(3).toString());
+        given(articleRepository.findByKeyset(isNull(), isNull(), eq(cursor), eq(Sort.Order.asc("createdAt")), eq(3)))
+                .willReturn(List.of(createArticleSummary(4L, 4), createArticleSummary(5L, 5)));
 
-        // When
-        ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId);
+        //When
+        CursorSlice<ArticleSummaryDto> articles = sut.searchArticlesByCursor(null, null, pageable, null, cursor.encode());
 
-        // Then
-        assertThat(dto)
-                .hasFieldOrPropertyWithValue("title", article.getTitle())
-                .hasFieldOrPropertyWithValue("content", article.getContent())
-                .hasFieldOrPropertyWithValue("hashtag", article.getHashtag());
-        then(articleRepository).should().findById(articleId);
+        //Then
+        assertThat(articles.content()).extracting(ArticleSummaryDto::id).containsExactly(5L, 4L);
+        assertThat(articles.hasPrevious()).isFalse();
+        assertThat(articles.hasNext()).isTrue();
     }
 
-    @DisplayName("댓글 달린 게시글이 없으면, 예외를 던진다.")
+    @DisplayName("해시태그 없이 커서 방식으로 검색하면, 빈 결과를 반환한다.")
     @Test
-    void givenNonexistentArticleId_whenSearchingArticleWithComments_thenThrowsException() {
-        // Given
-        Long articleId = 0L;
-        given(articleRepository.findById(articleId)).willReturn(Optional.empty());
+    void givenNoHashtag_whenSearchingArticlesViaHashtagByCursor_thenReturnsEmptySlice() {
+        //Given
+        Pageable pageable = Pageable.ofSize(20);
 
-        // When
-        Throwable t = catchThrowable(() -> sut.getArticleWithComments(articleId));
+        //When
+        CursorSlice<ArticleSummaryDto> articles = sut.searchArticlesViaHashtagByCursor(null, pageable, null, null);
 
-        // Then
-        assertThat(t)
-                .isInstanceOf(EntityNotFoundException.class)
-                .hasMessage("게시글이 없습니다 - articleId: " + articleId);
-        then(articleRepository).should().findById(articleId);
+        //Then
+        assertThat(articles.content()).isEmpty();
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글을 해시태그 검색하면, 게시글 페이지를 반환한다.")
+    @Test
+    void givenNothing_whenCalling_thenReturnsHashtags() {
+        //Given
+        List<String> expectedHashtags = List.of("boot","java","spring");
+        given(hashtagRegistry.getHashtagNames()).willReturn(expectedHashtags);
+
+        //When
+        List<String> actualHashtags = sut.getHashtags();
+        //Then
+        assertThat(actualHashtags).isEqualTo(expectedHashtags);
+        then(hashtagRegistry).should().getHashtagNames();
+        then(articleRepository).shouldHaveNoInteractions(); // 매 요청마다 DISTINCT 쿼리를 날리지 않는다.
     }
 
     @DisplayName("게시글을 조회하면, 게시글을 반환한다.")
@@ -205,6 +339,7 @@ class ArticleServiceTest {
         // Then
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
         then(articleRepository).should().save(any(Article.class));
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
     }
 
     @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 수정한다.")
@@ -226,6 +361,7 @@ class ArticleServiceTest {
                 .hasFieldOrPropertyWithValue("hashtag", dto.hashtag());
         then(articleRepository).should().getReferenceById(dto.id());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
     }
 
     @DisplayName("없는 게시글의 수정 정보를 입력하면, 경고 로그를 찍고 아무 것도 하지 않는다.")
@@ -242,18 +378,61 @@ class ArticleServiceTest {
         then(articleRepository).should().getReferenceById(dto.id());
     }
 
+    @DisplayName("/api 로 수정된 게시글의 태그를 맞추면, 해시태그 원문으로 태그 연결을 바꾸고 이전 태그와 함께 수정 이벤트를 발행한다.")
+    @Test
+    void givenArticleSavedThroughDataRest_whenSyncingHashtags_thenRelinksHashtagsAndPublishesUpdatedEvent() {
+        // Given
+        Article article = createArticle(); // 원문은 "#java"
+        article.addHashtags(List.of(Hashtag.of("spring")));
+        given(articleRepository.getReferenceById(1L)).willReturn(article);
+        given(hashtagService.findOrCreateHashtags("#java")).willReturn(Set.of(Hashtag.of("java")));
+
+        // When
+        sut.syncHashtags(1L, ArticleEvent.EventType.UPDATED);
+
+        // Then
+        assertThat(ArticleEvent.hashtagNamesOf(article)).containsExactly("java");
+        ArgumentCaptor<ArticleEvent> event = ArgumentCaptor.forClass(ArticleEvent.class);
+        then(eventPublisher).should().publishEvent(event.capture());
+        assertThat(event.getValue())
+                .hasFieldOrPropertyWithValue("eventType", ArticleEvent.EventType.UPDATED)
+                .hasFieldOrPropertyWithValue("hashtagNames", Set.of("java"))
+                .hasFieldOrPropertyWithValue("previousHashtagNames", Set.of("spring"));
+    }
+
+    @DisplayName("/api 로 작성된 게시글의 태그를 맞추면, 해시태그 원문으로 태그를 연결하고 생성 이벤트를 발행한다.")
+    @Test
+    void givenArticleCreatedThroughDataRest_whenSyncingHashtags_thenLinksHashtagsAndPublishesCreatedEvent() {
+        // Given
+        Article article = createArticle();
+        given(articleRepository.getReferenceById(1L)).willReturn(article);
+        given(hashtagService.findOrCreateHashtags("#java")).willReturn(Set.of(Hashtag.of("java")));
+
+        // When
+        sut.syncHashtags(1L, ArticleEvent.EventType.CREATED);
+
+        // Then
+        ArgumentCaptor<ArticleEvent> event = ArgumentCaptor.forClass(ArticleEvent.class);
+        then(eventPublisher).should().publishEvent(event.capture());
+        assertThat(event.getValue())
+                .hasFieldOrPropertyWithValue("eventType", ArticleEvent.EventType.CREATED)
+                .hasFieldOrPropertyWithValue("hashtagNames", Set.of("java"))
+                .hasFieldOrPropertyWithValue("previousHashtagNames", Set.of());
+    }
+
     @DisplayName("게시글의 ID를 입력하면, 게시글을 삭제한다")
     @Test
     void givenArticleId_whenDeletingArticle_thenDeletesArticle() {
         // Given
         Long articleId = 1L;
         String userId = "sspark";
-        willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId,userId);
+        given(articleRepository.deleteByIdAndUserAccount_UserId(articleId,userId)).willReturn(List.of(createArticle()));
 
         // When
         sut.deleteArticle(1L,userId);
 
         then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId,userId);
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
     }
 
     private UserAccount createUserAccount() {
@@ -267,17 +446,29 @@ class ArticleServiceTest {
     }
 
     private Article createArticle() {
+        return createArticle(1L);
+    }
+
+    private Article createArticle(Long id) {
         Article article = Article.of(
                 createUserAccount(),
                 "title",
                 "content",
                 "#java"
         );
-        ReflectionTestUtils.setField(article, "id", 1L);
+        ReflectionTestUtils.setField(article, "id", id);
 
         return article;
     }
 
+    private ArticleSummaryDto createArticleSummary(Long id, int day) {
+        return ArticleSummaryDto.of(id, "title", "content", "#java", createdAt(day), "Sspark", "Sspark");
+    }
+
+    private LocalDateTime createdAt(int day) {
+        return LocalDateTime.of(2022, 1, day, 0, 0);
+    }
+
 
     private ArticleDto createArticleDto() {
         return createArticleDto("title", "content", "#java");
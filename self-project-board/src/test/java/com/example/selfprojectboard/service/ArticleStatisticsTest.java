@@ -0,0 +1,151 @@
+package com.example.selfprojectboard.service;
+
+import com.example.selfprojectboard.config.BoardProperties;
+import com.example.selfprojectboard.domain.constant.SearchType;
+import com.example.selfprojectboard.dto.event.ArticleCommentEvent;
+import com.example.selfprojectboard.dto.event.ArticleEvent;
+import com.example.selfprojectboard.repository.ArticleCommentRepository;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@DisplayName("비즈니스 로직 - 게시글 통계")
+@ExtendWith(MockitoExtension.class)
+class ArticleStatisticsTest {
+
+    @InjectMocks
+    private ArticleStatistics sut;
+
+    @Mock
+    private ArticleRepository articleRepository;
+    @Mock
+    private ArticleCommentRepository articleCommentRepository;
+    @Spy
+    private BoardProperties boardProperties = new BoardProperties(new BoardProperties.Pagination(false, true, Duration.ofMinutes(1)));
+
+    @DisplayName("게시글이 생성/삭제되면, count 쿼리 없이 게시글 수를 갱신한다.")
+    @Test
+    void givenArticleEvents_whenCounting_thenReturnsExactCountWithoutQuery() {
+        //Given
+        given(articleRepository.count()).willReturn(10L);
+        sut.initialize();
+
+        //When
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 11L, "sspark", "title", "content", "#java", LocalDateTime.now()));
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.UPDATED, 11L, "sspark", "title", "content", "#java", LocalDateTime.now()));
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.DELETED, 1L, "sspark", null, null, null, null));
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 12L, "sspark", "title", "content", "#java", LocalDateTime.now()));
+
+        //Then
+        assertThat(sut.getArticleCount()).isEqualTo(11L);
+        then(articleRepository).should().count();
+    }
+
+    @DisplayName("게시글/댓글 이벤트를 받으면, 작성자별 게시글 수와 최신 ID, 댓글 수를 쿼리 없이 갱신한다.")
+    @Test
+    void givenArticleAndCommentEvents_whenReadingStatistics_thenReturnsMaintainedValues() {
+        //Given
+        given(articleRepository.count()).willReturn(2L);
+        given(articleRepository.findLatestId()).willReturn(2L);
+        given(articleRepository.countArticlesByUserId()).willReturn(Map.of("sspark", 2L));
+        given(articleCommentRepository.count()).willReturn(5L);
+        given(articleCommentRepository.findLatestId()).willReturn(5L);
+        sut.initialize();
+
+        //When
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 3L, "sspark2", "title", "content", "#java", LocalDateTime.now()));
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.DELETED, 1L, "sspark", null, null, null, null));
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.CREATED, 6L, 3L, "sspark"));
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(ArticleCommentEvent.EventType.DELETED, 4L, 2L, "sspark"));
+
+        //Then
+        assertThat(sut.getArticleCount()).isEqualTo(2L);
+        assertThat(sut.getArticleCount("sspark")).isEqualTo(1L);
+        assertThat(sut.getArticleCount("sspark2")).isEqualTo(1L);
+        assertThat(sut.getLatestArticleId()).isEqualTo(3L);
+        assertThat(sut.getLatestCommentId()).isEqualTo(6L);
+        then(articleRepository).should().count();
+        then(articleRepository).should().findLatestId();
+    }
+
+    @DisplayName("게시글이 지워지면, 함께 지워진 댓글 수를 반영하도록 댓글 수만 다시 센다.")
+    @Test
+    void givenDeletedArticle_whenReadingCommentCount_thenRecountsCommentsOnce() {
+        //Given
+        given(articleCommentRepository.count()).willReturn(5L, 3L);
+        sut.initialize();
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.DELETED, 1L, "sspark", null, null, null, null));
+
+        //When
+        long first = sut.getCommentCount();
+        long second = sut.getCommentCount();
+
+        //Then
+        assertThat(first).isEqualTo(3L);
+        assertThat(second).isEqualTo(3L);
+        then(articleCommentRepository).should(times(2)).count();
+    }
+
+    @DisplayName("주기적으로 보정하면, 이벤트로 유지한 값을 DB 값으로 맞춘다.")
+    @Test
+    void givenDriftedStatistics_whenReconciling_thenReloadsFromDatabase() {
+        //Given
+        given(articleRepository.count()).willReturn(10L, 8L);
+        sut.initialize();
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 11L, "sspark", "title", "content", "#java", LocalDateTime.now()));
+
+        //When
+        sut.reconcile();
+
+        //Then
+        assertThat(sut.getArticleCount()).isEqualTo(8L);
+    }
+
+    @DisplayName("같은 검색 조건의 건수를 다시 요청하면, 유지 시간 동안은 캐시된 값을 반환한다.")
+    @Test
+    void givenSameSearch_whenGettingSearchTotal_thenCountsOnlyOnce() {
+        //Given
+        AtomicInteger counted = new AtomicInteger();
+
+        //When
+        long first = sut.getSearchTotal(SearchType.TITLE, "spring", () -> counted.incrementAndGet() * 100L);
+        long second = sut.getSearchTotal(SearchType.TITLE, "spring", () -> counted.incrementAndGet() * 100L);
+        long other = sut.getSearchTotal(SearchType.CONTENT, "spring", () -> counted.incrementAndGet() * 100L);
+
+        //Then
+        assertThat(first).isEqualTo(100L);
+        assertThat(second).isEqualTo(100L);
+        assertThat(other).isEqualTo(200L);
+        assertThat(counted).hasValue(2);
+    }
+
+    @DisplayName("검색 결과 건수 캐시가 만료되면, 다시 센다.")
+    @Test
+    void givenExpiredSearchTotal_whenGettingSearchTotal_thenCountsAgain() {
+        //Given
+        given(boardProperties.getPagination()).willReturn(new BoardProperties.Pagination(false, true, Duration.ZERO));
+        AtomicInteger counted = new AtomicInteger();
+
+        //When
+        sut.getSearchTotal(SearchType.TITLE, "spring", counted::incrementAndGet);
+        long actual = sut.getSearchTotal(SearchType.TITLE, "spring", counted::incrementAndGet);
+
+        //Then
+        assertThat(actual).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.selfprojectboard.service;
+
+import com.example.selfprojectboard.dto.event.ArticleEvent;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("비즈니스 로직 - 해시태그 레지스트리")
+@ExtendWith(MockitoExtension.class)
+class HashtagRegistryTest {
+
+    @InjectMocks
+    private HashtagRegistry sut;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @DisplayName("기동 시 집계한 해시태그를, 이름순 목록과 게시글 수 순위로 반환한다.")
+    @Test
+    void givenHashtagCounts_whenInitializing_thenServesNamesAndPopularHashtags() {
+        //Given
+        given(articleRepository.countArticlesByHashtagName()).willReturn(Map.of("spring", 3L, "java", 5L, "boot", 3L));
+
+        //When
+        sut.initialize();
+
+        //Then
+        assertThat(sut.getHashtagNames()).containsExactly("boot", "java", "spring");
+        assertThat(sut.getPopularHashtags(2)).containsExactly(
+                new HashtagRegistry.HashtagCount("java", 5L),
+                new HashtagRegistry.HashtagCount("boot", 3L)
+        );
+        assertThat(sut.getPopularHashtags(10)).hasSize(3);
+    }
+
+    @DisplayName("게시글이 생성/수정/삭제되면, 쿼리 없이 태그별 게시글 수를 갱신한다.")
+    @Test
+    void givenArticleEvents_whenHandling_thenUpdatesCountsWithoutQuery() {
+        //Given
+        given(articleRepository.countArticlesByHashtagName()).willReturn(Map.of("java", 1L));
+        sut.initialize();
+
+        //When
+        sut.onArticleEvent(createEvent(ArticleEvent.EventType.CREATED, Set.of("java", "spring"), Set.of()));
+        sut.onArticleEvent(createEvent(ArticleEvent.EventType.UPDATED, Set.of("spring", "boot"), Set.of("java", "spring")));
+        sut.onArticleEvent(createEvent(ArticleEvent.EventType.DELETED, Set.of(), Set.of("java")));
+
+        //Then
+        assertThat(sut.getHashtagNames()).containsExactly("boot", "spring"); // 게시글이 없어진 태그는 목록에서 빠진다.
+        assertThat(sut.getArticleCount("spring")).isEqualTo(1L);
+        assertThat(sut.getArticleCount("java")).isZero();
+        then(articleRepository).should().countArticlesByHashtagName();
+        then(articleRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("보정하면, 이벤트로 반영되지 않은 태그별 게시글 수를 DB 기준으로 다시 집계한다.")
+    @Test
+    void givenMissedChanges_whenReconciling_thenReloadsCounts() {
+        //Given
+        given(articleRepository.countArticlesByHashtagName())
+                .willReturn(Map.of("java", 1L))
+                .willReturn(Map.of("java", 2L, "spring", 1L));
+        sut.initialize();
+
+        //When
+        sut.reconcile();
+
+        //Then
+        assertThat(sut.getHashtagNames()).containsExactly("java", "spring");
+        assertThat(sut.getArticleCount("java")).isEqualTo(2L);
+        assertThat(sut.getPopularHashtags(1)).containsExactly(new HashtagRegistry.HashtagCount("java", 2L));
+    }
+
+    @DisplayName("초기화 전에는, 보정하지 않는다.")
+    @Test
+    void givenNotInitialized_whenReconciling_thenDoesNothing() {
+        //When
+        sut.reconcile();
+
+        //Then
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    private ArticleEvent createEvent(ArticleEvent.EventType eventType, Set<String> hashtagNames, Set<String> previousHashtagNames) {
+        return ArticleEvent.of(eventType, 1L, "sspark", "title", "content", null, LocalDateTime.now(), hashtagNames, previousHashtagNames);
+    }
+}
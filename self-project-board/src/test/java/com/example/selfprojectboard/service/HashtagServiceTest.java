@@ -0,0 +1,121 @@
+package com.example.selfprojectboard.service;
+
+import com.example.selfprojectboard.domain.Hashtag;
+import com.example.selfprojectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@DisplayName("비즈니스 로직 - 해시태그")
+@ExtendWith(MockitoExtension.class)
+class HashtagServiceTest {
+
+    @InjectMocks
+    private HashtagService sut;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @DisplayName("해시태그 입력값을 파싱하면, 정규화된 태그 이름을 중복 없이 순서대로 반환한다.")
+    @MethodSource
+    @ParameterizedTest(name = "[{index}] \"{0}\" => {1}")
+    void givenHashtagText_whenParsing_thenReturnsNormalizedHashtagNames(String input, List<String> expected) {
+        //Given
+
+        //When
+        Set<String> actual = sut.parseHashtagNames(input);
+
+        //Then
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    static Stream<Arguments> givenHashtagText_whenParsing_thenReturnsNormalizedHashtagNames() {
+        return Stream.of(
+                arguments(null, List.of()),
+                arguments("   ", List.of()),
+                arguments("#java", List.of("java")),
+                arguments("#Java #spring, boot", List.of("java", "spring", "boot")),
+                arguments("#JAVA #java ##java", List.of("java")),
+                arguments("#자바 #스프링_부트", List.of("자바", "스프링_부트"))
+        );
+    }
+
+    @DisplayName("50자보다 긴 해시태그는, 여러 태그로 나누지 않고 앞 50자만 남긴다.")
+    @Test
+    void givenTooLongHashtag_whenParsing_thenTruncatesInsteadOfSplitting() {
+        //Given
+        String longName = "a".repeat(49) + "\uD840\uDC00" + "b".repeat(10); // 50번째 char 가 서로게이트 쌍(U+20000)의 앞쪽이다.
+
+        //When
+        Set<String> actual = sut.parseHashtagNames("#" + "가".repeat(60) + " #" + longName + " #java");
+
+        //Then
+        assertThat(actual).containsExactly("가".repeat(50), "a".repeat(49), "java");
+        assertThat(actual).allSatisfy(hashtagName -> assertThat(hashtagName).hasSizeLessThanOrEqualTo(Hashtag.MAX_NAME_LENGTH));
+    }
+
+    @DisplayName("해시태그 입력값을 주면, 있는 태그는 재사용하고 없는 태그만 새로 저장한다.")
+    @Test
+    void givenHashtagText_whenFindingOrCreating_thenSavesOnlyNewHashtags() {
+        //Given
+        Hashtag java = createHashtag(1L, "java");
+        Hashtag spring = createHashtag(2L, "spring");
+        given(hashtagRepository.findByHashtagNameIn(Set.of("java", "spring"))).willReturn(List.of(java));
+        given(hashtagRepository.findLockedByHashtagNameIn(List.of("spring"))).willReturn(List.of(spring));
+
+        //When
+        Set<Hashtag> actual = sut.findOrCreateHashtags("#Java #spring");
+
+        //Then
+        assertThat(actual).extracting(Hashtag::getHashtagName).containsExactlyInAnyOrder("java", "spring");
+        ArgumentCaptor<Hashtag> saved = ArgumentCaptor.forClass(Hashtag.class);
+        then(hashtagRepository).should().save(saved.capture());
+        assertThat(saved.getAllValues()).extracting(Hashtag::getHashtagName).containsExactly("spring");
+    }
+
+    @DisplayName("없는 태그를 다른 요청이 먼저 만들어 유니크 인덱스에 걸리면, 예외 없이 그 태그를 다시 읽어 쓴다.")
+    @Test
+    void givenHashtagCreatedConcurrently_whenFindingOrCreating_thenReadsHashtagCreatedByOtherRequest() {
+        //Given
+        Hashtag spring = createHashtag(2L, "spring");
+        given(hashtagRepository.findByHashtagNameIn(Set.of("spring"))).willReturn(List.of());
+        given(hashtagRepository.save(any(Hashtag.class))).willThrow(new DataIntegrityViolationException("duplicate hashtagName"));
+        given(hashtagRepository.findLockedByHashtagNameIn(List.of("spring"))).willReturn(List.of(spring));
+
+        //When
+        Set<Hashtag> actual = sut.findOrCreateHashtags("#spring");
+
+        //Then
+        assertThat(actual).containsExactly(spring);
+        then(transactionManager).should().rollback(any());
+    }
+
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+
+        return hashtag;
+    }
+}
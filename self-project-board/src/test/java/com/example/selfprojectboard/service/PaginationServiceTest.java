@@ -1,12 +1,16 @@
 package com.example.selfprojectboard.service;
 
+import com.example.selfprojectboard.config.BoardProperties;
+import com.example.selfprojectboard.dto.CursorSlice;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -15,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 @DisplayName("비즈니스로직 - 페이지네이션")
+@EnableConfigurationProperties(BoardProperties.class)
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, classes = PaginationService.class)
 class PaginationServiceTest {
 
@@ -63,4 +68,29 @@ class PaginationServiceTest {
         assertThat(barLength).isEqualTo(5);
 
     }
-}
\ No newline at end of file
+
+    @DisplayName("keyset 설정이 꺼져 있으면, 커서 파라미터가 있을 때만 커서 페이징을 쓴다.")
+    @Test
+    void givenCursorParameters_whenCheckingCursorMode_thenReturnsWhetherCursorIsGiven() {
+        //Given
+
+        //When & Then
+        assertThat(sut.isCursorMode(null, null)).isFalse();
+        assertThat(sut.isCursorMode(" ", null)).isFalse();
+        assertThat(sut.isCursorMode("cursor", null)).isTrue();
+        assertThat(sut.isCursorMode(null, "cursor")).isTrue();
+    }
+
+    @DisplayName("커서 페이지를 주면, 이동 가능한 방향의 커서만 담은 이전/다음 링크를 만들어 준다.")
+    @Test
+    void givenCursorSlice_whenCalculating_thenReturnsCursorLinks() {
+        //Given
+        CursorSlice<Long> slice = CursorSlice.of(List.of(3L, 2L), Pageable.ofSize(2), "first", "last", false, true);
+
+        //When
+        PaginationService.CursorLinks actual = sut.getCursorLinks(slice);
+
+        //Then
+        assertThat(actual).isEqualTo(new PaginationService.CursorLinks(null, "last"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.selfprojectboard.service.bulk;
+
+import com.example.selfprojectboard.dto.ArticleExportDto;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("비즈니스 로직 - 대량 내보내기")
+@ExtendWith(MockitoExtension.class)
+class BulkExportServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2022, 10, 17, 9, 30);
+
+    private BulkExportService sut;
+
+    @Mock private ArticleRepository articleRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new BulkExportService(articleRepository, Jackson2ObjectMapperBuilder.json().build());
+        given(articleRepository.streamForExport(anyInt())).willReturn(Stream.of(
+                ArticleExportDto.of(1L, "sspark", "title", "content", "#java", CREATED_AT, CREATED_AT, 10L, "sspark2", "first", CREATED_AT),
+                ArticleExportDto.of(1L, "sspark", "title", "content", "#java", CREATED_AT, CREATED_AT, 11L, "sspark", "second, \"quoted\"", CREATED_AT),
+                ArticleExportDto.of(2L, "sspark2", "no comments", "line1\nline2", null, CREATED_AT, CREATED_AT, null, null, null, null)
+        ));
+    }
+
+    @DisplayName("NDJSON 으로 내보내면, 게시글 한 줄에 댓글을 배열로 묶는다.")
+    @Test
+    void givenArticleRows_whenExportingNdjson_thenWritesArticlePerLine() throws Exception {
+        //Given
+        StringWriter writer = new StringWriter();
+
+        //When
+        long articles = sut.exportArticles(BulkFormat.NDJSON, writer);
+
+        //Then
+        assertThat(articles).isEqualTo(2);
+        assertThat(writer.toString()).isEqualTo("""
+                {"id":1,"userId":"sspark","title":"title","content":"content","hashtag":"#java","createdAt":"2022-10-17T09:30:00","modifiedAt":"2022-10-17T09:30:00","comments":[{"id":10,"userId":"sspark2","content":"first","createdAt":"2022-10-17T09:30:00"},{"id":11,"userId":"sspark","content":"second, \\"quoted\\"","createdAt":"2022-10-17T09:30:00"}]}
+                {"id":2,"userId":"sspark2","title":"no comments","content":"line1\\nline2","hashtag":null,"createdAt":"2022-10-17T09:30:00","modifiedAt":"2022-10-17T09:30:00","comments":[]}
+                """);
+    }
+
+    @DisplayName("CSV 로 내보내면, 댓글마다 한 행이고 가져오기(CsvRowReader)로 다시 읽을 수 있다.")
+    @Test
+    void givenArticleRows_whenExportingCsv_thenWritesReadableCsv() throws Exception {
+        //Given
+        StringWriter writer = new StringWriter();
+
+        //When
+        long articles = sut.exportArticles(BulkFormat.CSV, writer);
+
+        //Then
+        assertThat(articles).isEqualTo(2);
+        CsvRowReader reader = new CsvRowReader(new StringReader(writer.toString()));
+        assertThat(reader.next().fields()).containsEntry("commentContent", "first");
+        assertThat(reader.next().fields()).containsEntry("commentContent", "second, \"quoted\"");
+        ImportRow withoutComments = reader.next();
+        assertThat(withoutComments.fields())
+                .containsEntry("content", "line1\nline2")
+                .containsEntry("commentId", "");
+        assertThat(reader.next()).isNull();
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.selfprojectboard.service.bulk;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.ArticleComment;
+import com.example.selfprojectboard.domain.Hashtag;
+import com.example.selfprojectboard.domain.UserAccount;
+import com.example.selfprojectboard.dto.event.ArticleCommentEvent;
+import com.example.selfprojectboard.dto.event.ArticleEvent;
+import com.example.selfprojectboard.repository.ArticleCommentRepository;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import com.example.selfprojectboard.repository.HashtagRepository;
+import com.example.selfprojectboard.repository.UserAccountRepository;
+import com.example.selfprojectboard.service.HashtagService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("비즈니스 로직 - 대량 가져오기")
+@ExtendWith(MockitoExtension.class)
+class BulkImportServiceTest {
+
+    private BulkImportService sut;
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleCommentRepository articleCommentRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private HashtagService hashtagService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private final RecordingListener listener = new RecordingListener();
+
+    @BeforeEach
+    void setUp() {
+        sut = new BulkImportService(
+                articleRepository, articleCommentRepository, userAccountRepository, hashtagRepository,
+                hashtagService, eventPublisher, new ObjectMapper(), transactionManager
+        );
+    }
+
+    @DisplayName("NDJSON 게시글을 가져오면, 올바른 행만 저장하고 잘못된 행은 줄 번호와 함께 알린다.")
+    @Test
+    void givenNdjsonArticles_whenImporting_thenSavesValidRowsAndReportsErrors() throws Exception {
+        //Given
+        String body = """
+                {"userId": "sspark", "title": "t1", "content": "c1", "hashtag": "#java"}
+                not json
+                {"userId": "nobody", "title": "t3", "content": "c3"}
+
+                {"userId": "sspark", "title": "t5", "content": "c5"}
+                {"userId": "sspark", "content": "c6"}
+                """;
+        Hashtag java = createHashtag(1L, "java");
+        given(userAccountRepository.existsById("sspark")).willReturn(true);
+        given(userAccountRepository.existsById("nobody")).willReturn(false);
+        given(userAccountRepository.getReferenceById("sspark")).willReturn(createUserAccount());
+        given(hashtagService.parseHashtagNames("#java")).willReturn(Set.of("java"));
+        given(hashtagService.parseHashtagNames(null)).willReturn(Set.of());
+        given(hashtagService.findOrCreateHashtags("java")).willReturn(Set.of(java));
+        given(hashtagRepository.getReferenceById(1L)).willReturn(java);
+        given(articleRepository.save(any(Article.class))).willAnswer(invocation -> {
+            Article article = invocation.getArgument(0);
+            ReflectionTestUtils.setField(article, "id", 1001L);
+            return article;
+        });
+
+        //When
+        ImportResult result = sut.importArticles(new StringReader(body), BulkFormat.NDJSON, listener, null);
+
+        //Then
+        assertThat(result)
+                .hasFieldOrPropertyWithValue("rows", 5L)
+                .hasFieldOrPropertyWithValue("imported", 2L)
+                .hasFieldOrPropertyWithValue("failed", 3L);
+        assertThat(listener.errorLines).containsExactly(2L, 3L, 6L);
+        assertThat(listener.progressCount).isEqualTo(1);
+        then(userAccountRepository).should().existsById("sspark"); // 작성자 존재 여부는 한 번만 조회한다.
+
+        ArgumentCaptor<ArticleEvent> events = ArgumentCaptor.forClass(ArticleEvent.class);
+        then(eventPublisher).should(times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues().get(0))
+                .hasFieldOrPropertyWithValue("eventType", ArticleEvent.EventType.CREATED)
+                .hasFieldOrPropertyWithValue("hashtagNames", Set.of("java"));
+    }
+
+    @DisplayName("CSV 댓글을 가져오면, 따옴표 안의 쉼표/줄바꿈/따옴표를 살려서 저장한다.")
+    @Test
+    void givenCsvComments_whenImporting_thenParsesQuotedFields() throws Exception {
+        //Given
+        String body = """
+                articleId,userId,content
+                1,sspark,"첫 줄
+                둘째 줄, ""인용\"""
+                999,sspark,없는 게시글
+                1,sspark
+                """;
+        given(articleRepository.existsById(1L)).willReturn(true);
+        given(articleRepository.existsById(999L)).willReturn(false);
+        given(articleRepository.getReferenceById(1L)).willReturn(createArticle(1L));
+        given(userAccountRepository.existsById("sspark")).willReturn(true);
+        given(userAccountRepository.getReferenceById("sspark")).willReturn(createUserAccount());
+        given(articleCommentRepository.save(any(ArticleComment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        //When
+        ImportResult result = sut.importArticleComments(new StringReader(body), BulkFormat.CSV, listener, null);
+
+        //Then
+        assertThat(result)
+                .hasFieldOrPropertyWithValue("rows", 3L)
+                .hasFieldOrPropertyWithValue("imported", 1L)
+                .hasFieldOrPropertyWithValue("failed", 2L);
+        assertThat(listener.errorLines).containsExactlyInAnyOrder(4L, 5L);
+
+        ArgumentCaptor<ArticleComment> saved = ArgumentCaptor.forClass(ArticleComment.class);
+        then(articleCommentRepository).should().save(saved.capture());
+        assertThat(saved.getValue().getContent()).isEqualTo("첫 줄\n둘째 줄, \"인용\"");
+        then(eventPublisher).should().publishEvent(any(ArticleCommentEvent.class));
+    }
+
+    @DisplayName("작성자를 고정하면, userId 가 없는 행은 그 작성자로 넣고 다른 사용자 이름의 행은 거절한다.")
+    @Test
+    void givenFixedAuthor_whenImportingRowsOfOtherUser_thenRejectsThoseRows() throws Exception {
+        //Given
+        String body = """
+                {"articleId": 1, "userId": "sspark", "content": "mine"}
+                {"articleId": 1, "content": "no userId"}
+                {"articleId": 1, "userId": "someoneElse", "content": "impersonated"}
+                """;
+        given(articleRepository.existsById(1L)).willReturn(true);
+        given(articleRepository.getReferenceById(1L)).willReturn(createArticle(1L));
+        given(userAccountRepository.existsById("sspark")).willReturn(true);
+        given(userAccountRepository.getReferenceById("sspark")).willReturn(createUserAccount());
+        given(articleCommentRepository.save(any(ArticleComment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        //When
+        ImportResult result = sut.importArticleComments(new StringReader(body), BulkFormat.NDJSON, listener, "sspark");
+
+        //Then
+        assertThat(result)
+                .hasFieldOrPropertyWithValue("imported", 2L)
+                .hasFieldOrPropertyWithValue("failed", 1L);
+        assertThat(listener.errorLines).containsExactly(3L);
+        assertThat(listener.errorMessages.get(0)).contains("someoneElse");
+        then(userAccountRepository).should(never()).existsById("someoneElse");
+    }
+
+    @DisplayName("청크 저장(커밋)이 실패하면, 그 청크의 행을 실패로 세고 다음 행을 계속 읽는다.")
+    @Test
+    void givenCommitFailure_whenImporting_thenCountsChunkAsFailed() throws Exception {
+        //Given
+        String body = """
+                {"articleId": 1, "userId": "sspark", "content": "comment"}
+                """;
+        given(articleRepository.existsById(1L)).willReturn(true);
+        given(articleRepository.getReferenceById(1L)).willReturn(createArticle(1L));
+        given(userAccountRepository.existsById("sspark")).willReturn(true);
+        given(userAccountRepository.getReferenceById("sspark")).willReturn(createUserAccount());
+        given(articleCommentRepository.save(any(ArticleComment.class))).willAnswer(invocation -> invocation.getArgument(0));
+        willThrow(new DataIntegrityViolationException("constraint violation")).given(transactionManager).commit(any());
+
+        //When
+        ImportResult result = sut.importArticleComments(new StringReader(body), BulkFormat.NDJSON, listener, null);
+
+        //Then
+        assertThat(result)
+                .hasFieldOrPropertyWithValue("imported", 0L)
+                .hasFieldOrPropertyWithValue("failed", 1L);
+        assertThat(listener.errorLines).containsExactly(1L);
+        assertThat(listener.errorMessages.get(0)).contains("constraint violation");
+    }
+
+    private UserAccount createUserAccount() {
+        return UserAccount.of("sspark", "password", "sspark@mail.com", "Sspark", null);
+    }
+
+    private Article createArticle(Long id) {
+        Article article = Article.of(createUserAccount(), "title", "content", null);
+        ReflectionTestUtils.setField(article, "id", id);
+
+        return article;
+    }
+
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+
+        return hashtag;
+    }
+
+    private static class RecordingListener implements ImportListener {
+        private final List<Long> errorLines = new ArrayList<>();
+        private final List<String> errorMessages = new ArrayList<>();
+        private int progressCount = 0;
+
+        @Override
+        public void onError(long lineNumber, String message) {
+            errorLines.add(lineNumber);
+            errorMessages.add(message);
+        }
+
+        @Override
+        public void onProgress(ImportResult progress) {
+            progressCount++;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.selfprojectboard.service.dataset;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.ArticleComment;
+import com.example.selfprojectboard.domain.UserAccount;
+import com.example.selfprojectboard.repository.ArticleCommentRepository;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import com.example.selfprojectboard.repository.UserAccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("합성 데이터 생성기")
+@Import({DatasetGeneratorTest.TestJpaConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 생성기는 자기 커넥션으로 커밋한다.
+@DirtiesContext
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+class DatasetGeneratorTest {
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final UserAccountRepository userAccountRepository;
+
+    DatasetGeneratorTest(
+            @Autowired DataSource dataSource,
+            @Autowired JdbcTemplate jdbcTemplate,
+            @Autowired ArticleRepository articleRepository,
+            @Autowired ArticleCommentRepository articleCommentRepository,
+            @Autowired UserAccountRepository userAccountRepository
+    ) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.userAccountRepository = userAccountRepository;
+    }
+
+    @DisplayName("data.sql 위에 적재하면, 사용자/게시글/해시태그 연결/댓글이 늘고 시퀀스가 그 뒤로 옮겨진다.")
+    @Test
+    void givenSpec_whenGenerating_thenLoadsRowsAndAdvancesSequences() {
+        // Given
+        long articlesBefore = articleRepository.count();
+        long commentsBefore = articleCommentRepository.count();
+        long usersBefore = userAccountRepository.count();
+
+        // When
+        DatasetResult result = new DatasetGenerator(dataSource).generate(DatasetSpec.of(20, 1_200, 3, 42L));
+
+        // Then
+        assertThat(result.users()).isEqualTo(20);
+        assertThat(result.articles()).isEqualTo(1_200);
+        assertThat(result.comments()).isPositive();
+        assertThat(userAccountRepository.count()).isEqualTo(usersBefore + 20);
+        assertThat(articleRepository.count()).isEqualTo(articlesBefore + 1_200);
+        assertThat(articleCommentRepository.count()).isEqualTo(commentsBefore + result.comments());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from article_hashtag where article_id > ?", Long.class, articlesBefore))
+                .isEqualTo(result.articleHashtags());
+
+        UserAccount userAccount = userAccountRepository.findById("user000003").orElseThrow();
+        Article article = articleRepository.save(Article.of(userAccount, "after dataset", "content", null));
+        ArticleComment articleComment = articleCommentRepository.save(ArticleComment.of(article, userAccount, "comment"));
+        assertThat(article.getId()).isGreaterThan(articlesBefore + 1_200);
+        assertThat(articleComment.getId()).isGreaterThan(commentsBefore + result.comments());
+    }
+
+    @DisplayName("시드가 같으면, 같은 글이 나온다.")
+    @Test
+    void givenSameSeed_whenGeneratingText_thenReturnsSameText() {
+        // Given
+        DatasetText first = new DatasetText(new SplittableRandom(42L));
+        DatasetText second = new DatasetText(new SplittableRandom(42L));
+
+        // When & Then
+        IntStream.range(0, 100).forEach(i -> {
+            boolean korean = i % 3 != 0;
+            assertThat(first.title(korean)).isEqualTo(second.title(korean));
+            assertThat(first.content(korean)).isEqualTo(second.content(korean)).hasSizeLessThanOrEqualTo(10_000);
+            assertThat(first.comment(korean)).isEqualTo(second.comment(korean)).hasSizeLessThanOrEqualTo(500);
+        });
+    }
+
+    @EnableJpaAuditing
+    @TestConfiguration
+    public static class TestJpaConfig {
+        @Bean
+        public AuditorAware<String> auditorAware() {
+            return () -> Optional.of("sspark");
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.selfprojectboard.service.search;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.ArticleComment;
+import com.example.selfprojectboard.domain.QArticle;
+import com.example.selfprojectboard.domain.QArticleComment;
+import com.example.selfprojectboard.domain.constant.SearchType;
+import com.example.selfprojectboard.service.ArticleStatistics;
+import com.example.selfprojectboard.service.HashtagRegistry;
+import com.querydsl.core.types.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("검색 실행 계획 - /api 검색 조건")
+@ExtendWith(MockitoExtension.class)
+class ApiQueryPlannerTest {
+
+    private ApiQueryPlanner sut;
+
+    @Mock
+    private ArticleSearchIndex articleSearchIndex;
+    @Mock
+    private ArticleStatistics articleStatistics;
+    @Mock
+    private HashtagRegistry hashtagRegistry;
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() {
+        sut = new ApiQueryPlanner(articleSearchIndex, articleStatistics, hashtagRegistry, 100_000, 10_000, 1, Duration.ZERO, 1000);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("게시글 본문 부분 일치 조건은, 검색 인덱스에서 찾은 ID 조건을 앞에 붙이고 걸린 수를 예상 행 수로 쓴다.")
+    @Test
+    void givenContentContainsPredicate_whenPlanning_thenRoutesToSearchIndex() {
+        // Given
+        Predicate predicate = QArticle.article.content.containsIgnoreCase("spring");
+        given(articleStatistics.getArticleCount()).willReturn(1_000_000L);
+        given(articleSearchIndex.findIds(SearchType.CONTENT, "spring", 1000)).willReturn(Optional.of(List.of(3L, 1L)));
+
+        // When
+        QueryPlan plan = sut.plan(Article.class, predicate, Pageable.ofSize(20));
+
+        // Then
+        assertThat(plan.predicate()).isEqualTo(QArticle.article.id.in(List.of(3L, 1L)).and(predicate));
+        assertThat(plan.estimatedRows()).isEqualTo(2L);
+        assertThat(plan.description()).isEqualTo("content:index");
+    }
+
+    @DisplayName("검색 인덱스에 걸린 게시글이 없으면, 실행하지 않아도 결과가 없는 계획을 만든다.")
+    @Test
+    void givenKeywordWithoutIndexMatches_whenPlanning_thenReturnsNoMatchPlan() {
+        // Given
+        given(articleStatistics.getArticleCount()).willReturn(1_000_000L);
+        given(articleSearchIndex.findIds(SearchType.TITLE, "없는검색어", 1000)).willReturn(Optional.of(List.of()));
+
+        // When
+        QueryPlan plan = sut.plan(Article.class, QArticle.article.title.containsIgnoreCase("없는검색어"), Pageable.ofSize(20));
+
+        // Then
+        assertThat(plan.noMatch()).isTrue();
+        assertThat(plan.estimatedRows()).isZero();
+    }
+
+    @DisplayName("값이 * 로 끝나면, 대소문자를 무시하는 접두어 검색으로 바꾼다.")
+    @Test
+    void givenWildcardSuffix_whenPlanning_thenRewritesToPrefixPredicate() {
+        // Given
+        given(articleStatistics.getArticleCount()).willReturn(1_000L);
+
+        // When
+        QueryPlan plan = sut.plan(Article.class, QArticle.article.createdBy.containsIgnoreCase("uno*"), Pageable.ofSize(20));
+
+        // Then
+        assertThat(plan.predicate()).isEqualTo(QArticle.article.createdBy.startsWithIgnoreCase("uno"));
+        assertThat(plan.estimatedRows()).isEqualTo(100L);
+        assertThat(plan.description()).isEqualTo("createdBy:prefix");
+    }
+
+    @DisplayName("테이블 전체를 읽는 조건의 예상 행 수가 상한을 넘으면, 예상 비용을 헤더에 싣고 400 으로 거절한다.")
+    @Test
+    void givenFullScanOverLimit_whenAdmitting_thenRejectsWithCostHeader() {
+        // Given
+        given(articleStatistics.getCommentCount()).willReturn(500_000L);
+        QueryPlan plan = sut.plan(ArticleComment.class, QArticleComment.articleComment.content.containsIgnoreCase("a"), Pageable.ofSize(20));
+
+        // When
+        QueryCostExceededException e = catchThrowableOfType(() -> sut.admit(plan), QueryCostExceededException.class);
+
+        // Then
+        assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getHeader(ApiQueryPlanner.COST_HEADER)).isEqualTo("500000");
+        assertThat(response.getHeader(ApiQueryPlanner.PLAN_HEADER)).isEqualTo("content:scan");
+    }
+
+    @DisplayName("큰 검색이 동시 실행 한도만큼 돌고 있으면, 다음 큰 검색은 429 로 거절하고 자리가 나면 다시 받는다.")
+    @Test
+    void givenRunningLargeScan_whenAdmittingAnother_thenThrottles() {
+        // Given
+        QueryPlan plan = QueryPlan.of(QArticle.article.content.containsIgnoreCase("a"), 50_000L, "content:scan");
+        ApiQueryPlanner.Admission running = sut.admit(plan);
+
+        // When
+        QueryCostExceededException e = catchThrowableOfType(() -> sut.admit(plan), QueryCostExceededException.class);
+        running.close();
+
+        // Then
+        assertThat(e.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        try (ApiQueryPlanner.Admission admitted = sut.admit(plan)) {
+            assertThat(admitted).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.selfprojectboard.service.search;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.constant.SearchType;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import com.example.selfprojectboard.util.BenchmarkRunner;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인메모리 bigram/초성 인덱스와 기존 LIKE 검색(findByTitleContaining)의 응답 시간을 비교한다.
+ * <p>
+ * 기본 test 태스크에서는 제외되며 {@code ./gradlew benchmark -Dbenchmark.articles=1000000} 으로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("[benchmark] 게시글 제목 검색 - 인덱스 vs LIKE")
+@Import(ArticleSearchIndex.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 100만 건을 한 영속성 컨텍스트에 쌓지 않도록 테스트 트랜잭션을 쓰지 않는다.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=info"
+})
+class ArticleSearchBenchmarkTest {
+
+    private static final long ARTICLE_COUNT = Long.getLong("benchmark.articles", 1_000_000L);
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private final ArticleRepository articleRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final DataSource dataSource;
+
+    ArticleSearchBenchmarkTest(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired ArticleSearchIndex articleSearchIndex,
+            @Autowired DataSource dataSource
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleSearchIndex = articleSearchIndex;
+        this.dataSource = dataSource;
+    }
+
+    @BeforeAll
+    void setUp() {
+        BenchmarkRunner.insertArticles(dataSource, ARTICLE_COUNT);
+
+        long startedAt = System.currentTimeMillis();
+        articleSearchIndex.build();
+        System.out.printf("인덱스 생성: %,d 건, %,d ms%n", articleSearchIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @DisplayName("제목 검색 첫 페이지 응답 시간 비교")
+    @Test
+    void compareTitleSearch() {
+        BenchmarkRunner.printRow("keyword", "LIKE avg (ms)", "LIKE p95 (ms)", "index avg (ms)", "index p95 (ms)");
+        for (String keyword : List.of("스프링", "게시판", "spring cache", "성능 후기", "ㅅㅍㄹ")) {
+            BenchmarkRunner.Result<Page<Article>> like = measure(() -> articleRepository.findByTitleContaining(keyword, FIRST_PAGE));
+            BenchmarkRunner.Result<Page<Article>> indexed = measure(() -> searchWithIndex(keyword));
+            BenchmarkRunner.printRow(keyword, like.average(), like.p95(), indexed.average(), indexed.p95());
+
+            // bigram 교집합은 LIKE 결과를 모두 포함해야 한다. (대소문자 무시, 초성 매칭 때문에 더 넓을 수 있다)
+            assertThat(indexed.lastValue().getTotalElements()).isGreaterThanOrEqualTo(like.lastValue().getTotalElements());
+        }
+    }
+
+    private Page<Article> searchWithIndex(String keyword) {
+        Page<Long> articleIds = articleSearchIndex.search(SearchType.TITLE, keyword, FIRST_PAGE).orElseThrow();
+        List<Article> articles = articleRepository.findAllById(articleIds.getContent());
+        return new PageImpl<>(articles, FIRST_PAGE, articleIds.getTotalElements());
+    }
+
+    private BenchmarkRunner.Result<Page<Article>> measure(Supplier<Page<Article>> search) {
+        return BenchmarkRunner.measure(WARMUP_ROUNDS, MEASURED_ROUNDS, search);
+    }
+}
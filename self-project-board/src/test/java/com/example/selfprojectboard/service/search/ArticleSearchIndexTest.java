@@ -0,0 +1,200 @@
+package com.example.selfprojectboard.service.search;
+
+import com.example.selfprojectboard.domain.Article;
+import com.example.selfprojectboard.domain.UserAccount;
+import com.example.selfprojectboard.domain.constant.SearchType;
+import com.example.selfprojectboard.dto.event.ArticleEvent;
+import com.example.selfprojectboard.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@DisplayName("검색 인덱스 - 게시글")
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchIndexTest {
+
+    @InjectMocks
+    private ArticleSearchIndex sut;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @DisplayName("제목 검색어를 주면, 검색어의 bigram 을 모두 포함하는 게시글 ID 를 최신순으로 반환한다.")
+    @Test
+    void givenTitleKeyword_whenSearching_thenReturnsMatchingArticleIdsInCreatedAtOrder() {
+        // Given
+        buildIndex(
+                createArticle(1L, "Spring Boot 입문", "content", LocalDateTime.of(2022, 1, 1, 0, 0)),
+                createArticle(2L, "Spring Data JPA", "content", LocalDateTime.of(2022, 1, 2, 0, 0)),
+                createArticle(3L, "Java Records", "content", LocalDateTime.of(2022, 1, 3, 0, 0))
+        );
+        Pageable pageable = Pageable.ofSize(10);
+
+        // When
+        Optional<Page<Long>> actual = sut.search(SearchType.TITLE, "spr", pageable);
+
+        // Then
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getContent()).containsExactly(2L, 1L);
+        assertThat(actual.get().getTotalElements()).isEqualTo(2);
+    }
+
+    @DisplayName("본문 검색어가 여러 토큰이면, 모든 토큰을 만족하는 게시글만 반환한다.")
+    @Test
+    void givenMultiTokenContentKeyword_whenSearching_thenReturnsIntersection() {
+        // Given
+        buildIndex(
+                createArticle(1L, "title", "Spring Boot 로 만드는 게시판", LocalDateTime.of(2022, 1, 1, 0, 0)),
+                createArticle(2L, "title", "Spring Security 설정", LocalDateTime.of(2022, 1, 2, 0, 0))
+        );
+
+        // When
+        Optional<Page<Long>> actual = sut.search(SearchType.CONTENT, "spring 게시판", Pageable.ofSize(10));
+
+        // Then
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getContent()).containsExactly(1L);
+    }
+
+    @DisplayName("한글 복합어의 일부나 초성으로 검색하면, 해당 게시글을 반환한다.")
+    @Test
+    void givenKoreanPartialOrChoseongKeyword_whenSearching_thenReturnsMatchingArticles() {
+        // Given
+        buildIndex(
+                createArticle(1L, "자유게시판 이용 안내", "content", LocalDateTime.of(2022, 1, 1, 0, 0)),
+                createArticle(2L, "공지사항", "content", LocalDateTime.of(2022, 1, 2, 0, 0))
+        );
+        Pageable pageable = Pageable.ofSize(10);
+
+        // When & Then
+        assertThat(sut.search(SearchType.TITLE, "게시판", pageable).orElseThrow().getContent()).containsExactly(1L);
+        assertThat(sut.search(SearchType.TITLE, "ㄱㅅㅍ", pageable).orElseThrow().getContent()).containsExactly(1L);
+        assertThat(sut.search(SearchType.TITLE, "ㄱㅈ", pageable).orElseThrow().getContent()).containsExactly(2L);
+        assertThat(sut.search(SearchType.TITLE, "항", pageable).orElseThrow().getContent()).containsExactly(2L);
+    }
+
+    @DisplayName("게시글 변경 이벤트를 받으면, 인덱스에 반영한다.")
+    @Test
+    void givenArticleEvents_whenHandling_thenUpdatesIndex() {
+        // Given
+        buildIndex(createArticle(1L, "old title", "content", LocalDateTime.of(2022, 1, 1, 0, 0)));
+        Pageable pageable = Pageable.ofSize(10);
+
+        // When
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.UPDATED, 1L, "sspark", "new title", "content", "#java", LocalDateTime.of(2022, 1, 1, 0, 0)));
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.CREATED, 2L, "sspark", "another old one", "content", "#java", LocalDateTime.of(2022, 1, 2, 0, 0)));
+
+        // Then
+        assertThat(sut.search(SearchType.TITLE, "new", pageable).orElseThrow().getContent()).containsExactly(1L);
+        assertThat(sut.search(SearchType.TITLE, "old", pageable).orElseThrow().getContent()).containsExactly(2L);
+
+        sut.onArticleEvent(ArticleEvent.of(ArticleEvent.EventType.DELETED, 2L, "sspark", null, null, null, null));
+        assertThat(sut.search(SearchType.TITLE, "old", pageable).orElseThrow().getContent()).isEmpty();
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("인덱스가 지원하지 않는 검색 유형이나 정렬이면, 빈 결과를 반환해 DB 검색을 유도한다.")
+    @Test
+    void givenUnsupportedSearch_whenSearching_thenReturnsEmpty() {
+        // Given
+        buildIndex(createArticle(1L, "title", "content", LocalDateTime.of(2022, 1, 1, 0, 0)));
+
+        // When & Then
+        assertThat(sut.search(SearchType.NICKNAME, "title", Pageable.ofSize(10))).isEmpty();
+        assertThat(sut.search(SearchType.TITLE, "title", PageRequest.of(0, 10, Sort.by("title")))).isEmpty();
+    }
+
+    @DisplayName("ID 전체를 찾을 때, 걸린 게시글이 한도를 넘으면 빈 결과를 반환한다.")
+    @Test
+    void givenLimit_whenFindingIds_thenReturnsAllIdsOnlyWithinLimit() {
+        // Given
+        buildIndex(
+                createArticle(1L, "Spring Boot 입문", "content", LocalDateTime.of(2022, 1, 1, 0, 0)),
+                createArticle(2L, "Spring Data JPA", "content", LocalDateTime.of(2022, 1, 2, 0, 0)),
+                createArticle(3L, "Java Records", "content", LocalDateTime.of(2022, 1, 3, 0, 0))
+        );
+
+        // When & Then
+        assertThat(sut.findIds(SearchType.TITLE, "spring", 2)).contains(List.of(2L, 1L));
+        assertThat(sut.findIds(SearchType.CONTENT, "content", 2)).isEmpty();
+    }
+
+    @DisplayName("보정하면, 지난 보정 이후 수정된 게시글을 다시 색인하고 DB 에서 지워진 게시글을 뺀다.")
+    @Test
+    void givenMissedChanges_whenReconciling_thenReindexesModifiedAndRemovesDeletedArticles() {
+        // Given
+        buildIndex(
+                createArticle(1L, "old title", "content", LocalDateTime.of(2022, 1, 1, 0, 0)),
+                createArticle(2L, "deleted title", "content", LocalDateTime.of(2022, 1, 2, 0, 0))
+        );
+        given(articleRepository.findIdsModifiedSince(any(LocalDateTime.class))).willReturn(List.of(1L));
+        given(articleRepository.findAllById(List.of(1L))).willReturn(List.of(createArticle(1L, "new title", "content", LocalDateTime.of(2022, 1, 1, 0, 0))));
+        given(articleRepository.count()).willReturn(1L);
+        given(articleRepository.findIdsGreaterThan(0L, 500)).willReturn(List.of(1L));
+        Pageable pageable = Pageable.ofSize(10);
+
+        // When
+        sut.reconcile();
+
+        // Then
+        assertThat(sut.search(SearchType.TITLE, "new", pageable).orElseThrow().getContent()).containsExactly(1L);
+        assertThat(sut.search(SearchType.TITLE, "old", pageable).orElseThrow().getContent()).isEmpty();
+        assertThat(sut.search(SearchType.TITLE, "deleted", pageable).orElseThrow().getContent()).isEmpty();
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("보정할 때 인덱스와 DB 의 건수가 같으면, 지워진 게시글을 찾으려고 ID 를 훑지 않는다.")
+    @Test
+    void givenSameCount_whenReconciling_thenSkipsIdScan() {
+        // Given
+        buildIndex(createArticle(1L, "title", "content", LocalDateTime.of(2022, 1, 1, 0, 0)));
+        given(articleRepository.findIdsModifiedSince(any(LocalDateTime.class))).willReturn(List.of());
+        given(articleRepository.count()).willReturn(1L);
+
+        // When
+        sut.reconcile();
+
+        // Then
+        then(articleRepository).should(never()).findIdsGreaterThan(anyLong(), anyInt());
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    private void buildIndex(Article... articles) {
+        given(articleRepository.findByIdGreaterThan(anyLong(), any(Pageable.class))).willReturn(new SliceImpl<>(List.of(articles)));
+        sut.build();
+    }
+
+    private Article createArticle(Long id, String title, String content, LocalDateTime createdAt) {
+        Article article = Article.of(
+                UserAccount.of("sspark", "pw", null, null, null),
+                title,
+                content,
+                "#java"
+        );
+        ReflectionTestUtils.setField(article, "id", id);
+        ReflectionTestUtils.setField(article, "createdAt", createdAt);
+
+        return article;
+    }
+}
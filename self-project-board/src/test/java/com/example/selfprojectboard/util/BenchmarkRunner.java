@@ -0,0 +1,98 @@
+package com.example.selfprojectboard.util;
+
+import com.example.selfprojectboard.service.dataset.DatasetGenerator;
+import com.example.selfprojectboard.service.dataset.DatasetResult;
+import com.example.selfprojectboard.service.dataset.DatasetSpec;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@code @Tag("benchmark")} 테스트가 같이 쓰는 데이터 적재, 워밍업/측정, 결과 표 출력.
+ * <pre>
+ * BenchmarkRunner.Result&lt;Page&lt;Article&gt;&gt; like = BenchmarkRunner.measure(5, 20, () -> articleRepository.findByTitleContaining(keyword, page));
+ * BenchmarkRunner.printRow(keyword, like.average(), like.p95());
+ * </pre>
+ * 힙 할당량은 측정하는 스레드 것만 센다. (측정 대상은 테스트 스레드에서 돈다)
+ */
+public final class BenchmarkRunner {
+
+    private static final long SEED = 20221017L;
+    private static final int USERS = 100;
+    private static final int COLUMN_WIDTH = 16;
+
+    private BenchmarkRunner() {}
+
+    /**
+     * 합성 데이터 생성기({@link DatasetGenerator})로 댓글 없는 게시글 {@code articles} 건을 넣는다. 시드가 고정이라 실행마다 같은 데이터다.
+     */
+    public static DatasetResult insertArticles(DataSource dataSource, long articles) {
+        DatasetResult result = new DatasetGenerator(dataSource).generate(DatasetSpec.of(USERS, articles, 0, SEED));
+        System.out.printf("데이터 적재: %,d 건, %,d ms%n", result.articles(), result.elapsedMillis());
+        return result;
+    }
+
+    public static <T> Result<T> measure(int warmupRounds, int measuredRounds, Supplier<T> task) {
+        for (int i = 0; i < warmupRounds; i++) {
+            task.get();
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        double[] elapsedMillis = new double[measuredRounds];
+        T lastValue = null;
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < measuredRounds; i++) {
+            long startedAt = System.nanoTime();
+            lastValue = task.get();
+            elapsedMillis[i] = (System.nanoTime() - startedAt) / 1_000_000.0;
+        }
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        Arrays.sort(elapsedMillis);
+
+        return new Result<>(lastValue, elapsedMillis, allocated / measuredRounds);
+    }
+
+    /**
+     * 칸을 같은 너비로 맞춰 한 줄 찍는다. 소수는 둘째 자리, 정수는 천 단위 구분으로 쓴다.
+     */
+    public static void printRow(Object... cells) {
+        System.out.println(Stream.of(cells)
+                .map(BenchmarkRunner::format)
+                .map(cell -> String.format("%-" + COLUMN_WIDTH + "s", cell))
+                .collect(Collectors.joining(" | ")));
+    }
+
+    private static String format(Object cell) {
+        if (cell instanceof Double || cell instanceof Float) {
+            return "%.2f".formatted(cell);
+        }
+        if (cell instanceof Long || cell instanceof Integer) {
+            return "%,d".formatted(cell);
+        }
+        return String.valueOf(cell);
+    }
+
+    /**
+     * @param lastValue              마지막 측정 회차의 결과 (검증용)
+     * @param sortedElapsedMillis    회차별 걸린 시간, 오름차순
+     * @param allocatedBytesPerRound 회차당 힙 할당량
+     */
+    public record Result<T>(T lastValue, double[] sortedElapsedMillis, long allocatedBytesPerRound) {
+
+        public double average() {
+            return Arrays.stream(sortedElapsedMillis).average().orElse(0);
+        }
+
+        /**
+         * nearest-rank 방식 95 백분위수
+         */
+        public double p95() {
+            int rank = (int) Math.ceil(sortedElapsedMillis.length * 0.95);
+            return sortedElapsedMillis[Math.max(rank, 1) - 1];
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.selfprojectboard.util;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 하나(@BeforeEach 이후 본문)에서 실행될 수 있는 SQL 문 수의 상한.
+ * <p>
+ * 음수(기본값)는 검사하지 않는다. 실제 개수가 상한을 넘으면 {@link QueryCountExtension} 이 실패시킨다.
+ * 스프링 테스트 컨텍스트에 {@link com.example.selfprojectboard.actuator.SqlStatementCounter} 빈이 있어야 한다.
+ * <pre>
+ * &#64;ExpectedQueries(select = 2)
+ * &#64;Test
+ * void articleDetail() throws Exception { mvc.perform(get("/articles/1")); }
+ * </pre>
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryCountExtension.class)
+public @interface ExpectedQueries {
+
+    int select() default -1;
+
+    int insert() default -1;
+
+    int update() default -1;
+
+    int delete() default -1;
+}
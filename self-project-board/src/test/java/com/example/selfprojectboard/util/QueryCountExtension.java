@@ -0,0 +1,62 @@
+package com.example.selfprojectboard.util;
+
+import com.example.selfprojectboard.actuator.SqlStatementCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * {@link ExpectedQueries} 가 붙은 테스트 메서드 본문에서 실행된 SQL 문 수를 세고 상한과 비교한다.
+ * <p>
+ * 세는 구간은 @BeforeEach 이후부터 본문이 끝날 때까지다. (준비 데이터 적재, 로그인 사용자 조회는 포함하지 않는다)
+ */
+public class QueryCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryCountExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), counter(context).snapshot());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isPresent()) {
+            return; // 본문이 이미 실패했으면 그 원인을 가리지 않는다.
+        }
+
+        ExpectedQueries expected = AnnotatedElementUtils.findMergedAnnotation(context.getRequiredTestMethod(), ExpectedQueries.class);
+        if (expected == null) {
+            return;
+        }
+
+        SqlStatementCounter.Counts before = context.getStore(NAMESPACE).remove(context.getUniqueId(), SqlStatementCounter.Counts.class);
+        SqlStatementCounter.Counts actual = counter(context).snapshot().minus(before);
+
+        List<String> violations = new ArrayList<>();
+        check(violations, "select", expected.select(), actual.select());
+        check(violations, "insert", expected.insert(), actual.insert());
+        check(violations, "update", expected.update(), actual.update());
+        check(violations, "delete", expected.delete(), actual.delete());
+        if (!violations.isEmpty()) {
+            fail("SQL 문 수가 상한을 넘었습니다 - %s, 실제: %s".formatted(String.join(", ", violations), actual));
+        }
+    }
+
+    private void check(List<String> violations, String type, int budget, long actual) {
+        if (budget >= 0 && actual > budget) {
+            violations.add("%s %d > %d".formatted(type, actual, budget));
+        }
+    }
+
+    private SqlStatementCounter counter(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(SqlStatementCounter.class);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.selfprojectboard.util;
+
+import com.example.selfprojectboard.actuator.SqlStatementCounter;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+import org.springframework.boot.test.context.TestComponent;
+
+/**
+ * 블록(또는 MockMvc 호출) 하나에서 Hibernate 가 실행한 SELECT/INSERT/UPDATE/DELETE 문 수를 센다.
+ * <pre>
+ * SqlStatementCounter.Counts counts = queryCounter.count(() -> mvc.perform(get("/articles/1")));
+ * assertThat(counts.select()).isLessThanOrEqualTo(2);
+ * </pre>
+ * MockMvc 는 테스트 스레드에서 요청을 처리하므로 스레드별 카운터로 셀 수 있다.
+ */
+@TestComponent
+public class QueryCounter {
+
+    private final SqlStatementCounter sqlStatementCounter;
+
+    public QueryCounter(SqlStatementCounter sqlStatementCounter) {
+        this.sqlStatementCounter = sqlStatementCounter;
+    }
+
+    public SqlStatementCounter.Counts count(ThrowingSupplier<?> block) throws Throwable {
+        SqlStatementCounter.Counts before = sqlStatementCounter.snapshot();
+        block.get();
+        return sqlStatementCounter.snapshot().minus(before);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.selfprojectboard.view;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("렌더링 캐시 - 비로그인 목록 화면")
+class AnonymousPageCacheFilterTest {
+
+    private AnonymousPageCacheFilter sut;
+    private final AtomicInteger renderCount = new AtomicInteger();
+    private final FilterChain renderingChain = (request, response) -> {
+        response.setContentType("text/html;charset=UTF-8");
+        response.getWriter().write("<html>게시글 " + renderCount.incrementAndGet() + "</html>");
+    };
+
+    @BeforeEach
+    void setUp() {
+        sut = new AnonymousPageCacheFilter(new RenderedViewCache(100, Duration.ofMinutes(1), 100, Duration.ofMinutes(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("비로그인 사용자가 같은 목록을 다시 요청하면, 렌더링하지 않고 캐시한 HTML 을 준다.")
+    @Test
+    void givenAnonymousUser_whenRequestingSamePageTwice_thenServesCachedHtml() throws ServletException, IOException {
+        // Given
+        MockHttpServletResponse first = request("/articles", "page=1");
+
+        // When
+        MockHttpServletResponse second = request("/articles", "page=1");
+        MockHttpServletResponse otherPage = request("/articles", "page=2");
+
+        // Then
+        assertThat(first.getHeader(AnonymousPageCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+        assertThat(second.getHeader(AnonymousPageCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("<html>게시글 1</html>");
+        assertThat(otherPage.getContentAsString()).isEqualTo("<html>게시글 2</html>");
+        assertThat(renderCount).hasValue(2);
+    }
+
+    @DisplayName("캐시한 화면의 ETag 와 같은 If-None-Match 로 요청하면, 본문 없이 304 를 준다.")
+    @Test
+    void givenCachedPageWithETag_whenRequestingWithSameETag_thenReturnsNotModified() throws ServletException, IOException {
+        // Given
+        FilterChain chainWithETag = (request, response) -> {
+            ((HttpServletResponse) response).setHeader(HttpHeaders.ETAG, "W/\"v1\"");
+            renderingChain.doFilter(request, response);
+        };
+        sut.doFilter(new MockHttpServletRequest("GET", "/articles"), new MockHttpServletResponse(), chainWithETag);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"v1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sut.doFilter(request, response, chainWithETag);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.getContentLength()).isZero();
+        assertThat(renderCount).hasValue(1);
+    }
+
+    @DisplayName("로그인 사용자 요청은, 캐시하지 않는다.")
+    @Test
+    void givenLoggedInUser_whenRequestingPage_thenAlwaysRenders() throws ServletException, IOException {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("sspark", null, List.of()));
+        request("/articles", null);
+
+        // When
+        MockHttpServletResponse response = request("/articles", null);
+
+        // Then
+        assertThat(response.getHeader(AnonymousPageCacheFilter.CACHE_HEADER)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("<html>게시글 2</html>");
+        assertThat(renderCount).hasValue(2);
+    }
+
+
+    private MockHttpServletResponse request(String uri, String queryString) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setQueryString(queryString);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sut.doFilter(request, response, renderingChain);
+        return response;
+    }
+}
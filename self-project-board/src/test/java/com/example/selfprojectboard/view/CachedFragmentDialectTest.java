@@ -0,0 +1,101 @@
+package com.example.selfprojectboard.view;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("렌더링 캐시 - board:fragment")
+class CachedFragmentDialectTest {
+
+    private static final String TEMPLATE = "<div><p id=\"greeting\" board:fragment=\"${cacheKey}\" th:text=\"${greeting}\">인사</p></div>";
+
+    private RenderedViewCache renderedViewCache;
+    private SpringTemplateEngine templateEngine;
+
+    @BeforeEach
+    void setUp() {
+        renderedViewCache = new RenderedViewCache(100, Duration.ofMinutes(1), 100, Duration.ofMinutes(1));
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(new StringTemplateResolver());
+        templateEngine.addDialect(new CachedFragmentDialect(renderedViewCache, () -> templateEngine));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("캐시한 요소는, 모델 값이 바뀌어도 비우기 전까지 처음 렌더링한 HTML 을 쓴다.")
+    @Test
+    void givenCachedFragment_whenRenderingAgain_thenReusesHtmlUntilInvalidated() {
+        // Given
+        String first = render("greeting", "안녕하세요");
+
+        // When
+        String cached = render("greeting", "반갑습니다");
+        renderedViewCache.invalidateAll();
+        String rerendered = render("greeting", "반갑습니다");
+
+        // Then
+        assertThat(first).isEqualTo("<div><p id=\"greeting\">안녕하세요</p></div>");
+        assertThat(cached).isEqualTo(first);
+        assertThat(rerendered).isEqualTo("<div><p id=\"greeting\">반갑습니다</p></div>");
+    }
+
+    @DisplayName("캐시 키가 null 이면, 캐시하지 않고 매번 렌더링한다.")
+    @Test
+    void givenNullKey_whenRendering_thenDoesNotCache() {
+        // Given
+        render(null, "안녕하세요");
+
+        // When
+        String html = render(null, "반갑습니다");
+
+        // Then
+        assertThat(html).isEqualTo("<div><p id=\"greeting\">반갑습니다</p></div>");
+        assertThat(renderedViewCache.fragmentCount()).isZero();
+    }
+
+    @DisplayName("같은 키라도, 로그인 사용자마다 따로 캐시한다.")
+    @Test
+    void givenLoggedInUser_whenRendering_thenCachesSeparatelyFromAnonymous() {
+        // Given
+        render("greeting", "손님");
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("sspark", null, List.of()));
+
+        // When
+        String html = render("greeting", "sspark 님");
+
+        // Then
+        assertThat(html).isEqualTo("<div><p id=\"greeting\">sspark 님</p></div>");
+        assertThat(renderedViewCache.fragmentCount()).isEqualTo(2);
+    }
+
+
+    private String render(String cacheKey, String greeting) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("cacheKey", cacheKey);
+        variables.put("greeting", greeting);
+        WebContext context = new WebContext(request, new MockHttpServletResponse(), new MockServletContext(), Locale.KOREA, variables);
+
+        return templateEngine.process(TEMPLATE, context);
+    }
+}